@@ -0,0 +1,94 @@
+package fr.insee.queen.application.cache.controller;
+
+import fr.insee.queen.application.cache.dto.output.CacheDto;
+import fr.insee.queen.application.configuration.auth.AuthorityPrivileges;
+import fr.insee.queen.domain.common.exception.EntityNotFoundException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * These endpoints handle the application caches
+ */
+@RestController
+@Tag(name = "11. Caches", description = "Endpoints for application caches")
+@RequestMapping(path = "/api/admin")
+@Slf4j
+@RequiredArgsConstructor
+@Validated
+public class CacheController {
+    private final CacheManager cacheManager;
+
+    /**
+     * Retrieve the application caches and their statistics
+     *
+     * @return the caches
+     */
+    @Operation(summary = "Get the application caches and their statistics")
+    @GetMapping(path = "/caches")
+    @PreAuthorize(AuthorityPrivileges.HAS_ADMIN_PRIVILEGES)
+    public List<CacheDto> getCaches() {
+        return cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(this::findCache)
+                .map(CacheDto::fromCache)
+                .toList();
+    }
+
+    /**
+     * Retrieve a cache and its statistics
+     *
+     * @param cacheName cache name
+     * @return the cache
+     */
+    @Operation(summary = "Get a cache and its statistics")
+    @GetMapping(path = "/caches/{name}")
+    @PreAuthorize(AuthorityPrivileges.HAS_ADMIN_PRIVILEGES)
+    public CacheDto getCache(@PathVariable(value = "name") String cacheName) {
+        return CacheDto.fromCache(findCache(cacheName));
+    }
+
+    /**
+     * Evict all the entries of a cache
+     *
+     * @param cacheName cache name
+     */
+    @Operation(summary = "Evict all the entries of a cache")
+    @DeleteMapping(path = "/caches/{name}")
+    @PreAuthorize(AuthorityPrivileges.HAS_ADMIN_PRIVILEGES)
+    public void clearCache(@PathVariable(value = "name") String cacheName) {
+        findCache(cacheName).clear();
+        log.info("Cache {} cleared", cacheName);
+    }
+
+    /**
+     * Evict an entry of a cache
+     *
+     * @param cacheName cache name
+     * @param key       key of the entry
+     */
+    @Operation(summary = "Evict an entry of a cache")
+    @DeleteMapping(path = "/caches/{name}/entries/{key}")
+    @PreAuthorize(AuthorityPrivileges.HAS_ADMIN_PRIVILEGES)
+    public void evictCacheEntry(@PathVariable(value = "name") String cacheName,
+                                @PathVariable(value = "key") String key) {
+        findCache(cacheName).evict(key);
+        log.info("Entry {} evicted from cache {}", key, cacheName);
+    }
+
+    private Cache findCache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new EntityNotFoundException(String.format("Cache %s not found", cacheName));
+        }
+        return cache;
+    }
+}
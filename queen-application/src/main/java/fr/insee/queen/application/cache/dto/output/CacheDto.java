@@ -0,0 +1,61 @@
+package fr.insee.queen.application.cache.dto.output;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.cache.Cache;
+
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache and its statistics
+ *
+ * @param name cache name
+ * @param stats statistics, null when the cache does not record them
+ */
+public record CacheDto(
+        String name,
+        CacheStatsDto stats) {
+
+    public static CacheDto fromCache(Cache cache) {
+        if (!(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache)) {
+            return new CacheDto(cache.getName(), null);
+        }
+        CacheStats stats = caffeineCache.stats();
+        long estimatedSize = caffeineCache.estimatedSize();
+        long weightedSize = caffeineCache.policy().eviction()
+                .map(Policy.Eviction::weightedSize)
+                .filter(OptionalLong::isPresent)
+                .map(OptionalLong::getAsLong)
+                .orElse(estimatedSize);
+        return new CacheDto(cache.getName(),
+                new CacheStatsDto(estimatedSize,
+                        weightedSize,
+                        stats.hitCount(),
+                        stats.missCount(),
+                        stats.hitRate(),
+                        stats.evictionCount(),
+                        stats.evictionWeight(),
+                        stats.loadSuccessCount(),
+                        stats.loadFailureCount(),
+                        TimeUnit.NANOSECONDS.toMillis(stats.totalLoadTime())));
+    }
+
+    /**
+     * @param estimatedSize estimated number of entries
+     * @param weightedSize estimated weight of the entries, the number of entries when the cache is not weighted
+     * @param totalLoadTime time spent loading entries, in milliseconds
+     */
+    public record CacheStatsDto(
+            long estimatedSize,
+            long weightedSize,
+            long hitCount,
+            long missCount,
+            double hitRate,
+            long evictionCount,
+            long evictionWeight,
+            long loadSuccessCount,
+            long loadFailureCount,
+            long totalLoadTime) {
+    }
+}
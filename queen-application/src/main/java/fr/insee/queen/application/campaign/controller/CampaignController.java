@@ -7,6 +7,7 @@ import fr.insee.queen.application.campaign.dto.output.CampaignSummaryDto;
 import fr.insee.queen.application.campaign.dto.output.CampaignIdsDto;
 import fr.insee.queen.application.configuration.auth.AuthorityPrivileges;
 import fr.insee.queen.application.pilotage.controller.PilotageComponent;
+import fr.insee.queen.application.web.bulk.BulkOperation;
 import fr.insee.queen.application.web.validation.IdValid;
 import fr.insee.queen.domain.campaign.service.CampaignService;
 import fr.insee.queen.domain.campaign.service.exception.CampaignDeletionException;
@@ -114,6 +115,7 @@ public class CampaignController {
     @Operation(summary = "Delete a campaign")
     @DeleteMapping(path = "/campaign/{id}")
     @PreAuthorize(AuthorityPrivileges.HAS_ADMIN_PRIVILEGES)
+    @BulkOperation
     @ResponseStatus(HttpStatus.OK)
     public void deleteCampaignById(@RequestParam("force") boolean force,
                                    @IdValid @PathVariable(value = "id") String campaignId) {
@@ -1,8 +1,8 @@
 package fr.insee.queen.application.campaign.controller;
 
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import fr.insee.queen.application.campaign.dto.input.NomenclatureCreationData;
 import fr.insee.queen.application.configuration.auth.AuthorityPrivileges;
+import fr.insee.queen.application.web.json.SerializedJsonResponse;
 import fr.insee.queen.application.web.validation.IdValid;
 import fr.insee.queen.application.web.validation.json.SchemaType;
 import fr.insee.queen.domain.campaign.service.NomenclatureService;
@@ -14,7 +14,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -48,17 +50,19 @@ public class NomenclatureController {
 
 
     /**
-     * Retrieve a nomenclature
+     * Retrieve a nomenclature. The nomenclature is written as serialized when cached, and compressed when the client accepts gzip
      *
      * @param nomenclatureId the id of nomenclature
-     * @return {@link ArrayNode} the nomenclature in json format
+     * @param acceptEncoding encodings accepted by the client
+     * @return the nomenclature in json format
      */
     @Operation(summary = "Get Nomenclature")
     @GetMapping(path = "/nomenclature/{id}")
     @PreAuthorize(AuthorityPrivileges.HAS_USER_PRIVILEGES)
     @ApiResponse(responseCode = "200", content = {@Content(mediaType = "application/json", schema = @Schema(ref = SchemaType.Names.NOMENCLATURE))})
-    public ArrayNode getNomenclatureById(@IdValid @PathVariable(value = "id") String nomenclatureId) {
-        return nomenclatureService.getNomenclature(nomenclatureId).value();
+    public ResponseEntity<byte[]> getNomenclatureById(@IdValid @PathVariable(value = "id") String nomenclatureId,
+                                                      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return SerializedJsonResponse.of(nomenclatureService.getSerializedNomenclature(nomenclatureId), acceptEncoding);
     }
 
     /**
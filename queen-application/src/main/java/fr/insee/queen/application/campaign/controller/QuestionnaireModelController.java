@@ -1,26 +1,33 @@
 package fr.insee.queen.application.campaign.controller;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import fr.insee.queen.application.campaign.dto.input.QuestionnaireModelCreationData;
 import fr.insee.queen.application.campaign.dto.output.QuestionnaireModelIdDto;
 import fr.insee.queen.application.campaign.dto.output.QuestionnaireModelValueDto;
 import fr.insee.queen.application.configuration.auth.AuthorityPrivileges;
 import fr.insee.queen.application.interrogation.dto.output.InterrogationDto;
 import fr.insee.queen.application.interrogation.dto.output.InterrogationOkNokDto;
+import fr.insee.queen.application.web.json.SerializedJsonResponse;
 import fr.insee.queen.application.web.validation.IdValid;
 import fr.insee.queen.domain.campaign.service.QuestionnaireModelService;
+import fr.insee.queen.domain.common.json.SerializedJson;
 import fr.insee.queen.domain.interrogation.model.InterrogationSummary;
 import fr.insee.queen.domain.interrogation.service.InterrogationService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -39,20 +46,25 @@ public class QuestionnaireModelController {
     private final QuestionnaireModelService questionnaireModelService;
 
     /**
-     * Retrieve the data structure of all questionnaires linked to a campaign
+     * Retrieve the data structure of all questionnaires linked to a campaign. The data of each questionnaire is written
+     * as serialized when cached, and the response is not built when the client already has it
      *
      * @param campaignId the id of campaign
+     * @param request    current request
      * @return List of {@link QuestionnaireModelValueDto} linked to the campaign
      */
     @Operation(summary = "Get questionnaire list for a campaign ")
     @GetMapping(path = "/campaign/{id}/questionnaires")
     @PreAuthorize(AuthorityPrivileges.HAS_REVIEWER_PRIVILEGES)
-    public List<QuestionnaireModelValueDto> getQuestionnaireDatasByCampaignId(
-            @IdValid @PathVariable(value = "id") String campaignId) {
-        return questionnaireModelService
-                .getQuestionnaireDatas(campaignId).stream()
-                .map(QuestionnaireModelValueDto::new)
+    @ApiResponse(responseCode = "200", content = {@Content(mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = QuestionnaireModelValueDto.class)))})
+    public ResponseEntity<byte[]> getQuestionnaireDatasByCampaignId(
+            @IdValid @PathVariable(value = "id") String campaignId, WebRequest request) {
+        List<SerializedJson> questionnaireDatas = questionnaireModelService
+                .getQuestionnaireIds(campaignId).stream()
+                .map(questionnaireModelService::getSerializedQuestionnaireData)
                 .toList();
+        return SerializedJsonResponse.ofArray(questionnaireDatas, "value", request);
     }
 
     /**
@@ -67,20 +79,24 @@ public class QuestionnaireModelController {
     @PreAuthorize(AuthorityPrivileges.HAS_USER_PRIVILEGES)
     @Deprecated(since = "4.2.12")
     public QuestionnaireModelValueDto getQuestionnaireValue(@IdValid @PathVariable(value = "id") String questionnaireModelId) {
-        return new QuestionnaireModelValueDto(getQuestionnaireData(questionnaireModelId));
+        return new QuestionnaireModelValueDto(questionnaireModelService.getQuestionnaireData(questionnaireModelId));
     }
 
     /**
-     * Retrieve the data structure of a questionnaire
+     * Retrieve the data structure of a questionnaire. Data are written as serialized when cached, without being parsed,
+     * and compressed when the client accepts gzip
      *
      * @param questionnaireModelId the id of questionnaire
+     * @param acceptEncoding       encodings accepted by the client
      * @return the data linked to the questionnaire
      */
     @Operation(summary = "Get questionnnaire data")
     @GetMapping(path = "/questionnaire/{id}/data")
     @PreAuthorize(AuthorityPrivileges.HAS_USER_PRIVILEGES)
-    public ObjectNode getQuestionnaireData(@IdValid @PathVariable(value = "id") String questionnaireModelId) {
-        return questionnaireModelService.getQuestionnaireData(questionnaireModelId);
+    @ApiResponse(responseCode = "200", content = {@Content(mediaType = "application/json", schema = @Schema(type = "object"))})
+    public ResponseEntity<byte[]> getQuestionnaireData(@IdValid @PathVariable(value = "id") String questionnaireModelId,
+                                                       @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return SerializedJsonResponse.of(questionnaireModelService.getSerializedQuestionnaireData(questionnaireModelId), acceptEncoding);
     }
 
     /**
@@ -0,0 +1,32 @@
+package fr.insee.queen.application.configuration;
+
+import fr.insee.queen.infrastructure.db.configuration.DataSourceRoutingConfiguration;
+import fr.insee.queen.infrastructure.db.configuration.RoutingDataSource;
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Scope the datasource routing state (read-your-writes fallback, bulk operation) to the current request
+ */
+@Component
+@ConditionalOnExpression(DataSourceRoutingConfiguration.ROUTING_CONDITION)
+public class DataSourceRoutingRequestFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(@Nonnull HttpServletRequest request, @Nonnull HttpServletResponse response,
+                                    @Nonnull FilterChain filterChain) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RoutingDataSource.clearContext();
+        }
+    }
+}
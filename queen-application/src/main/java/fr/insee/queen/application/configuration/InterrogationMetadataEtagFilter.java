@@ -0,0 +1,24 @@
+package fr.insee.queen.application.configuration;
+
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * Add a strong ETag to the interrogation metadata, and answer with a 304 status when the client already has them.
+ * The metadata contain the personalization of the interrogation, which is not written with the campaign,
+ * so the ETag is computed from the response body
+ */
+@Component
+public class InterrogationMetadataEtagFilter extends ShallowEtagHeaderFilter {
+    private static final String METADATA_PATH = "/api/interrogations/*/metadata";
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected boolean shouldNotFilter(@Nonnull HttpServletRequest request) {
+        return !pathMatcher.match(METADATA_PATH, UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+    }
+}
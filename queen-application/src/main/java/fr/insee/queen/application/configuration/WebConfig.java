@@ -3,23 +3,37 @@ package fr.insee.queen.application.configuration;
 
 import fr.insee.queen.application.configuration.log.LogInterceptor;
 import fr.insee.queen.application.configuration.properties.ApplicationProperties;
+import fr.insee.queen.application.web.bulk.BulkOperationInterceptor;
+import fr.insee.queen.application.web.json.RawJsonHttpMessageConverter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
     private final LogInterceptor logInterceptor;
+    private final BulkOperationInterceptor bulkOperationInterceptor;
 
-    public WebConfig(LogInterceptor logInterceptor) {
+    public WebConfig(LogInterceptor logInterceptor, BulkOperationInterceptor bulkOperationInterceptor) {
         this.logInterceptor = logInterceptor;
+        this.bulkOperationInterceptor = bulkOperationInterceptor;
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(logInterceptor);
+        registry.addInterceptor(bulkOperationInterceptor);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // stored json documents are written before jackson converter can handle them
+        converters.addFirst(new RawJsonHttpMessageConverter());
     }
 
     @Bean
@@ -1,19 +1,45 @@
 package fr.insee.queen.application.configuration.cache;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import fr.insee.queen.domain.common.cache.CacheInvalidationBus;
 import fr.insee.queen.domain.common.cache.CacheName;
+import fr.insee.queen.domain.common.json.SerializedJson;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 @Configuration
 @EnableCaching
 @Slf4j
 public class CacheConfig {
+    /**
+     * Cache manager of the caches below. When the cache invalidation bus is enabled, the evictions
+     * are shared with the other nodes.
+     */
+    @Bean
+    protected CacheManager applicationCacheManager(List<Cache> caches, Optional<CacheInvalidationBus> cacheInvalidationBus) {
+        SimpleCacheManager localCacheManager = new SimpleCacheManager();
+        localCacheManager.setCaches(caches);
+        localCacheManager.initializeCaches();
+        return cacheInvalidationBus
+                .<CacheManager>map(bus -> {
+                    log.info("Cache evictions shared through the cache invalidation bus");
+                    return new InvalidationBroadcastingCacheManager(localCacheManager, bus);
+                })
+                .orElse(localCacheManager);
+    }
+
     @Bean
     protected CaffeineCache habilitationCache() {
         return new CaffeineCache(CacheName.HABILITATION,
@@ -21,16 +47,19 @@ public class CacheConfig {
                         .initialCapacity(2000)
                         .maximumSize(20000)
                         .expireAfterAccess(10, TimeUnit.MINUTES)
+                        .recordStats()
                         .build());
     }
 
     @Bean
-    protected CaffeineCache nomenclaturesCache() {
+    protected CaffeineCache nomenclaturesCache(@Value("${feature.cache.nomenclature-max-size}") DataSize maxSize) {
         return new CaffeineCache(CacheName.NOMENCLATURE,
                 Caffeine.newBuilder()
                         .initialCapacity(10)
-                        .maximumSize(100)
+                        .maximumWeight(maxSize.toBytes())
+                        .weigher(CacheConfig::serializedJsonWeight)
                         .expireAfterWrite(8, TimeUnit.HOURS)
+                        .recordStats()
                         .build());
     }
 
@@ -41,6 +70,7 @@ public class CacheConfig {
                         .initialCapacity(10)
                         .maximumSize(100)
                         .expireAfterWrite(8, TimeUnit.HOURS)
+                        .recordStats()
                         .build());
     }
 
@@ -51,6 +81,19 @@ public class CacheConfig {
                         .initialCapacity(10)
                         .maximumSize(100)
                         .expireAfterWrite(8, TimeUnit.HOURS)
+                        .recordStats()
+                        .build());
+    }
+
+    @Bean
+    protected CaffeineCache rawQuestionnairesCache(@Value("${feature.cache.questionnaire-data-max-size}") DataSize maxSize) {
+        return new CaffeineCache(CacheName.QUESTIONNAIRE_RAW,
+                Caffeine.newBuilder()
+                        .initialCapacity(10)
+                        .maximumWeight(maxSize.toBytes())
+                        .weigher(CacheConfig::serializedJsonWeight)
+                        .expireAfterWrite(8, TimeUnit.HOURS)
+                        .recordStats()
                         .build());
     }
 
@@ -61,6 +104,7 @@ public class CacheConfig {
                         .initialCapacity(10)
                         .maximumSize(50)
                         .expireAfterWrite(8, TimeUnit.HOURS)
+                        .recordStats()
                         .build());
     }
 
@@ -71,6 +115,18 @@ public class CacheConfig {
                         .initialCapacity(10)
                         .maximumSize(100)
                         .expireAfterWrite(8, TimeUnit.HOURS)
+                        .recordStats()
+                        .build());
+    }
+
+    @Bean
+    protected CaffeineCache campaignQuestionnairesCache() {
+        return new CaffeineCache(CacheName.CAMPAIGN_QUESTIONNAIRES,
+                Caffeine.newBuilder()
+                        .initialCapacity(10)
+                        .maximumSize(100)
+                        .expireAfterWrite(8, TimeUnit.HOURS)
+                        .recordStats()
                         .build());
     }
 
@@ -81,6 +137,7 @@ public class CacheConfig {
                         .initialCapacity(2000)
                         .maximumSize(20000)
                         .expireAfterAccess(10, TimeUnit.MINUTES)
+                        .recordStats()
                         .build());
     }
 
@@ -91,6 +148,17 @@ public class CacheConfig {
                         .initialCapacity(2000)
                         .maximumSize(20000)
                         .expireAfterAccess(10, TimeUnit.MINUTES)
+                        .recordStats()
                         .build());
     }
+
+    /**
+     * Weigh serialized json documents by their number of bytes
+     */
+    private static int serializedJsonWeight(Object key, Object value) {
+        if (value instanceof SerializedJson json) {
+            return json.weight();
+        }
+        return 1;
+    }
 }
@@ -0,0 +1,58 @@
+package fr.insee.queen.application.configuration.cache;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.util.OptionalLong;
+
+/**
+ * Expose hit/miss/eviction/load statistics and the estimated weight of the application caches,
+ * including the caches sharing their evictions with the other nodes
+ */
+@Configuration
+public class CacheMetricsConfiguration {
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public CacheMeterBinderProvider<Cache> applicationCacheMeterBinderProvider() {
+        return (cache, tags) -> {
+            Cache localCache = cache instanceof InvalidationBroadcastingCacheManager.InvalidationBroadcastingCache broadcastingCache
+                    ? broadcastingCache.getLocalCache()
+                    : cache;
+            if (!(localCache instanceof CaffeineCache caffeineCache)) {
+                return null;
+            }
+            return caffeineCacheMetrics(caffeineCache, tags);
+        };
+    }
+
+    private static MeterBinder caffeineCacheMetrics(CaffeineCache cache, Iterable<Tag> tags) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = cache.getNativeCache();
+        return registry -> {
+            new CaffeineCacheMetrics<>(nativeCache, cache.getName(), tags).bindTo(registry);
+            Gauge.builder("cache.weight", nativeCache, CacheMetricsConfiguration::weightedSize)
+                    .tags(tags)
+                    .tag("cache", cache.getName())
+                    .description("The estimated weight of the cache entries, the number of entries when the cache is not weighted")
+                    .register(registry);
+        };
+    }
+
+    private static long weightedSize(com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        return cache.policy().eviction()
+                .map(Policy.Eviction::weightedSize)
+                .filter(OptionalLong::isPresent)
+                .map(OptionalLong::getAsLong)
+                .orElseGet(cache::estimatedSize);
+    }
+}
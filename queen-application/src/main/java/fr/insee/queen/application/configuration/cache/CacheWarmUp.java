@@ -0,0 +1,130 @@
+package fr.insee.queen.application.configuration.cache;
+
+import fr.insee.queen.domain.campaign.service.CampaignService;
+import fr.insee.queen.domain.campaign.service.MetadataService;
+import fr.insee.queen.domain.campaign.service.NomenclatureService;
+import fr.insee.queen.domain.campaign.service.QuestionnaireModelService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Load the questionnaire data, metadata and required nomenclatures of all the campaigns in the caches
+ * before the application accepts traffic: the readiness state is only changed once the application runners are done.
+ * Loads run in parallel on a bounded pool, and the warm-up stops when its time budget is spent, the entries
+ * not loaded yet being loaded on first use.
+ */
+@Component
+@ConditionalOnProperty(name = "feature.cache.warm-up.enabled", havingValue = "true")
+@Slf4j
+public class CacheWarmUp implements ApplicationRunner {
+    private static final int PROGRESS_LOG_INTERVAL = 100;
+
+    private final CampaignService campaignService;
+    private final QuestionnaireModelService questionnaireModelService;
+    private final MetadataService metadataService;
+    private final NomenclatureService nomenclatureService;
+    private final int parallelism;
+    private final Duration timeout;
+
+    public CacheWarmUp(CampaignService campaignService,
+                       QuestionnaireModelService questionnaireModelService,
+                       MetadataService metadataService,
+                       NomenclatureService nomenclatureService,
+                       @Value("${feature.cache.warm-up.parallelism}") int parallelism,
+                       @Value("${feature.cache.warm-up.timeout}") Duration timeout) {
+        this.campaignService = campaignService;
+        this.questionnaireModelService = questionnaireModelService;
+        this.metadataService = metadataService;
+        this.nomenclatureService = nomenclatureService;
+        this.parallelism = parallelism;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Load the caches, within the time budget
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("cache-warm-up-", 0).daemon().factory());
+        try {
+            List<String> questionnaireIds = new ArrayList<>();
+            for (String campaignId : campaignService.getAllCampaignIds()) {
+                questionnaireIds.addAll(questionnaireModelService.getQuestionnaireIds(campaignId));
+            }
+            log.info("Cache warm-up: loading {} questionnaires with {} threads", questionnaireIds.size(), parallelism);
+
+            Set<String> nomenclatureIds = ConcurrentHashMap.newKeySet();
+            boolean completed = load(executor, "questionnaires", questionnaireIds, questionnaireId -> {
+                nomenclatureIds.addAll(nomenclatureService.findRequiredNomenclatureByQuestionnaire(questionnaireId));
+                questionnaireModelService.getSerializedQuestionnaireData(questionnaireId);
+                // last, as campaigns may have no metadata
+                metadataService.getMetadataByQuestionnaireId(questionnaireId);
+            }, deadline);
+            if (completed) {
+                completed = load(executor, "nomenclatures", nomenclatureIds,
+                        nomenclatureService::getSerializedNomenclature, deadline);
+            }
+
+            if (completed) {
+                log.info("Cache warm-up: done in {} ms", System.currentTimeMillis() - start);
+            } else {
+                log.warn("Cache warm-up: stopped after {} ms, the time budget is spent", System.currentTimeMillis() - start);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Cache warm-up: unable to list the questionnaires to load", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean load(ExecutorService executor, String entriesName, Collection<String> ids, Consumer<String> loader,
+                         long deadline) throws InterruptedException {
+        AtomicInteger processed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        List<Callable<Void>> tasks = ids.stream()
+                .<Callable<Void>>map(id -> () -> {
+                    try {
+                        loader.accept(id);
+                    } catch (RuntimeException e) {
+                        // missing metadata or nomenclature: the entry will fail the same way on first use
+                        failed.incrementAndGet();
+                        log.debug("Cache warm-up: unable to load {}", id, e);
+                    }
+                    int count = processed.incrementAndGet();
+                    if (count % PROGRESS_LOG_INTERVAL == 0) {
+                        log.info("Cache warm-up: {}/{} {} processed", count, ids.size(), entriesName);
+                    }
+                    return null;
+                })
+                .toList();
+        long remaining = deadline - System.nanoTime();
+        if (remaining > 0) {
+            // unfinished tasks are cancelled when the time budget is spent
+            executor.invokeAll(tasks, remaining, TimeUnit.NANOSECONDS);
+        }
+        log.info("Cache warm-up: {}/{} {} processed, {} failed", processed.get(), ids.size(), entriesName, failed.get());
+        return processed.get() == ids.size();
+    }
+}
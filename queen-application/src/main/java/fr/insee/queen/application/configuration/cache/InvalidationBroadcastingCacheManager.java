@@ -0,0 +1,166 @@
+package fr.insee.queen.application.configuration.cache;
+
+import fr.insee.queen.domain.common.cache.CacheInvalidation;
+import fr.insee.queen.domain.common.cache.CacheInvalidationBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache manager publishing the evictions of its caches on the {@link CacheInvalidationBus}, and applying the
+ * evictions published by the other nodes on the local caches.
+ * Only string keys are published, the evictions of other keys are published as the eviction of all the entries.
+ */
+@Slf4j
+public class InvalidationBroadcastingCacheManager implements CacheManager {
+    private final CacheManager localCacheManager;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public InvalidationBroadcastingCacheManager(CacheManager localCacheManager, CacheInvalidationBus cacheInvalidationBus) {
+        this.localCacheManager = localCacheManager;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        cacheInvalidationBus.subscribe(this::apply);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache localCache = localCacheManager.getCache(name);
+        if (localCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new InvalidationBroadcastingCache(localCache, cacheInvalidationBus));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return localCacheManager.getCacheNames();
+    }
+
+    /**
+     * Apply an eviction published by another node, without publishing it again
+     *
+     * @param invalidation eviction to apply
+     */
+    void apply(CacheInvalidation invalidation) {
+        log.debug("Applying cache invalidation {}", invalidation);
+        if (invalidation.isAllCaches()) {
+            localCacheManager.getCacheNames().stream()
+                    .map(localCacheManager::getCache)
+                    .filter(Objects::nonNull)
+                    .forEach(Cache::clear);
+            return;
+        }
+        Cache localCache = localCacheManager.getCache(invalidation.cacheName());
+        if (localCache == null) {
+            return;
+        }
+        if (invalidation.isAllEntries()) {
+            localCache.clear();
+            return;
+        }
+        localCache.evict(invalidation.key());
+    }
+
+    static class InvalidationBroadcastingCache implements Cache {
+        private final Cache localCache;
+        private final CacheInvalidationBus cacheInvalidationBus;
+
+        private InvalidationBroadcastingCache(Cache localCache, CacheInvalidationBus cacheInvalidationBus) {
+            this.localCache = localCache;
+            this.cacheInvalidationBus = cacheInvalidationBus;
+        }
+
+        Cache getLocalCache() {
+            return localCache;
+        }
+
+        @Override
+        public String getName() {
+            return localCache.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return localCache.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            return localCache.get(key);
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            return localCache.get(key, type);
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            return localCache.get(key, valueLoader);
+        }
+
+        @Override
+        public CompletableFuture<?> retrieve(Object key) {
+            return localCache.retrieve(key);
+        }
+
+        @Override
+        public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+            return localCache.retrieve(key, valueLoader);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            localCache.put(key, value);
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            return localCache.putIfAbsent(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            localCache.evict(key);
+            publishEviction(key);
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            boolean evicted = localCache.evictIfPresent(key);
+            // the entry may be present on the other nodes
+            publishEviction(key);
+            return evicted;
+        }
+
+        @Override
+        public void clear() {
+            localCache.clear();
+            cacheInvalidationBus.publish(CacheInvalidation.allEntries(getName()));
+        }
+
+        @Override
+        public boolean invalidate() {
+            boolean invalidated = localCache.invalidate();
+            cacheInvalidationBus.publish(CacheInvalidation.allEntries(getName()));
+            return invalidated;
+        }
+
+        private void publishEviction(Object key) {
+            if (key instanceof String stringKey) {
+                cacheInvalidationBus.publish(CacheInvalidation.key(getName(), stringKey));
+                return;
+            }
+            cacheInvalidationBus.publish(CacheInvalidation.allEntries(getName()));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package fr.insee.queen.application.configuration.cache;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.util.stream.StreamSupport;
+
+/**
+ * Expose hit/miss statistics of the hibernate second level cache regions
+ */
+@Configuration
+@ConditionalOnProperty(name = "feature.second-level-cache.enabled", havingValue = "true")
+public class SecondLevelCacheMetricsConfiguration {
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> StreamSupport.stream(hibernateCacheManager.getCacheNames().spliterator(), false)
+                .map(hibernateCacheManager::getCache)
+                .forEach(cache -> JCacheMetrics.monitor(registry, cache, Tags.of("cacheManager", "hibernate")));
+    }
+}
@@ -3,6 +3,7 @@ package fr.insee.queen.application.integration.controller;
 import fr.insee.queen.application.configuration.auth.AuthorityPrivileges;
 import fr.insee.queen.application.integration.component.IntegrationComponent;
 import fr.insee.queen.application.integration.dto.output.IntegrationResultsDto;
+import fr.insee.queen.application.web.bulk.BulkOperation;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
@@ -39,6 +40,7 @@ public class IntegrationController {
     @Operation(summary = "Integrates the context of a campaign (JSON version)")
     @PostMapping(path = "/campaign/context", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize(AuthorityPrivileges.HAS_ADMIN_PRIVILEGES)
+    @BulkOperation
     public IntegrationResultsDto integrateContext(@RequestParam("file") MultipartFile file) {
         return integrationComponent.integrateContext(file, false);
     }
@@ -55,6 +57,7 @@ public class IntegrationController {
     @Operation(summary = "Integrates the context of a campaign (XML Version - will be removed in a future version)")
     @PostMapping(path = "/campaign/xml/context", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize(AuthorityPrivileges.HAS_ADMIN_PRIVILEGES)
+    @BulkOperation
     @Deprecated(since = "4.0.0")
     public IntegrationResultsDto integrateXmlContext(@RequestParam("file") MultipartFile file) {
         return integrationComponent.integrateContext(file, true);
@@ -0,0 +1,206 @@
+package fr.insee.queen.application.interrogation.component;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.insee.queen.application.interrogation.dto.input.InterrogationBatchInput;
+import fr.insee.queen.application.interrogation.dto.input.InterrogationBulkInput;
+import fr.insee.queen.application.interrogation.dto.output.InterrogationBatchChunkDto;
+import fr.insee.queen.application.interrogation.dto.output.InterrogationBatchStreamReportDto;
+import fr.insee.queen.application.interrogation.dto.output.InterrogationBulkLoadReportDto;
+import fr.insee.queen.domain.campaign.service.exception.CampaignNotLinkedToQuestionnaireException;
+import fr.insee.queen.domain.common.exception.EntityNotFoundException;
+import fr.insee.queen.domain.interrogation.model.Interrogation;
+import fr.insee.queen.domain.interrogation.model.InterrogationBulkLoadBatch;
+import fr.insee.queen.domain.interrogation.service.InterrogationBatchService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Read a json array of interrogations incrementally and save it chunk by chunk,
+ * each chunk being validated and saved in its own transaction
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class InterrogationBatchStreamComponent {
+    static final String CHUNK_SAVE_ERROR = "An error has occurred while saving the interrogations of this chunk";
+    static final String BATCH_LOAD_ERROR = "An error has occurred while loading the interrogations of this batch";
+    static final String EMPTY_BULK_LOAD_ERROR = "No interrogation to load";
+    static final int BULK_LOAD_BATCH_SIZE = 5000;
+
+    private final ObjectMapper mapper;
+    private final Validator validator;
+    private final InterrogationBatchService interrogationBatchService;
+    private final Clock clock;
+
+    /**
+     * Result of a bulk load
+     *
+     * @param status http status of the load: bad request when the json or an interrogation is invalid,
+     *               not found when the campaign does not exist, internal server error when a batch could not be loaded
+     * @param report report of the committed batches
+     */
+    public record BulkLoadResult(HttpStatus status, InterrogationBulkLoadReportDto report) {
+    }
+
+    /**
+     * Save interrogations from a json array, by chunks
+     *
+     * @param campaignId campaign id of the interrogations
+     * @param interrogationsStream json array of {@link InterrogationBatchInput}
+     * @param chunkSize number of interrogations saved by transaction
+     * @return report of each chunk
+     * @throws IOException if the json array cannot be read. Chunks already saved are kept
+     */
+    public InterrogationBatchStreamReportDto saveInterrogations(String campaignId, InputStream interrogationsStream, int chunkSize) throws IOException {
+        List<InterrogationBatchChunkDto> chunks = new ArrayList<>();
+        readChunks(interrogationsStream, InterrogationBatchInput.class, chunkSize,
+                chunk -> chunks.add(saveChunk(campaignId, chunks.size(), chunk)));
+        return InterrogationBatchStreamReportDto.fromChunks(chunks);
+    }
+
+    /**
+     * Bulk load interrogations from a json array, by batches of {@link #BULK_LOAD_BATCH_SIZE} interrogations.
+     * Each batch is committed: on the first batch which cannot be read, validated or loaded, the load stops
+     * and the report gives the committed batches with the index of the failed batch
+     *
+     * @param campaignId campaign id of the interrogations
+     * @param interrogationsStream json array of {@link InterrogationBulkInput}
+     * @return result of the load
+     * @throws IOException if the request body cannot be read
+     */
+    public BulkLoadResult bulkLoadInterrogations(String campaignId, InputStream interrogationsStream) throws IOException {
+        long start = clock.millis();
+        List<InterrogationBulkLoadBatch> batches = new ArrayList<>();
+        List<String> batchErrors = new ArrayList<>();
+        try {
+            readChunks(interrogationsStream, InterrogationBulkInput.class, BULK_LOAD_BATCH_SIZE, batch -> {
+                batch.forEach(interrogationInput -> validate(interrogationInput, interrogationInput.id())
+                        .ifPresent(batchErrors::add));
+                if (!batchErrors.isEmpty()) {
+                    return false;
+                }
+                batches.add(interrogationBatchService.bulkLoadBatch(batch.stream()
+                        .map(interrogationInput -> InterrogationBulkInput.toModel(interrogationInput, campaignId))
+                        .toList()));
+                return true;
+            });
+        } catch (JsonProcessingException ex) {
+            return failedBulkLoad(HttpStatus.BAD_REQUEST, batches, start, ex.getOriginalMessage());
+        } catch (EntityNotFoundException ex) {
+            return failedBulkLoad(HttpStatus.NOT_FOUND, batches, start, ex.getMessage());
+        } catch (CampaignNotLinkedToQuestionnaireException ex) {
+            return failedBulkLoad(HttpStatus.BAD_REQUEST, batches, start, ex.getMessage());
+        } catch (RuntimeException ex) {
+            log.error("Bulk load: batch {} of campaign {} could not be loaded", batches.size(), campaignId, ex);
+            return failedBulkLoad(HttpStatus.INTERNAL_SERVER_ERROR, batches, start, BATCH_LOAD_ERROR);
+        }
+
+        if (!batchErrors.isEmpty()) {
+            return failedBulkLoad(HttpStatus.BAD_REQUEST, batches, start, String.join(". ", batchErrors));
+        }
+        if (batches.isEmpty()) {
+            return failedBulkLoad(HttpStatus.BAD_REQUEST, batches, start, EMPTY_BULK_LOAD_ERROR);
+        }
+        InterrogationBulkLoadReportDto report = InterrogationBulkLoadReportDto.loaded(batches, clock.millis() - start);
+        log.info("{} interrogations bulk loaded in {} ms", report.interrogationCount(), report.durationMs());
+        return new BulkLoadResult(HttpStatus.OK, report);
+    }
+
+    private BulkLoadResult failedBulkLoad(HttpStatus status, List<InterrogationBulkLoadBatch> batches, long start, String error) {
+        return new BulkLoadResult(status,
+                InterrogationBulkLoadReportDto.failed(batches, clock.millis() - start, batches.size(), error));
+    }
+
+    /**
+     * Read a json array incrementally and give its elements to the consumer by chunks
+     *
+     * @param inputStream json array
+     * @param elementType type of the elements
+     * @param chunkSize   number of elements by chunk
+     * @param chunkConsumer consumer of each chunk, returns false to stop the reading
+     * @throws IOException if the json array cannot be read. Chunks already consumed are kept
+     */
+    private <T> void readChunks(InputStream inputStream, Class<T> elementType, int chunkSize,
+                                Predicate<List<T>> chunkConsumer) throws IOException {
+        List<T> chunk = new ArrayList<>(chunkSize);
+
+        try (JsonParser parser = mapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of interrogations");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new JsonParseException(parser, "Unexpected end of the array of interrogations");
+                }
+                chunk.add(mapper.readValue(parser, elementType));
+                if (chunk.size() == chunkSize) {
+                    if (!chunkConsumer.test(chunk)) {
+                        return;
+                    }
+                    chunk.clear();
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            chunkConsumer.test(chunk);
+        }
+    }
+
+    private InterrogationBatchChunkDto saveChunk(String campaignId, int chunkIndex, List<InterrogationBatchInput> chunk) {
+        List<String> errors = new ArrayList<>();
+        List<Interrogation> interrogations = new ArrayList<>(chunk.size());
+
+        for (InterrogationBatchInput interrogationInput : chunk) {
+            Optional<String> error = validate(interrogationInput, interrogationInput.id());
+            if (error.isPresent()) {
+                errors.add(error.get());
+                continue;
+            }
+            interrogations.add(InterrogationBatchInput.toModel(interrogationInput, campaignId));
+        }
+
+        if (interrogations.isEmpty()) {
+            return new InterrogationBatchChunkDto(chunkIndex, chunk.size(), 0, errors);
+        }
+
+        try {
+            interrogationBatchService.saveInterrogations(interrogations);
+        } catch (RuntimeException ex) {
+            log.error("Chunk {} of campaign {} could not be saved", chunkIndex, campaignId, ex);
+            errors.add(CHUNK_SAVE_ERROR);
+            return new InterrogationBatchChunkDto(chunkIndex, chunk.size(), 0, errors);
+        }
+        log.info("Chunk {} of campaign {}: {} interrogation(s) saved", chunkIndex, campaignId, interrogations.size());
+        return new InterrogationBatchChunkDto(chunkIndex, chunk.size(), interrogations.size(), errors);
+    }
+
+    private <T> Optional<String> validate(T interrogationInput, String interrogationId) {
+        Set<ConstraintViolation<T>> violations = validator.validate(interrogationInput);
+        if (violations.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(interrogationId + ": " + violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining(". ")));
+    }
+}
@@ -1,16 +1,17 @@
 package fr.insee.queen.application.interrogation.controller;
 
-import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import fr.insee.queen.application.configuration.auth.AuthorityPrivileges;
 import fr.insee.queen.application.configuration.auth.AuthorityRoleEnum;
 import fr.insee.queen.application.pilotage.controller.PilotageComponent;
 import fr.insee.queen.application.interrogation.controller.exception.LockedResourceException;
 import fr.insee.queen.application.web.authentication.AuthenticationHelper;
+import fr.insee.queen.application.web.bulk.BulkOperation;
 import fr.insee.queen.application.web.validation.IdValid;
 import fr.insee.queen.application.web.validation.json.JsonValid;
 import fr.insee.queen.application.web.validation.json.SchemaType;
 import fr.insee.queen.domain.campaign.model.CampaignSensitivity;
+import fr.insee.queen.domain.common.json.RawJson;
 import fr.insee.queen.domain.pilotage.service.PilotageRole;
 import fr.insee.queen.domain.interrogation.model.StateData;
 import fr.insee.queen.domain.interrogation.model.StateDataType;
@@ -50,29 +51,29 @@ public class DataController {
     private final AuthenticationHelper authenticationUserHelper;
 
     /**
-     * Retrieve the questionnaire form data of an interrogation
+     * Retrieve the questionnaire form data of an interrogation. Data are written as stored, without being parsed
      *
      * @param interrogationId the id of reporting unit
-     * @return {@link String} the questionnaire form data of an interrogation
+     * @return {@link RawJson} the questionnaire form data of an interrogation
      */
     @Operation(summary = "Get data for an interrogation")
     @GetMapping("/interrogations/{id}/data")
     @PreAuthorize(AuthorityPrivileges.HAS_USER_PRIVILEGES)
     @ApiResponse(responseCode = "200", content = {@Content(mediaType = "application/json", schema = @Schema(ref = SchemaType.Names.DATA))})
-    public ObjectNode getDataByInterrogation(@IdValid @PathVariable(value = "id") String interrogationId) {
+    public RawJson getDataByInterrogation(@IdValid @PathVariable(value = "id") String interrogationId) {
         pilotageComponent.checkHabilitations(interrogationId, PilotageRole.INTERVIEWER, PilotageRole.REVIEWER);
         InterrogationSummary interrogationSummary = interrogationService.getSummaryById(interrogationId);
 
         // if campaign sensitivity is OFF, return data
         if(interrogationSummary.campaign().getSensitivity().equals(CampaignSensitivity.NORMAL)) {
-            return dataService.getData(interrogationId);
+            return dataService.getRawData(interrogationId);
         }
 
         // here, campaign sensitivity is ON !
 
         // admin/reviewer can see data regardless sensitivity
         if(authenticationUserHelper.hasRole(AuthorityRoleEnum.ADMIN, AuthorityRoleEnum.WEBCLIENT, AuthorityRoleEnum.REVIEWER)){
-            return dataService.getData(interrogationId);
+            return dataService.getRawData(interrogationId);
         }
 
         // interviewer retrieve the dto with filled or empty data
@@ -84,10 +85,10 @@ public class DataController {
                             || StateDataType.VALIDATED.equals(state));
 
             if (validatedState.isPresent()) {
-                return JsonNodeFactory.instance.objectNode();
+                return RawJson.EMPTY_OBJECT;
             }
             // if no state data or if state not extracted/validated
-            return dataService.getData(interrogationId);
+            return dataService.getRawData(interrogationId);
         }
 
         // reviewer cannot see data
@@ -158,6 +159,7 @@ public class DataController {
     @Operation(summary = "Clean all data from interrogations of a campaign with extracted state")
     @DeleteMapping("/admin/campaign/{id}/interrogations/data/extracted")
     @PreAuthorize("hasRole('WEBCLIENT')")
+    @BulkOperation
     public void cleanData(@IdValid @PathVariable(value = "id") String campaignId,
                           @NotNull @RequestParam("start") Long startTimestamp,
                           @NotNull @RequestParam("end") Long endTimestamp) {
@@ -1,21 +1,33 @@
 package fr.insee.queen.application.interrogation.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import fr.insee.queen.application.configuration.auth.AuthorityPrivileges;
+import fr.insee.queen.application.interrogation.component.InterrogationBatchStreamComponent;
 import fr.insee.queen.application.interrogation.dto.input.InterrogationBatchInput;
+import fr.insee.queen.application.interrogation.dto.output.InterrogationBatchStreamReportDto;
+import fr.insee.queen.application.interrogation.dto.output.InterrogationBulkLoadReportDto;
+import fr.insee.queen.application.web.bulk.BulkOperation;
 import fr.insee.queen.application.web.validation.IdValid;
 import fr.insee.queen.domain.interrogation.model.*;
 import fr.insee.queen.domain.interrogation.service.InterrogationBatchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -28,7 +40,9 @@ import java.util.List;
 @RequiredArgsConstructor
 @Validated
 public class InterrogationBatchController {
+    public static final int MAX_CHUNK_SIZE = 10000;
     private final InterrogationBatchService interrogationBatchService;
+    private final InterrogationBatchStreamComponent interrogationBatchStreamComponent;
 
     /**
      * Create or update an interrogation
@@ -39,6 +53,7 @@ public class InterrogationBatchController {
     @Operation(summary = "Create/Update interrogations")
     @PostMapping("/campaigns/{id}/interrogations")
     @PreAuthorize(AuthorityPrivileges.HAS_ADMIN_PRIVILEGES)
+    @BulkOperation
     public void createUpdateInterrogations(@IdValid @PathVariable(value = "id") String campaignId,
                                                           @NotEmpty @Valid @RequestBody List<InterrogationBatchInput> interrogationBatchInputs) {
         List<Interrogation> interrogations = interrogationBatchInputs.stream()
@@ -47,6 +62,50 @@ public class InterrogationBatchController {
         interrogationBatchService.saveInterrogations(interrogations);
     }
 
+    /**
+     * Create or update interrogations by chunks: the json array is read incrementally,
+     * and each chunk is validated and saved in its own transaction
+     *
+     * @param campaignId campaign id
+     * @param chunkSize  number of interrogations saved by transaction
+     * @param request    request containing the json array of interrogations
+     * @return report of each chunk
+     * @throws IOException if the request body cannot be read
+     */
+    @Operation(summary = "Create/Update interrogations by chunks")
+    @PostMapping(path = "/campaigns/{id}/interrogations", params = "chunkSize")
+    @PreAuthorize(AuthorityPrivileges.HAS_ADMIN_PRIVILEGES)
+    @BulkOperation
+    public InterrogationBatchStreamReportDto createUpdateInterrogationsByChunks(@IdValid @PathVariable(value = "id") String campaignId,
+                                                                                @Min(1) @Max(MAX_CHUNK_SIZE) @RequestParam(name = "chunkSize") int chunkSize,
+                                                                                HttpServletRequest request) throws IOException {
+        try {
+            return interrogationBatchStreamComponent.saveInterrogations(campaignId, request.getInputStream(), chunkSize);
+        } catch (JsonProcessingException ex) {
+            throw new HttpMessageNotReadableException(ex.getOriginalMessage(), ex, new ServletServerHttpRequest(request));
+        }
+    }
+
+    /**
+     * Create or update a large volume of interrogations (loaded with COPY by batches): the json array is read
+     * incrementally, and each batch is validated and committed before the next one is read
+     *
+     * @param campaignId campaign id
+     * @param request    request containing the json array of interrogations
+     * @return report of the load with the timings of each committed batch, and the index of the failed batch
+     * @throws IOException if the request body cannot be read
+     */
+    @Operation(summary = "Bulk load interrogations")
+    @PostMapping("/campaigns/{id}/interrogations/bulk")
+    @PreAuthorize(AuthorityPrivileges.HAS_ADMIN_PRIVILEGES)
+    @BulkOperation
+    public ResponseEntity<InterrogationBulkLoadReportDto> bulkLoadInterrogations(@IdValid @PathVariable(value = "id") String campaignId,
+                                                                                 HttpServletRequest request) throws IOException {
+        InterrogationBatchStreamComponent.BulkLoadResult result =
+                interrogationBatchStreamComponent.bulkLoadInterrogations(campaignId, request.getInputStream());
+        return ResponseEntity.status(result.status()).body(result.report());
+    }
+
     /**
      * Delete interrogations
      *
@@ -55,6 +114,7 @@ public class InterrogationBatchController {
     @Operation(summary = "Delete interrogations")
     @PostMapping("/interrogations/delete")
     @PreAuthorize(AuthorityPrivileges.HAS_ADMIN_PRIVILEGES)
+    @BulkOperation
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteInterrogations(@RequestBody @NotEmpty List<String> interrogationsId) {
         interrogationBatchService.delete(interrogationsId);
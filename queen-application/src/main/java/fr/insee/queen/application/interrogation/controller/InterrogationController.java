@@ -5,6 +5,7 @@ import fr.insee.queen.application.configuration.auth.AuthorityPrivileges;
 import fr.insee.queen.application.configuration.auth.AuthorityRoleEnum;
 import fr.insee.queen.application.interrogation.dto.output.InterrogationBySurveyUnitDto;
 import fr.insee.queen.application.interrogation.dto.output.InterrogationStateDto;
+import fr.insee.queen.application.interrogation.dto.output.KeysetPageDto;
 import fr.insee.queen.application.pilotage.controller.PilotageComponent;
 import fr.insee.queen.application.interrogation.controller.exception.LockedResourceException;
 import fr.insee.queen.application.interrogation.dto.input.StateDataInput;
@@ -24,6 +25,8 @@ import fr.insee.queen.domain.interrogation.service.exception.StateDataInvalidDat
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -46,6 +49,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 @Validated
 public class InterrogationController {
+    public static final int MAX_PAGE_SIZE = 10000;
     private final InterrogationService interrogationService;
     private final PilotageComponent pilotageComponent;
     private final MetadataConverter metadataConverter;
@@ -64,6 +68,22 @@ public class InterrogationController {
         return interrogationService.findAllInterrogationIds();
     }
 
+    /**
+     * Retrieve a page of interrogations ids (keyset pagination on id)
+     *
+     * @param afterId cursor: only ids greater than this one are retrieved
+     * @param limit max number of ids to retrieve
+     * @return page of interrogation ids with the cursor of the next page
+     */
+    @Operation(summary = "Get a page of interrogations ids")
+    @GetMapping(path = "/interrogations", params = "limit")
+    @PreAuthorize(AuthorityPrivileges.HAS_ADMIN_PRIVILEGES)
+    public KeysetPageDto<String> getInterrogationIdsPage(
+            @RequestParam(name = "after", required = false) String afterId,
+            @Min(1) @Max(MAX_PAGE_SIZE) @RequestParam(name = "limit") int limit) {
+        return KeysetPageDto.fromModel(interrogationService.findInterrogationIds(afterId, limit), id -> id);
+    }
+
     /**
      * Retrieve interrogations filtered by state
      *
@@ -84,6 +104,28 @@ public class InterrogationController {
                 .toList();
     }
 
+    /**
+     * Retrieve a page of interrogations filtered by state (keyset pagination on id)
+     *
+     * @param campaignId campaign id
+     * @param stateDataType state
+     * @param afterId cursor: only interrogations with an id greater than this one are retrieved
+     * @param limit max number of interrogations to retrieve
+     * @return page of interrogations with the cursor of the next page
+     */
+    @Operation(summary = "Retrieve a page of interrogations by state")
+    @GetMapping(path = "/admin/campaign/{id}/interrogations", params = "limit")
+    @PreAuthorize(AuthorityPrivileges.HAS_ADMIN_PRIVILEGES)
+    public KeysetPageDto<InterrogationStateDto> getInterrogationsByStatePage(
+            @IdValid @PathVariable("id") String campaignId,
+            @RequestParam(name = "state") StateDataType stateDataType,
+            @RequestParam(name = "after", required = false) String afterId,
+            @Min(1) @Max(MAX_PAGE_SIZE) @RequestParam(name = "limit") int limit) {
+        return KeysetPageDto.fromModel(
+                interrogationService.getInterrogations(campaignId, stateDataType, afterId, limit),
+                InterrogationStateDto::fromModel);
+    }
+
     /**
      * Retrieve interrogations filtered by survey-unit
      *
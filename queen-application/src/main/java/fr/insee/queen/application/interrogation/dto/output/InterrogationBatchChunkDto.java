@@ -0,0 +1,18 @@
+package fr.insee.queen.application.interrogation.dto.output;
+
+import java.util.List;
+
+/**
+ * Result of a chunk of interrogations saved by the streaming batch endpoint
+ *
+ * @param chunk chunk index (starting at 0)
+ * @param received number of interrogations read in the chunk
+ * @param saved number of interrogations saved
+ * @param errors validation/saving errors of the chunk
+ */
+public record InterrogationBatchChunkDto(
+        int chunk,
+        int received,
+        int saved,
+        List<String> errors) {
+}
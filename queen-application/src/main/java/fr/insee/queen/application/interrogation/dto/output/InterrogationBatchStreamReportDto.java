@@ -0,0 +1,16 @@
+package fr.insee.queen.application.interrogation.dto.output;
+
+import java.util.List;
+
+public record InterrogationBatchStreamReportDto(
+        int received,
+        int saved,
+        List<InterrogationBatchChunkDto> chunks) {
+
+    public static InterrogationBatchStreamReportDto fromChunks(List<InterrogationBatchChunkDto> chunks) {
+        return new InterrogationBatchStreamReportDto(
+                chunks.stream().mapToInt(InterrogationBatchChunkDto::received).sum(),
+                chunks.stream().mapToInt(InterrogationBatchChunkDto::saved).sum(),
+                chunks);
+    }
+}
@@ -0,0 +1,46 @@
+package fr.insee.queen.application.interrogation.dto.output;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import fr.insee.queen.domain.interrogation.model.InterrogationBulkLoadBatch;
+
+import java.util.List;
+
+/**
+ * Report of a bulk load of interrogations
+ *
+ * @param interrogationCount number of interrogations loaded by the committed batches
+ * @param durationMs total duration of the load
+ * @param batches timings of each committed batch
+ * @param failedBatchIndex index of the batch which could not be loaded, the following ones are not read
+ * @param error cause of the failure of the batch
+ */
+public record InterrogationBulkLoadReportDto(
+        int interrogationCount,
+        long durationMs,
+        List<BatchDto> batches,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Integer failedBatchIndex,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String error) {
+
+    public record BatchDto(
+            int size,
+            long copyDurationMs,
+            long mergeDurationMs) {
+    }
+
+    public static InterrogationBulkLoadReportDto loaded(List<InterrogationBulkLoadBatch> batches, long durationMs) {
+        return failed(batches, durationMs, null, null);
+    }
+
+    public static InterrogationBulkLoadReportDto failed(List<InterrogationBulkLoadBatch> batches, long durationMs,
+                                                        Integer failedBatchIndex, String error) {
+        return new InterrogationBulkLoadReportDto(batches.stream().mapToInt(InterrogationBulkLoadBatch::size).sum(),
+                durationMs,
+                batches.stream()
+                        .map(batch -> new BatchDto(batch.size(), batch.copyDurationMs(), batch.mergeDurationMs()))
+                        .toList(),
+                failedBatchIndex,
+                error);
+    }
+}
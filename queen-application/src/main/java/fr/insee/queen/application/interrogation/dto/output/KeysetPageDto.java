@@ -0,0 +1,15 @@
+package fr.insee.queen.application.interrogation.dto.output;
+
+import fr.insee.queen.domain.common.paging.KeysetPage;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record KeysetPageDto<T>(
+        List<T> content,
+        String nextCursor) {
+
+    public static <M, T> KeysetPageDto<T> fromModel(KeysetPage<M> page, Function<M, T> mapper) {
+        return new KeysetPageDto<>(page.content().stream().map(mapper).toList(), page.nextCursor());
+    }
+}
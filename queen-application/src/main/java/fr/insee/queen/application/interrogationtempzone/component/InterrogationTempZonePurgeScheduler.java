@@ -0,0 +1,34 @@
+package fr.insee.queen.application.interrogationtempzone.component;
+
+import fr.insee.queen.domain.interrogationtempzone.service.InterrogationTempZoneService;
+import fr.insee.queen.infrastructure.db.configuration.RoutingDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Purge the interrogations saved in temp zone for longer than the retention, by batches on the bulk connection pool
+ */
+@Component
+@ConditionalOnProperty(name = "feature.temp-zone.purge.enabled", havingValue = "true")
+public class InterrogationTempZonePurgeScheduler {
+    private final InterrogationTempZoneService interrogationTempZoneService;
+    private final Duration retention;
+    private final int batchSize;
+
+    public InterrogationTempZonePurgeScheduler(InterrogationTempZoneService interrogationTempZoneService,
+                                               @Value("${feature.temp-zone.purge.retention:P180D}") Duration retention,
+                                               @Value("${feature.temp-zone.purge.batch-size:1000}") int batchSize) {
+        this.interrogationTempZoneService = interrogationTempZoneService;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${feature.temp-zone.purge.cron:0 0 4 * * *}")
+    public void purge() {
+        RoutingDataSource.runAsBulkOperation(() -> interrogationTempZoneService.deleteInterrogationsTempZone(retention, batchSize));
+    }
+}
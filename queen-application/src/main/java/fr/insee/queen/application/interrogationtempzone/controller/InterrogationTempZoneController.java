@@ -2,7 +2,10 @@ package fr.insee.queen.application.interrogationtempzone.controller;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import fr.insee.queen.application.configuration.auth.AuthorityPrivileges;
+import fr.insee.queen.application.interrogation.controller.InterrogationController;
+import fr.insee.queen.application.interrogation.dto.output.KeysetPageDto;
 import fr.insee.queen.application.interrogationtempzone.dto.output.InterrogationTempZoneDto;
+import fr.insee.queen.application.interrogationtempzone.dto.output.InterrogationTempZoneSummaryDto;
 import fr.insee.queen.application.web.validation.IdValid;
 import fr.insee.queen.application.web.validation.json.SchemaType;
 import fr.insee.queen.domain.interrogationtempzone.service.InterrogationTempZoneService;
@@ -11,6 +14,8 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -20,6 +25,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Handle temp zone for interrogations. The temp zone is used when interviewers synchronized orphan interrogations
@@ -66,4 +72,41 @@ public class InterrogationTempZoneController {
                 .stream().map(InterrogationTempZoneDto::fromModel)
                 .toList();
     }
+
+    /**
+     * Retrieve a page of interrogations in temp zone without their payload (keyset pagination on id)
+     *
+     * @param userId user filter
+     * @param dateFrom only entries saved at this date or after (timestamp in ms)
+     * @param dateTo only entries saved at this date or before (timestamp in ms)
+     * @param afterId cursor: only entries with an id greater than this one are retrieved
+     * @param limit max number of entries to retrieve
+     * @return page of {@link InterrogationTempZoneSummaryDto} with the cursor of the next page
+     */
+    @Operation(summary = "Get a page of interrogations in temp-zone, without payload")
+    @GetMapping(path = "/interrogations/temp-zone", params = "limit")
+    @PreAuthorize(AuthorityPrivileges.HAS_REVIEWER_PRIVILEGES)
+    public KeysetPageDto<InterrogationTempZoneSummaryDto> getInterrogationsInTempZonePage(
+            @RequestParam(name = "userId", required = false) String userId,
+            @RequestParam(name = "dateFrom", required = false) Long dateFrom,
+            @RequestParam(name = "dateTo", required = false) Long dateTo,
+            @RequestParam(name = "after", required = false) UUID afterId,
+            @Min(1) @Max(InterrogationController.MAX_PAGE_SIZE) @RequestParam(name = "limit") int limit) {
+        return KeysetPageDto.fromModel(
+                interrogationTempZoneService.getInterrogationTempZoneSummaries(userId, dateFrom, dateTo, afterId, limit),
+                InterrogationTempZoneSummaryDto::fromModel);
+    }
+
+    /**
+     * Retrieve an interrogation in temp zone with its payload
+     *
+     * @param id temp zone entry id
+     * @return {@link InterrogationTempZoneDto} interrogation in temp zone
+     */
+    @Operation(summary = "GET an interrogation in temp-zone")
+    @GetMapping("/interrogations/temp-zone/{id}")
+    @PreAuthorize(AuthorityPrivileges.HAS_REVIEWER_PRIVILEGES)
+    public InterrogationTempZoneDto getInterrogationInTempZone(@PathVariable(value = "id") UUID id) {
+        return InterrogationTempZoneDto.fromModel(interrogationTempZoneService.getInterrogationTempZone(id));
+    }
 }
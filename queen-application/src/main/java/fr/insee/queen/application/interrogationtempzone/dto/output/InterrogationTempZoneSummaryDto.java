@@ -0,0 +1,18 @@
+package fr.insee.queen.application.interrogationtempzone.dto.output;
+
+import fr.insee.queen.domain.interrogationtempzone.model.InterrogationTempZoneSummary;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(name = "InterrogationTempZoneSummary")
+public record InterrogationTempZoneSummaryDto(
+        UUID id,
+        String interrogationId,
+        String userId,
+        Long date) {
+
+    public static InterrogationTempZoneSummaryDto fromModel(InterrogationTempZoneSummary summary) {
+        return new InterrogationTempZoneSummaryDto(summary.id(), summary.interrogationId(), summary.userId(), summary.date());
+    }
+}
@@ -0,0 +1,20 @@
+package fr.insee.queen.application.job.component;
+
+import fr.insee.queen.domain.job.service.JobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resume the unfinished jobs at startup, then periodically to take over the jobs of stopped nodes
+ */
+@Component
+@RequiredArgsConstructor
+public class JobResumeScheduler {
+    private final JobService jobService;
+
+    @Scheduled(fixedDelayString = "${feature.jobs.resume-delay:PT1M}")
+    public void resumeJobs() {
+        jobService.resumeJobs();
+    }
+}
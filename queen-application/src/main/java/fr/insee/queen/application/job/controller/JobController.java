@@ -0,0 +1,90 @@
+package fr.insee.queen.application.job.controller;
+
+import fr.insee.queen.application.configuration.auth.AuthorityPrivileges;
+import fr.insee.queen.application.job.dto.output.JobDto;
+import fr.insee.queen.application.pilotage.controller.PilotageComponent;
+import fr.insee.queen.application.web.validation.IdValid;
+import fr.insee.queen.domain.campaign.service.exception.CampaignDeletionException;
+import fr.insee.queen.domain.job.model.Job;
+import fr.insee.queen.domain.job.service.JobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * These endpoints handle the background jobs processing the interrogations of a campaign
+ */
+@RestController
+@Tag(name = "10. Jobs", description = "Endpoints for background jobs")
+@RequestMapping(path = "/api")
+@Slf4j
+@RequiredArgsConstructor
+@Validated
+public class JobController {
+    private final JobService jobService;
+    private final PilotageComponent pilotageComponent;
+
+    /**
+     * Clean all data from interrogations of a campaign with extracted state, in a background job
+     *
+     * @param campaignId the campaign id
+     * @return the created job
+     */
+    @Operation(summary = "Clean all data from interrogations of a campaign with extracted state, in a background job")
+    @DeleteMapping(path = "/admin/campaign/{id}/interrogations/data/extracted", params = "async=true")
+    @PreAuthorize("hasRole('WEBCLIENT')")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public JobDto cleanDataAsync(@IdValid @PathVariable(value = "id") String campaignId,
+                                 @NotNull @RequestParam("start") Long startTimestamp,
+                                 @NotNull @RequestParam("end") Long endTimestamp) {
+        Job job = jobService.startCleanExtractedData(campaignId, startTimestamp, endTimestamp);
+        log.info("Job {} created to clean extracted data of campaign {}", job.id(), campaignId);
+        return JobDto.fromModel(job);
+    }
+
+    /**
+     * Delete a campaign in a background job, interrogations being deleted by chunks.
+     * The deletion is processed in two cases:
+     * - the campaign is closed (check on pilotage api)
+     * - pilotage api is disabled or force option is set to true
+     *
+     * @param force      force the full deletion of the campaign (without checking if campaign is closed in pilotage api)
+     * @param campaignId campaign id
+     * @return the deletion job
+     */
+    @Operation(summary = "Delete a campaign in a background job")
+    @DeleteMapping(path = "/campaign/{id}", params = "async=true")
+    @PreAuthorize(AuthorityPrivileges.HAS_ADMIN_PRIVILEGES)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public JobDto deleteCampaignAsync(@RequestParam("force") boolean force,
+                                      @IdValid @PathVariable(value = "id") String campaignId) {
+        if (force || pilotageComponent.isClosed(campaignId)) {
+            Job job = jobService.startCampaignDeletion(campaignId);
+            log.info("Job {} created to delete campaign {}", job.id(), campaignId);
+            return JobDto.fromModel(job);
+        }
+
+        throw new CampaignDeletionException(String.format("Unable to delete campaign %s, campaign isn't closed", campaignId));
+    }
+
+    /**
+     * Retrieve the status and progress of a job
+     *
+     * @param jobId the job id
+     * @return the job
+     */
+    @Operation(summary = "Get the status and progress of a job")
+    @GetMapping(path = "/admin/jobs/{id}")
+    @PreAuthorize(AuthorityPrivileges.HAS_ADMIN_PRIVILEGES)
+    public JobDto getJob(@PathVariable(value = "id") UUID jobId) {
+        return JobDto.fromModel(jobService.getJob(jobId));
+    }
+}
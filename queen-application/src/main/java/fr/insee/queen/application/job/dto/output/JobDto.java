@@ -0,0 +1,29 @@
+package fr.insee.queen.application.job.dto.output;
+
+import fr.insee.queen.domain.job.model.Job;
+import fr.insee.queen.domain.job.model.JobStatus;
+import fr.insee.queen.domain.job.model.JobType;
+
+import java.util.UUID;
+
+public record JobDto(
+        UUID id,
+        JobType type,
+        String campaignId,
+        JobStatus status,
+        long processedCount,
+        Long creationDate,
+        Long updateDate,
+        String error) {
+
+    public static JobDto fromModel(Job job) {
+        return new JobDto(job.id(),
+                job.type(),
+                job.campaignId(),
+                job.status(),
+                job.processedCount(),
+                job.creationDate(),
+                job.updateDate(),
+                job.error());
+    }
+}
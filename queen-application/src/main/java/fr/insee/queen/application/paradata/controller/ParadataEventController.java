@@ -1,22 +1,32 @@
 package fr.insee.queen.application.paradata.controller;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import fr.insee.queen.application.configuration.auth.AuthorityPrivileges;
+import fr.insee.queen.application.paradata.dto.output.ParadataEventResultDto;
+import fr.insee.queen.application.paradata.dto.output.ParadataEventStatus;
 import fr.insee.queen.application.pilotage.controller.PilotageComponent;
 import fr.insee.queen.domain.common.exception.EntityNotFoundException;
 import fr.insee.queen.domain.paradata.service.ParadataEventService;
 import fr.insee.queen.domain.pilotage.service.PilotageRole;
+import fr.insee.queen.domain.pilotage.service.exception.HabilitationException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
 /**
  * Handle creation of paradata events for an interrogation. Paradatas are data
  * giving additional information about how the user is filling the questionnaire
@@ -30,6 +40,9 @@ import org.springframework.web.bind.annotation.*;
 public class ParadataEventController {
     private final ParadataEventService paradataEventService;
     private final PilotageComponent pilotageComponent;
+    private final ObjectMapper mapper;
+
+    private static final String PARADATA_INTERROGATION_ID_PARAMETER = "idInterrogation";
 
     /**
      * Create a paradata event for an interrogation
@@ -41,12 +54,11 @@ public class ParadataEventController {
     @PreAuthorize(AuthorityPrivileges.HAS_USER_PRIVILEGES)
     @ResponseStatus(HttpStatus.OK)
     public void addParadata(@NotNull @RequestBody ObjectNode paradataValue) {
-        String paradataInterrogationIdParameter = "idInterrogation";
-        if (!paradataValue.has(paradataInterrogationIdParameter)) {
+        if (!paradataValue.has(PARADATA_INTERROGATION_ID_PARAMETER)) {
             throw new EntityNotFoundException("Paradata does not contain the interrogation id");
         }
 
-        JsonNode interrogationNode = paradataValue.get(paradataInterrogationIdParameter);
+        JsonNode interrogationNode = paradataValue.get(PARADATA_INTERROGATION_ID_PARAMETER);
         if (!interrogationNode.isTextual() || interrogationNode.textValue() == null) {
             throw new EntityNotFoundException("Paradata does not contain the interrogation id");
         }
@@ -55,4 +67,83 @@ public class ParadataEventController {
         pilotageComponent.checkHabilitations(interrogationId, PilotageRole.INTERVIEWER);
         paradataEventService.createParadataEvent(interrogationId, paradataValue);
     }
+
+    /**
+     * Create paradata events sent as a json array or as NDJSON (one event per line).
+     * Events are grouped by interrogation, so habilitations are checked once by interrogation
+     * and the events of an interrogation are inserted by batches.
+     *
+     * @param paradataValues paradata values
+     * @return creation result of each event, in the order of the request body
+     * @throws IOException if the body cannot be read
+     */
+    @Operation(summary = "Create paradata events for several interrogations (json array or NDJSON)")
+    @PostMapping(path = "/paradata/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize(AuthorityPrivileges.HAS_USER_PRIVILEGES)
+    @ResponseStatus(HttpStatus.OK)
+    public List<ParadataEventResultDto> addParadataEvents(InputStream paradataValues) throws IOException {
+        List<ParadataEventResultDto> results = new ArrayList<>();
+        Map<String, Map<Integer, ObjectNode>> paradataByInterrogation = new LinkedHashMap<>();
+
+        // a root level array is read element by element, as a sequence of root values
+        try (MappingIterator<JsonNode> iterator = mapper.readerFor(JsonNode.class).readValues(paradataValues)) {
+            int index = 0;
+            while (iterator.hasNextValue()) {
+                JsonNode paradataValue = iterator.nextValue();
+                String interrogationId = getInterrogationId(paradataValue);
+                if (interrogationId == null) {
+                    results.add(ParadataEventResultDto.error(index, null, ParadataEventStatus.INVALID,
+                            "Paradata does not contain the interrogation id"));
+                } else {
+                    paradataByInterrogation.computeIfAbsent(interrogationId, id -> new LinkedHashMap<>())
+                            .put(index, (ObjectNode) paradataValue);
+                }
+                index++;
+            }
+        }
+
+        paradataByInterrogation.forEach((interrogationId, paradata) ->
+                results.addAll(createParadataEvents(interrogationId, paradata)));
+        results.sort(Comparator.comparingInt(ParadataEventResultDto::index));
+        log.info("{} paradata events received for {} interrogations", results.size(), paradataByInterrogation.size());
+        return results;
+    }
+
+    private List<ParadataEventResultDto> createParadataEvents(String interrogationId, Map<Integer, ObjectNode> paradata) {
+        ParadataEventStatus status = ParadataEventStatus.CREATED;
+        String cause = null;
+        try {
+            pilotageComponent.checkHabilitations(interrogationId, PilotageRole.INTERVIEWER);
+            paradataEventService.createParadataEvents(interrogationId, List.copyOf(paradata.values()));
+        } catch (HabilitationException e) {
+            status = ParadataEventStatus.FORBIDDEN;
+            cause = e.getMessage();
+        } catch (EntityNotFoundException e) {
+            status = ParadataEventStatus.NOT_FOUND;
+            cause = e.getMessage();
+        } catch (RuntimeException e) {
+            log.error("Unable to create paradata events for interrogation {}", interrogationId, e);
+            status = ParadataEventStatus.ERROR;
+            cause = "An error has occurred";
+        }
+
+        List<ParadataEventResultDto> results = new ArrayList<>();
+        for (Integer index : paradata.keySet()) {
+            results.add(status == ParadataEventStatus.CREATED
+                    ? ParadataEventResultDto.created(index, interrogationId)
+                    : ParadataEventResultDto.error(index, interrogationId, status, cause));
+        }
+        return results;
+    }
+
+    private String getInterrogationId(JsonNode paradataValue) {
+        if (!paradataValue.isObject()) {
+            return null;
+        }
+        JsonNode interrogationNode = paradataValue.get(PARADATA_INTERROGATION_ID_PARAMETER);
+        if (interrogationNode == null || !interrogationNode.isTextual()) {
+            return null;
+        }
+        return interrogationNode.textValue();
+    }
 }
@@ -0,0 +1,29 @@
+package fr.insee.queen.application.paradata.dto.output;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Result of the creation of a paradata event sent in bulk
+ *
+ * @param index position of the event in the request body
+ * @param interrogationId interrogation id of the event
+ * @param status creation status
+ * @param cause error cause
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(name = "ParadataEventResult")
+public record ParadataEventResultDto(
+        int index,
+        String interrogationId,
+        ParadataEventStatus status,
+        String cause) {
+
+    public static ParadataEventResultDto created(int index, String interrogationId) {
+        return new ParadataEventResultDto(index, interrogationId, ParadataEventStatus.CREATED, null);
+    }
+
+    public static ParadataEventResultDto error(int index, String interrogationId, ParadataEventStatus status, String cause) {
+        return new ParadataEventResultDto(index, interrogationId, status, cause);
+    }
+}
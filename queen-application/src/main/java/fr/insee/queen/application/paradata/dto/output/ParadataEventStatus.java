@@ -0,0 +1,9 @@
+package fr.insee.queen.application.paradata.dto.output;
+
+public enum ParadataEventStatus {
+    CREATED,
+    INVALID,
+    FORBIDDEN,
+    NOT_FOUND,
+    ERROR
+}
@@ -1,5 +1,7 @@
 package fr.insee.queen.application.pilotage.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import fr.insee.queen.application.campaign.dto.output.CampaignSummaryDto;
 import fr.insee.queen.application.configuration.auth.AuthorityPrivileges;
 import fr.insee.queen.application.interrogation.dto.output.InterrogationByCampaignDto;
@@ -12,9 +14,11 @@ import fr.insee.queen.domain.interrogation.model.InterrogationSummary;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.CurrentSecurityContext;
 import org.springframework.validation.annotation.Validated;
@@ -23,6 +27,8 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -33,6 +39,7 @@ import java.util.List;
 @ConditionalOnProperty(name = "feature.interviewer-mode.enabled", havingValue="true")
 public class InterviewerController {
     private final PilotageComponent pilotageComponent;
+    private final ObjectMapper mapper;
 
     /**
      * Retrieve the campaigns the current user has access to
@@ -73,6 +80,36 @@ public class InterviewerController {
                 .toList();
     }
 
+    /**
+     * Stream all the interrogations of the current interviewer as NDJSON (one interrogation per line).
+     * Interrogations are read by chunks, each chunk in a short transaction, and written to the response
+     * before the next chunk is read, so neither memory usage nor connection time depend on the number of interrogations
+     *
+     * @param response http response the interrogations are written to
+     * @throws IOException if the response cannot be written
+     */
+    @Operation(summary = "Stream list of interrogations linked to the current interviewer (NDJSON)")
+    @Tag(name = "06. Interrogations")
+    @GetMapping(path = "/interrogations/interviewer", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize(AuthorityPrivileges.HAS_INTERVIEWER_PRIVILEGES)
+    public void streamInterviewerInterrogations(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        try (SequenceWriter writer = mapper.writer()
+                .withRootValueSeparator("\n")
+                .writeValues(response.getOutputStream())) {
+            pilotageComponent.streamInterviewerInterrogations(interrogation -> {
+                try {
+                    writer.write(InterrogationDto.fromModel(interrogation));
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
     /**
      * Retrieve all the interrogations of a campaign
      *
@@ -11,6 +11,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 @ConditionalOnExpression(value = "${feature.oidc.enabled} == false or ${feature.pilotage.enabled} == false")
 @RequiredArgsConstructor
@@ -41,6 +42,11 @@ public class NoPilotageComponent implements PilotageComponent {
         return interrogationService.findAllInterrogations();
     }
 
+    @Override
+    public void streamInterviewerInterrogations(Consumer<Interrogation> interrogationConsumer) {
+        interrogationService.streamAllInterrogations(interrogationConsumer);
+    }
+
     @Override
     public void checkHabilitations(String interrogationId, PilotageRole... roles) {
         interrogationService.throwExceptionIfInterrogationNotExist(interrogationId);
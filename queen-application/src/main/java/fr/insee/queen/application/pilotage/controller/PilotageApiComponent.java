@@ -17,6 +17,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 @ConditionalOnExpression(value = "${feature.oidc.enabled} != false and ${feature.pilotage.enabled} != false")
 @Component
@@ -49,6 +50,11 @@ public class PilotageApiComponent implements PilotageComponent {
         return pilotageService.getInterviewerInterrogations();
     }
 
+    @Override
+    public void streamInterviewerInterrogations(Consumer<Interrogation> interrogationConsumer) {
+        pilotageService.streamInterviewerInterrogations(interrogationConsumer);
+    }
+
     @Override
     public void checkHabilitations(String interrogationId, PilotageRole... rolesToCheck) {
         InterrogationSummary interrogation = interrogationService.getSummaryById(interrogationId);
@@ -6,6 +6,7 @@ import fr.insee.queen.domain.interrogation.model.Interrogation;
 import fr.insee.queen.domain.interrogation.model.InterrogationSummary;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface PilotageComponent {
     /**
@@ -41,4 +42,10 @@ public interface PilotageComponent {
      * @return List of {@link Interrogation} interrogations of the campaign
      */
     List<Interrogation> getInterviewerInterrogations();
+
+    /**
+     * Push interrogations of the current interviewer one by one to a consumer
+     * @param interrogationConsumer consumer receiving each interrogation
+     */
+    void streamInterviewerInterrogations(Consumer<Interrogation> interrogationConsumer);
 }
@@ -0,0 +1,15 @@
+package fr.insee.queen.application.web.bulk;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mark an endpoint as an admin/bulk operation: its database work uses the bulk connection pool (when enabled),
+ * so it cannot starve interactive requests
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BulkOperation {
+}
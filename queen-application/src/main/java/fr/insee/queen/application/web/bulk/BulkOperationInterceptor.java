@@ -0,0 +1,30 @@
+package fr.insee.queen.application.web.bulk;
+
+import fr.insee.queen.infrastructure.db.configuration.RoutingDataSource;
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Route the database work of {@link BulkOperation} endpoints to the bulk connection pool
+ */
+@Component
+public class BulkOperationInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(@Nonnull HttpServletRequest request, @Nonnull HttpServletResponse response, @Nonnull Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod && handlerMethod.hasMethodAnnotation(BulkOperation.class)) {
+            RoutingDataSource.startBulkOperation();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@Nonnull HttpServletRequest request, @Nonnull HttpServletResponse response, @Nonnull Object handler,
+                                Exception exception) {
+        RoutingDataSource.clearContext();
+    }
+}
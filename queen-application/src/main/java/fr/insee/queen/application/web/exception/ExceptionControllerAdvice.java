@@ -16,10 +16,13 @@ import fr.insee.queen.domain.pilotage.service.exception.PilotageApiException;
 import fr.insee.queen.domain.interrogation.service.exception.MetadataValueNotFoundException;
 import fr.insee.queen.domain.interrogation.service.exception.StateDataInvalidDateException;
 import fr.insee.queen.infrastructure.db.data.exception.UpdateCollectedDataException;
+import fr.insee.queen.infrastructure.db.paradata.exception.ParadataBufferFullException;
+import fr.insee.queen.infrastructure.db.paradata.exception.ParadataBufferUnavailableException;
 import fr.insee.queen.infrastructure.depositproof.exception.DepositProofException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -173,6 +176,24 @@ public class ExceptionControllerAdvice {
         return new ResponseEntity<>(error, status);
     }
 
+    @ExceptionHandler(ParadataBufferFullException.class)
+    public ResponseEntity<ApiError> paradataBufferFullException(ParadataBufferFullException e, WebRequest request) {
+        log.warn(e.getMessage());
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        ApiError error = errorComponent.buildApiErrorObject(request, status, e.getMessage());
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
+    @ExceptionHandler(ParadataBufferUnavailableException.class)
+    public ResponseEntity<ApiError> paradataBufferUnavailableException(ParadataBufferUnavailableException e, WebRequest request) {
+        log.warn(e.getMessage());
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        ApiError error = errorComponent.buildApiErrorObject(request, status, e.getMessage());
+        return new ResponseEntity<>(error, status);
+    }
+
     @ExceptionHandler(HabilitationException.class)
     public ResponseEntity<ApiError> habilitationException(HabilitationException e, WebRequest request) {
         return generateResponseError(e, HttpStatus.FORBIDDEN, request);
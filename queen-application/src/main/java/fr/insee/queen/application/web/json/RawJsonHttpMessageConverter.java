@@ -0,0 +1,44 @@
+package fr.insee.queen.application.web.json;
+
+import fr.insee.queen.domain.common.json.RawJson;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.NonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Write stored json documents directly in the response body, without parsing/serializing them with jackson
+ */
+public class RawJsonHttpMessageConverter extends AbstractHttpMessageConverter<RawJson> {
+
+    public RawJsonHttpMessageConverter() {
+        super(StandardCharsets.UTF_8, MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(@NonNull Class<?> clazz) {
+        return RawJson.class.equals(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        // raw json is only used for responses
+        return false;
+    }
+
+    @Override
+    @NonNull
+    protected RawJson readInternal(@NonNull Class<? extends RawJson> clazz, @NonNull HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Raw json cannot be read", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(@NonNull RawJson rawJson, @NonNull HttpOutputMessage outputMessage) throws IOException {
+        outputMessage.getBody().write(rawJson.value().getBytes(StandardCharsets.UTF_8));
+    }
+}
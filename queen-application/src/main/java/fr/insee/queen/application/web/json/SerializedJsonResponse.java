@@ -0,0 +1,116 @@
+package fr.insee.queen.application.web.json;
+
+import fr.insee.queen.domain.common.json.SerializedJson;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Write serialized json documents as is in responses, with their gzip variant when the client accepts it.
+ * Responses carry a strong ETag built from the hash of the documents, so that conditional requests
+ * are answered with a 304 status without the body being written.
+ */
+public final class SerializedJsonResponse {
+    private static final String GZIP = "gzip";
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    private SerializedJsonResponse() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * @param json           serialized json document
+     * @param acceptEncoding Accept-Encoding header of the request, may be null
+     * @return the response writing the document, the 304 status being set when the ETag matches the request
+     */
+    public static ResponseEntity<byte[]> of(SerializedJson json, String acceptEncoding) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (json.gzipBody() != null && acceptsGzip(acceptEncoding)) {
+            // the gzip variant is another representation, it needs its own strong ETag
+            return response
+                    .eTag(json.hash() + GZIP_ETAG_SUFFIX)
+                    .header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                    .body(json.gzipBody());
+        }
+        return response
+                .eTag(json.hash())
+                .body(json.body());
+    }
+
+    /**
+     * Write serialized json documents as a json array, each document being the value of a field in an array element.
+     * The array is only built when the ETag combining the hashes of the documents does not match the request.
+     *
+     * @param elements  serialized json documents
+     * @param fieldName name of the field containing a document in an array element
+     * @param request   current request
+     * @return the response writing the array, or null when the 304 status has been set
+     */
+    public static ResponseEntity<byte[]> ofArray(List<SerializedJson> elements, String fieldName, WebRequest request) {
+        String etag = SerializedJson.combinedHash(elements.stream().map(SerializedJson::hash).toList());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        byte[] elementStart = ("{\"" + fieldName + "\":").getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream body = new ByteArrayOutputStream(
+                elements.stream().mapToInt(element -> element.body().length + elementStart.length + 2).sum() + 2);
+        body.write('[');
+        for (int index = 0; index < elements.size(); index++) {
+            if (index > 0) {
+                body.write(',');
+            }
+            body.writeBytes(elementStart);
+            body.writeBytes(elements.get(index).body());
+            body.write('}');
+        }
+        body.write(']');
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .body(body.toByteArray());
+    }
+
+    /**
+     * @param acceptEncoding Accept-Encoding header, may be null
+     * @return true if gzip is accepted with a non zero quality, explicitly or as any encoding
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean anyAccepted = false;
+        for (String encoding : acceptEncoding.split(",")) {
+            String[] parameters = encoding.split(";");
+            String coding = parameters[0].trim();
+            if (GZIP.equalsIgnoreCase(coding)) {
+                return !isZeroQuality(parameters);
+            }
+            if ("*".equals(coding)) {
+                anyAccepted = !isZeroQuality(parameters);
+            }
+        }
+        return anyAccepted;
+    }
+
+    private static boolean isZeroQuality(String[] parameters) {
+        for (int index = 1; index < parameters.length; index++) {
+            String parameter = parameters[index].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) == 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
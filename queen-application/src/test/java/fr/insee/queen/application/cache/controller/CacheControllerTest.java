@@ -0,0 +1,89 @@
+package fr.insee.queen.application.cache.controller;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fr.insee.queen.application.cache.dto.output.CacheDto;
+import fr.insee.queen.domain.common.cache.CacheName;
+import fr.insee.queen.domain.common.exception.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CacheControllerTest {
+
+    private CacheController cacheController;
+    private Cache nomenclatureCache;
+    private Cache questionnaireCache;
+
+    @BeforeEach
+    void init() {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                new CaffeineCache(CacheName.NOMENCLATURE, Caffeine.newBuilder().executor(Runnable::run).maximumSize(100).recordStats().build()),
+                new CaffeineCache(CacheName.QUESTIONNAIRE, Caffeine.newBuilder().executor(Runnable::run).maximumWeight(1000).weigher((key, value) -> 10).build())));
+        cacheManager.initializeCaches();
+        nomenclatureCache = cacheManager.getCache(CacheName.NOMENCLATURE);
+        questionnaireCache = cacheManager.getCache(CacheName.QUESTIONNAIRE);
+        cacheController = new CacheController(cacheManager);
+    }
+
+    @Test
+    @DisplayName("Should list the caches and their statistics")
+    void testGetCaches() {
+        nomenclatureCache.put("nomenclature-id", "value");
+        nomenclatureCache.get("nomenclature-id");
+        nomenclatureCache.get("unknown-id");
+
+        List<CacheDto> caches = cacheController.getCaches();
+
+        assertThat(caches).extracting(CacheDto::name).containsExactly(CacheName.NOMENCLATURE, CacheName.QUESTIONNAIRE);
+        CacheDto.CacheStatsDto stats = caches.getFirst().stats();
+        assertThat(stats.estimatedSize()).isEqualTo(1);
+        assertThat(stats.weightedSize()).isEqualTo(1);
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Should return the weight of a weighted cache")
+    void testGetCache() {
+        questionnaireCache.put("questionnaire-id", "value");
+        questionnaireCache.put("other-questionnaire-id", "value");
+
+        CacheDto cache = cacheController.getCache(CacheName.QUESTIONNAIRE);
+
+        assertThat(cache.stats().estimatedSize()).isEqualTo(2);
+        assertThat(cache.stats().weightedSize()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Should evict an entry or all the entries of a cache")
+    void testEvict() {
+        nomenclatureCache.put("nomenclature-id", "value");
+        nomenclatureCache.put("other-nomenclature-id", "value");
+
+        cacheController.evictCacheEntry(CacheName.NOMENCLATURE, "nomenclature-id");
+        assertThat(nomenclatureCache.get("nomenclature-id")).isNull();
+        assertThat(nomenclatureCache.get("other-nomenclature-id")).isNotNull();
+
+        cacheController.clearCache(CacheName.NOMENCLATURE);
+        assertThat(nomenclatureCache.get("other-nomenclature-id")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should throw exception when cache does not exist")
+    void testCacheNotFound() {
+        assertThatThrownBy(() -> cacheController.getCache("unknown"))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> cacheController.clearCache("unknown"))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+}
@@ -16,18 +16,27 @@ import org.skyscreamer.jsonassert.JSONCompareMode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -70,6 +79,44 @@ class NomenclatureIT{
         JSONAssert.assertEquals(expectedResult, content, JSONCompareMode.STRICT);
     }
 
+    @Test
+    void on_get_nomenclature_when_gzip_accepted_return_compressed_json_nomenclature() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/nomenclature/regions2019")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br")
+                        .with(authentication(authenticatedUserTestHelper.getInterrogationUser())))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn();
+        try (GZIPInputStream content = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            String expectedResult = JsonTestHelper.getResourceFileAsString("nomenclature/regions-2019.json");
+            JSONAssert.assertEquals(expectedResult, new String(content.readAllBytes(), StandardCharsets.UTF_8), JSONCompareMode.STRICT);
+        }
+    }
+
+    @Test
+    void on_get_nomenclature_when_etag_matches_return_not_modified() throws Exception {
+        String etag = mockMvc.perform(get("/api/nomenclature/regions2019")
+                        .with(authentication(authenticatedUserTestHelper.getInterrogationUser())))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"");
+
+        mockMvc.perform(get("/api/nomenclature/regions2019")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .with(authentication(authenticatedUserTestHelper.getInterrogationUser())))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().bytes(new byte[0]));
+
+        mockMvc.perform(get("/api/nomenclature/regions2019")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .with(authentication(authenticatedUserTestHelper.getInterrogationUser())))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+    }
+
     @Test
     @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
     void on_post_nomenclature_json_nomenclature_updated() throws Exception {
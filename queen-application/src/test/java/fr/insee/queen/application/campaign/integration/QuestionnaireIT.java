@@ -16,6 +16,7 @@ import org.skyscreamer.jsonassert.JSONCompareMode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
@@ -24,11 +25,13 @@ import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -51,6 +54,41 @@ class QuestionnaireIT {
                 .andExpect(jsonPath("$.size()", is(2)));
     }
 
+    @Test
+    void on_get_questionnaires_by_campaign_when_etag_matches_return_not_modified() throws Exception {
+        String etag = mockMvc.perform(get("/api/campaign/SIMPSONS2020X00/questionnaires")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .with(authentication(authenticatedUserTestHelper.getManagerUser()))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].value").isMap())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        mockMvc.perform(get("/api/campaign/SIMPSONS2020X00/questionnaires")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .with(authentication(authenticatedUserTestHelper.getManagerUser()))
+                )
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+    @Test
+    void on_get_questionnaire_data_when_etag_matches_return_not_modified() throws Exception {
+        String etag = mockMvc.perform(get("/api/questionnaire/simpsons/data")
+                        .with(authentication(authenticatedUserTestHelper.getInterrogationUser()))
+                )
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/questionnaire/simpsons/data")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + etag)
+                        .with(authentication(authenticatedUserTestHelper.getInterrogationUser()))
+                )
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     void on_get_questionnaires_by_campaign_when_campaign_not_exist_return_404() throws Exception {
         mockMvc.perform(get("/api/campaign/not-exist/questionnaires")
@@ -0,0 +1,91 @@
+package fr.insee.queen.application.campaign.integration.cache;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import fr.insee.queen.application.configuration.ScriptConstants;
+import fr.insee.queen.domain.campaign.model.Nomenclature;
+import fr.insee.queen.domain.campaign.service.NomenclatureService;
+import fr.insee.queen.domain.common.cache.CacheInvalidation;
+import fr.insee.queen.domain.common.cache.CacheName;
+import fr.insee.queen.infrastructure.db.cache.PostgresCacheInvalidationBus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+
+@SpringBootTest(properties = "feature.cache-invalidation.enabled=true")
+@ActiveProfiles({"test", "test-cache"})
+class CacheInvalidationIT {
+
+    @Autowired
+    private NomenclatureService nomenclatureService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PostgresCacheInvalidationBus cacheInvalidationBus;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    // bus of another node
+    private PostgresCacheInvalidationBus otherNodeBus;
+    private final List<CacheInvalidation> otherNodeInvalidations = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void startOtherNode() throws InterruptedException {
+        otherNodeBus = new PostgresCacheInvalidationBus(dataSourceProperties, "queen_cache_invalidation",
+                Duration.ofMillis(100), Duration.ofSeconds(1));
+        otherNodeBus.subscribe(otherNodeInvalidations::add);
+        otherNodeBus.start();
+        waitUntil(() -> otherNodeBus.isListening() && cacheInvalidationBus.isListening());
+    }
+
+    @AfterEach
+    void clearCaches() {
+        otherNodeBus.stop();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Objects.requireNonNull(cacheManager.getCache(cacheName)).clear();
+        }
+    }
+
+    @Test
+    @DisplayName("When saving nomenclature, share the eviction with the other nodes and apply their evictions")
+    @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
+    void check_cache_invalidation() throws InterruptedException {
+        String nomenclatureId = "nomenclature-invalidation-id";
+        nomenclatureService.saveNomenclature(new Nomenclature(nomenclatureId, "label", JsonNodeFactory.instance.arrayNode()));
+
+        // when updating nomenclature, the eviction is sent to the other nodes
+        nomenclatureService.saveNomenclature(new Nomenclature(nomenclatureId, "label2", JsonNodeFactory.instance.arrayNode()));
+        waitUntil(() -> otherNodeInvalidations.contains(CacheInvalidation.key(CacheName.NOMENCLATURE, nomenclatureId)));
+
+        // when another node updates the nomenclature, the local entry is evicted
+        nomenclatureService.getSerializedNomenclature(nomenclatureId);
+        assertThat(Objects.requireNonNull(cacheManager.getCache(CacheName.NOMENCLATURE)).get(nomenclatureId)).isNotNull();
+        otherNodeBus.publish(CacheInvalidation.key(CacheName.NOMENCLATURE, nomenclatureId));
+        waitUntil(() -> Objects.requireNonNull(cacheManager.getCache(CacheName.NOMENCLATURE)).get(nomenclatureId) == null);
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        for (int attempt = 0; attempt < 100 && !condition.getAsBoolean(); attempt++) {
+            Thread.sleep(100);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,44 @@
+package fr.insee.queen.application.campaign.integration.cache;
+
+import fr.insee.queen.domain.common.cache.CacheName;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"test", "test-cache"})
+class CacheMetricsIT {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("All the application caches are registered with their statistics and weight")
+    void check_cache_metrics() {
+        Arrays.stream(CacheName.class.getDeclaredFields())
+                .filter(field -> Modifier.isStatic(field.getModifiers()) && field.getType() == String.class)
+                .map(CacheMetricsIT::cacheName)
+                .forEach(cacheName -> {
+                    assertThat(meterRegistry.find("cache.gets").tag("cache", cacheName).functionCounters()).isNotEmpty();
+                    assertThat(meterRegistry.find("cache.evictions").tag("cache", cacheName).functionCounter()).isNotNull();
+                    assertThat(meterRegistry.find("cache.weight").tag("cache", cacheName).gauge()).isNotNull();
+                });
+    }
+
+    private static String cacheName(Field field) {
+        try {
+            return (String) field.get(null);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
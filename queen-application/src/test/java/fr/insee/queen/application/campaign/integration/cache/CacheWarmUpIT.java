@@ -0,0 +1,48 @@
+package fr.insee.queen.application.campaign.integration.cache;
+
+import fr.insee.queen.application.configuration.cache.CacheWarmUp;
+import fr.insee.queen.domain.common.cache.CacheName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "feature.cache.warm-up.enabled=true")
+@ActiveProfiles({"test", "test-cache"})
+class CacheWarmUpIT {
+
+    @Autowired
+    private CacheWarmUp cacheWarmUp;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    @DisplayName("When the application starts, the questionnaires of the campaigns are loaded in the caches")
+    void check_cache_warm_up() {
+        assertThat(cacheWarmUp).isNotNull();
+
+        Cache questionnaireDataCache = Objects.requireNonNull(cacheManager.getCache(CacheName.QUESTIONNAIRE_RAW));
+        assertThat(questionnaireDataCache.get("simpsons")).isNotNull();
+        assertThat(questionnaireDataCache.get("LOG2021X11Web")).isNotNull();
+        // not linked to a campaign
+        assertThat(questionnaireDataCache.get("QmWithoutCamp")).isNull();
+
+        Cache requiredNomenclaturesCache = Objects.requireNonNull(cacheManager.getCache(CacheName.QUESTIONNAIRE_NOMENCLATURES));
+        assertThat(requiredNomenclaturesCache.get("simpsons")).isNotNull();
+
+        Cache metadataCache = Objects.requireNonNull(cacheManager.getCache(CacheName.QUESTIONNAIRE_METADATA));
+        assertThat(metadataCache.get("LOG2021X11Web")).isNotNull();
+
+        Cache nomenclatureCache = Objects.requireNonNull(cacheManager.getCache(CacheName.NOMENCLATURE));
+        assertThat(nomenclatureCache.get("regions2019")).isNotNull();
+        assertThat(nomenclatureCache.get("cog-communes")).isNotNull();
+    }
+}
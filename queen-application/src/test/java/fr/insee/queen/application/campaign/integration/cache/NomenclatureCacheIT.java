@@ -5,6 +5,7 @@ import fr.insee.queen.application.configuration.ScriptConstants;
 import fr.insee.queen.domain.campaign.model.Nomenclature;
 import fr.insee.queen.domain.campaign.service.NomenclatureService;
 import fr.insee.queen.domain.common.cache.CacheName;
+import fr.insee.queen.domain.common.json.SerializedJson;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,7 @@ import org.springframework.cache.CacheManager;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -46,18 +48,19 @@ class NomenclatureCacheIT {
         nomenclatureService.saveNomenclature(new Nomenclature(nomenclatureId, "label", JsonNodeFactory.instance.arrayNode()));
         assertThat(Objects.requireNonNull(cacheManager.getCache(CacheName.NOMENCLATURE)).get(nomenclatureId)).isNull();
 
-        // when retrieving nomenclature, cache is created
-        Nomenclature nomenclature = nomenclatureService.getNomenclature(nomenclatureId);
-        Nomenclature nomenclatureCache = Objects.requireNonNull(cacheManager.getCache(CacheName.NOMENCLATURE)).get(nomenclatureId, Nomenclature.class);
-        assertThat(nomenclature).isEqualTo(nomenclatureCache);
+        // when retrieving nomenclature, cache is created with the serialized nomenclature
+        SerializedJson nomenclature = nomenclatureService.getSerializedNomenclature(nomenclatureId);
+        SerializedJson nomenclatureCache = Objects.requireNonNull(cacheManager.getCache(CacheName.NOMENCLATURE)).get(nomenclatureId, SerializedJson.class);
+        assertThat(nomenclature).isSameAs(nomenclatureCache);
+        assertThat(new String(nomenclatureCache.body(), StandardCharsets.UTF_8)).isEqualTo("[]");
 
         // when updating nomenclature, cache is evicted
         nomenclatureService.saveNomenclature(new Nomenclature(nomenclatureId, "label2", JsonNodeFactory.instance.arrayNode()));
         assertThat(Objects.requireNonNull(cacheManager.getCache(CacheName.NOMENCLATURE)).get(nomenclatureId)).isNull();
 
         // when retrieving nomenclature, cache is created
-        nomenclature = nomenclatureService.getNomenclature(nomenclatureId);
-        nomenclatureCache = Objects.requireNonNull(cacheManager.getCache(CacheName.NOMENCLATURE)).get(nomenclatureId, Nomenclature.class);
-        assertThat(nomenclature).isEqualTo(nomenclatureCache);
+        nomenclature = nomenclatureService.getSerializedNomenclature(nomenclatureId);
+        nomenclatureCache = Objects.requireNonNull(cacheManager.getCache(CacheName.NOMENCLATURE)).get(nomenclatureId, SerializedJson.class);
+        assertThat(nomenclature).isSameAs(nomenclatureCache);
     }
 }
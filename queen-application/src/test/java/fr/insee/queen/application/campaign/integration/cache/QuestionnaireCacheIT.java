@@ -150,6 +150,40 @@ class QuestionnaireCacheIT {
         assertThat(Objects.requireNonNull(cacheManager.getCache(CacheName.QUESTIONNAIRE_METADATA)).get(questionnaireId4)).isNull();
     }
 
+    @Test
+    @DisplayName("When linking questionnaires to a campaign, the campaign questionnaire ids cache is evicted")
+    @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
+    void check_questionnaire_cache05() {
+        String questionnaireId1 = "questionnaire-cache-id1";
+        String questionnaireId2 = "questionnaire-cache-id2";
+        String campaignId = "campaign-with-questionnaires-cache-id";
+
+        questionnaireModelService.createQuestionnaire(QuestionnaireModel.createQuestionnaireWithoutCampaign(questionnaireId1, "label1", JsonNodeFactory.instance.objectNode(), Set.of("cities2019")));
+        campaignService.createCampaign(new Campaign(campaignId, "label", CampaignSensitivity.NORMAL, Set.of(questionnaireId1), JsonNodeFactory.instance.objectNode()));
+        assertThat(Objects.requireNonNull(cacheManager.getCache(CacheName.CAMPAIGN_QUESTIONNAIRES)).get(campaignId)).isNull();
+
+        // when retrieving the questionnaire ids, cache does contain them now
+        List<String> questionnaireIds = questionnaireModelService.getQuestionnaireIds(campaignId);
+        @SuppressWarnings("unchecked")
+        List<String> questionnaireIdsCache = (List<String>) Objects.requireNonNull(cacheManager.getCache(CacheName.CAMPAIGN_QUESTIONNAIRES).get(campaignId).get());
+        assertThat(questionnaireIds).containsExactly(questionnaireId1);
+        assertThat(questionnaireIdsCache).isEqualTo(questionnaireIds);
+
+        // when integrating a new questionnaire for the campaign, cache is evicted
+        questionnaireModelService.createQuestionnaire(QuestionnaireModel.createQuestionnaireWithCampaign(questionnaireId2, "label2", JsonNodeFactory.instance.objectNode(), Set.of("cities2019"), campaignId));
+        assertThat(Objects.requireNonNull(cacheManager.getCache(CacheName.CAMPAIGN_QUESTIONNAIRES)).get(campaignId)).isNull();
+        assertThat(questionnaireModelService.getQuestionnaireIds(campaignId)).containsExactlyInAnyOrder(questionnaireId1, questionnaireId2);
+
+        // when updating the campaign, cache is evicted
+        campaignService.updateCampaign(new Campaign(campaignId, "labelUpdated", CampaignSensitivity.NORMAL, Set.of(questionnaireId2), JsonNodeFactory.instance.objectNode()));
+        assertThat(Objects.requireNonNull(cacheManager.getCache(CacheName.CAMPAIGN_QUESTIONNAIRES)).get(campaignId)).isNull();
+        assertThat(questionnaireModelService.getQuestionnaireIds(campaignId)).contains(questionnaireId2);
+
+        // when deleting the campaign, cache is evicted
+        campaignService.delete(campaignId);
+        assertThat(Objects.requireNonNull(cacheManager.getCache(CacheName.CAMPAIGN_QUESTIONNAIRES)).get(campaignId)).isNull();
+    }
+
     void check_questionnaire_cache_on_creation(QuestionnaireModel questionnaireData) {
         String questionnaireId = questionnaireData.getId();
 
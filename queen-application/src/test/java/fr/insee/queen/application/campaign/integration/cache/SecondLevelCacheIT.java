@@ -0,0 +1,109 @@
+package fr.insee.queen.application.campaign.integration.cache;
+
+import fr.insee.queen.application.configuration.ScriptConstants;
+import fr.insee.queen.domain.campaign.gateway.CampaignRepository;
+import fr.insee.queen.domain.campaign.model.CampaignSummary;
+import fr.insee.queen.infrastructure.db.campaign.entity.CampaignDB;
+import fr.insee.queen.infrastructure.db.campaign.entity.NomenclatureDB;
+import fr.insee.queen.infrastructure.db.campaign.entity.QuestionnaireModelDB;
+import fr.insee.queen.infrastructure.db.configuration.CacheRegion;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+
+@SpringBootTest(properties = {
+        "feature.second-level-cache.enabled=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+class SecondLevelCacheIT {
+
+    private static final String CAMPAIGN_ID = "SIMPSONS2020X00";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Test
+    @DisplayName("When the second level cache is enabled, campaigns are served from the campaign region")
+    void check_second_level_cache() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> entityManager.find(CampaignDB.class, CAMPAIGN_ID));
+        assertThat(sessionFactory.getCache().containsEntity(CampaignDB.class, CAMPAIGN_ID)).isTrue();
+
+        transactionTemplate.executeWithoutResult(status -> entityManager.find(CampaignDB.class, CAMPAIGN_ID));
+        assertThat(statistics.getDomainDataRegionStatistics(CacheRegion.CAMPAIGN).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("When the second level cache is enabled, campaign summaries are served from the campaign summary region")
+    void check_campaign_summary_query_cache() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        CampaignSummary campaign = campaignRepository.findWithQuestionnaireIds(CAMPAIGN_ID).orElseThrow();
+        CampaignSummary cachedCampaign = campaignRepository.findWithQuestionnaireIds(CAMPAIGN_ID).orElseThrow();
+
+        assertThat(cachedCampaign).usingRecursiveComparison().isEqualTo(campaign);
+        assertThat(cachedCampaign.getQuestionnaireIds()).containsExactlyInAnyOrder("simpsons", "simpsonsV2");
+        assertThat(statistics.getQueryRegionStatistics(CacheRegion.CAMPAIGN_SUMMARY).getPutCount()).isEqualTo(1);
+        assertThat(statistics.getQueryRegionStatistics(CacheRegion.CAMPAIGN_SUMMARY).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
+    @DisplayName("When a campaign is updated, its cached summary is not served anymore")
+    void check_campaign_summary_query_cache_invalidation() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        campaignRepository.findWithQuestionnaireIds(CAMPAIGN_ID);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                entityManager.find(CampaignDB.class, CAMPAIGN_ID).setLabel("updated label"));
+
+        assertThat(campaignRepository.findWithQuestionnaireIds(CAMPAIGN_ID))
+                .get()
+                .extracting(CampaignSummary::getLabel)
+                .isEqualTo("updated label");
+    }
+
+    @Test
+    @DisplayName("Questionnaires and nomenclatures, with their large json values, are kept out of the second level cache")
+    void check_second_level_cache_excludes_large_values() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.find(QuestionnaireModelDB.class, "simpsons");
+            entityManager.find(NomenclatureDB.class, "cities2019");
+        });
+
+        assertThat(sessionFactory.getCache().containsEntity(QuestionnaireModelDB.class, "simpsons")).isFalse();
+        assertThat(sessionFactory.getCache().containsEntity(NomenclatureDB.class, "cities2019")).isFalse();
+    }
+}
@@ -0,0 +1,95 @@
+package fr.insee.queen.application.campaign.integration.cache;
+
+import fr.insee.queen.domain.common.cache.CacheInvalidation;
+import fr.insee.queen.domain.common.cache.CacheName;
+import fr.insee.queen.infrastructure.db.cache.PostgresCacheInvalidationBus;
+import fr.insee.queen.infrastructure.db.campaign.entity.CampaignDB;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "feature.cache-invalidation.enabled=true",
+        "feature.second-level-cache.enabled=true"
+})
+@ActiveProfiles({"test", "test-cache"})
+class SecondLevelCacheInvalidationIT {
+
+    private static final String CAMPAIGN_ID = "SIMPSONS2020X00";
+
+    @Autowired
+    private PostgresCacheInvalidationBus cacheInvalidationBus;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // bus of another node
+    private PostgresCacheInvalidationBus otherNodeBus;
+
+    @BeforeEach
+    void startOtherNode() throws InterruptedException {
+        otherNodeBus = new PostgresCacheInvalidationBus(dataSourceProperties, "queen_cache_invalidation",
+                Duration.ofMillis(100), Duration.ofSeconds(1));
+        otherNodeBus.start();
+        waitUntil(() -> otherNodeBus.isListening() && cacheInvalidationBus.isListening());
+    }
+
+    @AfterEach
+    void stopOtherNode() {
+        otherNodeBus.stop();
+    }
+
+    @Test
+    @DisplayName("When another node evicts a campaign, evict it from the second level cache")
+    void check_second_level_cache_invalidation() throws InterruptedException {
+        Cache secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+
+        loadCampaign();
+        assertThat(secondLevelCache.containsEntity(CampaignDB.class, CAMPAIGN_ID)).isTrue();
+        otherNodeBus.publish(CacheInvalidation.key(CacheName.CAMPAIGN_EXIST, CAMPAIGN_ID));
+        waitUntil(() -> !secondLevelCache.containsEntity(CampaignDB.class, CAMPAIGN_ID));
+
+        // campaign updates evict the metadata of all the questionnaires
+        loadCampaign();
+        assertThat(secondLevelCache.containsEntity(CampaignDB.class, CAMPAIGN_ID)).isTrue();
+        otherNodeBus.publish(CacheInvalidation.allEntries(CacheName.QUESTIONNAIRE_METADATA));
+        waitUntil(() -> !secondLevelCache.containsEntity(CampaignDB.class, CAMPAIGN_ID));
+    }
+
+    private void loadCampaign() {
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> entityManager.find(CampaignDB.class, CAMPAIGN_ID));
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        for (int attempt = 0; attempt < 100 && !condition.getAsBoolean(); attempt++) {
+            Thread.sleep(100);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
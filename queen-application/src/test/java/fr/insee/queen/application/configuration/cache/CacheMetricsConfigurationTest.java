@@ -0,0 +1,69 @@
+package fr.insee.queen.application.configuration.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fr.insee.queen.domain.common.cache.CacheInvalidation;
+import fr.insee.queen.domain.common.cache.CacheInvalidationBus;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.NoOpCache;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheMetricsConfigurationTest {
+
+    private final CacheMeterBinderProvider<Cache> provider = new CacheMetricsConfiguration().applicationCacheMeterBinderProvider();
+
+    @Test
+    @DisplayName("Should bind the statistics and the weight of the caches sharing their evictions")
+    void bind_broadcastingCache() {
+        // given
+        SimpleCacheManager localCacheManager = new SimpleCacheManager();
+        localCacheManager.setCaches(List.of(new CaffeineCache("cache",
+                Caffeine.newBuilder().executor(Runnable::run).maximumSize(10).recordStats().build())));
+        localCacheManager.initializeCaches();
+        Cache cache = new InvalidationBroadcastingCacheManager(localCacheManager, new CacheInvalidationBus() {
+            @Override
+            public void publish(CacheInvalidation invalidation) {
+                // not shared in this test
+            }
+
+            @Override
+            public void subscribe(Consumer<CacheInvalidation> subscriber) {
+                // not shared in this test
+            }
+        }).getCache("cache");
+        cache.put("key", "value");
+        cache.get("key");
+        cache.get("unknown");
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        // when
+        MeterBinder binder = provider.getMeterBinder(cache, Tags.of("cache.manager", "application"));
+        binder.bindTo(registry);
+
+        // then
+        assertThat(registry.get("cache.gets").tags("cache", "cache", "result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tags("cache", "cache", "result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.evictions").tags("cache.manager", "application").functionCounter())
+                .extracting(FunctionCounter::count)
+                .isEqualTo(0.0);
+        assertThat(registry.get("cache.weight").tags("cache", "cache").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should let the other providers bind the caches not backed by caffeine")
+    void bind_otherCache() {
+        assertThat(provider.getMeterBinder(new NoOpCache("cache"), Tags.empty())).isNull();
+    }
+}
@@ -0,0 +1,125 @@
+package fr.insee.queen.application.configuration.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fr.insee.queen.domain.common.cache.CacheInvalidation;
+import fr.insee.queen.domain.common.cache.CacheInvalidationBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvalidationBroadcastingCacheManagerTest {
+
+    private final List<CacheInvalidation> published = new ArrayList<>();
+    private final List<Consumer<CacheInvalidation>> subscribers = new ArrayList<>();
+    private final CacheInvalidationBus cacheInvalidationBus = new CacheInvalidationBus() {
+        @Override
+        public void publish(CacheInvalidation invalidation) {
+            published.add(invalidation);
+        }
+
+        @Override
+        public void subscribe(Consumer<CacheInvalidation> subscriber) {
+            subscribers.add(subscriber);
+        }
+    };
+    private SimpleCacheManager localCacheManager;
+    private InvalidationBroadcastingCacheManager cacheManager;
+
+    @BeforeEach
+    void init() {
+        localCacheManager = new SimpleCacheManager();
+        localCacheManager.setCaches(List.of(caffeineCache("first"), caffeineCache("second")));
+        localCacheManager.initializeCaches();
+        cacheManager = new InvalidationBroadcastingCacheManager(localCacheManager, cacheInvalidationBus);
+    }
+
+    @Test
+    @DisplayName("Should publish the evictions of the caches")
+    void publish_evictions() {
+        // given
+        Cache cache = cacheManager.getCache("first");
+        cache.put("key", "value");
+
+        // when
+        cache.evict("key");
+        cache.evictIfPresent(List.of("composite", "key"));
+        cache.clear();
+
+        // then
+        assertThat(cache.get("key")).isNull();
+        assertThat(published).containsExactly(
+                CacheInvalidation.key("first", "key"),
+                CacheInvalidation.allEntries("first"),
+                CacheInvalidation.allEntries("first"));
+    }
+
+    @Test
+    @DisplayName("Should not publish reads and writes of the caches")
+    void publish_noEviction() {
+        // given
+        Cache cache = cacheManager.getCache("first");
+
+        // when
+        cache.put("key", "value");
+        cache.putIfAbsent("other-key", "value");
+        String value = cache.get("key", String.class);
+
+        // then
+        assertThat(value).isEqualTo("value");
+        assertThat(cache.getNativeCache()).isSameAs(localCacheManager.getCache("first").getNativeCache());
+        assertThat(cacheManager.getCache("unknown")).isNull();
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should apply the evictions received without publishing them again")
+    void apply_evictions() {
+        // given
+        Cache first = cacheManager.getCache("first");
+        Cache second = cacheManager.getCache("second");
+        first.put("key", "value");
+        first.put("other-key", "value");
+        second.put("key", "value");
+
+        // when
+        subscribers.forEach(subscriber -> subscriber.accept(CacheInvalidation.key("first", "key")));
+        subscribers.forEach(subscriber -> subscriber.accept(CacheInvalidation.key("unknown", "key")));
+
+        // then
+        assertThat(first.get("key")).isNull();
+        assertThat(first.get("other-key")).isNotNull();
+        assertThat(second.get("key")).isNotNull();
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should clear all the caches when invalidations may have been missed")
+    void apply_allCaches() {
+        // given
+        Cache first = cacheManager.getCache("first");
+        Cache second = cacheManager.getCache("second");
+        first.put("key", "value");
+        second.put("key", "value");
+
+        // when
+        subscribers.forEach(subscriber -> subscriber.accept(CacheInvalidation.allCaches()));
+
+        // then
+        assertThat(first.get("key")).isNull();
+        assertThat(second.get("key")).isNull();
+        assertThat(published).isEmpty();
+    }
+
+    private static CaffeineCache caffeineCache(String name) {
+        return new CaffeineCache(name, Caffeine.newBuilder().build());
+    }
+}
@@ -0,0 +1,196 @@
+package fr.insee.queen.application.interrogation.component;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.insee.queen.application.interrogation.dto.output.InterrogationBatchChunkDto;
+import fr.insee.queen.application.interrogation.dto.output.InterrogationBatchStreamReportDto;
+import fr.insee.queen.application.interrogation.dto.output.InterrogationBulkLoadReportDto;
+import fr.insee.queen.application.interrogation.service.dummy.InterrogationBatchFakeService;
+import fr.insee.queen.application.web.validation.json.JsonValidator;
+import fr.insee.queen.application.web.validation.json.JsonValidatorComponent;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorFactory;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InterrogationBatchStreamComponentTest {
+
+    private InterrogationBatchFakeService interrogationBatchFakeService;
+    private InterrogationBatchStreamComponent component;
+
+    @BeforeEach
+    void init() {
+        ConstraintValidatorFactory defaultFactory = Validation.byDefaultProvider().configure().getDefaultConstraintValidatorFactory();
+        JsonValidatorComponent jsonValidatorComponent = new JsonValidatorComponent();
+        Validator validator = Validation.byDefaultProvider()
+                .configure()
+                .constraintValidatorFactory(new ConstraintValidatorFactory() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+                        if (key == JsonValidator.class) {
+                            return (T) new JsonValidator(jsonValidatorComponent);
+                        }
+                        return defaultFactory.getInstance(key);
+                    }
+
+                    @Override
+                    public void releaseInstance(ConstraintValidator<?, ?> instance) {
+                        defaultFactory.releaseInstance(instance);
+                    }
+                })
+                .buildValidatorFactory()
+                .getValidator();
+        interrogationBatchFakeService = new InterrogationBatchFakeService();
+        component = new InterrogationBatchStreamComponent(new ObjectMapper(), validator, interrogationBatchFakeService,
+                Clock.fixed(Instant.ofEpochSecond(1740601599), ZoneId.systemDefault()));
+    }
+
+    @Test
+    @DisplayName("On saving interrogations by chunks, each chunk is saved separately")
+    void testSaveInterrogations01() throws IOException {
+        InterrogationBatchStreamReportDto report = component.saveInterrogations("campaign-id",
+                toStream(interrogation("id1"), interrogation("id2"), interrogation("id3")), 2);
+
+        assertThat(report.received()).isEqualTo(3);
+        assertThat(report.saved()).isEqualTo(3);
+        assertThat(report.chunks()).extracting(InterrogationBatchChunkDto::saved).containsExactly(2, 1);
+        assertThat(interrogationBatchFakeService.getInterrogationsSaved()).hasSize(2);
+        assertThat(interrogationBatchFakeService.getInterrogationsSaved().getFirst().getFirst().campaignId())
+                .isEqualTo("campaign-id");
+    }
+
+    @Test
+    @DisplayName("On saving interrogations by chunks, invalid interrogations are reported and not saved")
+    void testSaveInterrogations02() throws IOException {
+        String invalidInterrogation = "{\"id\":\"id2\",\"surveyUnitId\":\"su2\",\"questionnaireId\":\"questionnaire-id\"}";
+        InterrogationBatchStreamReportDto report = component.saveInterrogations("campaign-id",
+                toStream(interrogation("id1"), invalidInterrogation), 10);
+
+        assertThat(report.saved()).isEqualTo(1);
+        assertThat(report.chunks().getFirst().errors()).hasSize(1);
+        assertThat(report.chunks().getFirst().errors().getFirst()).startsWith("id2");
+    }
+
+    @Test
+    @DisplayName("On saving interrogations by chunks, when a chunk cannot be saved, other chunks are saved")
+    void testSaveInterrogations03() throws IOException {
+        interrogationBatchFakeService.setFailingInterrogationId("id1");
+        InterrogationBatchStreamReportDto report = component.saveInterrogations("campaign-id",
+                toStream(interrogation("id1"), interrogation("id2")), 1);
+
+        assertThat(report.saved()).isEqualTo(1);
+        assertThat(report.chunks().getFirst().errors()).containsExactly(InterrogationBatchStreamComponent.CHUNK_SAVE_ERROR);
+        assertThat(report.chunks().get(1).saved()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("On saving interrogations by chunks, when body is not an array, throw exception")
+    void testSaveInterrogations04() {
+        InputStream body = new ByteArrayInputStream(interrogation("id1").getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> component.saveInterrogations("campaign-id", body, 1))
+                .isInstanceOf(JsonParseException.class);
+    }
+
+    @Test
+    @DisplayName("On bulk loading interrogations, each batch is loaded separately")
+    void testBulkLoad01() throws IOException {
+        int count = InterrogationBatchStreamComponent.BULK_LOAD_BATCH_SIZE + 10;
+
+        InterrogationBatchStreamComponent.BulkLoadResult result = component.bulkLoadInterrogations("campaign-id",
+                toStream(interrogations(count)));
+
+        assertThat(result.status()).isEqualTo(HttpStatus.OK);
+        assertThat(result.report().interrogationCount()).isEqualTo(count);
+        assertThat(result.report().failedBatchIndex()).isNull();
+        assertThat(result.report().batches())
+                .extracting(InterrogationBulkLoadReportDto.BatchDto::size)
+                .containsExactly(InterrogationBatchStreamComponent.BULK_LOAD_BATCH_SIZE, 10);
+        assertThat(interrogationBatchFakeService.getInterrogationsSaved().getFirst().getFirst().campaignId())
+                .isEqualTo("campaign-id");
+    }
+
+    @Test
+    @DisplayName("On bulk loading interrogations, when a batch cannot be loaded, report the committed batches and stop")
+    void testBulkLoad02() throws IOException {
+        interrogationBatchFakeService.setFailingInterrogationId("id" + InterrogationBatchStreamComponent.BULK_LOAD_BATCH_SIZE);
+
+        InterrogationBatchStreamComponent.BulkLoadResult result = component.bulkLoadInterrogations("campaign-id",
+                toStream(interrogations(InterrogationBatchStreamComponent.BULK_LOAD_BATCH_SIZE * 2 + 1)));
+
+        assertThat(result.status()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(result.report().interrogationCount()).isEqualTo(InterrogationBatchStreamComponent.BULK_LOAD_BATCH_SIZE);
+        assertThat(result.report().batches()).hasSize(1);
+        assertThat(result.report().failedBatchIndex()).isEqualTo(1);
+        assertThat(result.report().error()).isEqualTo(InterrogationBatchStreamComponent.BATCH_LOAD_ERROR);
+        assertThat(interrogationBatchFakeService.getInterrogationsSaved()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("On bulk loading interrogations, when the json is invalid after a batch, report the committed batch")
+    void testBulkLoad03() throws IOException {
+        String body = "[" + String.join(",", interrogations(InterrogationBatchStreamComponent.BULK_LOAD_BATCH_SIZE)) + ",{\"id\":";
+
+        InterrogationBatchStreamComponent.BulkLoadResult result = component.bulkLoadInterrogations("campaign-id",
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.status()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(result.report().batches()).hasSize(1);
+        assertThat(result.report().failedBatchIndex()).isEqualTo(1);
+        assertThat(result.report().error()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("On bulk loading interrogations, when an interrogation is invalid, its batch is not loaded")
+    void testBulkLoad04() throws IOException {
+        String invalidInterrogation = "{\"id\":\"id2\",\"surveyUnitId\":\"su2\",\"questionnaireId\":\"questionnaire-id\"}";
+
+        InterrogationBatchStreamComponent.BulkLoadResult result = component.bulkLoadInterrogations("campaign-id",
+                toStream(interrogation("id1"), invalidInterrogation));
+
+        assertThat(result.status()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(result.report().interrogationCount()).isZero();
+        assertThat(result.report().failedBatchIndex()).isZero();
+        assertThat(result.report().error()).startsWith("id2: data");
+        assertThat(interrogationBatchFakeService.getInterrogationsSaved()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("On bulk loading interrogations, when the array is empty, nothing is loaded")
+    void testBulkLoad05() throws IOException {
+        InterrogationBatchStreamComponent.BulkLoadResult result = component.bulkLoadInterrogations("campaign-id", toStream());
+
+        assertThat(result.status()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(result.report().error()).isEqualTo(InterrogationBatchStreamComponent.EMPTY_BULK_LOAD_ERROR);
+    }
+
+    private String[] interrogations(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(index -> interrogation("id" + index))
+                .toArray(String[]::new);
+    }
+
+    private String interrogation(String id) {
+        return "{\"id\":\"" + id + "\",\"surveyUnitId\":\"su-" + id + "\",\"questionnaireId\":\"questionnaire-id\",\"data\":{}}";
+    }
+
+    private InputStream toStream(String... interrogations) {
+        return new ByteArrayInputStream(("[" + String.join(",", interrogations) + "]").getBytes(StandardCharsets.UTF_8));
+    }
+}
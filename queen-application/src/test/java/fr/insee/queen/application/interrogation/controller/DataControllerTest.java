@@ -11,6 +11,7 @@ import fr.insee.queen.application.interrogation.service.dummy.InterrogationFakeS
 import fr.insee.queen.application.utils.AuthenticatedUserTestHelper;
 import fr.insee.queen.application.utils.dummy.AuthenticationFakeHelper;
 import fr.insee.queen.domain.campaign.model.CampaignSensitivity;
+import fr.insee.queen.domain.common.json.RawJson;
 import fr.insee.queen.domain.interrogation.model.StateData;
 import fr.insee.queen.domain.interrogation.model.StateDataType;
 import fr.insee.queen.domain.interrogation.model.InterrogationSummary;
@@ -153,10 +154,10 @@ class DataControllerTest {
         assertThat(interrogationSummary.campaign().getSensitivity()).isEqualTo(CampaignSensitivity.NORMAL);
         
         // when
-        ObjectNode data = dataController.getDataByInterrogation(InterrogationFakeService.INTERROGATION1_ID);
+        RawJson data = dataController.getDataByInterrogation(InterrogationFakeService.INTERROGATION1_ID);
 
         // then
-        ObjectNode interrogationData = dataFakeService.getData(InterrogationFakeService.INTERROGATION1_ID);
+        RawJson interrogationData = dataFakeService.getRawData(InterrogationFakeService.INTERROGATION1_ID);
         assertThat(data).isEqualTo(interrogationData);
     }
     @ParameterizedTest
@@ -169,11 +170,11 @@ class DataControllerTest {
         assertThat(interrogationSummary.campaign().getSensitivity()).isEqualTo(CampaignSensitivity.SENSITIVE);
 
         // when
-        ObjectNode data = dataController.getDataByInterrogation(InterrogationFakeService.INTERROGATION3_ID);
+        RawJson data = dataController.getDataByInterrogation(InterrogationFakeService.INTERROGATION3_ID);
 
         // then
         assertThat(pilotageFakeComponent.isChecked()).isTrue();
-        ObjectNode interrogationData = dataFakeService.getData(InterrogationFakeService.INTERROGATION3_ID);
+        RawJson interrogationData = dataFakeService.getRawData(InterrogationFakeService.INTERROGATION3_ID);
         assertThat(data).isEqualTo(interrogationData);
     }
 
@@ -187,10 +188,10 @@ class DataControllerTest {
         assertThat(interrogationSummary.campaign().getSensitivity()).isEqualTo(CampaignSensitivity.SENSITIVE);
 
         // when
-        ObjectNode data = dataController.getDataByInterrogation(InterrogationFakeService.INTERROGATION3_ID);
+        RawJson data = dataController.getDataByInterrogation(InterrogationFakeService.INTERROGATION3_ID);
 
         // then
-        ObjectNode interrogationData = dataFakeService.getData(InterrogationFakeService.INTERROGATION3_ID);
+        RawJson interrogationData = dataFakeService.getRawData(InterrogationFakeService.INTERROGATION3_ID);
 
         assertThat(pilotageFakeComponent.isChecked()).isTrue();
         assertThat(data).isEqualTo(interrogationData);
@@ -205,18 +206,18 @@ class DataControllerTest {
         InterrogationSummary interrogationSummary = interrogationFakeService.getSummaryById(interrogationId);
         assertThat(interrogationSummary.campaign().getSensitivity()).isEqualTo(CampaignSensitivity.SENSITIVE);
 
-        ObjectNode interrogationData = dataFakeService.getData(interrogationId);
+        RawJson interrogationData = dataFakeService.getRawData(interrogationId);
         StateData stateData = stateDataFakeService.getStateData(interrogationId);
         assertThat(stateData.state()).isIn(StateDataType.EXTRACTED, StateDataType.VALIDATED);
 
         // when
-        ObjectNode data = dataController.getDataByInterrogation(interrogationId);
+        RawJson data = dataController.getDataByInterrogation(interrogationId);
 
         // then
         assertThat(pilotageFakeComponent.isChecked()).isTrue();
         assertThat(data)
                 .isNotEqualTo(interrogationData)
-                .isEqualTo(JsonNodeFactory.instance.objectNode());
+                .isEqualTo(RawJson.EMPTY_OBJECT);
     }
 
     @ParameterizedTest
@@ -228,12 +229,12 @@ class DataControllerTest {
         InterrogationSummary interrogationSummary = interrogationFakeService.getSummaryById(InterrogationFakeService.INTERROGATION6_ID);
         assertThat(interrogationSummary.campaign().getSensitivity()).isEqualTo(CampaignSensitivity.SENSITIVE);
 
-        ObjectNode interrogationData = dataFakeService.getData(InterrogationFakeService.INTERROGATION6_ID);
+        RawJson interrogationData = dataFakeService.getRawData(InterrogationFakeService.INTERROGATION6_ID);
         StateData stateData = stateDataFakeService.getStateData(InterrogationFakeService.INTERROGATION6_ID);
         assertThat(stateData).isNull();
 
         // when
-        ObjectNode data = dataController.getDataByInterrogation(InterrogationFakeService.INTERROGATION6_ID);
+        RawJson data = dataController.getDataByInterrogation(InterrogationFakeService.INTERROGATION6_ID);
 
         // then
         assertThat(pilotageFakeComponent.isChecked()).isTrue();
@@ -0,0 +1,206 @@
+package fr.insee.queen.application.interrogation.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.insee.queen.application.configuration.ScriptConstants;
+import fr.insee.queen.application.utils.JsonTestHelper;
+import fr.insee.queen.infrastructure.db.configuration.DataFactory;
+import fr.insee.queen.infrastructure.db.data.encryption.AesGcmDataEncryptionEngine;
+import fr.insee.queen.infrastructure.db.data.encryption.PgcryptoDataEncryptionEngine;
+import fr.insee.queen.infrastructure.db.data.entity.aesgcm.AesGcmDataDB;
+import fr.insee.queen.infrastructure.db.data.repository.AesGcmDataDao;
+import fr.insee.queen.infrastructure.db.data.repository.jpa.DataRepository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+
+@ActiveProfiles({"test-cipher", "test-aes-gcm"})
+@SpringBootTest
+@AutoConfigureMockMvc
+/* Disable the "Add at least one assertion to this test case." (sic)
+   The sonar rule is not smart enough to inspect common test class
+ */
+@SuppressWarnings("java:S2699")
+class DataAesGcmIT {
+
+    private final DataCommonAssertions dataCommonAssertions;
+
+    public DataAesGcmIT(@Autowired MockMvc mockMvc) {
+        this.dataCommonAssertions = new DataCommonAssertions(mockMvc);
+    }
+
+    @Autowired
+    private DataRepository jpaRepository;
+
+    @Autowired
+    private DataFactory dataFactory;
+
+    @Autowired
+    private AesGcmDataEncryptionEngine encryptionEngine;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Check AES-GCM Data repository is loaded")
+    void checkRepository() {
+        assertThat(jpaRepository)
+                .isInstanceOf(AesGcmDataDao.class);
+    }
+
+    @Test
+    @DisplayName("Check AES-GCM Data entity is built")
+    void checkDataFactory() {
+        assertThat(dataFactory.buildData(null, null))
+                .isInstanceOf(AesGcmDataDB.class);
+    }
+
+    @Test
+    @DisplayName("Given legacy pgcrypto data, when reading it, then the database decrypts it")
+    void readLegacyData() throws IOException {
+        String interrogationId = "517046b6-bd88-47e0-838e-00d03461f592";
+        assertThat(encryptedFlag(interrogationId)).isEqualTo(PgcryptoDataEncryptionEngine.ENCRYPTED_FLAG);
+
+        assertThat(jpaRepository.findData(interrogationId))
+                .contains(JsonTestHelper.getResourceFileAsObjectNode("interrogation/data.json"));
+    }
+
+    @Test
+    @DisplayName("Given legacy pgcrypto data, when updating it, then it is stored with AES-GCM")
+    @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
+    void updateLegacyData() throws IOException {
+        String interrogationId = "517046b6-bd88-47e0-838e-00d03461f592";
+        ObjectNode data = JsonNodeFactory.instance.objectNode();
+        data.putObject("COLLECTED").put("NAME", "Homer");
+
+        jpaRepository.updateData(interrogationId, data);
+
+        assertThat(encryptedFlag(interrogationId)).isEqualTo(AesGcmDataEncryptionEngine.ENCRYPTED_FLAG);
+        byte[] storedValue = jdbcTemplate.queryForObject("select value from data where interrogation_id = ?", byte[].class, interrogationId);
+        assertThat(encryptionEngine.isEncrypted(storedValue)).isTrue();
+        assertThat(mapper.readTree(encryptionEngine.decrypt(storedValue))).isEqualTo(data);
+        // the CASE expression of the entity reads the AES-GCM value as is
+        assertThat(jpaRepository.findData(interrogationId)).contains(data);
+    }
+
+    @Test
+    @DisplayName("Given legacy pgcrypto data, when merging collected data, then the merged data is stored with AES-GCM")
+    @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
+    void updateCollectedLegacyData() {
+        String interrogationId = "517046b6-bd88-47e0-838e-00d03461f592";
+        ObjectNode legacyData = jpaRepository.findData(interrogationId).orElseThrow();
+        ObjectNode collectedData = JsonNodeFactory.instance.objectNode();
+        collectedData.putObject("NEW_VARIABLE").putObject("COLLECTED").put("value", "plop");
+
+        jpaRepository.updateCollectedData(interrogationId, collectedData);
+
+        assertThat(encryptedFlag(interrogationId)).isEqualTo(AesGcmDataEncryptionEngine.ENCRYPTED_FLAG);
+        ObjectNode storedData = jpaRepository.findData(interrogationId).orElseThrow();
+        assertThat(storedData.get("COLLECTED").get("NEW_VARIABLE")).isEqualTo(collectedData.get("NEW_VARIABLE"));
+        legacyData.fieldNames().forEachRemaining(fieldName -> assertThat(storedData.has(fieldName)).isTrue());
+    }
+
+    @Test
+    void on_get_data_return_data() throws Exception {
+        dataCommonAssertions.on_get_data_return_data();
+    }
+
+    @Test
+    void on_get_data_when_su_not_exist_return_404() throws Exception {
+        dataCommonAssertions.on_get_data_when_su_not_exist_return_404();
+    }
+
+    @Test
+    void on_get_data_when_su_id_invalid_return_400() throws Exception {
+        dataCommonAssertions.on_get_data_when_su_id_invalid_return_400();
+    }
+
+    @Test
+    @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
+    void on_update_data_data_is_updated() throws Exception {
+        dataCommonAssertions.on_update_data_data_is_updated();
+    }
+
+    @Test
+    void on_update_data_when_su_not_exist_return_404() throws Exception {
+        dataCommonAssertions.on_update_data_when_su_not_exist_return_404();
+    }
+
+    @Test
+    void on_update_data_when_su_id_invalid_return_400() throws Exception {
+        dataCommonAssertions.on_update_data_when_su_id_invalid_return_400();
+    }
+
+    @Test
+    void on_update_data_when_data_not_json_object_node_return_400() throws Exception {
+        dataCommonAssertions.on_update_data_when_data_not_json_object_node_return_400();
+    }
+
+    @Test
+    void on_get_data_when_anonymous_user_return_401() throws Exception {
+        dataCommonAssertions.on_get_data_when_anonymous_user_return_401();
+    }
+
+    @Test
+    void on_update_data_when_anonymous_user_return_401() throws Exception {
+        dataCommonAssertions.on_update_data_when_anonymous_user_return_401();
+    }
+
+    @Test
+    @DisplayName("Given interrogation data with collected data, when inserting partial collected data, then merge collected datas")
+    @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
+    void updateCollectedData02() throws Exception {
+        dataCommonAssertions.updateCollectedData02();
+    }
+
+    @Test
+    @DisplayName("Given interrogation with no collected json data, when updating data then insert partial data as collected data")
+    @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
+    void updateCollectedData01() throws Exception {
+        dataCommonAssertions.updateCollectedData01();
+    }
+
+    @Test
+    @DisplayName("Given invalid interrogation id, when updating collected data then throw bad request")
+    void updateCollectedDataError02() throws Exception {
+        dataCommonAssertions.updateCollectedDataError02();
+    }
+
+    @Test
+    @DisplayName("Given invalid json collected input data, when updating collected data then throw bad request")
+    void updateCollectedDataError03() throws Exception {
+        dataCommonAssertions.updateCollectedDataError03();
+    }
+
+    @Test
+    @DisplayName("Given an anoymous user, when updating collected data then return unauthenticated error")
+    void updateCollectedDataError04() throws Exception {
+        dataCommonAssertions.updateCollectedDataError04();
+    }
+
+    @Test
+    @DisplayName("Should clean data on interrogations with extracted state data")
+    @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
+    void cleanExtractedData() throws Exception {
+        dataCommonAssertions.cleanExtractedData();
+    }
+
+    private Integer encryptedFlag(String interrogationId) {
+        return jdbcTemplate.queryForObject("select encrypted from data where interrogation_id = ?", Integer.class, interrogationId);
+    }
+}
@@ -0,0 +1,44 @@
+package fr.insee.queen.application.interrogation.integration;
+
+import fr.insee.queen.application.configuration.ScriptConstants;
+import fr.insee.queen.infrastructure.db.data.encryption.AesGcmDataEncryptionEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+
+@ActiveProfiles({"test-cipher", "test-aes-gcm"})
+@SpringBootTest
+@AutoConfigureMockMvc
+class InterrogationBatchAesGcmIT {
+
+    private final InterrogationBatchCommonAssertions interrogationTests;
+
+    public InterrogationBatchAesGcmIT(@Autowired MockMvc mockMvc, @Autowired JdbcTemplate jdbcTemplate,
+                                      @Autowired AesGcmDataEncryptionEngine encryptionEngine) {
+        this.interrogationTests = new InterrogationBatchCommonAssertions(mockMvc, jdbcTemplate, encryptionEngine);
+    }
+
+    @Test
+    @DisplayName("Should create/update/delete interrogation with batch")
+    @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
+    void e2e_batch_flow() throws Exception {
+        boolean isCiphered = true;
+        interrogationTests.shouldCreateUpdateDeleteInterrogations(isCiphered);
+    }
+
+    @Test
+    @DisplayName("Should bulk load interrogations")
+    @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
+    void bulk_load() throws Exception {
+        boolean isCiphered = true;
+        interrogationTests.shouldBulkLoadInterrogations(isCiphered);
+    }
+}
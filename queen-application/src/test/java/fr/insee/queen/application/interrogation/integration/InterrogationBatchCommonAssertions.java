@@ -4,26 +4,42 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import fr.insee.queen.application.interrogation.dto.input.InterrogationBatchInput;
+import fr.insee.queen.application.interrogation.dto.input.InterrogationBulkInput;
+import fr.insee.queen.application.interrogation.dto.input.StateDataInput;
+import fr.insee.queen.application.interrogation.dto.input.StateDataTypeInput;
 import fr.insee.queen.application.utils.AuthenticatedUserTestHelper;
-import lombok.RequiredArgsConstructor;
+import fr.insee.queen.infrastructure.db.data.encryption.AesGcmDataEncryptionEngine;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@RequiredArgsConstructor
 public class InterrogationBatchCommonAssertions {
     private final MockMvc mockMvc;
     private final JdbcTemplate jdbcTemplate;
+    // present when data is encrypted in the application, the database cannot decrypt it then
+    private final AesGcmDataEncryptionEngine aesGcmEngine;
     private final ObjectMapper om = new ObjectMapper();
     private final AuthenticatedUserTestHelper authenticatedUserTestHelper = new AuthenticatedUserTestHelper();
 
+    public InterrogationBatchCommonAssertions(MockMvc mockMvc, JdbcTemplate jdbcTemplate) {
+        this(mockMvc, jdbcTemplate, null);
+    }
+
+    public InterrogationBatchCommonAssertions(MockMvc mockMvc, JdbcTemplate jdbcTemplate, AesGcmDataEncryptionEngine aesGcmEngine) {
+        this.mockMvc = mockMvc;
+        this.jdbcTemplate = jdbcTemplate;
+        this.aesGcmEngine = aesGcmEngine;
+    }
+
     void shouldCreateUpdateDeleteInterrogations(boolean isCiphered) throws Exception {
         // given: 2 interrogations to create
         ObjectNode d1 = JsonNodeFactory.instance.objectNode().putObject("COLLECTED");
@@ -52,35 +68,7 @@ public class InterrogationBatchCommonAssertions {
         assertThat(jdbcTemplate.queryForObject(
                 String.format("select count(*) from data where interrogation_id in('%s','%s')", in1.id(), in2.id()), Integer.class)).isEqualTo(2);
 
-        if (!isCiphered) {
-            // value est en JSONB : on compare structurellement via Postgres (= sur jsonb)
-            Integer match = jdbcTemplate.queryForObject(
-                    """
-                    select count(*)
-                    from data
-                    where interrogation_id = ?
-                      and encrypted = 0
-                      and value = ?::jsonb
-                    """,
-                    Integer.class,
-                    in1.id(), d1.toString()
-            );
-            assertThat(match).isEqualTo(1);
-        } else {
-            // value est en BYTEA : on déchiffre puis on compare le JSON structurellement
-            Integer match = jdbcTemplate.queryForObject(
-                    """
-                    select count(*)
-                    from data
-                    where interrogation_id = ?
-                      and encrypted = 1
-                      and (pgp_sym_decrypt(value, current_setting('data.encryption.key'))::jsonb) = ?::jsonb
-                    """,
-                    Integer.class,
-                    in1.id(), d1.toString()
-            );
-            assertThat(match).isEqualTo(1);
-        }
+        assertDataStored(in1.id(), d1, isCiphered);
 
 
         // given: re-upsert with I2 personalization = null (must delete its row)
@@ -115,4 +103,105 @@ public class InterrogationBatchCommonAssertions {
         assertThat(jdbcTemplate.queryForObject(
                 String.format("select count(*) from data where interrogation_id in('%s','%s')", in1.id(), in2.id()), Integer.class)).isZero();
     }
+
+    void shouldBulkLoadInterrogations(boolean isCiphered) throws Exception {
+        // given: 2 interrogations to create, one of them to extract
+        ObjectNode d1 = JsonNodeFactory.instance.objectNode();
+        d1.putObject("COLLECTED").put("NAME", "Homer");
+        ObjectNode d2 = JsonNodeFactory.instance.objectNode();
+        d2.putObject("EXTERNAL").put("NAME", "Marge");
+        ObjectNode comment = JsonNodeFactory.instance.objectNode().put("COMMENT", "bulk");
+
+        var in1 = new InterrogationBulkInput(UUID.randomUUID().toString(), "SU1", "simpsons",
+                JsonNodeFactory.instance.arrayNode(), d1, comment,
+                new StateDataInput(StateDataTypeInput.TOEXTRACT, "2.3#4"));
+        var in2 = new InterrogationBulkInput(UUID.randomUUID().toString(), "SU2", "simpsonsV2",
+                null, d2, null,
+                new StateDataInput(StateDataTypeInput.INIT, "1"));
+
+        // when: bulk load both
+        mockMvc.perform(post("/api/campaigns/{id}/interrogations/bulk", "SIMPSONS2020X00")
+                        .contentType("application/json")
+                        .with(authentication(authenticatedUserTestHelper.getAdminUser()))
+                        .content(om.writeValueAsString(List.of(in1, in2))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.interrogationCount").value(2))
+                .andExpect(jsonPath("$.batches.length()").value(1));
+
+        // then: interrogations and their sub-entities are created
+        String ids = String.format("('%s','%s')", in1.id(), in2.id());
+        assertThat(jdbcTemplate.queryForObject("select count(*) from interrogation where id in" + ids, Integer.class)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from data where interrogation_id in" + ids, Integer.class)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from personalization where interrogation_id in" + ids, Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from comment where interrogation_id in" + ids, Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("select state from state_data where interrogation_id = ?", String.class, in1.id()))
+                .isEqualTo("TOEXTRACT");
+        assertThat(jdbcTemplate.queryForObject("select state from state_data where interrogation_id = ?", String.class, in2.id()))
+                .isEqualTo("INIT");
+
+        assertDataStored(in1.id(), d1, isCiphered);
+
+        // then: nothing is left in the staging table
+        assertThat(jdbcTemplate.queryForObject("select count(*) from interrogation_staging where id in" + ids, Integer.class)).isZero();
+
+        // when: bulk load again with an updated state
+        var in1Extracted = new InterrogationBulkInput(in1.id(), in1.surveyUnitId(), in1.questionnaireId(),
+                in1.personalization(), d1, in1.comment(),
+                new StateDataInput(StateDataTypeInput.EXTRACTED, "2.3#4"));
+        mockMvc.perform(post("/api/campaigns/{id}/interrogations/bulk", "SIMPSONS2020X00")
+                        .contentType("application/json")
+                        .with(authentication(authenticatedUserTestHelper.getAdminUser()))
+                        .content(om.writeValueAsString(List.of(in1Extracted))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.interrogationCount").value(1));
+
+        // then: the interrogation is updated
+        assertThat(jdbcTemplate.queryForObject("select count(*) from interrogation where id in" + ids, Integer.class)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("select state from state_data where interrogation_id = ?", String.class, in1.id()))
+                .isEqualTo("EXTRACTED");
+
+        // when: bulk load an interrogation of a questionnaire not linked to the campaign
+        var unlinked = new InterrogationBulkInput(UUID.randomUUID().toString(), "SU3", "unknown-questionnaire",
+                null, d2, null, null);
+        mockMvc.perform(post("/api/campaigns/{id}/interrogations/bulk", "SIMPSONS2020X00")
+                        .contentType("application/json")
+                        .with(authentication(authenticatedUserTestHelper.getAdminUser()))
+                        .content(om.writeValueAsString(List.of(unlinked))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.interrogationCount").value(0))
+                .andExpect(jsonPath("$.failedBatchIndex").value(0))
+                .andExpect(jsonPath("$.error").isNotEmpty());
+
+        // then: nothing is loaded
+        assertThat(jdbcTemplate.queryForObject("select count(*) from interrogation where id = ?", Integer.class, unlinked.id())).isZero();
+    }
+
+    private void assertDataStored(String interrogationId, ObjectNode expectedData, boolean isCiphered) throws IOException {
+        if (aesGcmEngine != null) {
+            // value est en BYTEA chiffré par l'application : on déchiffre avec le moteur
+            byte[] value = jdbcTemplate.queryForObject(
+                    "select value from data where interrogation_id = ? and encrypted = ?",
+                    byte[].class, interrogationId, AesGcmDataEncryptionEngine.ENCRYPTED_FLAG);
+            assertThat(om.readTree(aesGcmEngine.decrypt(value))).isEqualTo(expectedData);
+            return;
+        }
+        String dataQuery = isCiphered
+                // value est en BYTEA : on déchiffre puis on compare le JSON structurellement
+                ? """
+                select count(*)
+                from data
+                where interrogation_id = ?
+                  and encrypted = 1
+                  and (pgp_sym_decrypt(value, current_setting('data.encryption.key'))::jsonb) = ?::jsonb
+                """
+                // value est en JSONB : on compare structurellement via Postgres (= sur jsonb)
+                : """
+                select count(*)
+                from data
+                where interrogation_id = ?
+                  and encrypted = 0
+                  and value = ?::jsonb
+                """;
+        assertThat(jdbcTemplate.queryForObject(dataQuery, Integer.class, interrogationId, expectedData.toString())).isEqualTo(1);
+    }
 }
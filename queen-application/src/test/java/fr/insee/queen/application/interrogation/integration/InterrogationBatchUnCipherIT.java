@@ -31,4 +31,12 @@ class InterrogationBatchUnCipherIT {
         boolean isCiphered = false;
         interrogationTests.shouldCreateUpdateDeleteInterrogations(isCiphered);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should bulk load interrogations")
+    @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
+    void bulk_load() throws Exception {
+        boolean isCiphered = false;
+        interrogationTests.shouldBulkLoadInterrogations(isCiphered);
+    }
+}
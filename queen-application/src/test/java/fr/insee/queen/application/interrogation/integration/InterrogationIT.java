@@ -12,6 +12,7 @@ import org.skyscreamer.jsonassert.JSONCompareMode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -231,6 +232,25 @@ class InterrogationIT {
         JSONAssert.assertEquals(expectedResult, content, JSONCompareMode.NON_EXTENSIBLE);
     }
 
+    @Test
+    void on_get_interrogation_metadata_when_etag_matches_return_not_modified() throws Exception {
+        String interrogationId = "538d89c2-1047-48f7-8c16-02e9f41a8093";
+        String etag = mockMvc.perform(get("/api/interrogations/" + interrogationId + "/metadata")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .with(authentication(authenticatedUserTestHelper.getAdminUser()))
+                )
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        mockMvc.perform(get("/api/interrogations/" + interrogationId + "/metadata")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .with(authentication(authenticatedUserTestHelper.getAdminUser()))
+                )
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     void on_get_interrogation_metadata_when_invalid_metadata_return_404() throws Exception {
         String interrogationId = "517046b6-bd88-47e0-838e-00d03461f592";
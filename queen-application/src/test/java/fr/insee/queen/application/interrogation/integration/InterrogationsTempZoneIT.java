@@ -1,8 +1,10 @@
 package fr.insee.queen.application.interrogation.integration;
 
+import com.jayway.jsonpath.JsonPath;
 import fr.insee.queen.application.configuration.ScriptConstants;
 import fr.insee.queen.application.utils.AuthenticatedUserTestHelper;
-
+import fr.insee.queen.domain.interrogationtempzone.service.InterrogationTempZoneService;
+import fr.insee.queen.infrastructure.db.interrogationtempzone.repository.jpa.InterrogationTempZoneJpaRepository;
 import org.junit.jupiter.api.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
 import org.skyscreamer.jsonassert.JSONCompareMode;
@@ -10,12 +12,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
@@ -32,6 +39,15 @@ class InterrogationsTempZoneIT {
     @Autowired
     MockMvc mockMvc;
 
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    InterrogationTempZoneService interrogationTempZoneService;
+
+    @Autowired
+    InterrogationTempZoneJpaRepository interrogationTempZoneJpaRepository;
+
     private final AuthenticatedUserTestHelper authenticatedUserTestHelper = new AuthenticatedUserTestHelper();
 
     @Test
@@ -139,6 +155,106 @@ class InterrogationsTempZoneIT {
         JSONAssert.assertEquals(expectedResult, content, JSONCompareMode.LENIENT);
     }
 
+    @Test
+    @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
+    void on_create_interrogation_twice_by_same_user_then_last_save_kept() throws Exception {
+        String interrogationId = "538d89c2-1047-48f7-8c16-02e9f41a8093";
+        postInTempZone(interrogationId, """
+                {"data": {"EXTERNAL": {"ADR": "Rue des Plantes"}}, "questionnaireId": "questionnaire-11"}""");
+        postInTempZone(interrogationId, """
+                {"data": {"EXTERNAL": {"ADR": "Rue des Fleurs"}}, "questionnaireId": "questionnaire-11"}""");
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM interrogation_temp_zone WHERE interrogation_id = ? AND user_id = ?",
+                Integer.class, interrogationId, "dupont-identifier"))
+                .isEqualTo(1);
+
+        MvcResult result = mockMvc.perform(get("/api/interrogations/temp-zone")
+                        .param("userId", "dupont-identifier")
+                        .param("limit", "10")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .with(authentication(authenticatedUserTestHelper.getManagerUser()))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.size()", is(1)))
+                .andExpect(jsonPath("$.content[0].interrogationId").value(interrogationId))
+                .andExpect(jsonPath("$.content[0].interrogation").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andReturn();
+        String id = JsonPath.read(result.getResponse().getContentAsString(), "$.content[0].id");
+
+        mockMvc.perform(get("/api/interrogations/temp-zone/" + id)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .with(authentication(authenticatedUserTestHelper.getManagerUser()))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.interrogationId").value(interrogationId))
+                .andExpect(jsonPath("$.userId").value("dupont-identifier"))
+                .andExpect(jsonPath("$.interrogation.data.EXTERNAL.ADR").value("Rue des Fleurs"))
+                .andExpect(jsonPath("$.interrogation.questionnaireId").value("questionnaire-11"));
+    }
+
+    @Test
+    @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
+    void on_get_interrogations_page_then_return_filtered_keyset_pages() throws Exception {
+        insertInTempZone("c3a0e3a4-7f9b-4a0e-9a43-0a6e1b7d6f01", "interrogation-tz-1", "user-id", 950000000L);
+        insertInTempZone("0b1c2d3e-4f50-4a0e-9a43-0a6e1b7d6f02", "interrogation-tz-2", "other-user-id", 950000000L);
+
+        // user filter, pages sorted by id
+        mockMvc.perform(get("/api/interrogations/temp-zone")
+                        .param("userId", "user-id")
+                        .param("limit", "2")
+                        .with(authentication(authenticatedUserTestHelper.getManagerUser())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", contains(
+                        "42858b14-2a0c-4d17-afd0-f50a0f9a8dd5", "6fcbbd84-3464-4290-b8fc-cdf0082ee339")))
+                .andExpect(jsonPath("$.nextCursor").value("6fcbbd84-3464-4290-b8fc-cdf0082ee339"));
+        mockMvc.perform(get("/api/interrogations/temp-zone")
+                        .param("userId", "user-id")
+                        .param("after", "6fcbbd84-3464-4290-b8fc-cdf0082ee339")
+                        .param("limit", "2")
+                        .with(authentication(authenticatedUserTestHelper.getManagerUser())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", contains("c3a0e3a4-7f9b-4a0e-9a43-0a6e1b7d6f01")))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        // date filters
+        mockMvc.perform(get("/api/interrogations/temp-zone")
+                        .param("dateFrom", "920000000")
+                        .param("limit", "10")
+                        .with(authentication(authenticatedUserTestHelper.getManagerUser())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", contains(
+                        "0b1c2d3e-4f50-4a0e-9a43-0a6e1b7d6f02", "c3a0e3a4-7f9b-4a0e-9a43-0a6e1b7d6f01")));
+        mockMvc.perform(get("/api/interrogations/temp-zone")
+                        .param("userId", "user-id")
+                        .param("dateTo", "900000000")
+                        .param("limit", "10")
+                        .with(authentication(authenticatedUserTestHelper.getManagerUser())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", contains(
+                        "42858b14-2a0c-4d17-afd0-f50a0f9a8dd5", "6fcbbd84-3464-4290-b8fc-cdf0082ee339")))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
+    void on_purge_then_only_interrogations_older_than_retention_deleted() {
+        String recentId = "c3a0e3a4-7f9b-4a0e-9a43-0a6e1b7d6f01";
+        insertInTempZone(recentId, "interrogation-tz-1", "user-id",
+                Instant.now().minus(Duration.ofDays(10)).toEpochMilli());
+        Duration retention = Duration.ofDays(30);
+
+        // a batch never deletes more than its limit
+        long purgeDate = Instant.now().minus(retention).toEpochMilli();
+        assertThat(interrogationTempZoneJpaRepository.deleteByDateBefore(purgeDate, 1)).isEqualTo(1);
+        assertThat(countTempZone()).isEqualTo(2);
+
+        assertThat(interrogationTempZoneService.deleteInterrogationsTempZone(retention, 1)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT id::text FROM interrogation_temp_zone", String.class))
+                .containsExactly(recentId);
+    }
+
     @Test
     void on_create_interrogation_when_non_interviewer_then_return_403() throws Exception {
         // no control on questionnaire id ...
@@ -184,4 +300,25 @@ class InterrogationsTempZoneIT {
                 )
                 .andExpect(status().isForbidden());
     }
+
+    private void postInTempZone(String interrogationId, String tempZoneInput) throws Exception {
+        mockMvc.perform(post("/api/interrogations/" + interrogationId + "/temp-zone")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(tempZoneInput)
+                        .with(authentication(authenticatedUserTestHelper.getManagerUser()))
+                )
+                .andExpect(status().isCreated());
+    }
+
+    private void insertInTempZone(String id, String interrogationId, String userId, long date) {
+        jdbcTemplate.update("""
+                        INSERT INTO interrogation_temp_zone(id, interrogation_id, user_id, "date", interrogation)
+                        VALUES (?::uuid, ?, ?, ?, '{"data": {}}'::jsonb)""",
+                id, interrogationId, userId, date);
+    }
+
+    private Integer countTempZone() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM interrogation_temp_zone", Integer.class);
+    }
 }
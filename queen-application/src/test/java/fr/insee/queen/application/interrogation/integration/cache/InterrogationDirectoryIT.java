@@ -0,0 +1,83 @@
+package fr.insee.queen.application.interrogation.integration.cache;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import fr.insee.queen.application.configuration.ScriptConstants;
+import fr.insee.queen.domain.interrogation.model.Interrogation;
+import fr.insee.queen.domain.interrogation.model.InterrogationSummary;
+import fr.insee.queen.domain.interrogation.service.InterrogationApiService;
+import fr.insee.queen.domain.interrogation.service.exception.StateDataInvalidDateException;
+import fr.insee.queen.infrastructure.db.interrogation.directory.InMemoryInterrogationDirectory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+
+@SpringBootTest(properties = {
+        "feature.interrogation-directory.enabled=true",
+        "feature.cache-invalidation.enabled=true"
+})
+@ActiveProfiles("test")
+class InterrogationDirectoryIT {
+
+    @Autowired
+    private InterrogationApiService interrogationService;
+
+    @Autowired
+    private InMemoryInterrogationDirectory interrogationDirectory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("When the interrogation directory is loaded, serve existence and summaries from memory and maintain it on writes")
+    @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
+    void check_interrogation_directory_01() throws StateDataInvalidDateException, InterruptedException {
+        waitForLoading();
+
+        // removed behind the application: still served by the directory
+        String existingId = "517046b6-bd88-47e0-838e-00d03461f592";
+        jdbcTemplate.update("DELETE FROM interrogation WHERE id = ?", existingId);
+        assertThat(interrogationService.existsById(existingId)).isTrue();
+        assertThat(interrogationService.findSummaryById(existingId))
+                .get()
+                .satisfies(summary -> {
+                    assertThat(summary.surveyUnitId()).isEqualTo("survey-unit-11");
+                    assertThat(summary.questionnaireId()).isEqualTo("simpsons");
+                    assertThat(summary.campaign().getId()).isEqualTo("SIMPSONS2020X00");
+                });
+
+        String interrogationId = "interrogation-directory-id";
+        assertThat(interrogationService.existsById(interrogationId)).isFalse();
+        Interrogation interrogation = new Interrogation(interrogationId,
+                "survey-unit-id",
+                "LOG2021X11Tel",
+                "LOG2021X11Tel",
+                JsonNodeFactory.instance.arrayNode(),
+                JsonNodeFactory.instance.objectNode(),
+                JsonNodeFactory.instance.objectNode(),
+                null);
+        interrogationService.createInterrogation(interrogation);
+        assertThat(interrogationService.existsById(interrogationId)).isTrue();
+        assertThat(interrogationService.findSummaryById(interrogationId))
+                .get()
+                .extracting(InterrogationSummary::surveyUnitId)
+                .isEqualTo("survey-unit-id");
+
+        interrogationService.delete(interrogationId);
+        assertThat(interrogationService.existsById(interrogationId)).isFalse();
+    }
+
+    private void waitForLoading() throws InterruptedException {
+        // loaded in background once the application is ready
+        for (int attempt = 0; attempt < 100 && !interrogationDirectory.isLoaded(); attempt++) {
+            Thread.sleep(100);
+        }
+        assertThat(interrogationDirectory.isLoaded()).isTrue();
+    }
+}
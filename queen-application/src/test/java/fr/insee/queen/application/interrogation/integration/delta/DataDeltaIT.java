@@ -0,0 +1,152 @@
+package fr.insee.queen.application.interrogation.integration.delta;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.insee.queen.application.configuration.ScriptConstants;
+import fr.insee.queen.domain.interrogation.gateway.InterrogationRepository;
+import fr.insee.queen.domain.interrogation.model.Interrogation;
+import fr.insee.queen.infrastructure.db.data.repository.DataDeltaCompactor;
+import fr.insee.queen.infrastructure.db.data.repository.DataDeltaDao;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+
+@SpringBootTest(properties = {
+        "feature.collected-data-delta.enabled=true",
+        "feature.collected-data-delta.compaction-delay=PT1H"
+})
+@ActiveProfiles("test")
+class DataDeltaIT {
+
+    private static final String INTERROGATION_ID = "517046b6-bd88-47e0-838e-00d03461f592";
+
+    @Autowired
+    private DataDeltaDao dataDeltaDao;
+
+    @Autowired
+    private DataDeltaCompactor dataDeltaCompactor;
+
+    @Autowired
+    private InterrogationRepository interrogationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Should merge the pending deltas in insertion order on the data read in the same statement")
+    @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
+    void findDataWithDeltas_shouldMergeDeltasInOrder() {
+        assertThat(dataDeltaDao.findDataWithDeltas(List.of(INTERROGATION_ID))).isEmpty();
+
+        dataDeltaDao.append(INTERROGATION_ID, collectedVariable("NAME", "Homer"));
+        dataDeltaDao.append(INTERROGATION_ID, collectedVariable("NAME", "Marge"));
+        dataDeltaDao.append(INTERROGATION_ID, collectedVariable("AGE", "39"));
+
+        Map<String, ObjectNode> dataWithDeltas = dataDeltaDao.findDataWithDeltas(List.of(INTERROGATION_ID, "unknown-id"));
+        assertThat(dataWithDeltas).containsOnlyKeys(INTERROGATION_ID);
+        ObjectNode collectedData = (ObjectNode) dataWithDeltas.get(INTERROGATION_ID).get("COLLECTED");
+        assertThat(collectedData.get("NAME")).isEqualTo(collectedVariable("NAME", "Marge").get("NAME"));
+        assertThat(collectedData.get("AGE")).isEqualTo(collectedVariable("AGE", "39").get("AGE"));
+        assertThat(dataDeltaDao.findPendingInterrogationIds()).containsExactly(INTERROGATION_ID);
+
+        Optional<ObjectNode> data = interrogationRepository.findData(INTERROGATION_ID);
+        assertThat(data).contains(dataWithDeltas.get(INTERROGATION_ID));
+    }
+
+    @Test
+    @DisplayName("Should only remove the polled deltas")
+    @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
+    void pollMergedDeltas_shouldRemovePolledDeltas() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        dataDeltaDao.append(INTERROGATION_ID, collectedVariable("NAME", "Homer"));
+        dataDeltaDao.append(INTERROGATION_ID, collectedVariable("NAME", "Marge"));
+
+        Optional<ObjectNode> mergedDeltas = transactionTemplate.execute(status -> dataDeltaDao.pollMergedDeltas(INTERROGATION_ID));
+
+        assertThat(mergedDeltas).contains(collectedVariable("NAME", "Marge"));
+        assertThat(countDeltas()).isZero();
+        assertThat(transactionTemplate.execute(status -> dataDeltaDao.pollMergedDeltas(INTERROGATION_ID))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should remove the deltas of interrogations whose data is replaced")
+    @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
+    void deleteDeltas_shouldRemoveInterrogationsDeltas() {
+        dataDeltaDao.append(INTERROGATION_ID, collectedVariable("NAME", "Homer"));
+
+        dataDeltaDao.deleteDeltas(List.of(INTERROGATION_ID));
+
+        assertThat(countDeltas()).isZero();
+        assertThat(dataDeltaDao.findDataWithDeltas(List.of(INTERROGATION_ID))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should fold the pending deltas in data, and keep the deltas appended after the compaction")
+    @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
+    void compact_shouldFoldDeltasInData() {
+        dataDeltaDao.append(INTERROGATION_ID, collectedVariable("NAME", "Homer"));
+        dataDeltaDao.append(INTERROGATION_ID, collectedVariable("NAME", "Marge"));
+
+        assertThat(dataDeltaCompactor.compact()).isEqualTo(1);
+
+        assertThat(countDeltas()).isZero();
+        assertThat(interrogationRepository.findData(INTERROGATION_ID))
+                .get()
+                .satisfies(data -> assertThat(data.get("COLLECTED").get("NAME"))
+                        .isEqualTo(collectedVariable("NAME", "Marge").get("NAME")));
+        assertThat(dataDeltaCompactor.compact()).isZero();
+
+        // a delta appended after the compaction is merged on the compacted data, never reverted by the older ones
+        dataDeltaDao.append(INTERROGATION_ID, collectedVariable("NAME", "Bart"));
+        assertThat(interrogationRepository.findData(INTERROGATION_ID))
+                .get()
+                .satisfies(data -> assertThat(data.get("COLLECTED").get("NAME"))
+                        .isEqualTo(collectedVariable("NAME", "Bart").get("NAME")));
+    }
+
+    @Test
+    @DisplayName("Should merge the pending deltas of streamed interrogations")
+    @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
+    void streamAll_shouldMergePendingDeltas() {
+        dataDeltaDao.append(INTERROGATION_ID, collectedVariable("NAME", "Lisa"));
+
+        Interrogation interrogation = new TransactionTemplate(transactionManager).execute(status -> {
+            try (Stream<Interrogation> interrogations = interrogationRepository.streamAll()) {
+                return interrogations
+                        .filter(streamedInterrogation -> streamedInterrogation.id().equals(INTERROGATION_ID))
+                        .findFirst()
+                        .orElseThrow();
+            }
+        });
+
+        assertThat(interrogation.data().get("COLLECTED").get("NAME"))
+                .isEqualTo(collectedVariable("NAME", "Lisa").get("NAME"));
+    }
+
+    private Integer countDeltas() {
+        return jdbcTemplate.queryForObject("select count(*) from data_delta where interrogation_id = ?", Integer.class, INTERROGATION_ID);
+    }
+
+    private ObjectNode collectedVariable(String name, String value) {
+        ObjectNode partialCollectedData = JsonNodeFactory.instance.objectNode();
+        partialCollectedData.putObject(name).put("COLLECTED", value);
+        return partialCollectedData;
+    }
+}
@@ -2,6 +2,7 @@ package fr.insee.queen.application.interrogation.service.dummy;
 
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.insee.queen.domain.common.json.RawJson;
 import fr.insee.queen.domain.interrogation.service.DataService;
 import lombok.Getter;
 
@@ -16,6 +17,11 @@ public class DataFakeService implements DataService {
         return data;
     }
 
+    @Override
+    public RawJson getRawData(String interrogationId) {
+        return new RawJson(getData(interrogationId).toString());
+    }
+
     @Override
     public void saveData(String interrogationId, ObjectNode dataValue) {
         checkUpdateData = true;
@@ -0,0 +1,41 @@
+package fr.insee.queen.application.interrogation.service.dummy;
+
+import fr.insee.queen.domain.interrogation.model.Interrogation;
+import fr.insee.queen.domain.interrogation.model.InterrogationBulkLoadBatch;
+import fr.insee.queen.domain.interrogation.service.InterrogationBatchService;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class InterrogationBatchFakeService implements InterrogationBatchService {
+
+    @Getter
+    private final List<List<Interrogation>> interrogationsSaved = new ArrayList<>();
+
+    @Setter
+    private String failingInterrogationId = null;
+
+    @Override
+    public void saveInterrogations(List<Interrogation> interrogations) {
+        if (interrogations.stream().anyMatch(interrogation -> interrogation.id().equals(failingInterrogationId))) {
+            throw new IllegalStateException("save error");
+        }
+        interrogationsSaved.add(List.copyOf(interrogations));
+    }
+
+    @Override
+    public void delete(List<String> interrogationIds) {
+        // not used at this moment for unit tests
+    }
+
+    @Override
+    public InterrogationBulkLoadBatch bulkLoadBatch(List<Interrogation> interrogations) {
+        if (interrogations.stream().anyMatch(interrogation -> interrogation.id().equals(failingInterrogationId))) {
+            throw new IllegalStateException("load error");
+        }
+        interrogationsSaved.add(List.copyOf(interrogations));
+        return new InterrogationBulkLoadBatch(interrogations.size(), 1L, 2L);
+    }
+}
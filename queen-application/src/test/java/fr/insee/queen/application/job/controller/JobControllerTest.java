@@ -0,0 +1,66 @@
+package fr.insee.queen.application.job.controller;
+
+import fr.insee.queen.application.job.dto.output.JobDto;
+import fr.insee.queen.application.job.service.dummy.JobFakeService;
+import fr.insee.queen.application.pilotage.controller.dummy.PilotageFakeComponent;
+import fr.insee.queen.domain.campaign.service.exception.CampaignDeletionException;
+import fr.insee.queen.domain.common.exception.EntityNotFoundException;
+import fr.insee.queen.domain.job.model.JobStatus;
+import fr.insee.queen.domain.job.model.JobType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JobControllerTest {
+
+    private JobController jobController;
+    private PilotageFakeComponent pilotageComponent;
+
+    @BeforeEach
+    void init() {
+        pilotageComponent = new PilotageFakeComponent();
+        jobController = new JobController(new JobFakeService(), pilotageComponent);
+    }
+
+    @Test
+    @DisplayName("Should create a job cleaning extracted data and retrieve its progress")
+    void testCleanDataAsync() {
+        JobDto createdJob = jobController.cleanDataAsync("campaign-id", 1L, 2L);
+
+        JobDto job = jobController.getJob(createdJob.id());
+        assertThat(job.type()).isEqualTo(JobType.CLEAN_EXTRACTED_DATA);
+        assertThat(job.campaignId()).isEqualTo("campaign-id");
+        assertThat(job.status()).isEqualTo(JobStatus.PENDING);
+        assertThat(job.processedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("On async deletion, when campaign is closed, a deletion job is created")
+    void testDeleteCampaignAsync() {
+        JobDto job = jobController.deleteCampaignAsync(false, "campaign-id");
+
+        assertThat(job.type()).isEqualTo(JobType.DELETE_CAMPAIGN);
+        assertThat(job.campaignId()).isEqualTo("campaign-id");
+    }
+
+    @Test
+    @DisplayName("On async deletion, when campaign is opened, deletion is aborted")
+    void testDeleteCampaignAsyncException() {
+        pilotageComponent.setCampaignClosed(false);
+        assertThatThrownBy(() -> jobController.deleteCampaignAsync(false, "campaign-id"))
+                .isInstanceOf(CampaignDeletionException.class);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when job does not exist")
+    void testGetJobNotFound() {
+        UUID jobId = UUID.randomUUID();
+        assertThatThrownBy(() -> jobController.getJob(jobId))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+}
@@ -0,0 +1,47 @@
+package fr.insee.queen.application.job.service.dummy;
+
+import fr.insee.queen.domain.common.exception.EntityNotFoundException;
+import fr.insee.queen.domain.job.model.Job;
+import fr.insee.queen.domain.job.model.JobType;
+import fr.insee.queen.domain.job.service.JobService;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public class JobFakeService implements JobService {
+
+    private final Map<UUID, Job> jobs = new HashMap<>();
+
+    @Getter
+    private boolean resumed = false;
+
+    @Override
+    public Job startCleanExtractedData(String campaignId, Long startTimestamp, Long endTimestamp) {
+        Job job = Job.create(JobType.CLEAN_EXTRACTED_DATA, campaignId, null, 0L);
+        jobs.put(job.id(), job);
+        return job;
+    }
+
+    @Override
+    public Job startCampaignDeletion(String campaignId) {
+        Job job = Job.create(JobType.DELETE_CAMPAIGN, campaignId, null, 0L);
+        jobs.put(job.id(), job);
+        return job;
+    }
+
+    @Override
+    public Job getJob(UUID jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new EntityNotFoundException("job not found");
+        }
+        return job;
+    }
+
+    @Override
+    public void resumeJobs() {
+        resumed = true;
+    }
+}
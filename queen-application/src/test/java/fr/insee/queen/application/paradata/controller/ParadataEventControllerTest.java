@@ -3,6 +3,8 @@ package fr.insee.queen.application.paradata.controller;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.insee.queen.application.paradata.dto.output.ParadataEventResultDto;
+import fr.insee.queen.application.paradata.dto.output.ParadataEventStatus;
 import fr.insee.queen.application.paradata.service.dummy.ParadataEventFakeService;
 import fr.insee.queen.application.pilotage.controller.dummy.PilotageFakeComponent;
 import fr.insee.queen.domain.common.exception.EntityNotFoundException;
@@ -10,6 +12,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -28,7 +35,7 @@ class ParadataEventControllerTest {
     void init() {
         paradataEventService = new ParadataEventFakeService();
         pilotageComponent = new PilotageFakeComponent();
-        controller = new ParadataEventController(paradataEventService, pilotageComponent);
+        controller = new ParadataEventController(paradataEventService, pilotageComponent, mapper);
     }
 
     @Test
@@ -59,4 +66,55 @@ class ParadataEventControllerTest {
                 """, ObjectNode.class);
         assertThatThrownBy(() -> controller.addParadata(paradata)).isInstanceOf(EntityNotFoundException.class);
     }
+
+    @Test
+    @DisplayName("On creating paradata in bulk from a json array, events are grouped by interrogation")
+    void addParadataEvents01() throws IOException {
+        // given
+        String body = """
+                [{"idInterrogation": "11", "event": 1},
+                 {"idInterrogation": "12", "event": 2},
+                 {"idInterrogation": "11", "event": 3}]
+                """;
+
+        // when
+        List<ParadataEventResultDto> results = controller.addParadataEvents(toStream(body));
+
+        // then
+        assertThat(results).containsExactly(
+                ParadataEventResultDto.created(0, "11"),
+                ParadataEventResultDto.created(1, "12"),
+                ParadataEventResultDto.created(2, "11"));
+        assertThat(pilotageComponent.getCheckedInterrogationIds()).containsExactly("11", "12");
+        assertThat(paradataEventService.getCreatedParadataByInterrogation().get("11"))
+                .extracting(paradata -> paradata.get("event").intValue())
+                .containsExactly(1, 3);
+    }
+
+    @Test
+    @DisplayName("On creating paradata in bulk from NDJSON, results are reported per event")
+    void addParadataEvents02() throws IOException {
+        // given
+        String body = """
+                {"idInterrogation": "11"}
+                {"event": "no interrogation"}
+                {"idInterrogation": "%s"}
+                {"idInterrogation": "%s"}
+                """.formatted(PilotageFakeComponent.FORBIDDEN_INTERROGATION_ID, ParadataEventFakeService.INTERROGATION_NOT_FOUND_ID);
+
+        // when
+        List<ParadataEventResultDto> results = controller.addParadataEvents(toStream(body));
+
+        // then
+        assertThat(results).extracting(ParadataEventResultDto::status).containsExactly(
+                ParadataEventStatus.CREATED,
+                ParadataEventStatus.INVALID,
+                ParadataEventStatus.FORBIDDEN,
+                ParadataEventStatus.NOT_FOUND);
+        assertThat(paradataEventService.getCreatedParadataByInterrogation()).containsOnlyKeys("11");
+    }
+
+    private ByteArrayInputStream toStream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -2,9 +2,16 @@ package fr.insee.queen.application.paradata.service.dummy;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import fr.insee.queen.domain.paradata.service.ParadataEventService;
+import fr.insee.queen.domain.common.exception.EntityNotFoundException;
 import lombok.Getter;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 public class ParadataEventFakeService implements ParadataEventService {
+    public static final String INTERROGATION_NOT_FOUND_ID = "interrogation-not-found";
+
     @Getter
     private boolean created = false;
 
@@ -12,4 +19,15 @@ public class ParadataEventFakeService implements ParadataEventService {
     public void createParadataEvent(String interrogationId, ObjectNode paradataValue) {
         this.created = true;
     }
+
+    @Getter
+    private final Map<String, List<ObjectNode>> createdParadataByInterrogation = new HashMap<>();
+
+    @Override
+    public void createParadataEvents(String interrogationId, List<ObjectNode> paradataValues) {
+        if (INTERROGATION_NOT_FOUND_ID.equals(interrogationId)) {
+            throw new EntityNotFoundException("Interrogation not found");
+        }
+        createdParadataByInterrogation.put(interrogationId, paradataValues);
+    }
 }
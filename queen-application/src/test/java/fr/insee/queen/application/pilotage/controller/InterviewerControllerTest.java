@@ -1,5 +1,6 @@
 package fr.insee.queen.application.pilotage.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import fr.insee.queen.application.campaign.dto.output.CampaignSummaryDto;
 import fr.insee.queen.application.interrogation.dto.output.InterrogationByCampaignDto;
 import fr.insee.queen.application.interrogation.dto.output.InterrogationDto;
@@ -7,7 +8,10 @@ import fr.insee.queen.application.pilotage.controller.dummy.PilotageFakeComponen
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 
+import java.io.IOException;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -19,7 +23,7 @@ class InterviewerControllerTest {
     @BeforeEach
     void init() {
         pilotageComponent = new PilotageFakeComponent();
-        interviewerController = new InterviewerController(pilotageComponent);
+        interviewerController = new InterviewerController(pilotageComponent, new ObjectMapper());
     }
 
     @Test
@@ -60,4 +64,27 @@ class InterviewerControllerTest {
         assertThat(interrogations.get(0).id()).isEqualTo(PilotageFakeComponent.INTERROGATION1_ID);
         assertThat(interrogations.get(1).id()).isEqualTo(PilotageFakeComponent.INTERROGATION2_ID);
     }
+
+    @Test
+    @DisplayName("On streaming interrogations for an interviewer, write one interrogation per line")
+    void testStreamInterrogationsForInterviewers01() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interviewerController.streamInterviewerInterrogations(response);
+
+        assertThat(response.getContentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+        List<String> lines = response.getContentAsString().lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).contains(PilotageFakeComponent.INTERROGATION1_ID);
+        assertThat(lines.get(1)).contains(PilotageFakeComponent.INTERROGATION2_ID);
+    }
+
+    @Test
+    @DisplayName("On streaming interrogations for an interviewer, when interrogations are empty, write nothing")
+    void testStreamInterrogationsForInterviewers02() throws IOException {
+        pilotageComponent.setHasEmptyInterrogations(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interviewerController.streamInterviewerInterrogations(response);
+
+        assertThat(response.getContentAsString()).isEmpty();
+    }
 }
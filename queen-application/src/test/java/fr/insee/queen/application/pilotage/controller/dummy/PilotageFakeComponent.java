@@ -6,6 +6,7 @@ import fr.insee.queen.domain.campaign.model.CampaignSensitivity;
 import fr.insee.queen.domain.campaign.model.CampaignSummary;
 import fr.insee.queen.domain.pilotage.model.PilotageCampaign;
 import fr.insee.queen.domain.pilotage.service.PilotageRole;
+import fr.insee.queen.domain.pilotage.service.exception.HabilitationException;
 import fr.insee.queen.domain.interrogation.model.StateData;
 import fr.insee.queen.domain.interrogation.model.StateDataType;
 import fr.insee.queen.domain.interrogation.model.Interrogation;
@@ -15,6 +16,7 @@ import lombok.Setter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class PilotageFakeComponent implements PilotageComponent {
     @Getter
@@ -29,10 +31,17 @@ public class PilotageFakeComponent implements PilotageComponent {
     public static final String CAMPAIGN1_ID = "interviewerCampaign1";
     public static final String INTERROGATION1_ID = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaa01";
     public static final String INTERROGATION2_ID = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaa02";
+    public static final String FORBIDDEN_INTERROGATION_ID = "forbidden-interrogation";
+    @Getter
+    private final List<String> checkedInterrogationIds = new ArrayList<>();
 
     @Override
     public void checkHabilitations(String interrogationId, PilotageRole... roles) {
         checked = true;
+        checkedInterrogationIds.add(interrogationId);
+        if (FORBIDDEN_INTERROGATION_ID.equals(interrogationId)) {
+            throw new HabilitationException("Not authorized");
+        }
     }
 
     @Override
@@ -79,4 +88,9 @@ public class PilotageFakeComponent implements PilotageComponent {
                         new StateData(StateDataType.INIT, 0L, "2#3"))
         );
     }
+
+    @Override
+    public void streamInterviewerInterrogations(Consumer<Interrogation> interrogationConsumer) {
+        getInterviewerInterrogations().forEach(interrogationConsumer);
+    }
 }
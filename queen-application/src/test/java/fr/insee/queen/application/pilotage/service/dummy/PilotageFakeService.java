@@ -16,6 +16,7 @@ import lombok.Setter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 @NoArgsConstructor
 public class PilotageFakeService implements PilotageService {
@@ -81,6 +82,11 @@ public class PilotageFakeService implements PilotageService {
         );
     }
 
+    @Override
+    public void streamInterviewerInterrogations(Consumer<Interrogation> interrogationConsumer) {
+        getInterviewerInterrogations().forEach(interrogationConsumer);
+    }
+
     @Override
     public List<PilotageCampaign> getInterviewerCampaigns() {
         wentThroughInterviewerCampaigns = true;
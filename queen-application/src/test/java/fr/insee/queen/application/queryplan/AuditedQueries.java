@@ -0,0 +1,158 @@
+package fr.insee.queen.application.queryplan;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.insee.queen.domain.interrogation.model.Interrogation;
+import fr.insee.queen.domain.interrogation.model.StateDataType;
+import fr.insee.queen.infrastructure.db.campaign.repository.jpa.CampaignJpaRepository;
+import fr.insee.queen.infrastructure.db.campaign.repository.jpa.NomenclatureJpaRepository;
+import fr.insee.queen.infrastructure.db.data.repository.jpa.CipheredDataJpaRepository;
+import fr.insee.queen.infrastructure.db.data.repository.jpa.DataJpaRepository;
+import fr.insee.queen.infrastructure.db.data.repository.jpa.UncipheredDataJpaRepository;
+import fr.insee.queen.infrastructure.db.interrogation.repository.InterrogationBatchDao;
+import fr.insee.queen.infrastructure.db.interrogation.repository.jpa.InterrogationJpaRepository;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static fr.insee.queen.application.queryplan.AuditedQuery.Mode.CIPHERED;
+import static fr.insee.queen.application.queryplan.AuditedQuery.Mode.UNCIPHERED;
+import static fr.insee.queen.application.queryplan.QueryPlanDataset.*;
+
+/**
+ * Repository calls whose execution plans are audited. The statements sent by each call are recorded
+ * by the {@link StatementRecorder}, so the audited SQL is the SQL generated by hibernate or written in the repositories.
+ */
+public final class AuditedQueries {
+    /**
+     * Repositories whose {@link org.springframework.data.jpa.repository.Query} methods must all be audited
+     */
+    public static final List<Class<?>> AUDITED_REPOSITORIES = List.of(
+            InterrogationJpaRepository.class,
+            CampaignJpaRepository.class,
+            NomenclatureJpaRepository.class,
+            DataJpaRepository.class,
+            CipheredDataJpaRepository.class,
+            UncipheredDataJpaRepository.class);
+
+    private static final List<String> INTERROGATION_IDS = List.of(
+            interrogationId(1, 1), INTERROGATION_ID, interrogationId(99, 500));
+    private static final String AFTER_ID = interrogationId(42, 100);
+    private static final Limit LIMIT = Limit.of(100);
+    private static final JsonNodeFactory JSON = JsonNodeFactory.instance;
+
+    private AuditedQueries() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static List<AuditedQuery> all() {
+        return Stream.of(interrogationQueries(), campaignQueries(), nomenclatureQueries(), dataQueries(), interrogationBatchQueries())
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    private static List<AuditedQuery> interrogationQueries() {
+        Class<InterrogationJpaRepository> repository = InterrogationJpaRepository.class;
+        return List.of(
+                AuditedQuery.of(repository, "findSummaryById", r -> r.findSummaryById(INTERROGATION_ID)),
+                AuditedQuery.of(repository, "getPersonalizationById", r -> r.getPersonalizationById(INTERROGATION_ID)),
+                AuditedQuery.of(repository, "findAllSummaryByCampaignId", r -> r.findAllSummaryByCampaignId(CAMPAIGN_ID)),
+                AuditedQuery.of(repository, "findAllSummaryByIdIn", r -> r.findAllSummaryByIdIn(INTERROGATION_IDS)),
+                AuditedQuery.fullScan(repository, "streamAllSummaries", r -> consume(r.streamAllSummaries())),
+                AuditedQuery.of(repository, "findOneById", r -> r.findOneById(INTERROGATION_ID)),
+                AuditedQuery.fullScan(repository, "findAllInterrogations", InterrogationJpaRepository::findAllInterrogations),
+                AuditedQuery.fullScan(repository, "streamAllInterrogations", r -> consume(r.streamAllInterrogations())),
+                AuditedQuery.of(repository, "findWithCampaignAndStateById", r -> r.findWithCampaignAndStateById(INTERROGATION_ID)),
+                AuditedQuery.fullScan(repository, "findAllIds", InterrogationJpaRepository::findAllIds),
+                AuditedQuery.of(repository, "findIdsAfter", r -> r.findIdsAfter(AFTER_ID, LIMIT)),
+                AuditedQuery.of(repository, "findAllByState", r -> r.findAllByState(CAMPAIGN_ID, StateDataType.EXTRACTED)),
+                AuditedQuery.of(repository, "findAllByStateAfter",
+                        r -> r.findAllByStateAfter(CAMPAIGN_ID, StateDataType.EXTRACTED, AFTER_ID, LIMIT)),
+                AuditedQuery.of(repository, "findIdsByCampaignIdAfter", r -> r.findIdsByCampaignIdAfter(CAMPAIGN_ID, AFTER_ID, LIMIT)),
+                AuditedQuery.of(repository, "findExtractedIdsAfter",
+                        r -> r.findExtractedIdsAfter(CAMPAIGN_ID, START_TIMESTAMP, END_TIMESTAMP, AFTER_ID, LIMIT)),
+                AuditedQuery.of(repository, "findInterrogationsByIdIn", r -> r.findInterrogationsByIdIn(INTERROGATION_IDS)),
+                AuditedQuery.of(repository, "findAllWithStateByIdIn", r -> r.findAllWithStateByIdIn(INTERROGATION_IDS)),
+                AuditedQuery.of(repository, "deleteInterrogations", r -> r.deleteInterrogations(CAMPAIGN_ID)),
+                AuditedQuery.of(repository, "findAllSummaryBySurveyUnitId", r -> r.findAllSummaryBySurveyUnitId(SURVEY_UNIT_ID))
+        );
+    }
+
+    private static List<AuditedQuery> campaignQueries() {
+        Class<CampaignJpaRepository> repository = CampaignJpaRepository.class;
+        return List.of(
+                AuditedQuery.fullScan(repository, "findAllCampaignSummaryRows", CampaignJpaRepository::findAllCampaignSummaryRows),
+                AuditedQuery.of(repository, "findCampaignSummaryRows", r -> r.findCampaignSummaryRows(CAMPAIGN_ID)),
+                AuditedQuery.of(repository, "findById", r -> r.findById(CAMPAIGN_ID)),
+                AuditedQuery.of(repository, "findMetadataByCampaignId", r -> r.findMetadataByCampaignId(CAMPAIGN_ID)),
+                AuditedQuery.of(repository, "findMetadataByQuestionnaireId", r -> r.findMetadataByQuestionnaireId(QUESTIONNAIRE_ID)),
+                AuditedQuery.fullScan(repository, "findAllCampaignIds", CampaignJpaRepository::findAllCampaignIds)
+        );
+    }
+
+    private static List<AuditedQuery> nomenclatureQueries() {
+        Class<NomenclatureJpaRepository> repository = NomenclatureJpaRepository.class;
+        return List.of(
+                AuditedQuery.of(repository, "findRawNomenclatureValue", r -> r.findRawNomenclatureValue(NOMENCLATURE_ID)),
+                AuditedQuery.fullScan(repository, "findAllNomenclatureIds", NomenclatureJpaRepository::findAllNomenclatureIds),
+                AuditedQuery.of(repository, "updateNomenclature",
+                        r -> r.updateNomenclature(NOMENCLATURE_ID, "label", JSON.arrayNode())),
+                AuditedQuery.of(repository, "createNomenclature",
+                        r -> r.createNomenclature("plan-audit-new-nomenclature", "label", JSON.arrayNode())),
+                AuditedQuery.of(repository, "findRequiredNomenclatureByCampaignId", r -> r.findRequiredNomenclatureByCampaignId(CAMPAIGN_ID)),
+                AuditedQuery.of(repository, "findRequiredNomenclatureByQuestionnaireId",
+                        r -> r.findRequiredNomenclatureByQuestionnaireId(QUESTIONNAIRE_ID))
+        );
+    }
+
+    private static List<AuditedQuery> dataQueries() {
+        ObjectNode data = JSON.objectNode();
+        return List.of(
+                AuditedQuery.of(DataJpaRepository.class, "deleteDatas", r -> r.deleteDatas(CAMPAIGN_ID)),
+                AuditedQuery.of(DataJpaRepository.class, "findData", r -> r.findData(INTERROGATION_ID)),
+                AuditedQuery.of(DataJpaRepository.class, "updateData", r -> r.updateData(INTERROGATION_ID, data))
+                        .in(UNCIPHERED),
+
+                AuditedQuery.of(CipheredDataJpaRepository.class, "updateData", r -> r.updateData(INTERROGATION_ID, data))
+                        .in(CIPHERED),
+                AuditedQuery.of(CipheredDataJpaRepository.class, "updateCollectedData",
+                        r -> r.updateCollectedData(INTERROGATION_ID, data)).in(CIPHERED),
+                AuditedQuery.of(CipheredDataJpaRepository.class, "cleanExtractedData",
+                        r -> r.cleanExtractedData(CAMPAIGN_ID, START_TIMESTAMP, END_TIMESTAMP)).in(CIPHERED),
+                AuditedQuery.of(CipheredDataJpaRepository.class, "cleanData", r -> r.cleanData(INTERROGATION_IDS)).in(CIPHERED),
+
+                AuditedQuery.of(UncipheredDataJpaRepository.class, "updateCollectedData",
+                        r -> r.updateCollectedData(INTERROGATION_ID, data)).in(UNCIPHERED),
+                AuditedQuery.of(UncipheredDataJpaRepository.class, "cleanExtractedData",
+                        r -> r.cleanExtractedData(CAMPAIGN_ID, START_TIMESTAMP, END_TIMESTAMP)).in(UNCIPHERED),
+                AuditedQuery.of(UncipheredDataJpaRepository.class, "cleanData", r -> r.cleanData(INTERROGATION_IDS)).in(UNCIPHERED)
+        );
+    }
+
+    /**
+     * Statements of {@link InterrogationBatchDao}: an interrogation with a personalization, another one without
+     */
+    private static List<AuditedQuery> interrogationBatchQueries() {
+        ArrayNode personalization = JSON.arrayNode();
+        List<Interrogation> interrogations = List.of(
+                new Interrogation(INTERROGATION_ID, SURVEY_UNIT_ID, CAMPAIGN_ID, QUESTIONNAIRE_ID,
+                        personalization, JSON.objectNode(), null, null),
+                new Interrogation(interrogationId(42, 251), SURVEY_UNIT_ID, CAMPAIGN_ID, QUESTIONNAIRE_ID,
+                        null, JSON.objectNode(), null, null));
+        return List.of(
+                AuditedQuery.of(InterrogationBatchDao.class, "upsertAll", dao -> dao.upsertAll(interrogations)),
+                AuditedQuery.of(InterrogationBatchDao.class, "deleteAll", dao -> dao.deleteAll(INTERROGATION_IDS))
+        );
+    }
+
+    /**
+     * Streamed queries are executed when the stream is consumed
+     */
+    private static void consume(Stream<?> stream) {
+        try (stream) {
+            stream.findFirst();
+        }
+    }
+}
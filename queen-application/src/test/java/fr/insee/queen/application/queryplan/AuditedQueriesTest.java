@@ -0,0 +1,41 @@
+package fr.insee.queen.application.queryplan;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditedQueriesTest {
+
+    @Test
+    @DisplayName("Should audit every query of the audited repositories")
+    void all01() {
+        // given
+        List<String> repositoryQueries = AuditedQueries.AUDITED_REPOSITORIES.stream()
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+                        .filter(method -> method.isAnnotationPresent(Query.class))
+                        .map(method -> repository.getSimpleName() + "." + method.getName()))
+                .toList();
+
+        // when
+        List<String> auditedQueries = AuditedQueries.all().stream()
+                .map(AuditedQuery::name)
+                .toList();
+
+        // then
+        assertThat(repositoryQueries).isNotEmpty();
+        assertThat(auditedQueries).containsAll(repositoryQueries);
+    }
+
+    @Test
+    @DisplayName("Should only explain the statements reading or writing rows")
+    void isExplainable01() {
+        assertThat(new RecordedStatement(" select s.id from interrogation s", List.of()).isExplainable()).isTrue();
+        assertThat(new RecordedStatement("DELETE FROM interrogation WHERE id = ANY (?)", List.of()).isExplainable()).isTrue();
+        assertThat(new RecordedStatement("SET LOCAL enable_seqscan = off", List.of()).isExplainable()).isFalse();
+    }
+}
@@ -0,0 +1,45 @@
+package fr.insee.queen.application.queryplan;
+
+import org.springframework.context.ApplicationContext;
+
+import java.util.function.Consumer;
+
+/**
+ * Repository call whose statements have their execution plan audited
+ *
+ * @param name repository and method called (ex: InterrogationJpaRepository.findOneById)
+ * @param call call of the repository method, the statements it sends are audited
+ * @param fullScan true when the statements read whole tables on purpose
+ * @param mode data storage the call is executed against
+ */
+public record AuditedQuery(String name, Consumer<ApplicationContext> call, boolean fullScan, Mode mode) {
+
+    /**
+     * Data storage the query is executed against
+     */
+    public enum Mode {
+        ALL, CIPHERED, UNCIPHERED
+    }
+
+    public static <T> AuditedQuery of(Class<T> repository, String methodName, Consumer<T> call) {
+        return new AuditedQuery(repository.getSimpleName() + "." + methodName,
+                context -> call.accept(context.getBean(repository)), false, Mode.ALL);
+    }
+
+    public static <T> AuditedQuery fullScan(Class<T> repository, String methodName, Consumer<T> call) {
+        return new AuditedQuery(repository.getSimpleName() + "." + methodName,
+                context -> call.accept(context.getBean(repository)), true, Mode.ALL);
+    }
+
+    public AuditedQuery in(Mode queryMode) {
+        return new AuditedQuery(name, call, fullScan, queryMode);
+    }
+
+    public boolean isAuditedIn(boolean isCiphered) {
+        return switch (mode) {
+            case ALL -> true;
+            case CIPHERED -> isCiphered;
+            case UNCIPHERED -> !isCiphered;
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package fr.insee.queen.application.queryplan;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Record the statements sent by the repositories, so the audited plans are the plans of the real statements
+ */
+@TestConfiguration
+public class QueryPlanAuditConfiguration {
+
+    @Bean
+    public static BeanPostProcessor statementRecorderPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                    return new StatementRecorder(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
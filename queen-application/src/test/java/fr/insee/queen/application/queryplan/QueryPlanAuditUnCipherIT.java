@@ -0,0 +1,39 @@
+package fr.insee.queen.application.queryplan;
+
+import fr.insee.queen.application.configuration.ScriptConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+
+@ActiveProfiles("test")
+@SpringBootTest(classes = {
+        QueryPlanAuditConfiguration.class
+})
+/* Disable the "Add at least one assertion to this test case." (sic)
+   The sonar rule is not smart enough to inspect common test class
+ */
+@SuppressWarnings("java:S2699")
+class QueryPlanAuditUnCipherIT {
+    private final QueryPlanCommonAssertions queryPlanCommonAssertions;
+
+    public QueryPlanAuditUnCipherIT(@Autowired JdbcTemplate jdbcTemplate, @Autowired PlatformTransactionManager transactionManager,
+                                  @Autowired ApplicationContext applicationContext) {
+        this.queryPlanCommonAssertions = new QueryPlanCommonAssertions(jdbcTemplate, transactionManager, applicationContext);
+    }
+
+    @Test
+    @DisplayName("Should not scan sequentially interrogation tables in repository queries")
+    @Sql(value = ScriptConstants.REINIT_SQL_SCRIPT, executionPhase = AFTER_TEST_METHOD)
+    void audit_query_plans() {
+        boolean isCiphered = false;
+        queryPlanCommonAssertions.shouldNotScanSequentiallyAuditedTables(isCiphered);
+    }
+}
@@ -0,0 +1,111 @@
+package fr.insee.queen.application.queryplan;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Call the audited repository methods over the generated dataset, then run EXPLAIN (ANALYZE, BUFFERS) on the statements
+ * they sent, with the same parameters. The tables growing with the interrogations must never be read sequentially,
+ * apart from the calls reading them entirely.
+ * Sequential scans are disabled while planning, so a sequential scan left in a plan means that no index can
+ * serve the query, whatever the size of the dataset. Each call and each plan runs in a rolled back transaction.
+ */
+public class QueryPlanCommonAssertions {
+    /**
+     * Tables growing with the number of interrogations
+     */
+    public static final Set<String> AUDITED_TABLES = Set.of("interrogation", "state_data", "data", "comment",
+            "personalization", "data_delta", "interrogation_temp_zone");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationContext applicationContext;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    public QueryPlanCommonAssertions(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                     ApplicationContext applicationContext) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.applicationContext = applicationContext;
+    }
+
+    void shouldNotScanSequentiallyAuditedTables(boolean isCiphered) {
+        QueryPlanDataset.generate(jdbcTemplate, isCiphered);
+
+        List<AuditedQuery> queries = AuditedQueries.all().stream()
+                .filter(query -> query.isAuditedIn(isCiphered))
+                .toList();
+        List<String> violations = new ArrayList<>();
+        for (AuditedQuery query : queries) {
+            List<RecordedStatement> statements = record(query);
+            if (statements.isEmpty()) {
+                violations.add("%s sends no statement".formatted(query.name()));
+            }
+            for (RecordedStatement statement : statements) {
+                JsonNode plan = explain(query, statement);
+                List<String> scannedTables = new ArrayList<>();
+                collectSequentialScans(plan.get(0).get("Plan"), scannedTables);
+                if (!query.fullScan() && !scannedTables.isEmpty()) {
+                    violations.add("%s scans sequentially %s%n%s%n%s".formatted(query.name(), scannedTables,
+                            statement.sql(), plan.toPrettyString()));
+                }
+            }
+        }
+        assertThat(violations).isEmpty();
+    }
+
+    /**
+     * Call the repository method and record the statements it sends, a statement executed in batch is kept once
+     */
+    private List<RecordedStatement> record(AuditedQuery query) {
+        List<RecordedStatement> statements = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return StatementRecorder.record(() -> query.call().accept(applicationContext));
+        });
+        Map<String, RecordedStatement> explainableStatements = new LinkedHashMap<>();
+        statements.stream()
+                .filter(RecordedStatement::isExplainable)
+                .forEach(statement -> explainableStatements.putIfAbsent(statement.sql(), statement));
+        return List.copyOf(explainableStatements.values());
+    }
+
+    private JsonNode explain(AuditedQuery query, RecordedStatement recordedStatement) {
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            String plan = jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement("EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + recordedStatement.sql());
+                recordedStatement.bind(connection, statement);
+                return statement;
+            }, resultSet -> resultSet.next() ? resultSet.getString(1) : null);
+            try {
+                return mapper.readTree(plan);
+            } catch (Exception e) {
+                throw new IllegalStateException("Unreadable plan for " + query.name(), e);
+            }
+        });
+    }
+
+    private void collectSequentialScans(JsonNode node, List<String> scannedTables) {
+        String relation = node.path("Relation Name").asText();
+        if ("Seq Scan".equals(node.path("Node Type").asText()) && AUDITED_TABLES.contains(relation)) {
+            scannedTables.add(relation);
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, scannedTables);
+        }
+    }
+}
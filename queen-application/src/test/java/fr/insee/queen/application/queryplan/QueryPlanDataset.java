@@ -0,0 +1,92 @@
+package fr.insee.queen.application.queryplan;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Generated dataset the query plans are audited against: {@link #CAMPAIGN_COUNT} campaigns with one questionnaire,
+ * metadata and {@link #INTERROGATIONS_PER_CAMPAIGN} interrogations each. Every interrogation has a state data, a data,
+ * a comment and a personalization. Two interrogations share the same survey unit.
+ */
+public final class QueryPlanDataset {
+    public static final int CAMPAIGN_COUNT = 100;
+    public static final int INTERROGATIONS_PER_CAMPAIGN = 500;
+
+    public static final String CAMPAIGN_ID = campaignId(42);
+    public static final String QUESTIONNAIRE_ID = questionnaireId(42);
+    public static final String INTERROGATION_ID = interrogationId(42, 250);
+    public static final String SURVEY_UNIT_ID = "plan-audit-su" + (42 * INTERROGATIONS_PER_CAMPAIGN + 250) / 2;
+    public static final String NOMENCLATURE_ID = "plan-audit-n1";
+    public static final Long START_TIMESTAMP = 1700000000000L;
+    public static final Long END_TIMESTAMP = 1700000100000L;
+
+    private QueryPlanDataset() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static String campaignId(int campaign) {
+        return "plan-audit-c" + campaign;
+    }
+
+    public static String questionnaireId(int campaign) {
+        return "plan-audit-q" + campaign;
+    }
+
+    public static String interrogationId(int campaign, int interrogation) {
+        return "plan-audit-i" + campaign + "-" + interrogation;
+    }
+
+    /**
+     * Insert the dataset and refresh the planner statistics
+     *
+     * @param jdbcTemplate jdbc template
+     * @param isCiphered true if data values are ciphered with pgcrypto
+     */
+    public static void generate(JdbcTemplate jdbcTemplate, boolean isCiphered) {
+        String interrogations = """
+                FROM generate_series(1, %d) c, generate_series(1, %d) i""".formatted(CAMPAIGN_COUNT, INTERROGATIONS_PER_CAMPAIGN);
+        // the ciphered value is computed once for all the rows
+        String dataValue = isCiphered
+                ? "(SELECT pgp_sym_encrypt('{\"COLLECTED\": {}}', current_setting('data.encryption.key')))"
+                : "'{\"COLLECTED\": {}}'::jsonb";
+
+        jdbcTemplate.update("""
+                INSERT INTO campaign (id, label, sensitivity)
+                SELECT 'plan-audit-c' || c, 'plan audit campaign ' || c, 'NORMAL'
+                FROM generate_series(1, %d) c""".formatted(CAMPAIGN_COUNT));
+        jdbcTemplate.update("""
+                INSERT INTO metadata (id, value, campaign_id)
+                SELECT gen_random_uuid(), '{}'::jsonb, 'plan-audit-c' || c
+                FROM generate_series(1, %d) c""".formatted(CAMPAIGN_COUNT));
+        jdbcTemplate.update("""
+                INSERT INTO questionnaire_model (id, label, value, campaign_id)
+                SELECT 'plan-audit-q' || c, 'plan audit questionnaire ' || c, '{}'::jsonb, 'plan-audit-c' || c
+                FROM generate_series(1, %d) c""".formatted(CAMPAIGN_COUNT));
+        jdbcTemplate.update("INSERT INTO nomenclature (id, label, value) VALUES (?, 'plan audit nomenclature', '[]'::jsonb)",
+                NOMENCLATURE_ID);
+        jdbcTemplate.update("""
+                INSERT INTO required_nomenclature (id_required_nomenclature, code)
+                SELECT 'plan-audit-q' || c, ?
+                FROM generate_series(1, %d) c""".formatted(CAMPAIGN_COUNT), NOMENCLATURE_ID);
+        jdbcTemplate.update("""
+                INSERT INTO interrogation (id, survey_unit_id, campaign_id, questionnaire_model_id)
+                SELECT 'plan-audit-i' || c || '-' || i, 'plan-audit-su' || (c * %d + i) / 2, 'plan-audit-c' || c, 'plan-audit-q' || c
+                %s""".formatted(INTERROGATIONS_PER_CAMPAIGN, interrogations));
+        jdbcTemplate.update("""
+                INSERT INTO state_data (id, state, date, current_page, interrogation_id)
+                SELECT gen_random_uuid(),
+                    (ARRAY['INIT', 'COMPLETED', 'VALIDATED', 'TOEXTRACT', 'EXTRACTED'])[1 + (c + i) %% 5],
+                    %d + i * 1000, '1', 'plan-audit-i' || c || '-' || i
+                %s""".formatted(START_TIMESTAMP, interrogations));
+        jdbcTemplate.update("""
+                INSERT INTO data (id, value, interrogation_id, encrypted)
+                SELECT gen_random_uuid(), %s, id, %d FROM interrogation WHERE id LIKE 'plan-audit-%%'"""
+                .formatted(dataValue, isCiphered ? 1 : 0));
+        jdbcTemplate.update("""
+                INSERT INTO comment (id, value, interrogation_id)
+                SELECT gen_random_uuid(), '{}'::jsonb, id FROM interrogation WHERE id LIKE 'plan-audit-%'""");
+        jdbcTemplate.update("""
+                INSERT INTO personalization (id, value, interrogation_id)
+                SELECT gen_random_uuid(), '[]'::jsonb, id FROM interrogation WHERE id LIKE 'plan-audit-%'""");
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
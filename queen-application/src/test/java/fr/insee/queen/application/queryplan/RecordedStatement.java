@@ -0,0 +1,61 @@
+package fr.insee.queen.application.queryplan;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Statement sent to the database by a repository, with the parameters bound by the driver calls
+ *
+ * @param sql SQL statement with positional parameters
+ * @param bindings setter calls on the prepared statement, in call order
+ */
+public record RecordedStatement(String sql, List<Binding> bindings) {
+
+    /**
+     * Setter call on a prepared statement (setString, setObject, setArray...)
+     *
+     * @param method {@link PreparedStatement} setter
+     * @param arguments setter arguments, starting with the parameter index. Arrays are kept as {@link ArrayValue}
+     */
+    public record Binding(Method method, Object[] arguments) {
+    }
+
+    /**
+     * Array created by {@link Connection#createArrayOf(String, Object[])}, created again on replay
+     */
+    public record ArrayValue(String typeName, Object[] elements) {
+    }
+
+    /**
+     * @return true for the statements reading or writing rows, the only ones with an execution plan
+     */
+    public boolean isExplainable() {
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return List.of("select", "insert", "update", "delete", "with").stream().anyMatch(statement::startsWith);
+    }
+
+    /**
+     * Replay the bindings on another statement
+     *
+     * @param connection connection of the statement
+     * @param statement statement with the same parameters
+     */
+    public void bind(Connection connection, PreparedStatement statement) throws SQLException {
+        for (Binding binding : bindings) {
+            Object[] arguments = binding.arguments().clone();
+            if (arguments[1] instanceof ArrayValue array) {
+                arguments[1] = connection.createArrayOf(array.typeName(), array.elements());
+            }
+            try {
+                binding.method().invoke(statement, arguments);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new SQLException("Unable to bind " + binding.method().getName() + " on " + sql, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package fr.insee.queen.application.queryplan;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Data source recording the statements executed by the current thread, with their parameters, while
+ * {@link #record(Runnable)} runs. Statements executed in batch are recorded on each batch entry.
+ * Outside of a recording, the connections are used as is.
+ */
+public class StatementRecorder extends DelegatingDataSource {
+    private static final ThreadLocal<List<RecordedStatement>> RECORDED_STATEMENTS = new ThreadLocal<>();
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "addBatch");
+
+    public StatementRecorder(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    /**
+     * Run a call and return the statements it executed
+     *
+     * @param call repository call
+     * @return statements executed by the call, in execution order
+     */
+    public static List<RecordedStatement> record(Runnable call) {
+        List<RecordedStatement> statements = new ArrayList<>();
+        RECORDED_STATEMENTS.set(statements);
+        try {
+            call.run();
+        } finally {
+            RECORDED_STATEMENTS.remove();
+        }
+        return statements;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return recording(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return recording(super.getConnection(username, password));
+    }
+
+    private static Connection recording(Connection connection) {
+        Map<Array, RecordedStatement.ArrayValue> createdArrays = new IdentityHashMap<>();
+        InvocationHandler handler = (proxy, method, arguments) -> {
+            Object result = invoke(connection, method, arguments);
+            if ("createArrayOf".equals(method.getName())) {
+                createdArrays.put((Array) result, new RecordedStatement.ArrayValue((String) arguments[0], (Object[]) arguments[1]));
+            }
+            if (result instanceof PreparedStatement statement && "prepareStatement".equals(method.getName())) {
+                return recording(statement, (String) arguments[0], createdArrays);
+            }
+            return result;
+        };
+        return (Connection) Proxy.newProxyInstance(StatementRecorder.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, handler);
+    }
+
+    private static PreparedStatement recording(PreparedStatement statement, String sql,
+                                               Map<Array, RecordedStatement.ArrayValue> createdArrays) {
+        List<RecordedStatement.Binding> bindings = new ArrayList<>();
+        InvocationHandler handler = (proxy, method, arguments) -> {
+            String methodName = method.getName();
+            List<RecordedStatement> recordedStatements = RECORDED_STATEMENTS.get();
+            if (methodName.startsWith("set") && arguments != null && arguments.length > 1 && arguments[0] instanceof Integer) {
+                Object[] recordedArguments = arguments.clone();
+                if (arguments[1] instanceof Array array && createdArrays.containsKey(array)) {
+                    recordedArguments[1] = createdArrays.get(array);
+                }
+                bindings.add(new RecordedStatement.Binding(method, recordedArguments));
+            } else if ("clearParameters".equals(methodName)) {
+                bindings.clear();
+            } else if (recordedStatements != null && EXECUTE_METHODS.contains(methodName) && arguments == null) {
+                recordedStatements.add(new RecordedStatement(sql, List.copyOf(bindings)));
+            }
+            return invoke(statement, method, arguments);
+        };
+        return (PreparedStatement) Proxy.newProxyInstance(StatementRecorder.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] arguments) throws Throwable {
+        try {
+            return method.invoke(target, arguments);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
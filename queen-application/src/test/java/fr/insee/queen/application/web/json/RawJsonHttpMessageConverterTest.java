@@ -0,0 +1,47 @@
+package fr.insee.queen.application.web.json;
+
+import fr.insee.queen.domain.common.json.RawJson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RawJsonHttpMessageConverterTest {
+
+    private RawJsonHttpMessageConverter converter;
+
+    @BeforeEach
+    void init() {
+        converter = new RawJsonHttpMessageConverter();
+    }
+
+    @Test
+    @DisplayName("Should write raw json as is in json response")
+    void testWrite01() throws IOException {
+        // given
+        String json = "{\"COLLECTED\": {\"NAME\": {\"COLLECTED\": \"éléonore\"}}}";
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        // when
+        converter.write(new RawJson(json), MediaType.APPLICATION_JSON, outputMessage);
+
+        // then
+        assertThat(outputMessage.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo(json);
+        assertThat(outputMessage.getHeaders().getContentType()).isNotNull();
+        assertThat(outputMessage.getHeaders().getContentType().isCompatibleWith(MediaType.APPLICATION_JSON)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should only write raw json")
+    void testSupports01() {
+        assertThat(converter.canWrite(RawJson.class, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(converter.canWrite(String.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canRead(RawJson.class, MediaType.APPLICATION_JSON)).isFalse();
+    }
+}
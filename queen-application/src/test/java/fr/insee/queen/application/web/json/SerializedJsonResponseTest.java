@@ -0,0 +1,151 @@
+package fr.insee.queen.application.web.json;
+
+import fr.insee.queen.domain.common.json.RawJson;
+import fr.insee.queen.domain.common.json.SerializedJson;
+import org.json.JSONException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializedJsonResponseTest {
+
+    private static final String JSON = "{\"COLLECTED\": {\"NAME\": {\"COLLECTED\": \"éléonore\"}}, \"EXTERNAL\": {\"NAME\": \"éléonore\"}}"
+            .repeat(2);
+
+    @Test
+    @DisplayName("Should write the gzip variant when the client accepts gzip")
+    void testGzip01() throws IOException {
+        // given
+        SerializedJson json = SerializedJson.of(new RawJson(JSON));
+
+        // when
+        ResponseEntity<byte[]> response = SerializedJsonResponse.of(json, "deflate, gzip;q=0.8, br");
+
+        // then
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        try (GZIPInputStream content = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            assertThat(new String(content.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(JSON);
+        }
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "identity", "deflate, br", "gzip;q=0", "gzip; q=0.0, br", "*;q=0"})
+    @DisplayName("Should write the UTF-8 document when the client does not accept gzip")
+    void testIdentity01(String acceptEncoding) {
+        // given
+        SerializedJson json = SerializedJson.of(new RawJson(JSON));
+
+        // when
+        ResponseEntity<byte[]> response = SerializedJsonResponse.of(json, acceptEncoding);
+
+        // then
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getHeaders().getFirst(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getBody()).isEqualTo(JSON.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should write the UTF-8 document when compressing does not reduce its size")
+    void testIdentity02() {
+        // given
+        SerializedJson json = SerializedJson.of(new RawJson("[]"));
+
+        // when
+        ResponseEntity<byte[]> response = SerializedJsonResponse.of(json, "gzip");
+
+        // then
+        assertThat(json.gzipBody()).isNull();
+        assertThat(json.weight()).isEqualTo(2);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getBody()).isEqualTo("[]".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should give each variant of the document its own strong ETag")
+    void testEtag01() {
+        // given
+        SerializedJson json = SerializedJson.of(new RawJson(JSON));
+
+        // when
+        String etag = SerializedJsonResponse.of(json, null).getHeaders().getETag();
+        String gzipEtag = SerializedJsonResponse.of(json, "gzip").getHeaders().getETag();
+
+        // then
+        assertThat(etag).isEqualTo("\"" + json.hash() + "\"");
+        assertThat(gzipEtag).isEqualTo("\"" + json.hash() + "-gzip\"");
+        assertThat(SerializedJson.of(new RawJson(JSON)).hash()).isEqualTo(json.hash());
+        assertThat(SerializedJson.of(new RawJson("[]")).hash()).isNotEqualTo(json.hash());
+    }
+
+    @Test
+    @DisplayName("Should write the documents in an array")
+    void testArray01() throws JSONException {
+        // given
+        String document = "{\"NAME\": \"éléonore\"}";
+        List<SerializedJson> elements = List.of(SerializedJson.of(new RawJson(document)), SerializedJson.of(new RawJson("[]")));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/campaign/campaign-id/questionnaires");
+
+        // when
+        ResponseEntity<byte[]> response = SerializedJsonResponse.ofArray(elements, "value",
+                new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        // then
+        assertThat(response).isNotNull();
+        assertThat(response.getHeaders().getETag()).isNotNull();
+        JSONAssert.assertEquals("[{\"value\": " + document + "}, {\"value\": []}]",
+                new String(response.getBody(), StandardCharsets.UTF_8), JSONCompareMode.STRICT);
+    }
+
+    @Test
+    @DisplayName("Should not write the array when the client already has it")
+    void testArray02() {
+        // given
+        List<SerializedJson> elements = List.of(SerializedJson.of(new RawJson(JSON)), SerializedJson.of(new RawJson("[]")));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/campaign/campaign-id/questionnaires");
+        ResponseEntity<byte[]> firstResponse = SerializedJsonResponse.ofArray(elements, "value",
+                new ServletWebRequest(request, new MockHttpServletResponse()));
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, firstResponse.getHeaders().getETag());
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        // when
+        ResponseEntity<byte[]> response = SerializedJsonResponse.ofArray(elements, "value",
+                new ServletWebRequest(request, servletResponse));
+
+        // then
+        assertThat(response).isNull();
+        assertThat(servletResponse.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(SerializedJsonResponse.ofArray(elements.reversed(), "value",
+                new ServletWebRequest(request, new MockHttpServletResponse()))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should accept gzip when any encoding is accepted")
+    void testAcceptsGzip01() {
+        assertThat(SerializedJsonResponse.acceptsGzip("*")).isTrue();
+        assertThat(SerializedJsonResponse.acceptsGzip("GZIP")).isTrue();
+        assertThat(SerializedJsonResponse.acceptsGzip("x-gzip")).isFalse();
+        assertThat(SerializedJsonResponse.acceptsGzip("gzip;q=0, *")).isFalse();
+    }
+}
@@ -17,12 +17,17 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
 @Slf4j
 public class PilotageApiService implements PilotageService {
+    /**
+     * Number of interrogations read by transaction when streaming the interrogations of an interviewer
+     */
+    public static final int INTERVIEWER_STREAM_CHUNK_SIZE = 500;
     private final InterrogationService interrogationService;
     private final CampaignExistenceService campaignExistenceService;
     private final PilotageRepository pilotageRepository;
@@ -60,6 +65,20 @@ public class PilotageApiService implements PilotageService {
         return interrogationMap.values().stream().toList();
     }
 
+    // ids are sorted and read by chunks, each chunk in its own short transaction,
+    // so no connection is held while the interrogations are written to the client
+    @Override
+    public void streamInterviewerInterrogations(Consumer<Interrogation> interrogationConsumer) {
+        List<String> interrogationIds = getInterrogationIds().stream()
+                .distinct()
+                .sorted()
+                .toList();
+        for (int from = 0; from < interrogationIds.size(); from += INTERVIEWER_STREAM_CHUNK_SIZE) {
+            List<String> chunkIds = interrogationIds.subList(from, Math.min(from + INTERVIEWER_STREAM_CHUNK_SIZE, interrogationIds.size()));
+            interrogationService.findByIds(chunkIds).forEach(interrogationConsumer);
+        }
+    }
+
     /**
      * Retrieve interrogation ids for the current interviewer for a campaign
      *
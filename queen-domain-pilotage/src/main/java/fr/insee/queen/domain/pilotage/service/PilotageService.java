@@ -5,6 +5,7 @@ import fr.insee.queen.domain.interrogation.model.Interrogation;
 import fr.insee.queen.domain.interrogation.model.InterrogationSummary;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 
 public interface PilotageService {
@@ -28,6 +29,13 @@ public interface PilotageService {
      */
     List<Interrogation> getInterviewerInterrogations();
 
+    /**
+     * Push interrogations of the current interviewer one by one to a consumer, sorted by id.
+     * Interrogations are read by chunks, the consumer is called outside any transaction
+     * @param interrogationConsumer consumer receiving each interrogation
+     */
+    void streamInterviewerInterrogations(Consumer<Interrogation> interrogationConsumer);
+
     /**
      * Retrieve campaigns the user has access to as an interviewer
      * @return List of {@link PilotageCampaign} authorized campaigns
@@ -3,6 +3,7 @@ package fr.insee.queen.domain.campaign.service.dummy;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import fr.insee.queen.domain.campaign.model.QuestionnaireModel;
 import fr.insee.queen.domain.campaign.service.QuestionnaireModelService;
+import fr.insee.queen.domain.common.json.SerializedJson;
 import fr.insee.queen.domain.common.exception.EntityNotFoundException;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -33,6 +34,11 @@ public class QuestionnaireModelFakeService implements QuestionnaireModelService
         return null;
     }
 
+    @Override
+    public SerializedJson getSerializedQuestionnaireData(String id) {
+        return null;
+    }
+
     @Override
     public void createQuestionnaire(QuestionnaireModel qm) {
         created = true;
@@ -42,9 +48,4 @@ public class QuestionnaireModelFakeService implements QuestionnaireModelService
     public void updateQuestionnaire(QuestionnaireModel qm) {
         updated = true;
     }
-
-    @Override
-    public List<ObjectNode> getQuestionnaireDatas(String campaignId) {
-        return null;
-    }
 }
@@ -3,6 +3,7 @@ package fr.insee.queen.domain.interrogation.service.dummy;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import fr.insee.queen.domain.campaign.model.CampaignSensitivity;
 import fr.insee.queen.domain.campaign.model.CampaignSummary;
+import fr.insee.queen.domain.common.paging.KeysetPage;
 import fr.insee.queen.domain.interrogation.model.*;
 import fr.insee.queen.domain.interrogation.service.InterrogationService;
 import lombok.Getter;
@@ -10,6 +11,7 @@ import lombok.Setter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.Optional;
 
 public class InterrogationFakeService implements InterrogationService {
@@ -25,6 +27,9 @@ public class InterrogationFakeService implements InterrogationService {
     @Getter
     private boolean checkInterrogationNotExist = false;
 
+    @Getter
+    private final List<List<String>> foundIdsChunks = new ArrayList<>();
+
     @Getter
     private final List<InterrogationSummary> interrogationSummaries = List.of(
             new InterrogationSummary(INTERROGATION1_ID, "survey-unit-id-1", "questionnaire-id", new CampaignSummary("campaign-id", "campaign-label", CampaignSensitivity.NORMAL)),
@@ -124,7 +129,10 @@ public class InterrogationFakeService implements InterrogationService {
 
     @Override
     public List<Interrogation> findByIds(List<String> interrogationIds) {
-        return null;
+        foundIdsChunks.add(List.copyOf(interrogationIds));
+        return interrogationIds.stream()
+                .map(id -> new Interrogation(id, "survey-unit-id", "campaign-id", "questionnaire-id", null, null, null, null))
+                .toList();
     }
 
     @Override
@@ -135,8 +143,23 @@ public class InterrogationFakeService implements InterrogationService {
         );
     }
 
+    @Override
+    public void streamAllInterrogations(Consumer<Interrogation> interrogationConsumer) {
+        findAllInterrogations().forEach(interrogationConsumer);
+    }
+
     @Override
     public List<InterrogationState> getInterrogations(String campaignId, StateDataType stateDataType) {
         return null;
     }
+
+    @Override
+    public KeysetPage<InterrogationState> getInterrogations(String campaignId, StateDataType stateDataType, String afterId, int limit) {
+        return null;
+    }
+
+    @Override
+    public KeysetPage<String> findInterrogationIds(String afterId, int limit) {
+        return null;
+    }
 }
@@ -7,12 +7,14 @@ import fr.insee.queen.domain.campaign.service.dummy.QuestionnaireModelFakeServic
 import fr.insee.queen.domain.pilotage.infrastructure.dummy.PilotageFakeRepository;
 import fr.insee.queen.domain.pilotage.model.PilotageCampaign;
 import fr.insee.queen.domain.pilotage.service.exception.PilotageApiException;
+import fr.insee.queen.domain.interrogation.model.Interrogation;
 import fr.insee.queen.domain.interrogation.model.InterrogationSummary;
 import fr.insee.queen.domain.interrogation.service.dummy.InterrogationFakeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,9 +26,11 @@ class PilotageServiceTest {
     private PilotageFakeRepository pilotageRepository;
     private QuestionnaireModelFakeService questionnaireModelFakeService;
 
+    private InterrogationFakeService interrogationService;
+
     @BeforeEach
     void init() {
-        InterrogationFakeService interrogationService = new InterrogationFakeService();
+        interrogationService = new InterrogationFakeService();
         pilotageRepository = new PilotageFakeRepository();
         campaignExistenceService = new CampaignExistenceFakeService();
         questionnaireModelFakeService = new QuestionnaireModelFakeService();
@@ -106,4 +110,28 @@ class PilotageServiceTest {
         assertThat(interrogations.get(0).id()).isEqualTo(PilotageFakeRepository.INTERROGATION1_ID);
         assertThat(interrogations.get(1).id()).isEqualTo(PilotageFakeRepository.INTERROGATION3_ID);
     }
+
+    @Test
+    @DisplayName("On streaming interviewer interrogations, read them by chunks of sorted ids")
+    void testStreamInterviewerInterrogations_01() {
+        List<String> streamedIds = new ArrayList<>();
+        pilotageService.streamInterviewerInterrogations(interrogation -> streamedIds.add(interrogation.id()));
+
+        assertThat(streamedIds).containsExactly(PilotageFakeRepository.INTERROGATION1_ID,
+                PilotageFakeRepository.INTERROGATION2_ID, PilotageFakeRepository.INTERROGATION3_ID);
+        assertThat(interrogationService.getFoundIdsChunks())
+                .containsExactly(streamedIds)
+                .allSatisfy(chunk -> assertThat(chunk).hasSizeLessThanOrEqualTo(PilotageApiService.INTERVIEWER_STREAM_CHUNK_SIZE));
+    }
+
+    @Test
+    @DisplayName("On streaming interviewer interrogations, when there is no interrogation, read nothing")
+    void testStreamInterviewerInterrogations_02() {
+        pilotageRepository.setNullCurrentInterrogation(true);
+        List<Interrogation> interrogations = new ArrayList<>();
+        pilotageService.streamInterviewerInterrogations(interrogations::add);
+
+        assertThat(interrogations).isEmpty();
+        assertThat(interrogationService.getFoundIdsChunks()).isEmpty();
+    }
 }
@@ -1,6 +1,7 @@
 package fr.insee.queen.domain.campaign.gateway;
 
 import fr.insee.queen.domain.campaign.model.Nomenclature;
+import fr.insee.queen.domain.common.json.RawJson;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,6 +17,13 @@ public interface NomenclatureRepository {
      */
     Optional<Nomenclature> find(String nomenclatureId);
 
+    /**
+     * Find the value of a nomenclature, as stored
+     * @param nomenclatureId nomenclature id
+     * @return {@link RawJson} nomenclature value
+     */
+    Optional<RawJson> findRawValue(String nomenclatureId);
+
     /**
      * Find all nomenclature ids
      *
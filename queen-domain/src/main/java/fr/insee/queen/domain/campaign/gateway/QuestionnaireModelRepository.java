@@ -2,6 +2,7 @@ package fr.insee.queen.domain.campaign.gateway;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import fr.insee.queen.domain.campaign.model.QuestionnaireModel;
+import fr.insee.queen.domain.common.json.RawJson;
 
 import java.util.List;
 import java.util.Optional;
@@ -24,6 +25,14 @@ public interface QuestionnaireModelRepository {
      */
     Optional<ObjectNode> findQuestionnaireData(String questionnaireId);
 
+    /**
+     * Find data structure for a questionnaire, as stored json text
+     *
+     * @param questionnaireId questionnaire id
+     * @return questionnaire data for a campaign
+     */
+    Optional<RawJson> findRawQuestionnaireData(String questionnaireId);
+
     /**
      * Check if questionnaire exists
      *
@@ -62,12 +71,4 @@ public interface QuestionnaireModelRepository {
      * @param campaignId campaign id
      */
     void deleteAllFromCampaign(String campaignId);
-
-    /**
-     * Find data structure for all questionnaire of a campaign
-     *
-     * @param campaignId campaign id
-     * @return {@link List<String>} all questionnaire values for a campaign
-     */
-    List<ObjectNode> findAllQuestionnaireDatas(String campaignId);
 }
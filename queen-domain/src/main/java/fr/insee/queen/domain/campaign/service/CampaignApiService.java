@@ -48,6 +48,7 @@ public class CampaignApiService implements CampaignService {
     @Transactional
     @Caching(evict = {
             @CacheEvict(CacheName.CAMPAIGN_EXIST),
+            @CacheEvict(CacheName.CAMPAIGN_QUESTIONNAIRES),
             @CacheEvict(value = CacheName.INTERROGATION_EXIST, allEntries = true),
             @CacheEvict(value = CacheName.INTERROGATION_SUMMARY, allEntries = true)
     })
@@ -69,6 +70,8 @@ public class CampaignApiService implements CampaignService {
                         .evict(id);
                 Objects.requireNonNull(cacheManager.getCache(CacheName.QUESTIONNAIRE))
                         .evict(id);
+                Objects.requireNonNull(cacheManager.getCache(CacheName.QUESTIONNAIRE_RAW))
+                        .evict(id);
             });
             questionnaireModelRepository.deleteAllFromCampaign(campaignId);
         }
@@ -77,7 +80,8 @@ public class CampaignApiService implements CampaignService {
 
     @Transactional
     @Caching(evict = {
-            @CacheEvict(value = CacheName.CAMPAIGN_EXIST, key = "#campaign.id")
+            @CacheEvict(value = CacheName.CAMPAIGN_EXIST, key = "#campaign.id"),
+            @CacheEvict(value = CacheName.CAMPAIGN_QUESTIONNAIRES, allEntries = true)
     })
     @Override
     public void createCampaign(Campaign campaign) {
@@ -89,6 +93,7 @@ public class CampaignApiService implements CampaignService {
 
     @Caching(evict = {
             @CacheEvict(value = CacheName.QUESTIONNAIRE_METADATA, allEntries = true),
+            @CacheEvict(value = CacheName.CAMPAIGN_QUESTIONNAIRES, allEntries = true)
     })
     @Override
     public void updateCampaign(Campaign campaign) {
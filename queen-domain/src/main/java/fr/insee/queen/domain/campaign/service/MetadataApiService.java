@@ -7,6 +7,7 @@ import fr.insee.queen.domain.common.exception.EntityNotFoundException;
 import lombok.AllArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @AllArgsConstructor
@@ -15,12 +16,14 @@ public class MetadataApiService implements MetadataService {
     private final CampaignRepository campaignRepository;
 
     @Override
+    @Transactional(readOnly = true)
     public ObjectNode getMetadata(String campaignId) {
         return campaignRepository.findMetadataByCampaignId(campaignId)
                 .orElseThrow(() -> new EntityNotFoundException(String.format("Metadata for campaign %s was not found", campaignId)));
     }
 
     @Override
+    @Transactional(readOnly = true)
     @Cacheable(CacheName.QUESTIONNAIRE_METADATA)
     public ObjectNode getMetadataByQuestionnaireId(String questionnaireId) {
         return campaignRepository.findMetadataByQuestionnaireId(questionnaireId)
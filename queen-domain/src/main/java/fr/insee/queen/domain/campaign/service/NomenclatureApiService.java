@@ -4,11 +4,13 @@ import fr.insee.queen.domain.campaign.gateway.NomenclatureRepository;
 import fr.insee.queen.domain.campaign.model.Nomenclature;
 import fr.insee.queen.domain.common.cache.CacheName;
 import fr.insee.queen.domain.common.exception.EntityNotFoundException;
+import fr.insee.queen.domain.common.json.SerializedJson;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Set;
@@ -22,12 +24,21 @@ public class NomenclatureApiService implements NomenclatureService {
     private final QuestionnaireModelExistenceService questionnaireModelExistenceService;
 
     @Override
-    @Cacheable(CacheName.NOMENCLATURE)
+    @Transactional(readOnly = true)
     public Nomenclature getNomenclature(String id) {
         return nomenclatureRepository.find(id)
                 .orElseThrow(() -> new EntityNotFoundException(String.format("Nomenclature %s was not found", id)));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(CacheName.NOMENCLATURE)
+    public SerializedJson getSerializedNomenclature(String id) {
+        return nomenclatureRepository.findRawValue(id)
+                .map(SerializedJson::of)
+                .orElseThrow(() -> new EntityNotFoundException(String.format("Nomenclature %s was not found", id)));
+    }
+
     @Override
     public boolean existsById(String id) {
         return nomenclatureRepository.exists(id);
@@ -55,18 +66,21 @@ public class NomenclatureApiService implements NomenclatureService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<String> getAllNomenclatureIds() {
         return nomenclatureRepository.findAllIds()
                 .orElseThrow(() -> new EntityNotFoundException("No nomenclatures found"));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<String> findRequiredNomenclatureByCampaign(String campaignId) {
         campaignExistenceService.throwExceptionIfCampaignNotExist(campaignId);
         return nomenclatureRepository.findRequiredNomenclatureByCampaignId(campaignId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     @Cacheable(CacheName.QUESTIONNAIRE_NOMENCLATURES)
     public List<String> findRequiredNomenclatureByQuestionnaire(String questionnaireId) {
         questionnaireModelExistenceService.throwExceptionIfQuestionnaireNotExist(questionnaireId);
@@ -1,6 +1,7 @@
 package fr.insee.queen.domain.campaign.service;
 
 import fr.insee.queen.domain.campaign.model.Nomenclature;
+import fr.insee.queen.domain.common.json.SerializedJson;
 
 import java.util.List;
 import java.util.Set;
@@ -8,6 +9,8 @@ import java.util.Set;
 public interface NomenclatureService {
     Nomenclature getNomenclature(String id);
 
+    SerializedJson getSerializedNomenclature(String id);
+
     boolean existsById(String id);
 
     boolean areNomenclaturesValid(Set<String> nomenclatureIds);
@@ -6,6 +6,7 @@ import fr.insee.queen.domain.campaign.gateway.QuestionnaireModelRepository;
 import fr.insee.queen.domain.campaign.model.QuestionnaireModel;
 import fr.insee.queen.domain.common.cache.CacheName;
 import fr.insee.queen.domain.common.exception.EntityNotFoundException;
+import fr.insee.queen.domain.common.json.SerializedJson;
 import lombok.AllArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
@@ -25,12 +26,15 @@ public class QuestionnaireModelApiService implements QuestionnaireModelService {
     private final NomenclatureService nomenclatureService;
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(CacheName.CAMPAIGN_QUESTIONNAIRES)
     public List<String> getQuestionnaireIds(String campaignId) {
         campaignExistenceService.throwExceptionIfCampaignNotExist(campaignId);
-        return questionnaireModelRepository.findAllIds(campaignId);
+        return List.copyOf(questionnaireModelRepository.findAllIds(campaignId));
     }
 
     @Override
+    @Transactional(readOnly = true)
     @Cacheable(CacheName.QUESTIONNAIRE)
     public ObjectNode getQuestionnaireData(String id) {
         return questionnaireModelRepository
@@ -39,6 +43,17 @@ public class QuestionnaireModelApiService implements QuestionnaireModelService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(CacheName.QUESTIONNAIRE_RAW)
+    public SerializedJson getSerializedQuestionnaireData(String id) {
+        return questionnaireModelRepository
+                .findRawQuestionnaireData(id)
+                .map(SerializedJson::of)
+                .orElseThrow(() -> new EntityNotFoundException(String.format("Questionnaire data %s was not found", id)));
+    }
+
+    @Override
+    @CacheEvict(value = CacheName.CAMPAIGN_QUESTIONNAIRES, allEntries = true)
     @Transactional
     public void createQuestionnaire(QuestionnaireModel questionnaire) {
         questionnaireModelExistenceService.throwExceptionIfQuestionnaireAlreadyExist(questionnaire.getId());
@@ -56,6 +71,8 @@ public class QuestionnaireModelApiService implements QuestionnaireModelService {
             @CacheEvict(value = CacheName.QUESTIONNAIRE_NOMENCLATURES, key = "#questionnaire.id"),
             @CacheEvict(value = CacheName.QUESTIONNAIRE_METADATA, key = "#questionnaire.id"),
             @CacheEvict(value = CacheName.QUESTIONNAIRE, key = "#questionnaire.id"),
+            @CacheEvict(value = CacheName.QUESTIONNAIRE_RAW, key = "#questionnaire.id"),
+            @CacheEvict(value = CacheName.CAMPAIGN_QUESTIONNAIRES, allEntries = true)
     })
     @Transactional
     public void updateQuestionnaire(QuestionnaireModel questionnaire) {
@@ -68,11 +85,4 @@ public class QuestionnaireModelApiService implements QuestionnaireModelService {
         }
         questionnaireModelRepository.update(questionnaire);
     }
-
-    @Override
-    public List<ObjectNode> getQuestionnaireDatas(String campaignId) {
-        campaignExistenceService.throwExceptionIfCampaignNotExist(campaignId);
-        return questionnaireModelRepository.findAllQuestionnaireDatas(campaignId).stream()
-                .toList();
-    }
 }
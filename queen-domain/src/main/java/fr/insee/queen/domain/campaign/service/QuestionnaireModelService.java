@@ -2,6 +2,7 @@ package fr.insee.queen.domain.campaign.service;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import fr.insee.queen.domain.campaign.model.QuestionnaireModel;
+import fr.insee.queen.domain.common.json.SerializedJson;
 
 import java.util.List;
 
@@ -10,9 +11,9 @@ public interface QuestionnaireModelService {
 
     ObjectNode getQuestionnaireData(String id);
 
+    SerializedJson getSerializedQuestionnaireData(String id);
+
     void createQuestionnaire(QuestionnaireModel qm);
 
     void updateQuestionnaire(QuestionnaireModel qm);
-
-    List<ObjectNode> getQuestionnaireDatas(String campaignId);
 }
@@ -0,0 +1,35 @@
+package fr.insee.queen.domain.common.cache;
+
+/**
+ * Eviction to apply on the caches of the other nodes
+ *
+ * @param cacheName cache name, null to clear all the caches
+ * @param key evicted key, null to clear all the entries of the cache
+ */
+public record CacheInvalidation(
+        String cacheName,
+        String key) {
+
+    public static CacheInvalidation key(String cacheName, String key) {
+        return new CacheInvalidation(cacheName, key);
+    }
+
+    public static CacheInvalidation allEntries(String cacheName) {
+        return new CacheInvalidation(cacheName, null);
+    }
+
+    /**
+     * Used when invalidations may have been missed
+     */
+    public static CacheInvalidation allCaches() {
+        return new CacheInvalidation(null, null);
+    }
+
+    public boolean isAllCaches() {
+        return cacheName == null;
+    }
+
+    public boolean isAllEntries() {
+        return key == null;
+    }
+}
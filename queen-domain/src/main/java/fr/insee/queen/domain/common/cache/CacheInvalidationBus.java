@@ -0,0 +1,22 @@
+package fr.insee.queen.domain.common.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Bus sharing cache evictions between the nodes of the application
+ */
+public interface CacheInvalidationBus {
+    /**
+     * Publish an eviction to the other nodes, once the current transaction is committed
+     *
+     * @param invalidation eviction to publish
+     */
+    void publish(CacheInvalidation invalidation);
+
+    /**
+     * Register a consumer of the evictions published by the other nodes
+     *
+     * @param subscriber consumer called for each eviction received
+     */
+    void subscribe(Consumer<CacheInvalidation> subscriber);
+}
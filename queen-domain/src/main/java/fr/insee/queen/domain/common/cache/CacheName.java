@@ -6,7 +6,9 @@ public class CacheName {
     }
 
     public static final String QUESTIONNAIRE = "questionnaire";
+    public static final String QUESTIONNAIRE_RAW = "questionnaire-raw";
     public static final String CAMPAIGN_EXIST = "is-campaign-present";
+    public static final String CAMPAIGN_QUESTIONNAIRES = "campaign-questionnaire-ids";
     public static final String INTERROGATION_EXIST = "is-interrogation-present";
     public static final String INTERROGATION_SUMMARY = "interrogation-summary";
     public static final String QUESTIONNAIRE_NOMENCLATURES = "questionnaire-required-nomenclatures";
@@ -0,0 +1,20 @@
+package fr.insee.queen.domain.common.json;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Json document kept as its serialized text, for documents only transferred and never inspected by the application:
+ * the document is written as is in responses, without being parsed in a tree.
+ *
+ * @param value serialized json document
+ */
+public record RawJson(@JsonValue @JsonRawValue String value) {
+    public static final RawJson EMPTY_OBJECT = new RawJson("{}");
+
+    public RawJson {
+        if (value == null) {
+            throw new IllegalArgumentException("Raw json value cannot be null");
+        }
+    }
+}
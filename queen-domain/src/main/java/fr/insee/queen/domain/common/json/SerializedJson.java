@@ -0,0 +1,104 @@
+package fr.insee.queen.domain.common.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Json document serialized once in UTF-8, with its gzip variant, to be written as is in responses.
+ * The gzip variant is only kept when it is smaller than the document. The hash of the content is computed at the
+ * same time, so that clients can revalidate the document without it being read again.
+ */
+public final class SerializedJson {
+    private final byte[] body;
+    private final byte[] gzipBody;
+    private final String hash;
+
+    private SerializedJson(byte[] body, byte[] gzipBody, String hash) {
+        this.body = body;
+        this.gzipBody = gzipBody;
+        this.hash = hash;
+    }
+
+    /**
+     * @param json json document
+     * @return the document serialized in UTF-8 and compressed
+     */
+    public static SerializedJson of(RawJson json) {
+        byte[] body = json.value().getBytes(StandardCharsets.UTF_8);
+        byte[] gzipBody = gzip(body);
+        return new SerializedJson(body, gzipBody.length < body.length ? gzipBody : null, hash(body));
+    }
+
+    /**
+     * @param hashes hashes of serialized documents
+     * @return a hash identifying the sequence of documents
+     */
+    public static String combinedHash(Iterable<String> hashes) {
+        MessageDigest digest = sha256();
+        for (String hash : hashes) {
+            digest.update(hash.getBytes(StandardCharsets.US_ASCII));
+            digest.update((byte) ',');
+        }
+        return encode(digest.digest());
+    }
+
+    /**
+     * @return the document in UTF-8
+     */
+    public byte[] body() {
+        return body;
+    }
+
+    /**
+     * @return the document compressed with gzip, null when compressing does not reduce its size
+     */
+    public byte[] gzipBody() {
+        return gzipBody;
+    }
+
+    /**
+     * @return the SHA-256 hash of the document in UTF-8, encoded in base64url
+     */
+    public String hash() {
+        return hash;
+    }
+
+    /**
+     * @return the number of bytes kept for the document
+     */
+    public int weight() {
+        return body.length + (gzipBody == null ? 0 : gzipBody.length);
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(32, body.length / 4));
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(compressed)) {
+            gzipStream.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static String hash(byte[] body) {
+        return encode(sha256().digest(body));
+    }
+
+    private static String encode(byte[] digest) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
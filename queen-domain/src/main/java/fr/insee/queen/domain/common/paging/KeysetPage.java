@@ -0,0 +1,33 @@
+package fr.insee.queen.domain.common.paging;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Page of elements retrieved with keyset pagination (elements sorted by key, starting after a given key)
+ *
+ * @param content elements of the page
+ * @param nextCursor key to use as cursor to retrieve the next page, null if there is no next page
+ * @param <T> element type
+ */
+public record KeysetPage<T>(
+        List<T> content,
+        String nextCursor) {
+
+    /**
+     * Build a page from elements retrieved with a limit of (limit + 1), the extra element
+     * only tells that a next page exists
+     *
+     * @param elements elements retrieved (at most limit + 1)
+     * @param limit max number of elements in the page
+     * @param keyExtractor function to get the key of an element
+     * @return {@link KeysetPage} the page
+     */
+    public static <T> KeysetPage<T> of(List<T> elements, int limit, Function<T, String> keyExtractor) {
+        if (elements.size() <= limit) {
+            return new KeysetPage<>(elements, null);
+        }
+        List<T> content = elements.subList(0, limit);
+        return new KeysetPage<>(content, keyExtractor.apply(content.getLast()));
+    }
+}
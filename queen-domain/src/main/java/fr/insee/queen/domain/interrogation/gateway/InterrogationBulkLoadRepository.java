@@ -0,0 +1,20 @@
+package fr.insee.queen.domain.interrogation.gateway;
+
+import fr.insee.queen.domain.interrogation.model.Interrogation;
+import fr.insee.queen.domain.interrogation.model.InterrogationBulkLoadBatch;
+
+import java.util.List;
+
+/**
+ * Repository to load large volumes of interrogations
+ */
+public interface InterrogationBulkLoadRepository {
+    /**
+     * Create or update a batch of interrogations with their data, personalization, comment and state data.
+     * Interrogation ids must be unique in the batch. The batch is committed in its own transaction
+     *
+     * @param interrogations interrogations to load
+     * @return {@link InterrogationBulkLoadBatch} timings of the load
+     */
+    InterrogationBulkLoadBatch load(List<Interrogation> interrogations);
+}
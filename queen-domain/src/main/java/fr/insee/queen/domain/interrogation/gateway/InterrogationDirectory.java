@@ -0,0 +1,37 @@
+package fr.insee.queen.domain.interrogation.gateway;
+
+import fr.insee.queen.domain.interrogation.model.InterrogationSummary;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * In-memory directory of all the interrogations (id, survey unit, campaign and questionnaire),
+ * loaded at startup and maintained by the repositories when interrogations are written.
+ * An interrogation missing from the directory (created by another instance) is read with the given loader
+ * and added to the directory.
+ */
+public interface InterrogationDirectory {
+    /**
+     * @return true once all the interrogations are loaded, the directory must not be used before
+     */
+    boolean isLoaded();
+
+    /**
+     * Check if an interrogation exists
+     *
+     * @param interrogationId interrogation id
+     * @param loader loader used when the interrogation is not in the directory
+     * @return true if the interrogation exists
+     */
+    boolean exists(String interrogationId, Function<String, Optional<InterrogationSummary>> loader);
+
+    /**
+     * Find the summary of an interrogation
+     *
+     * @param interrogationId interrogation id
+     * @param loader loader used when the interrogation is not in the directory
+     * @return {@link InterrogationSummary} interrogation summary
+     */
+    Optional<InterrogationSummary> findSummary(String interrogationId, Function<String, Optional<InterrogationSummary>> loader);
+}
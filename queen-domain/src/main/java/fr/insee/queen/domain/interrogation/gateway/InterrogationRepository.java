@@ -2,10 +2,12 @@ package fr.insee.queen.domain.interrogation.gateway;
 
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.insee.queen.domain.common.json.RawJson;
 import fr.insee.queen.domain.interrogation.model.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository to handle interrogations
@@ -66,6 +68,15 @@ public interface InterrogationRepository {
      */
     Optional<List<String>> findAllIds();
 
+    /**
+     * Find interrogation ids sorted by id, starting after a given id
+     *
+     * @param afterId only ids greater than this id are retrieved (empty string to start from the beginning)
+     * @param limit max number of ids to retrieve
+     * @return List of interrogation ids
+     */
+    List<String> findIds(String afterId, int limit);
+
     /**
      *
      * @param campaignId campaign id
@@ -74,6 +85,17 @@ public interface InterrogationRepository {
      */
     List<InterrogationState> findAllByState(String campaignId, StateDataType stateDataType);
 
+    /**
+     * Find interrogations by state sorted by id, starting after a given id
+     *
+     * @param campaignId campaign id
+     * @param stateDataType state data type to filter
+     * @param afterId only interrogations with an id greater than this id are retrieved (empty string to start from the beginning)
+     * @param limit max number of interrogations to retrieve
+     * @return List of {@link InterrogationState} interrogations with states
+     */
+    List<InterrogationState> findAllByState(String campaignId, StateDataType stateDataType, String afterId, int limit);
+
     /**
      * Find interrogations with state linked by ids
      *
@@ -150,6 +172,14 @@ public interface InterrogationRepository {
      */
     Optional<ObjectNode> findData(String interrogationId);
 
+    /**
+     * Find the data of an interrogation, as stored json text
+     *
+     * @param interrogationId interrogation id
+     * @return the data value
+     */
+    Optional<RawJson> findRawData(String interrogationId);
+
     /**
      * Get the personalization of an interrogation
      *
@@ -194,6 +224,14 @@ public interface InterrogationRepository {
      */
     List<Interrogation> findAll();
 
+    /**
+     * Stream all full interrogations. The stream is backed by an open cursor:
+     * it must be consumed inside a transaction and closed after use
+     *
+     * @return Stream of {@link Interrogation} all interrogations
+     */
+    Stream<Interrogation> streamAll();
+
     /**
      * clear all extracted data for a campaign between 2 timestamps
      *
@@ -202,4 +240,33 @@ public interface InterrogationRepository {
      * @param endTimestamp timestamp end
      */
     void cleanExtractedData(String campaignId, Long startTimestamp, Long endTimestamp);
+
+    /**
+     * Find the ids of the interrogations of a campaign, ordered by id
+     *
+     * @param campaignId campaign id
+     * @param afterId only ids greater than this id are returned
+     * @param limit max number of ids
+     * @return ids of interrogations
+     */
+    List<String> findIdsByCampaignId(String campaignId, String afterId, int limit);
+
+    /**
+     * Find the ids of extracted interrogations of a campaign between 2 timestamps, ordered by id
+     *
+     * @param campaignId campaign id
+     * @param startTimestamp timestamp start
+     * @param endTimestamp timestamp end
+     * @param afterId only ids greater than this id are returned
+     * @param limit max number of ids
+     * @return ids of extracted interrogations
+     */
+    List<String> findExtractedIds(String campaignId, Long startTimestamp, Long endTimestamp, String afterId, int limit);
+
+    /**
+     * clear the data of interrogations
+     *
+     * @param interrogationIds interrogation ids
+     */
+    void cleanData(List<String> interrogationIds);
 }
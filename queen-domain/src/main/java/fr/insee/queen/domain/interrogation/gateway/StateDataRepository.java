@@ -23,6 +23,17 @@ public interface StateDataRepository {
      */
     void save(String interrogationId, StateData stateData);
 
+    /**
+     * Save (create or update) state data for an interrogation, only if the existing state data
+     * is not more recent than the new one (existing date null or lower/equal to the new date).
+     * The check and the write are done atomically
+     *
+     * @param interrogationId interrogation id
+     * @param stateData state data to save
+     * @return true if state data was saved, false if existing state data is more recent
+     */
+    boolean saveIfNotOlder(String interrogationId, StateData stateData);
+
     /**
      * Create state data for an interrogation
      * @param interrogationId interrogation id
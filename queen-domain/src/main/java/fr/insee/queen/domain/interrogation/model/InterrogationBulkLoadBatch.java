@@ -0,0 +1,14 @@
+package fr.insee.queen.domain.interrogation.model;
+
+/**
+ * Timings of a bulk loaded batch of interrogations
+ *
+ * @param size number of interrogations in the batch
+ * @param copyDurationMs time spent copying the batch into the staging table
+ * @param mergeDurationMs time spent merging the staging rows into the interrogation tables
+ */
+public record InterrogationBulkLoadBatch(
+        int size,
+        long copyDurationMs,
+        long mergeDurationMs) {
+}
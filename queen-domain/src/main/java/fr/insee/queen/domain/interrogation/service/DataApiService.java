@@ -2,6 +2,7 @@ package fr.insee.queen.domain.interrogation.service;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import fr.insee.queen.domain.common.exception.EntityNotFoundException;
+import fr.insee.queen.domain.common.json.RawJson;
 import fr.insee.queen.domain.interrogation.gateway.InterrogationRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,12 +16,21 @@ public class DataApiService implements DataService {
     private final InterrogationRepository interrogationRepository;
 
     @Override
+    @Transactional(readOnly = true)
     public ObjectNode getData(String interrogationId) {
         return interrogationRepository
                 .findData(interrogationId)
                 .orElseThrow(() -> new EntityNotFoundException(String.format("Data not found for interrogation %s", interrogationId)));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public RawJson getRawData(String interrogationId) {
+        return interrogationRepository
+                .findRawData(interrogationId)
+                .orElseThrow(() -> new EntityNotFoundException(String.format("Data not found for interrogation %s", interrogationId)));
+    }
+
     @Override
     @Transactional
     public void saveData(String interrogationId, ObjectNode dataValue) {
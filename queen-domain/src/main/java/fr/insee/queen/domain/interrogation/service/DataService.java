@@ -1,10 +1,13 @@
 package fr.insee.queen.domain.interrogation.service;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.insee.queen.domain.common.json.RawJson;
 
 public interface DataService {
     ObjectNode getData(String interrogationId);
 
+    RawJson getRawData(String interrogationId);
+
     void saveData(String interrogationId, ObjectNode dataValue);
 
     void updateCollectedData(String interrogationId, ObjectNode collectedData);
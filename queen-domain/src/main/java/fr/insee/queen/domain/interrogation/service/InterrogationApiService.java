@@ -6,8 +6,10 @@ import fr.insee.queen.domain.campaign.service.MetadataService;
 import fr.insee.queen.domain.common.cache.CacheName;
 import fr.insee.queen.domain.common.exception.EntityAlreadyExistException;
 import fr.insee.queen.domain.common.exception.EntityNotFoundException;
+import fr.insee.queen.domain.common.paging.KeysetPage;
 import fr.insee.queen.domain.interrogation.model.*;
 import fr.insee.queen.domain.interrogation.service.exception.StateDataInvalidDateException;
+import fr.insee.queen.domain.interrogation.gateway.InterrogationDirectory;
 import fr.insee.queen.domain.interrogation.gateway.InterrogationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +22,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -33,9 +37,14 @@ public class InterrogationApiService implements InterrogationService {
     private final CampaignExistenceService campaignExistenceService;
     private final MetadataService metadataService;
     private final CacheManager cacheManager;
+    private final Optional<InterrogationDirectory> interrogationDirectory;
 
     @Override
     public boolean existsById(String interrogationId) {
+        Optional<InterrogationDirectory> directory = loadedDirectory();
+        if (directory.isPresent()) {
+            return directory.get().exists(interrogationId, interrogationRepository::findSummaryById);
+        }
         // not using @Cacheable annotation here, to avoid problems with proxy class generation
         Boolean isInterrogationPresent = Objects.requireNonNull(cacheManager.getCache(CacheName.INTERROGATION_EXIST)).get(interrogationId, Boolean.class);
         if (isInterrogationPresent != null) {
@@ -62,43 +71,79 @@ public class InterrogationApiService implements InterrogationService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Interrogation getInterrogation(String id) {
         return interrogationRepository.find(id)
                 .orElseThrow(() -> new EntityNotFoundException(String.format(NOT_FOUND_MESSAGE, id)));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<InterrogationSummary> findSummariesByCampaignId(String campaignId) {
         campaignExistenceService.throwExceptionIfCampaignNotExist(campaignId);
         return interrogationRepository.findAllSummaryByCampaignId(campaignId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<InterrogationSummary> findSummariesBySurveyUnitId(String surveyUnitId) {
         return interrogationRepository.findAllSummaryBySurveyUnitId(surveyUnitId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Interrogation> findByIds(List<String> interrogationIds) {
         return interrogationRepository.find(interrogationIds);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Interrogation> findAllInterrogations() {
         return interrogationRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public void streamAllInterrogations(Consumer<Interrogation> interrogationConsumer) {
+        try (Stream<Interrogation> interrogations = interrogationRepository.streamAll()) {
+            interrogations.forEach(interrogationConsumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<String> findAllInterrogationIds() {
         return interrogationRepository.findAllIds()
                 .orElseThrow(() -> new EntityNotFoundException("List of interrogation ids not found"));
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<String> findInterrogationIds(String afterId, int limit) {
+        List<String> ids = interrogationRepository.findIds(afterIdOrFirst(afterId), limit + 1);
+        return KeysetPage.of(ids, limit, id -> id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<InterrogationState> getInterrogations(String campaignId, StateDataType stateDataType) {
         return interrogationRepository.findAllByState(campaignId, stateDataType);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<InterrogationState> getInterrogations(String campaignId, StateDataType stateDataType, String afterId, int limit) {
+        List<InterrogationState> interrogations = interrogationRepository.findAllByState(campaignId, stateDataType, afterIdOrFirst(afterId), limit + 1);
+        return KeysetPage.of(interrogations, limit, InterrogationState::id);
+    }
+
+    /**
+     * Ids are never empty, so the empty string is lower than any interrogation id
+     */
+    private String afterIdOrFirst(String afterId) {
+        return afterId == null ? "" : afterId;
+    }
+
     @Transactional
     @Override
     public void updateInterrogation(Interrogation interrogation) {
@@ -148,12 +193,17 @@ public class InterrogationApiService implements InterrogationService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<InterrogationSummary> findSummariesByIds(List<String> interrogations) {
         return interrogationRepository.findAllSummaryByIdIn(interrogations);
     }
 
     @Override
     public Optional<InterrogationSummary> findSummaryById(String interrogationId) {
+        Optional<InterrogationDirectory> directory = loadedDirectory();
+        if (directory.isPresent()) {
+            return directory.get().findSummary(interrogationId, interrogationRepository::findSummaryById);
+        }
         // not using @Cacheable annotation here, to avoid problems with proxy class generation (some internal methods call this one)
         InterrogationSummary interrogationSummary = Objects.requireNonNull(cacheManager.getCache(CacheName.INTERROGATION_SUMMARY)).get(interrogationId, InterrogationSummary.class);
 
@@ -168,6 +218,7 @@ public class InterrogationApiService implements InterrogationService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<InterrogationState> findWithStateByIds(List<String> interrogations) {
         return interrogationRepository.findAllWithStateByIdIn(interrogations);
     }
@@ -184,6 +235,7 @@ public class InterrogationApiService implements InterrogationService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public InterrogationDepositProof getInterrogationDepositProof(String interrogationId) {
         return interrogationRepository
                 .findWithCampaignAndStateById(interrogationId)
@@ -191,6 +243,7 @@ public class InterrogationApiService implements InterrogationService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public InterrogationMetadata getInterrogationMetadata(String interrogationId) {
         InterrogationPersonalization interrogationPersonalization =
                 interrogationRepository.getInterrogationPersonalization(interrogationId);
@@ -199,6 +252,13 @@ public class InterrogationApiService implements InterrogationService {
         return InterrogationMetadata.create(interrogationPersonalization, metadata);
     }
 
+    /**
+     * The caches are used until the directory is loaded
+     */
+    private Optional<InterrogationDirectory> loadedDirectory() {
+        return interrogationDirectory.filter(InterrogationDirectory::isLoaded);
+    }
+
     @Override
     public InterrogationSummary getSummaryById(String interrogationId) {
         return findSummaryById(interrogationId)
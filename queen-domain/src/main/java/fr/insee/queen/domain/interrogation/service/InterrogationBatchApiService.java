@@ -1,21 +1,32 @@
 package fr.insee.queen.domain.interrogation.service;
 
 import fr.insee.queen.domain.campaign.service.CampaignExistenceService;
+import fr.insee.queen.domain.interrogation.gateway.InterrogationBulkLoadRepository;
 import fr.insee.queen.domain.interrogation.model.Interrogation;
 import fr.insee.queen.domain.interrogation.gateway.InterrogationBatchRepository;
+import fr.insee.queen.domain.interrogation.model.InterrogationBulkLoadBatch;
+import fr.insee.queen.domain.interrogation.model.StateData;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 class InterrogationBatchApiService implements InterrogationBatchService {
 
     private final InterrogationBatchRepository batchRepository;
+    private final InterrogationBulkLoadRepository bulkLoadRepository;
     private final CampaignExistenceService campaignExistenceService;
+    private final Clock clock;
 
     @Transactional
     @Override
@@ -30,4 +41,33 @@ class InterrogationBatchApiService implements InterrogationBatchService {
     public void delete(@NonNull List<String> interrogationIds) {
         batchRepository.deleteAll(interrogationIds);
     }
-}
\ No newline at end of file
+
+    // each batch is committed by the repository, so a large load does not hold a single long transaction
+    @Override
+    public InterrogationBulkLoadBatch bulkLoadBatch(List<Interrogation> interrogations) {
+        long start = clock.millis();
+        interrogations.stream()
+                .map(interrogation -> Map.entry(interrogation.campaignId(), interrogation.questionnaireId()))
+                .distinct()
+                .forEach(campaignQuestionnaire -> campaignExistenceService.throwExceptionIfCampaignNotLinkedToQuestionnaire(
+                        campaignQuestionnaire.getKey(), campaignQuestionnaire.getValue()));
+
+        // an interrogation can only be merged once by statement, the last occurrence wins
+        Map<String, Interrogation> interrogationsById = new LinkedHashMap<>();
+        interrogations.forEach(interrogation -> interrogationsById.put(interrogation.id(), withStateDataDate(interrogation, start)));
+        InterrogationBulkLoadBatch batch = bulkLoadRepository.load(new ArrayList<>(interrogationsById.values()));
+        log.info("Bulk load: batch of {} interrogations loaded (copy: {} ms, merge: {} ms)",
+                batch.size(), batch.copyDurationMs(), batch.mergeDurationMs());
+        return batch;
+    }
+
+    private Interrogation withStateDataDate(Interrogation interrogation, long timestamp) {
+        StateData stateData = interrogation.stateData();
+        if (stateData == null || stateData.date() != null) {
+            return interrogation;
+        }
+        return new Interrogation(interrogation.id(), interrogation.surveyUnitId(), interrogation.campaignId(),
+                interrogation.questionnaireId(), interrogation.personalization(), interrogation.data(), interrogation.comment(),
+                new StateData(stateData.state(), timestamp, stateData.currentPage()));
+    }
+}
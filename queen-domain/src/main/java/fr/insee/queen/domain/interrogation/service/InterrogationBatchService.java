@@ -1,10 +1,20 @@
 package fr.insee.queen.domain.interrogation.service;
 
 import fr.insee.queen.domain.interrogation.model.Interrogation;
+import fr.insee.queen.domain.interrogation.model.InterrogationBulkLoadBatch;
 
 import java.util.List;
 
 public interface InterrogationBatchService {
     void saveInterrogations(List<Interrogation> interrogations);
     void delete(List<String> interrogationIds);
+
+    /**
+     * Create or update a batch of a large volume of interrogations. The batch is committed separately:
+     * batches loaded before a failure are kept. When an interrogation appears several times, the last one is loaded
+     *
+     * @param interrogations interrogations of the batch
+     * @return {@link InterrogationBulkLoadBatch} timings of the batch
+     */
+    InterrogationBulkLoadBatch bulkLoadBatch(List<Interrogation> interrogations);
 }
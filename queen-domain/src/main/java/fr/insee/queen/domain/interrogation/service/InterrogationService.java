@@ -1,11 +1,13 @@
 package fr.insee.queen.domain.interrogation.service;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.insee.queen.domain.common.paging.KeysetPage;
 import fr.insee.queen.domain.interrogation.model.*;
 import fr.insee.queen.domain.interrogation.service.exception.StateDataInvalidDateException;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface InterrogationService {
     boolean existsById(String interrogationId);
@@ -22,6 +24,15 @@ public interface InterrogationService {
 
     List<String> findAllInterrogationIds();
 
+    /**
+     * Retrieve a page of interrogation ids sorted by id
+     *
+     * @param afterId cursor: only ids greater than this one are retrieved (null to start from the beginning)
+     * @param limit max number of ids in the page
+     * @return {@link KeysetPage} page of interrogation ids
+     */
+    KeysetPage<String> findInterrogationIds(String afterId, int limit);
+
     void updateInterrogation(Interrogation interrogation);
 
     void updateInterrogation(String interrogationId, ObjectNode data, StateData stateData);
@@ -46,5 +57,23 @@ public interface InterrogationService {
 
     List<Interrogation> findAllInterrogations();
 
+    /**
+     * Push all interrogations one by one to a consumer, without loading them all in memory
+     *
+     * @param interrogationConsumer consumer receiving each interrogation
+     */
+    void streamAllInterrogations(Consumer<Interrogation> interrogationConsumer);
+
     List<InterrogationState> getInterrogations(String campaignId, StateDataType stateDataType);
+
+    /**
+     * Retrieve a page of interrogations of a campaign filtered by state, sorted by id
+     *
+     * @param campaignId campaign id
+     * @param stateDataType state to filter
+     * @param afterId cursor: only interrogations with an id greater than this one are retrieved (null to start from the beginning)
+     * @param limit max number of interrogations in the page
+     * @return {@link KeysetPage} page of interrogations
+     */
+    KeysetPage<InterrogationState> getInterrogations(String campaignId, StateDataType stateDataType, String afterId, int limit);
 }
@@ -38,27 +38,19 @@ public class StateDataApiService implements StateDataService {
     @Override
     @Transactional
     public void saveStateData(String interrogationId, StateData stateData, boolean verifyDate) throws StateDataInvalidDateException {
-        Optional<StateData> previousStateData = stateDataRepository.find(interrogationId);
-
         if(stateData.date() == null) {
             long timestamp = ZonedDateTime.now(clock).toInstant().toEpochMilli();
             stateData = new StateData(stateData.state(), timestamp, stateData.currentPage());
         }
 
-        if (previousStateData.isEmpty()) {
+        if (!verifyDate) {
             stateDataRepository.save(interrogationId, stateData);
             return;
         }
 
-        // update only if incoming state-data is newer and verifyDate is true
-        if (verifyDate) {
-            Long previousDate = previousStateData.get().date();
-            Long newDate = stateData.date();
-
-            if (previousDate != null && newDate.compareTo(previousDate) < 0) {
-                throw new StateDataInvalidDateException(INVALID_DATE_MESSAGE);
-            }
+        // update only if incoming state-data is newer, the date check is done by the repository when writing
+        if (!stateDataRepository.saveIfNotOlder(interrogationId, stateData)) {
+            throw new StateDataInvalidDateException(INVALID_DATE_MESSAGE);
         }
-        stateDataRepository.save(interrogationId, stateData);
     }
 }
@@ -2,8 +2,11 @@ package fr.insee.queen.domain.interrogationtempzone.gateway;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import fr.insee.queen.domain.interrogationtempzone.model.InterrogationTempZone;
+import fr.insee.queen.domain.interrogationtempzone.model.InterrogationTempZoneSummary;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Repository to handle interrogations in temp zone
@@ -14,5 +17,42 @@ public interface InterrogationTempZoneRepository {
 
     List<InterrogationTempZone> getAllInterrogations();
 
+    /**
+     * Find interrogations in temp zone without their payload, sorted by id
+     *
+     * @param userId user id filter (optional)
+     * @param dateFrom minimal save date (optional)
+     * @param dateTo maximal save date (optional)
+     * @param afterId only entries with an id greater than this one are retrieved
+     * @param limit max number of entries
+     * @return interrogations in temp zone
+     */
+    List<InterrogationTempZoneSummary> findSummaries(String userId, Long dateFrom, Long dateTo, UUID afterId, int limit);
+
+    /**
+     * Find an interrogation in temp zone with its payload
+     *
+     * @param id temp zone entry id
+     * @return the interrogation in temp zone
+     */
+    Optional<InterrogationTempZone> find(UUID id);
+
+    /**
+     * Save an interrogation in temp zone, replacing the previous save of the interrogation by the same user
+     *
+     * @param interrogationId interrogation id
+     * @param userId user id
+     * @param date save date
+     * @param interrogation interrogation payload
+     */
     void save(String interrogationId, String userId, Long date, ObjectNode interrogation);
+
+    /**
+     * Delete a batch of interrogations in temp zone saved before a date
+     *
+     * @param date save date
+     * @param limit max number of entries to delete
+     * @return number of deleted entries
+     */
+    int deleteOlderThan(Long date, int limit);
 }
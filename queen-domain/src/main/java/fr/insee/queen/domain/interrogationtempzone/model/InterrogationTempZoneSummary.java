@@ -0,0 +1,13 @@
+package fr.insee.queen.domain.interrogationtempzone.model;
+
+import java.util.UUID;
+
+/**
+ * Interrogation in temp zone without its payload
+ */
+public record InterrogationTempZoneSummary(
+        UUID id,
+        String interrogationId,
+        String userId,
+        Long date) {
+}
@@ -1,24 +1,36 @@
 package fr.insee.queen.domain.interrogationtempzone.service;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.insee.queen.domain.common.exception.EntityNotFoundException;
+import fr.insee.queen.domain.common.paging.KeysetPage;
 import fr.insee.queen.domain.interrogationtempzone.gateway.InterrogationTempZoneRepository;
 import fr.insee.queen.domain.interrogationtempzone.model.InterrogationTempZone;
+import fr.insee.queen.domain.interrogationtempzone.model.InterrogationTempZoneSummary;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Date;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
+import java.util.UUID;
 
 @Service
 @Slf4j
 @AllArgsConstructor
 public class InterrogationTempZoneApiService implements InterrogationTempZoneService {
     private final InterrogationTempZoneRepository interrogationTempZoneRepository;
+    private final Clock clock;
+
+    /**
+     * Lower than any uuid, used as cursor of the first page
+     */
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
 
     @Override
     public void saveInterrogationToTempZone(String interrogationId, String userId, ObjectNode interrogationData) {
-        Long date = new Date().getTime();
+        Long date = clock.millis();
         interrogationTempZoneRepository.save(interrogationId, userId, date, interrogationData);
     }
 
@@ -26,4 +38,35 @@ public class InterrogationTempZoneApiService implements InterrogationTempZoneSer
     public List<InterrogationTempZone> getAllInterrogationTempZone() {
         return interrogationTempZoneRepository.getAllInterrogations();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<InterrogationTempZoneSummary> getInterrogationTempZoneSummaries(String userId, Long dateFrom, Long dateTo, UUID afterId, int limit) {
+        List<InterrogationTempZoneSummary> summaries = interrogationTempZoneRepository.findSummaries(userId, dateFrom, dateTo,
+                afterId == null ? FIRST_ID : afterId, limit + 1);
+        return KeysetPage.of(summaries, limit, summary -> summary.id().toString());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public InterrogationTempZone getInterrogationTempZone(UUID id) {
+        return interrogationTempZoneRepository.find(id)
+                .orElseThrow(() -> new EntityNotFoundException(String.format("Interrogation in temp zone %s was not found", id)));
+    }
+
+    // each batch is deleted in its own transaction, so the purge never holds a long delete
+    @Override
+    public int deleteInterrogationsTempZone(Duration retention, int batchSize) {
+        long date = clock.millis() - retention.toMillis();
+        int deletedCount = 0;
+        int batchDeletedCount;
+        do {
+            batchDeletedCount = interrogationTempZoneRepository.deleteOlderThan(date, batchSize);
+            deletedCount += batchDeletedCount;
+        } while (batchDeletedCount == batchSize);
+        if (deletedCount > 0) {
+            log.info("{} interrogations purged from temp zone", deletedCount);
+        }
+        return deletedCount;
+    }
 }
@@ -1,12 +1,29 @@
 package fr.insee.queen.domain.interrogationtempzone.service;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.insee.queen.domain.common.paging.KeysetPage;
 import fr.insee.queen.domain.interrogationtempzone.model.InterrogationTempZone;
+import fr.insee.queen.domain.interrogationtempzone.model.InterrogationTempZoneSummary;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.UUID;
 
 public interface InterrogationTempZoneService {
     void saveInterrogationToTempZone(String interrogationId, String userId, ObjectNode interrogationData);
 
     List<InterrogationTempZone> getAllInterrogationTempZone();
+
+    KeysetPage<InterrogationTempZoneSummary> getInterrogationTempZoneSummaries(String userId, Long dateFrom, Long dateTo, UUID afterId, int limit);
+
+    InterrogationTempZone getInterrogationTempZone(UUID id);
+
+    /**
+     * Delete the interrogations saved in temp zone for longer than the retention, by batches
+     *
+     * @param retention retention of the interrogations in temp zone
+     * @param batchSize number of entries deleted by transaction
+     * @return number of deleted entries
+     */
+    int deleteInterrogationsTempZone(Duration retention, int batchSize);
 }
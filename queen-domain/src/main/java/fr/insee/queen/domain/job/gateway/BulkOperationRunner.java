@@ -0,0 +1,14 @@
+package fr.insee.queen.domain.job.gateway;
+
+/**
+ * Run background operations on the resources dedicated to bulk operations (dedicated connection pool, ...)
+ */
+@FunctionalInterface
+public interface BulkOperationRunner {
+    /**
+     * Run an operation as a bulk operation on the current thread
+     *
+     * @param operation operation to run
+     */
+    void run(Runnable operation);
+}
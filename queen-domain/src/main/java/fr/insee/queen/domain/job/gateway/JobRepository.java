@@ -0,0 +1,79 @@
+package fr.insee.queen.domain.job.gateway;
+
+import fr.insee.queen.domain.job.model.Job;
+import fr.insee.queen.domain.job.model.JobStatus;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface JobRepository {
+
+    /**
+     * Create a job
+     *
+     * @param job job to create
+     */
+    void create(Job job);
+
+    /**
+     * Create a job, unless it conflicts with an unfinished job of the same campaign
+     * (a campaign is deleted by only one job)
+     *
+     * @param job job to create
+     * @return true if the job was created
+     */
+    boolean createIfAbsent(Job job);
+
+    /**
+     * Find a job
+     *
+     * @param jobId job id
+     * @return the job
+     */
+    Optional<Job> find(UUID jobId);
+
+    /**
+     * Find jobs which are pending or running
+     *
+     * @return unfinished jobs
+     */
+    List<Job> findUnfinished();
+
+    /**
+     * Claim a job to run it. A job can be claimed if it is pending, or if it is running
+     * without progress since the stale date (the node running it has stopped).
+     * Once claimed, the progress of the job can only be saved with the claim token
+     *
+     * @param jobId job id
+     * @param claimToken token of the runner
+     * @param date claim date
+     * @param staleDate date before which a running job is considered stopped
+     * @return true if the job was claimed
+     */
+    boolean claim(UUID jobId, UUID claimToken, Long date, Long staleDate);
+
+    /**
+     * Save the progress of a job
+     *
+     * @param jobId job id
+     * @param claimToken token of the runner
+     * @param cursor id of the last processed interrogation
+     * @param processedCount number of processed interrogations
+     * @param date progress date
+     * @return false if the job was claimed by another runner, the progress is not saved
+     */
+    boolean updateProgress(UUID jobId, UUID claimToken, String cursor, long processedCount, Long date);
+
+    /**
+     * Finish a job
+     *
+     * @param jobId job id
+     * @param claimToken token of the runner
+     * @param status final status
+     * @param error error message, null if the job is completed
+     * @param date finish date
+     * @return false if the job was claimed by another runner, the job is not finished
+     */
+    boolean finish(UUID jobId, UUID claimToken, JobStatus status, String error, Long date);
+}
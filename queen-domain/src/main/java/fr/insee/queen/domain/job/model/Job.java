@@ -0,0 +1,37 @@
+package fr.insee.queen.domain.job.model;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.UUID;
+
+/**
+ * Background job processing interrogations by chunks, ordered by interrogation id
+ *
+ * @param id job id
+ * @param type job type
+ * @param campaignId campaign id
+ * @param parameters job parameters
+ * @param status job status
+ * @param cursor id of the last processed interrogation, the job resumes after it
+ * @param processedCount number of processed interrogations
+ * @param creationDate creation date
+ * @param updateDate date of the last progress
+ * @param error error message when the job failed
+ */
+public record Job(
+        UUID id,
+        JobType type,
+        String campaignId,
+        ObjectNode parameters,
+        JobStatus status,
+        String cursor,
+        long processedCount,
+        Long creationDate,
+        Long updateDate,
+        String error) {
+
+    public static Job create(JobType type, String campaignId, ObjectNode parameters, Long creationDate) {
+        return new Job(UUID.randomUUID(), type, campaignId, parameters, JobStatus.PENDING,
+                null, 0, creationDate, creationDate, null);
+    }
+}
@@ -0,0 +1,8 @@
+package fr.insee.queen.domain.job.model;
+
+public enum JobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
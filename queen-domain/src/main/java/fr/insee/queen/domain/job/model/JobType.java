@@ -0,0 +1,6 @@
+package fr.insee.queen.domain.job.model;
+
+public enum JobType {
+    CLEAN_EXTRACTED_DATA,
+    DELETE_CAMPAIGN
+}
@@ -0,0 +1,49 @@
+package fr.insee.queen.domain.job.service;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.insee.queen.domain.interrogation.gateway.InterrogationRepository;
+import fr.insee.queen.domain.job.model.Job;
+import fr.insee.queen.domain.job.model.JobType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Clean the data of the extracted interrogations of a campaign
+ */
+@Component
+@RequiredArgsConstructor
+class CleanExtractedDataJobHandler implements JobChunkHandler {
+
+    static final String START_TIMESTAMP = "startTimestamp";
+    static final String END_TIMESTAMP = "endTimestamp";
+
+    private final InterrogationRepository interrogationRepository;
+
+    static ObjectNode parameters(Long startTimestamp, Long endTimestamp) {
+        ObjectNode parameters = JsonNodeFactory.instance.objectNode();
+        parameters.put(START_TIMESTAMP, startTimestamp);
+        parameters.put(END_TIMESTAMP, endTimestamp);
+        return parameters;
+    }
+
+    @Override
+    public JobType type() {
+        return JobType.CLEAN_EXTRACTED_DATA;
+    }
+
+    @Override
+    public List<String> findNextIds(Job job, String afterId, int limit) {
+        return interrogationRepository.findExtractedIds(job.campaignId(),
+                job.parameters().get(START_TIMESTAMP).asLong(),
+                job.parameters().get(END_TIMESTAMP).asLong(),
+                afterId, limit);
+    }
+
+    @Override
+    public void process(Job job, List<String> interrogationIds) {
+        interrogationRepository.cleanData(interrogationIds);
+    }
+}
@@ -0,0 +1,45 @@
+package fr.insee.queen.domain.job.service;
+
+import fr.insee.queen.domain.campaign.service.CampaignService;
+import fr.insee.queen.domain.interrogation.gateway.InterrogationBatchRepository;
+import fr.insee.queen.domain.interrogation.gateway.InterrogationRepository;
+import fr.insee.queen.domain.job.model.Job;
+import fr.insee.queen.domain.job.model.JobType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Delete the interrogations of a campaign (child rows are deleted in cascade), then the campaign itself.
+ * Interrogations created while the job was running are deleted with the campaign.
+ * Caches are evicted once, when the campaign is deleted
+ */
+@Component
+@RequiredArgsConstructor
+class DeleteCampaignJobHandler implements JobChunkHandler {
+
+    private final InterrogationRepository interrogationRepository;
+    private final InterrogationBatchRepository interrogationBatchRepository;
+    private final CampaignService campaignService;
+
+    @Override
+    public JobType type() {
+        return JobType.DELETE_CAMPAIGN;
+    }
+
+    @Override
+    public List<String> findNextIds(Job job, String afterId, int limit) {
+        return interrogationRepository.findIdsByCampaignId(job.campaignId(), afterId, limit);
+    }
+
+    @Override
+    public void process(Job job, List<String> interrogationIds) {
+        interrogationBatchRepository.deleteAll(interrogationIds);
+    }
+
+    @Override
+    public void complete(Job job) {
+        campaignService.delete(job.campaignId());
+    }
+}
@@ -0,0 +1,156 @@
+package fr.insee.queen.domain.job.service;
+
+import fr.insee.queen.domain.campaign.service.CampaignExistenceService;
+import fr.insee.queen.domain.common.exception.EntityNotFoundException;
+import fr.insee.queen.domain.job.gateway.BulkOperationRunner;
+import fr.insee.queen.domain.job.gateway.JobRepository;
+import fr.insee.queen.domain.job.model.Job;
+import fr.insee.queen.domain.job.model.JobStatus;
+import fr.insee.queen.domain.job.model.JobType;
+import fr.insee.queen.domain.job.service.exception.JobClaimLostException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Run jobs in background by chunks of interrogations. Each chunk is committed with the job progress,
+ * and a throttle delay can be set between chunks to limit the load on the database.
+ * Jobs are run as bulk operations, away from the connections of interactive requests
+ */
+@Service
+@Slf4j
+class JobApiService implements JobService {
+
+    public static final String NOT_FOUND_MESSAGE = "Job %s was not found";
+    public static final String CAMPAIGN_NOT_FOUND_MESSAGE = "Campaign %s not found";
+    public static final String INVALID_THROTTLE_MESSAGE = "feature.jobs.throttle-delay (%s) must be lower than feature.jobs.stale-delay (%s)";
+
+    private final JobRepository jobRepository;
+    private final JobChunkService jobChunkService;
+    private final CampaignExistenceService campaignExistenceService;
+    private final Map<JobType, JobChunkHandler> handlers = new EnumMap<>(JobType.class);
+    private final TaskExecutor taskExecutor;
+    private final BulkOperationRunner bulkOperationRunner;
+    private final Clock clock;
+    private final int chunkSize;
+    private final Duration throttleDelay;
+    private final Duration staleDelay;
+
+    JobApiService(JobRepository jobRepository,
+                  JobChunkService jobChunkService,
+                  CampaignExistenceService campaignExistenceService,
+                  List<JobChunkHandler> handlers,
+                  // the scheduler of @Scheduled tasks is a task executor too
+                  @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                  BulkOperationRunner bulkOperationRunner,
+                  Clock clock,
+                  @Value("${feature.jobs.chunk-size:1000}") int chunkSize,
+                  @Value("${feature.jobs.throttle-delay:PT0S}") Duration throttleDelay,
+                  @Value("${feature.jobs.stale-delay:PT5M}") Duration staleDelay) {
+        // a job throttled longer than the stale delay would be claimed by another runner
+        if (throttleDelay.compareTo(staleDelay) >= 0) {
+            throw new IllegalArgumentException(String.format(INVALID_THROTTLE_MESSAGE, throttleDelay, staleDelay));
+        }
+        this.jobRepository = jobRepository;
+        this.jobChunkService = jobChunkService;
+        this.campaignExistenceService = campaignExistenceService;
+        handlers.forEach(handler -> this.handlers.put(handler.type(), handler));
+        this.taskExecutor = taskExecutor;
+        this.bulkOperationRunner = bulkOperationRunner;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        this.throttleDelay = throttleDelay;
+        this.staleDelay = staleDelay;
+    }
+
+    @Override
+    public Job startCleanExtractedData(String campaignId, Long startTimestamp, Long endTimestamp) {
+        Job job = Job.create(JobType.CLEAN_EXTRACTED_DATA, campaignId,
+                CleanExtractedDataJobHandler.parameters(startTimestamp, endTimestamp), clock.millis());
+        jobRepository.create(job);
+        submit(job.id());
+        return job;
+    }
+
+    @Override
+    public Job startCampaignDeletion(String campaignId) {
+        campaignExistenceService.throwExceptionIfCampaignNotExist(campaignId);
+        Job job = Job.create(JobType.DELETE_CAMPAIGN, campaignId, null, clock.millis());
+        // a campaign is deleted by only one job, even when deletions are requested concurrently
+        if (!jobRepository.createIfAbsent(job)) {
+            return jobRepository.findUnfinished().stream()
+                    .filter(runningJob -> runningJob.type() == JobType.DELETE_CAMPAIGN && campaignId.equals(runningJob.campaignId()))
+                    .findFirst()
+                    // the running deletion has just completed
+                    .orElseThrow(() -> new EntityNotFoundException(String.format(CAMPAIGN_NOT_FOUND_MESSAGE, campaignId)));
+        }
+        submit(job.id());
+        return job;
+    }
+
+    @Override
+    public Job getJob(UUID jobId) {
+        return jobRepository.find(jobId)
+                .orElseThrow(() -> new EntityNotFoundException(String.format(NOT_FOUND_MESSAGE, jobId)));
+    }
+
+    @Override
+    public void resumeJobs() {
+        jobRepository.findUnfinished()
+                .forEach(job -> submit(job.id()));
+    }
+
+    private void submit(UUID jobId) {
+        taskExecutor.execute(() -> bulkOperationRunner.run(() -> run(jobId)));
+    }
+
+    private void run(UUID jobId) {
+        long now = clock.millis();
+        UUID claimToken = UUID.randomUUID();
+        if (!jobRepository.claim(jobId, claimToken, now, now - staleDelay.toMillis())) {
+            return;
+        }
+        Job job = getJob(jobId);
+        JobChunkHandler handler = handlers.get(job.type());
+        String cursor = job.cursor() == null ? "" : job.cursor();
+        long processedCount = job.processedCount();
+        log.info("Job {} ({}) started after interrogation '{}'", jobId, job.type(), cursor);
+        try {
+            List<String> interrogationIds = handler.findNextIds(job, cursor, chunkSize);
+            while (!interrogationIds.isEmpty()) {
+                processedCount += interrogationIds.size();
+                jobChunkService.processChunk(job, claimToken, handler, interrogationIds, processedCount);
+                cursor = interrogationIds.getLast();
+                throttle();
+                interrogationIds = handler.findNextIds(job, cursor, chunkSize);
+            }
+            jobChunkService.complete(job, claimToken, handler);
+            log.info("Job {} ({}) completed, {} interrogations processed", jobId, job.type(), processedCount);
+        } catch (InterruptedException e) {
+            // the job stays running and will be resumed
+            log.warn("Job {} ({}) interrupted", jobId, job.type());
+            Thread.currentThread().interrupt();
+        } catch (JobClaimLostException e) {
+            // the job is run by the runner which claimed it since
+            log.warn("Job {} ({}) stopped: {}", jobId, job.type(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Job {} ({}) failed", jobId, job.type(), e);
+            jobRepository.finish(jobId, claimToken, JobStatus.FAILED, e.getMessage(), clock.millis());
+        }
+    }
+
+    private void throttle() throws InterruptedException {
+        if (!throttleDelay.isZero()) {
+            Thread.sleep(throttleDelay);
+        }
+    }
+}
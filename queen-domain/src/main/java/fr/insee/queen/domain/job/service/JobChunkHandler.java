@@ -0,0 +1,39 @@
+package fr.insee.queen.domain.job.service;
+
+import fr.insee.queen.domain.job.model.Job;
+import fr.insee.queen.domain.job.model.JobType;
+
+import java.util.List;
+
+/**
+ * Processing of a job type, by chunks of interrogation ids
+ */
+interface JobChunkHandler {
+
+    JobType type();
+
+    /**
+     * @param job job
+     * @param afterId id of the last processed interrogation
+     * @param limit max number of ids
+     * @return next interrogation ids to process, ordered by id
+     */
+    List<String> findNextIds(Job job, String afterId, int limit);
+
+    /**
+     * Process a chunk, in the transaction saving the job progress
+     *
+     * @param job job
+     * @param interrogationIds interrogation ids of the chunk
+     */
+    void process(Job job, List<String> interrogationIds);
+
+    /**
+     * Finish the job once all chunks are processed, in the transaction completing the job
+     *
+     * @param job job
+     */
+    default void complete(Job job) {
+        // nothing to do by default
+    }
+}
@@ -0,0 +1,43 @@
+package fr.insee.queen.domain.job.service;
+
+import fr.insee.queen.domain.job.gateway.JobRepository;
+import fr.insee.queen.domain.job.model.Job;
+import fr.insee.queen.domain.job.model.JobStatus;
+import fr.insee.queen.domain.job.service.exception.JobClaimLostException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Process a job chunk and save the job progress in the same transaction,
+ * so a resumed job restarts exactly after the last committed chunk.
+ * When the job was claimed by another runner, the chunk is rolled back
+ */
+@Service
+@RequiredArgsConstructor
+class JobChunkService {
+
+    private final JobRepository jobRepository;
+    private final Clock clock;
+
+    @Transactional
+    public void processChunk(Job job, UUID claimToken, JobChunkHandler handler, List<String> interrogationIds, long processedCount) {
+        handler.process(job, interrogationIds);
+        if (!jobRepository.updateProgress(job.id(), claimToken, interrogationIds.getLast(), processedCount, clock.millis())) {
+            throw new JobClaimLostException(job.id());
+        }
+    }
+
+    @Transactional
+    public void complete(Job job, UUID claimToken, JobChunkHandler handler) {
+        // checked first, so a job claimed by another runner is not completed twice
+        if (!jobRepository.finish(job.id(), claimToken, JobStatus.COMPLETED, null, clock.millis())) {
+            throw new JobClaimLostException(job.id());
+        }
+        handler.complete(job);
+    }
+}
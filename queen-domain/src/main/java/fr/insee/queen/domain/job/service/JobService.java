@@ -0,0 +1,40 @@
+package fr.insee.queen.domain.job.service;
+
+import fr.insee.queen.domain.job.model.Job;
+
+import java.util.UUID;
+
+public interface JobService {
+
+    /**
+     * Start a job cleaning the data of the extracted interrogations of a campaign
+     *
+     * @param campaignId campaign id
+     * @param startTimestamp start timestamp of the extraction
+     * @param endTimestamp end timestamp of the extraction
+     * @return the created job
+     */
+    Job startCleanExtractedData(String campaignId, Long startTimestamp, Long endTimestamp);
+
+    /**
+     * Start a job deleting a campaign: interrogations are deleted by chunks,
+     * then questionnaires and campaign are deleted. If the campaign is already being deleted, the current job is returned
+     *
+     * @param campaignId campaign id
+     * @return the deletion job
+     */
+    Job startCampaignDeletion(String campaignId);
+
+    /**
+     * Retrieve a job
+     *
+     * @param jobId job id
+     * @return the job
+     */
+    Job getJob(UUID jobId);
+
+    /**
+     * Run the pending jobs, and the running jobs whose node has stopped
+     */
+    void resumeJobs();
+}
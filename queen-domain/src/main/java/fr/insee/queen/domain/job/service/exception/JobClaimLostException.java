@@ -0,0 +1,11 @@
+package fr.insee.queen.domain.job.service.exception;
+
+import java.util.UUID;
+
+public class JobClaimLostException extends RuntimeException {
+    public static final String MESSAGE = "Job %s was claimed by another runner";
+
+    public JobClaimLostException(UUID jobId) {
+        super(String.format(MESSAGE, jobId));
+    }
+}
@@ -3,6 +3,8 @@ package fr.insee.queen.domain.paradata.gateway;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import fr.insee.queen.domain.interrogation.model.InterrogationSummary;
 
+import java.util.List;
+
 public interface ParadataEventRepository {
     /**
      * Create paradata for an interrogation
@@ -11,4 +13,12 @@ public interface ParadataEventRepository {
      * @param interrogationSummary interrogation summary
      */
     void createParadataEvent(InterrogationSummary interrogationSummary, ObjectNode paradataValue);
+
+    /**
+     * Create several paradata events for an interrogation
+     *
+     * @param interrogationSummary interrogation summary
+     * @param paradataValues paradata values (json format)
+     */
+    void createParadataEvents(InterrogationSummary interrogationSummary, List<ObjectNode> paradataValues);
 }
@@ -7,6 +7,8 @@ import fr.insee.queen.domain.paradata.gateway.ParadataEventRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @AllArgsConstructor
 public class ParadataEventApiService implements ParadataEventService {
@@ -19,4 +21,10 @@ public class ParadataEventApiService implements ParadataEventService {
         InterrogationSummary interrogationSummary = interrogationService.getSummaryById(interrogationId);
         paradataEventRepository.createParadataEvent(interrogationSummary, paradataValue);
     }
+
+    @Override
+    public void createParadataEvents(String interrogationId, List<ObjectNode> paradataValues) {
+        InterrogationSummary interrogationSummary = interrogationService.getSummaryById(interrogationId);
+        paradataEventRepository.createParadataEvents(interrogationSummary, paradataValues);
+    }
 }
@@ -2,6 +2,10 @@ package fr.insee.queen.domain.paradata.service;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import java.util.List;
+
 public interface ParadataEventService {
     void createParadataEvent(String interrogationId, ObjectNode paradataValue);
+
+    void createParadataEvents(String interrogationId, List<ObjectNode> paradataValues);
 }
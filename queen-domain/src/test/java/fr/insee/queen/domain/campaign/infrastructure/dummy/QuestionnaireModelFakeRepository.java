@@ -3,6 +3,7 @@ package fr.insee.queen.domain.campaign.infrastructure.dummy;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import fr.insee.queen.domain.campaign.gateway.QuestionnaireModelRepository;
 import fr.insee.queen.domain.campaign.model.QuestionnaireModel;
+import fr.insee.queen.domain.common.json.RawJson;
 import lombok.Setter;
 
 import java.util.List;
@@ -24,6 +25,11 @@ public class QuestionnaireModelFakeRepository implements QuestionnaireModelRepos
         return Optional.empty();
     }
 
+    @Override
+    public Optional<RawJson> findRawQuestionnaireData(String questionnaireId) {
+        return Optional.empty();
+    }
+
     @Override
     public boolean exists(String questionnaireId) {
         return questionnaireExists;
@@ -48,9 +54,4 @@ public class QuestionnaireModelFakeRepository implements QuestionnaireModelRepos
     public void deleteAllFromCampaign(String campaignId) {
         // not used at this moment
     }
-
-    @Override
-    public List<ObjectNode> findAllQuestionnaireDatas(String campaignId) {
-        return null;
-    }
 }
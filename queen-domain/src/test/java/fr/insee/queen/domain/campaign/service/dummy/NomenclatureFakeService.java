@@ -1,6 +1,7 @@
 package fr.insee.queen.domain.campaign.service.dummy;
 
 import fr.insee.queen.domain.campaign.service.NomenclatureService;
+import fr.insee.queen.domain.common.json.SerializedJson;
 import fr.insee.queen.domain.campaign.model.Nomenclature;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -23,6 +24,11 @@ public class NomenclatureFakeService implements NomenclatureService {
         return null;
     }
 
+    @Override
+    public SerializedJson getSerializedNomenclature(String id) {
+        return null;
+    }
+
     @Override
     public boolean existsById(String id) {
         return !nonExistingNomenclatures.contains(id);
@@ -0,0 +1,24 @@
+package fr.insee.queen.domain.interrogation.infrastructure.dummy;
+
+import fr.insee.queen.domain.interrogation.gateway.InterrogationBatchRepository;
+import fr.insee.queen.domain.interrogation.model.Interrogation;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class InterrogationBatchFakeDao implements InterrogationBatchRepository {
+
+    @Getter
+    private final List<String> deletedIds = new ArrayList<>();
+
+    @Override
+    public void upsertAll(List<Interrogation> interrogations) {
+        // not used at this moment for unit tests
+    }
+
+    @Override
+    public void deleteAll(List<String> interrogationIds) {
+        deletedIds.addAll(interrogationIds);
+    }
+}
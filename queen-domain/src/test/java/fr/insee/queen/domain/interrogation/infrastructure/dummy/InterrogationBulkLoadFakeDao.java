@@ -0,0 +1,21 @@
+package fr.insee.queen.domain.interrogation.infrastructure.dummy;
+
+import fr.insee.queen.domain.interrogation.gateway.InterrogationBulkLoadRepository;
+import fr.insee.queen.domain.interrogation.model.Interrogation;
+import fr.insee.queen.domain.interrogation.model.InterrogationBulkLoadBatch;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class InterrogationBulkLoadFakeDao implements InterrogationBulkLoadRepository {
+
+    @Getter
+    private final List<List<Interrogation>> batchesLoaded = new ArrayList<>();
+
+    @Override
+    public InterrogationBulkLoadBatch load(List<Interrogation> interrogations) {
+        batchesLoaded.add(List.copyOf(interrogations));
+        return new InterrogationBulkLoadBatch(interrogations.size(), 1L, 2L);
+    }
+}
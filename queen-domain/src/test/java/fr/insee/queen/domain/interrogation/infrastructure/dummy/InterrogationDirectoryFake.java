@@ -0,0 +1,41 @@
+package fr.insee.queen.domain.interrogation.infrastructure.dummy;
+
+import fr.insee.queen.domain.interrogation.gateway.InterrogationDirectory;
+import fr.insee.queen.domain.interrogation.model.InterrogationSummary;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+public class InterrogationDirectoryFake implements InterrogationDirectory {
+
+    @Setter
+    private boolean loaded = true;
+
+    @Getter
+    private final Map<String, InterrogationSummary> summaries = new HashMap<>();
+
+    @Override
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    @Override
+    public boolean exists(String interrogationId, Function<String, Optional<InterrogationSummary>> loader) {
+        return findSummary(interrogationId, loader).isPresent();
+    }
+
+    @Override
+    public Optional<InterrogationSummary> findSummary(String interrogationId, Function<String, Optional<InterrogationSummary>> loader) {
+        InterrogationSummary summary = summaries.get(interrogationId);
+        if (summary != null) {
+            return Optional.of(summary);
+        }
+        Optional<InterrogationSummary> loadedSummary = loader.apply(interrogationId);
+        loadedSummary.ifPresent(value -> summaries.put(interrogationId, value));
+        return loadedSummary;
+    }
+}
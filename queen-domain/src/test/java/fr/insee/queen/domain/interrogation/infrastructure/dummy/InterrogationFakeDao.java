@@ -2,6 +2,7 @@ package fr.insee.queen.domain.interrogation.infrastructure.dummy;
 
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.insee.queen.domain.common.json.RawJson;
 import fr.insee.queen.domain.interrogation.gateway.InterrogationRepository;
 import fr.insee.queen.domain.interrogation.model.*;
 import lombok.Getter;
@@ -9,6 +10,7 @@ import lombok.Setter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 import java.util.Optional;
 
 public class InterrogationFakeDao implements InterrogationRepository {
@@ -28,6 +30,15 @@ public class InterrogationFakeDao implements InterrogationRepository {
     @Setter
     private boolean interrogationExist = true;
 
+    @Setter
+    private List<String> interrogationIds = new ArrayList<>();
+
+    @Setter
+    private List<String> extractedIds = new ArrayList<>();
+
+    @Getter
+    private final List<String> cleanedIds = new ArrayList<>();
+
     @Override
     public Optional<InterrogationSummary> findSummaryById(String interrogationId) {
         return Optional.empty();
@@ -64,11 +75,25 @@ public class InterrogationFakeDao implements InterrogationRepository {
         return Optional.empty();
     }
 
+    @Override
+    public List<String> findIds(String afterId, int limit) {
+        return interrogationIds.stream()
+                .sorted()
+                .filter(id -> id.compareTo(afterId) > 0)
+                .limit(limit)
+                .toList();
+    }
+
     @Override
     public List<InterrogationState> findAllByState(String campaignId, StateDataType stateDataType) {
         return null;
     }
 
+    @Override
+    public List<InterrogationState> findAllByState(String campaignId, StateDataType stateDataType, String afterId, int limit) {
+        return null;
+    }
+
     @Override
     public List<InterrogationState> findAllWithStateByIdIn(List<String> interrogationIds) {
         return null;
@@ -119,6 +144,11 @@ public class InterrogationFakeDao implements InterrogationRepository {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<RawJson> findRawData(String interrogationId) {
+        return Optional.empty();
+    }
+
     @Override
     public InterrogationPersonalization getInterrogationPersonalization(String interrogationId) {
         return interrogationPersonalization;
@@ -149,8 +179,36 @@ public class InterrogationFakeDao implements InterrogationRepository {
         return null;
     }
 
+    @Override
+    public Stream<Interrogation> streamAll() {
+        return Stream.empty();
+    }
+
     @Override
     public void cleanExtractedData(String campaignId, Long startTimestamp, Long endTimestamp) {
         // not used at this moment
     }
+
+    @Override
+    public List<String> findIdsByCampaignId(String campaignId, String afterId, int limit) {
+        return interrogationIds.stream()
+                .filter(id -> id.compareTo(afterId) > 0)
+                .sorted()
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<String> findExtractedIds(String campaignId, Long startTimestamp, Long endTimestamp, String afterId, int limit) {
+        return extractedIds.stream()
+                .filter(id -> id.compareTo(afterId) > 0)
+                .sorted()
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public void cleanData(List<String> interrogationIds) {
+        cleanedIds.addAll(interrogationIds);
+    }
 }
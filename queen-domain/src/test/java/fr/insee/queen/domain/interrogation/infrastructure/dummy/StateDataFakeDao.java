@@ -33,6 +33,18 @@ public class StateDataFakeDao implements StateDataRepository {
         stateDataSaved = stateData;
     }
 
+    @Override
+    public boolean saveIfNotOlder(String interrogationId, StateData stateData) {
+        Optional<StateData> previousStateData = find(interrogationId);
+        if (previousStateData.isPresent()
+                && previousStateData.get().date() != null
+                && stateData.date() < previousStateData.get().date()) {
+            return false;
+        }
+        save(interrogationId, stateData);
+        return true;
+    }
+
     @Override
     public void create(String interrogationId, StateData stateData) {
         // not implemented yet
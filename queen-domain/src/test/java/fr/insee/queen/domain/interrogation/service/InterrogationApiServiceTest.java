@@ -7,6 +7,8 @@ import fr.insee.queen.domain.campaign.model.CampaignSummary;
 import fr.insee.queen.domain.campaign.service.dummy.CampaignExistenceFakeService;
 import fr.insee.queen.domain.common.exception.EntityAlreadyExistException;
 import fr.insee.queen.domain.common.exception.EntityNotFoundException;
+import fr.insee.queen.domain.common.paging.KeysetPage;
+import fr.insee.queen.domain.interrogation.infrastructure.dummy.InterrogationDirectoryFake;
 import fr.insee.queen.domain.interrogation.infrastructure.dummy.InterrogationFakeDao;
 import fr.insee.queen.domain.interrogation.model.*;
 import fr.insee.queen.domain.interrogation.service.dummy.DataFakeService;
@@ -22,6 +24,7 @@ import org.springframework.cache.CacheManager;
 import org.springframework.cache.support.NoOpCacheManager;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -48,7 +51,7 @@ class InterrogationApiServiceTest {
         dataFakeService = new DataFakeService();
         metadataFakeService = new MetadataFakeService();
         interrogationApiService = new InterrogationApiService(interrogationFakeDao, stateDataFakeService, dataFakeService,
-                campaignExistenceFakeService, metadataFakeService, cacheManager);
+                campaignExistenceFakeService, metadataFakeService, cacheManager, Optional.empty());
     }
 
     @Test
@@ -239,4 +242,47 @@ class InterrogationApiServiceTest {
         assertThat(interrogationSummaries).hasSize(1);
         assertThat(interrogationSummaries.getFirst().surveyUnitId()).isEqualTo("survey-unit-id1");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("On retrieving a page of interrogation ids, return the next cursor when more ids exist")
+    void testFindInterrogationIds01() {
+        interrogationFakeDao.setInterrogationIds(List.of("id-3", "id-1", "id-2", "id-4"));
+
+        KeysetPage<String> page = interrogationApiService.findInterrogationIds(null, 2);
+        assertThat(page.content()).containsExactly("id-1", "id-2");
+        assertThat(page.nextCursor()).isEqualTo("id-2");
+
+        page = interrogationApiService.findInterrogationIds(page.nextCursor(), 2);
+        assertThat(page.content()).containsExactly("id-3", "id-4");
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("When the interrogation directory is loaded, retrieve summaries from the directory")
+    void testInterrogationDirectory01() {
+        InterrogationDirectoryFake interrogationDirectory = new InterrogationDirectoryFake();
+        InterrogationSummary interrogationSummary = new InterrogationSummary("11", "survey-unit-id-11", QUESTIONNAIRE_ID,
+                new CampaignSummary(CAMPAIGN_ID, "label", null));
+        interrogationDirectory.getSummaries().put("11", interrogationSummary);
+        interrogationApiService = new InterrogationApiService(interrogationFakeDao, stateDataFakeService, dataFakeService,
+                campaignExistenceFakeService, metadataFakeService, new NoOpCacheManager(), Optional.of(interrogationDirectory));
+
+        assertThat(interrogationApiService.findSummaryById("11")).contains(interrogationSummary);
+        assertThat(interrogationApiService.existsById("11")).isTrue();
+        // not in the directory, the repository does not find it either
+        assertThat(interrogationApiService.existsById("12")).isFalse();
+    }
+
+    @Test
+    @DisplayName("When the interrogation directory is not loaded yet, retrieve summaries from the repository")
+    void testInterrogationDirectory02() {
+        InterrogationDirectoryFake interrogationDirectory = new InterrogationDirectoryFake();
+        interrogationDirectory.setLoaded(false);
+        interrogationDirectory.getSummaries().put("11", new InterrogationSummary("11", "survey-unit-id-11", QUESTIONNAIRE_ID,
+                new CampaignSummary(CAMPAIGN_ID, "label", null)));
+        interrogationApiService = new InterrogationApiService(interrogationFakeDao, stateDataFakeService, dataFakeService,
+                campaignExistenceFakeService, metadataFakeService, new NoOpCacheManager(), Optional.of(interrogationDirectory));
+
+        assertThat(interrogationApiService.findSummaryById("11")).isEmpty();
+    }
+}
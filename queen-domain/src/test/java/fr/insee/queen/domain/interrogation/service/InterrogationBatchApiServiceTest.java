@@ -0,0 +1,71 @@
+package fr.insee.queen.domain.interrogation.service;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import fr.insee.queen.domain.campaign.service.dummy.CampaignExistenceFakeService;
+import fr.insee.queen.domain.interrogation.infrastructure.dummy.InterrogationBatchFakeDao;
+import fr.insee.queen.domain.interrogation.infrastructure.dummy.InterrogationBulkLoadFakeDao;
+import fr.insee.queen.domain.interrogation.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InterrogationBatchApiServiceTest {
+
+    private InterrogationBatchApiService interrogationBatchService;
+    private InterrogationBulkLoadFakeDao bulkLoadFakeDao;
+    private CampaignExistenceFakeService campaignExistenceFakeService;
+    private final Clock fixedClock = Clock.fixed(Instant.ofEpochSecond(1740601599), ZoneId.systemDefault());
+
+    @BeforeEach
+    void init() {
+        bulkLoadFakeDao = new InterrogationBulkLoadFakeDao();
+        campaignExistenceFakeService = new CampaignExistenceFakeService();
+        interrogationBatchService = new InterrogationBatchApiService(new InterrogationBatchFakeDao(), bulkLoadFakeDao,
+                campaignExistenceFakeService, fixedClock);
+    }
+
+    @Test
+    @DisplayName("On bulk loading a batch, the campaign and questionnaires are checked and the batch is loaded")
+    void testBulkLoad01() {
+        List<Interrogation> interrogations = IntStream.range(0, 10)
+                .mapToObj(index -> createInterrogation("id-" + index, null))
+                .toList();
+
+        InterrogationBulkLoadBatch batch = interrogationBatchService.bulkLoadBatch(interrogations);
+
+        assertThat(campaignExistenceFakeService.isCheckCampaignLinkedToQuestionnaire()).isTrue();
+        assertThat(batch.size()).isEqualTo(10);
+        assertThat(bulkLoadFakeDao.getBatchesLoaded()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("On bulk loading interrogations, duplicated ids keep the last interrogation and state data date is set")
+    void testBulkLoad02() {
+        List<Interrogation> interrogations = List.of(
+                createInterrogation("id-1", null),
+                createInterrogation("id-2", null),
+                createInterrogation("id-1", new StateData(StateDataType.INIT, null, "1")));
+
+        interrogationBatchService.bulkLoadBatch(interrogations);
+
+        List<Interrogation> loaded = bulkLoadFakeDao.getBatchesLoaded().getFirst();
+        assertThat(loaded).extracting(Interrogation::id).containsExactly("id-1", "id-2");
+        assertThat(loaded.getFirst().stateData().date()).isEqualTo(fixedClock.millis());
+    }
+
+    private Interrogation createInterrogation(String id, StateData stateData) {
+        return new Interrogation(id, "survey-unit-" + id, "campaign-id", "questionnaire-id",
+                JsonNodeFactory.instance.arrayNode(),
+                JsonNodeFactory.instance.objectNode(),
+                null,
+                stateData);
+    }
+}
@@ -96,4 +96,13 @@ class StateDataApiServiceTest {
         stateDataService.saveStateData(interrogationId, stateDataUpdate, false);
         assertThat(stateDataUpdate).isEqualTo(stateDataDao.getStateDataSaved());
     }
+
+    @Test
+    @DisplayName("On saving new state data with date verification, when previous state data doesn't exist, save new state data")
+    void testSave05() throws StateDataInvalidDateException {
+        stateDataDao.setHasEmptyStateData(true);
+        StateData stateDataUpdate = new StateData(StateDataType.VALIDATED, 800000L, "5");
+        stateDataService.saveStateData(interrogationId, stateDataUpdate, true);
+        assertThat(stateDataDao.getStateDataSaved()).isEqualTo(stateDataUpdate);
+    }
 }
@@ -2,6 +2,7 @@ package fr.insee.queen.domain.interrogation.service.dummy;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.insee.queen.domain.common.json.RawJson;
 import fr.insee.queen.domain.interrogation.service.DataService;
 import lombok.Getter;
 
@@ -14,6 +15,11 @@ public class DataFakeService implements DataService {
         return null;
     }
 
+    @Override
+    public RawJson getRawData(String interrogationId) {
+        return null;
+    }
+
     @Override
     public void saveData(String interrogationId, ObjectNode dataValue) {
         dataSaved = dataValue;
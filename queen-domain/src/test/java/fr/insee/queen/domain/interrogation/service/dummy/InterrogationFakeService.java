@@ -4,12 +4,14 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import fr.insee.queen.domain.campaign.model.CampaignSensitivity;
 import fr.insee.queen.domain.campaign.model.CampaignSummary;
 import fr.insee.queen.domain.common.exception.EntityNotFoundException;
+import fr.insee.queen.domain.common.paging.KeysetPage;
 import fr.insee.queen.domain.interrogation.model.*;
 import fr.insee.queen.domain.interrogation.service.InterrogationService;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.Optional;
 
 public class InterrogationFakeService implements InterrogationService {
@@ -137,8 +139,23 @@ public class InterrogationFakeService implements InterrogationService {
         );
     }
 
+    @Override
+    public void streamAllInterrogations(Consumer<Interrogation> interrogationConsumer) {
+        findAllInterrogations().forEach(interrogationConsumer);
+    }
+
     @Override
     public List<InterrogationState> getInterrogations(String campaignId, StateDataType stateDataType) {
         return null;
     }
+
+    @Override
+    public KeysetPage<InterrogationState> getInterrogations(String campaignId, StateDataType stateDataType, String afterId, int limit) {
+        return null;
+    }
+
+    @Override
+    public KeysetPage<String> findInterrogationIds(String afterId, int limit) {
+        return null;
+    }
 }
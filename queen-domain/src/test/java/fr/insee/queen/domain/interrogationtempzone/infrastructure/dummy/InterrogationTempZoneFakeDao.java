@@ -0,0 +1,63 @@
+package fr.insee.queen.domain.interrogationtempzone.infrastructure.dummy;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.insee.queen.domain.interrogationtempzone.gateway.InterrogationTempZoneRepository;
+import fr.insee.queen.domain.interrogationtempzone.model.InterrogationTempZone;
+import fr.insee.queen.domain.interrogationtempzone.model.InterrogationTempZoneSummary;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public class InterrogationTempZoneFakeDao implements InterrogationTempZoneRepository {
+    @Getter
+    private final List<InterrogationTempZone> interrogations = new ArrayList<>();
+    @Getter
+    private int deleteCount = 0;
+
+    @Override
+    public List<InterrogationTempZone> getAllInterrogations() {
+        return interrogations;
+    }
+
+    @Override
+    public List<InterrogationTempZoneSummary> findSummaries(String userId, Long dateFrom, Long dateTo, UUID afterId, int limit) {
+        return interrogations.stream()
+                .filter(interrogation -> interrogation.id().compareTo(afterId) > 0)
+                .filter(interrogation -> userId == null || userId.equals(interrogation.userId()))
+                .filter(interrogation -> dateFrom == null || interrogation.date() >= dateFrom)
+                .filter(interrogation -> dateTo == null || interrogation.date() <= dateTo)
+                .sorted(Comparator.comparing(InterrogationTempZone::id))
+                .limit(limit)
+                .map(interrogation -> new InterrogationTempZoneSummary(interrogation.id(), interrogation.interrogationId(),
+                        interrogation.userId(), interrogation.date()))
+                .toList();
+    }
+
+    @Override
+    public Optional<InterrogationTempZone> find(UUID id) {
+        return interrogations.stream()
+                .filter(interrogation -> interrogation.id().equals(id))
+                .findFirst();
+    }
+
+    @Override
+    public void save(String interrogationId, String userId, Long date, ObjectNode interrogation) {
+        interrogations.removeIf(saved -> saved.interrogationId().equals(interrogationId) && saved.userId().equals(userId));
+        interrogations.add(new InterrogationTempZone(UUID.randomUUID(), interrogationId, userId, date, interrogation));
+    }
+
+    @Override
+    public int deleteOlderThan(Long date, int limit) {
+        List<InterrogationTempZone> deletedInterrogations = interrogations.stream()
+                .filter(interrogation -> interrogation.date() < date)
+                .limit(limit)
+                .toList();
+        interrogations.removeAll(deletedInterrogations);
+        deleteCount++;
+        return deletedInterrogations.size();
+    }
+}
@@ -0,0 +1,124 @@
+package fr.insee.queen.domain.interrogationtempzone.service;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import fr.insee.queen.domain.common.exception.EntityNotFoundException;
+import fr.insee.queen.domain.common.paging.KeysetPage;
+import fr.insee.queen.domain.interrogationtempzone.infrastructure.dummy.InterrogationTempZoneFakeDao;
+import fr.insee.queen.domain.interrogationtempzone.model.InterrogationTempZone;
+import fr.insee.queen.domain.interrogationtempzone.model.InterrogationTempZoneSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InterrogationTempZoneApiServiceTest {
+
+    private InterrogationTempZoneApiService service;
+    private InterrogationTempZoneFakeDao interrogationTempZoneFakeDao;
+    private final Instant now = Instant.ofEpochSecond(1740601599);
+
+    @BeforeEach
+    void init() {
+        interrogationTempZoneFakeDao = new InterrogationTempZoneFakeDao();
+        service = new InterrogationTempZoneApiService(interrogationTempZoneFakeDao, Clock.fixed(now, ZoneId.systemDefault()));
+    }
+
+    @Test
+    @DisplayName("On listing interrogations in temp zone, entries are filtered by user and paginated")
+    void testGetSummaries01() {
+        // given
+        UUID id1 = new UUID(0L, 1L);
+        UUID id2 = new UUID(0L, 2L);
+        UUID id3 = new UUID(0L, 3L);
+        interrogationTempZoneFakeDao.getInterrogations().addAll(List.of(
+                tempZone(id3, "user1", 10L),
+                tempZone(id1, "user1", 10L),
+                tempZone(id2, "user2", 10L),
+                tempZone(new UUID(0L, 4L), "user1", 10L)));
+
+        // when
+        KeysetPage<InterrogationTempZoneSummary> firstPage = service.getInterrogationTempZoneSummaries("user1", null, null, null, 2);
+        KeysetPage<InterrogationTempZoneSummary> lastPage = service.getInterrogationTempZoneSummaries("user1", null, null, id3, 2);
+
+        // then
+        assertThat(firstPage.content()).extracting(InterrogationTempZoneSummary::id).containsExactly(id1, id3);
+        assertThat(firstPage.nextCursor()).isEqualTo(id3.toString());
+        assertThat(lastPage.content()).extracting(InterrogationTempZoneSummary::id).containsExactly(new UUID(0L, 4L));
+        assertThat(lastPage.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("On saving the same interrogation twice by the same user, only the last save is kept")
+    void testSave01() {
+        // when
+        service.saveInterrogationToTempZone("interrogation-id", "user1", JsonNodeFactory.instance.objectNode().put("save", 1));
+        service.saveInterrogationToTempZone("interrogation-id", "user1", JsonNodeFactory.instance.objectNode().put("save", 2));
+
+        // then
+        assertThat(interrogationTempZoneFakeDao.getInterrogations()).singleElement()
+                .satisfies(saved -> {
+                    assertThat(saved.interrogation().get("save").intValue()).isEqualTo(2);
+                    assertThat(saved.date()).isEqualTo(now.toEpochMilli());
+                });
+    }
+
+    @Test
+    @DisplayName("On purging the temp zone, entries older than the retention are deleted")
+    void testDelete01() {
+        // given
+        long retentionLimit = now.minus(Duration.ofDays(30)).toEpochMilli();
+        interrogationTempZoneFakeDao.getInterrogations().addAll(List.of(
+                tempZone(UUID.randomUUID(), "user1", retentionLimit - 1),
+                tempZone(UUID.randomUUID(), "user1", retentionLimit)));
+
+        // when
+        int deletedCount = service.deleteInterrogationsTempZone(Duration.ofDays(30), 100);
+
+        // then
+        assertThat(deletedCount).isEqualTo(1);
+        assertThat(interrogationTempZoneFakeDao.getInterrogations()).singleElement()
+                .extracting(InterrogationTempZone::date).isEqualTo(retentionLimit);
+    }
+
+    @Test
+    @DisplayName("On purging the temp zone, entries are deleted by batches")
+    void testDelete02() {
+        // given
+        long retentionLimit = now.minus(Duration.ofDays(30)).toEpochMilli();
+        interrogationTempZoneFakeDao.getInterrogations().addAll(List.of(
+                tempZone(UUID.randomUUID(), "user1", retentionLimit - 3),
+                tempZone(UUID.randomUUID(), "user2", retentionLimit - 2),
+                tempZone(UUID.randomUUID(), "user3", retentionLimit - 1),
+                tempZone(UUID.randomUUID(), "user4", retentionLimit)));
+
+        // when
+        int deletedCount = service.deleteInterrogationsTempZone(Duration.ofDays(30), 2);
+
+        // then
+        assertThat(deletedCount).isEqualTo(3);
+        assertThat(interrogationTempZoneFakeDao.getDeleteCount()).isEqualTo(2);
+        assertThat(interrogationTempZoneFakeDao.getInterrogations()).singleElement()
+                .extracting(InterrogationTempZone::date).isEqualTo(retentionLimit);
+    }
+
+    @Test
+    @DisplayName("On retrieving an unknown interrogation in temp zone, throw exception")
+    void testGet01() {
+        UUID id = UUID.randomUUID();
+        assertThatThrownBy(() -> service.getInterrogationTempZone(id))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private InterrogationTempZone tempZone(UUID id, String userId, Long date) {
+        return new InterrogationTempZone(id, "interrogation-" + id, userId, date, JsonNodeFactory.instance.objectNode());
+    }
+}
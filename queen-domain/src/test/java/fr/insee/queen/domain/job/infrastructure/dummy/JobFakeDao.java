@@ -0,0 +1,77 @@
+package fr.insee.queen.domain.job.infrastructure.dummy;
+
+import fr.insee.queen.domain.job.gateway.JobRepository;
+import fr.insee.queen.domain.job.model.Job;
+import fr.insee.queen.domain.job.model.JobStatus;
+
+import java.util.*;
+
+public class JobFakeDao implements JobRepository {
+
+    private final Map<UUID, Job> jobs = new LinkedHashMap<>();
+    private final Map<UUID, UUID> claimTokens = new HashMap<>();
+
+    @Override
+    public void create(Job job) {
+        jobs.put(job.id(), job);
+    }
+
+    @Override
+    public boolean createIfAbsent(Job job) {
+        boolean conflict = findUnfinished().stream()
+                .anyMatch(unfinishedJob -> unfinishedJob.type() == job.type()
+                        && Objects.equals(unfinishedJob.campaignId(), job.campaignId()));
+        if (conflict) {
+            return false;
+        }
+        create(job);
+        return true;
+    }
+
+    @Override
+    public Optional<Job> find(UUID jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    @Override
+    public List<Job> findUnfinished() {
+        return jobs.values().stream()
+                .filter(job -> job.status() == JobStatus.PENDING || job.status() == JobStatus.RUNNING)
+                .toList();
+    }
+
+    @Override
+    public boolean claim(UUID jobId, UUID claimToken, Long date, Long staleDate) {
+        Job job = jobs.get(jobId);
+        boolean claimable = job.status() == JobStatus.PENDING
+                || (job.status() == JobStatus.RUNNING && job.updateDate() < staleDate);
+        if (claimable) {
+            jobs.put(jobId, new Job(job.id(), job.type(), job.campaignId(), job.parameters(), JobStatus.RUNNING,
+                    job.cursor(), job.processedCount(), job.creationDate(), date, job.error()));
+            claimTokens.put(jobId, claimToken);
+        }
+        return claimable;
+    }
+
+    @Override
+    public boolean updateProgress(UUID jobId, UUID claimToken, String cursor, long processedCount, Long date) {
+        if (!claimToken.equals(claimTokens.get(jobId))) {
+            return false;
+        }
+        Job job = jobs.get(jobId);
+        jobs.put(jobId, new Job(job.id(), job.type(), job.campaignId(), job.parameters(), job.status(),
+                cursor, processedCount, job.creationDate(), date, job.error()));
+        return true;
+    }
+
+    @Override
+    public boolean finish(UUID jobId, UUID claimToken, JobStatus status, String error, Long date) {
+        if (!claimToken.equals(claimTokens.get(jobId))) {
+            return false;
+        }
+        Job job = jobs.get(jobId);
+        jobs.put(jobId, new Job(job.id(), job.type(), job.campaignId(), job.parameters(), status,
+                job.cursor(), job.processedCount(), job.creationDate(), date, error));
+        return true;
+    }
+}
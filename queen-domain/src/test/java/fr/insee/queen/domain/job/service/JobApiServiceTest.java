@@ -0,0 +1,199 @@
+package fr.insee.queen.domain.job.service;
+
+import fr.insee.queen.domain.campaign.service.dummy.CampaignExistenceFakeService;
+import fr.insee.queen.domain.campaign.service.dummy.CampaignFakeService;
+import fr.insee.queen.domain.common.exception.EntityNotFoundException;
+import fr.insee.queen.domain.interrogation.infrastructure.dummy.InterrogationBatchFakeDao;
+import fr.insee.queen.domain.interrogation.infrastructure.dummy.InterrogationFakeDao;
+import fr.insee.queen.domain.job.infrastructure.dummy.JobFakeDao;
+import fr.insee.queen.domain.job.model.Job;
+import fr.insee.queen.domain.job.model.JobStatus;
+import fr.insee.queen.domain.job.model.JobType;
+import fr.insee.queen.domain.job.service.exception.JobClaimLostException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JobApiServiceTest {
+
+    private JobApiService jobService;
+    private JobFakeDao jobFakeDao;
+    private InterrogationFakeDao interrogationFakeDao;
+    private InterrogationBatchFakeDao interrogationBatchFakeDao;
+    private CampaignFakeService campaignFakeService;
+    private int bulkOperationCount;
+    private final Clock fixedClock = Clock.fixed(Instant.ofEpochSecond(1740601599), ZoneId.systemDefault());
+
+    @BeforeEach
+    void init() {
+        jobFakeDao = new JobFakeDao();
+        interrogationFakeDao = new InterrogationFakeDao();
+        interrogationBatchFakeDao = new InterrogationBatchFakeDao();
+        campaignFakeService = new CampaignFakeService();
+        jobService = new JobApiService(jobFakeDao,
+                new JobChunkService(jobFakeDao, fixedClock),
+                new CampaignExistenceFakeService(),
+                List.of(new CleanExtractedDataJobHandler(interrogationFakeDao),
+                        new DeleteCampaignJobHandler(interrogationFakeDao, interrogationBatchFakeDao, campaignFakeService)),
+                Runnable::run,
+                operation -> {
+                    bulkOperationCount++;
+                    operation.run();
+                },
+                fixedClock,
+                2,
+                Duration.ZERO,
+                Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("On cleaning extracted data, the data of all extracted interrogations are cleaned by chunks")
+    void testCleanExtractedData01() {
+        interrogationFakeDao.setExtractedIds(List.of("id-3", "id-1", "id-5", "id-2", "id-4"));
+
+        Job job = jobService.startCleanExtractedData("campaign-id", 1L, 2L);
+
+        Job finishedJob = jobService.getJob(job.id());
+        assertThat(finishedJob.type()).isEqualTo(JobType.CLEAN_EXTRACTED_DATA);
+        assertThat(finishedJob.status()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(finishedJob.processedCount()).isEqualTo(5);
+        assertThat(finishedJob.cursor()).isEqualTo("id-5");
+        assertThat(interrogationFakeDao.getCleanedIds()).containsExactly("id-1", "id-2", "id-3", "id-4", "id-5");
+    }
+
+    @Test
+    @DisplayName("On deleting a campaign, interrogations are deleted by chunks then the campaign is deleted")
+    void testDeleteCampaign01() {
+        // given
+        interrogationFakeDao.setInterrogationIds(List.of("id-3", "id-1", "id-2"));
+
+        // when
+        Job job = jobService.startCampaignDeletion("campaign-id");
+
+        // then
+        Job finishedJob = jobService.getJob(job.id());
+        assertThat(finishedJob.type()).isEqualTo(JobType.DELETE_CAMPAIGN);
+        assertThat(finishedJob.status()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(finishedJob.processedCount()).isEqualTo(3);
+        assertThat(interrogationBatchFakeDao.getDeletedIds()).containsExactly("id-1", "id-2", "id-3");
+        assertThat(campaignFakeService.isDeleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("On deleting a campaign, when the campaign is already being deleted, return the current job")
+    void testDeleteCampaign02() {
+        // given
+        Job runningJob = Job.create(JobType.DELETE_CAMPAIGN, "campaign-id", null, fixedClock.millis());
+        jobFakeDao.create(runningJob);
+        jobFakeDao.claim(runningJob.id(), UUID.randomUUID(), fixedClock.millis(), 0L);
+
+        // when
+        Job job = jobService.startCampaignDeletion("campaign-id");
+
+        // then
+        assertThat(job.id()).isEqualTo(runningJob.id());
+        assertThat(campaignFakeService.isDeleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("On resuming jobs, a stopped job restarts after its last processed interrogation")
+    void testResumeJobs01() {
+        interrogationFakeDao.setExtractedIds(List.of("id-1", "id-2", "id-3"));
+        Job job = Job.create(JobType.CLEAN_EXTRACTED_DATA, "campaign-id",
+                CleanExtractedDataJobHandler.parameters(1L, 2L), 0L);
+        jobFakeDao.create(job);
+        UUID claimToken = UUID.randomUUID();
+        jobFakeDao.claim(job.id(), claimToken, 0L, 0L);
+        jobFakeDao.updateProgress(job.id(), claimToken, "id-2", 2, 0L);
+
+        jobService.resumeJobs();
+
+        Job finishedJob = jobService.getJob(job.id());
+        assertThat(finishedJob.status()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(finishedJob.processedCount()).isEqualTo(3);
+        assertThat(interrogationFakeDao.getCleanedIds()).containsExactly("id-3");
+    }
+
+    @Test
+    @DisplayName("On resuming jobs, a job running on another node is not resumed")
+    void testResumeJobs02() {
+        interrogationFakeDao.setExtractedIds(List.of("id-1"));
+        Job job = Job.create(JobType.CLEAN_EXTRACTED_DATA, "campaign-id",
+                CleanExtractedDataJobHandler.parameters(1L, 2L), fixedClock.millis());
+        jobFakeDao.create(job);
+        jobFakeDao.claim(job.id(), UUID.randomUUID(), fixedClock.millis(), 0L);
+
+        jobService.resumeJobs();
+
+        assertThat(jobService.getJob(job.id()).status()).isEqualTo(JobStatus.RUNNING);
+        assertThat(interrogationFakeDao.getCleanedIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("On starting a job, the job is run as a bulk operation")
+    void testBulkOperation01() {
+        interrogationFakeDao.setExtractedIds(List.of("id-1"));
+
+        Job job = jobService.startCleanExtractedData("campaign-id", 1L, 2L);
+
+        assertThat(bulkOperationCount).isEqualTo(1);
+        assertThat(jobService.getJob(job.id()).status()).isEqualTo(JobStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("On processing a chunk, when the job was claimed by another runner, the progress is not saved")
+    void testClaimLost01() {
+        interrogationFakeDao.setExtractedIds(List.of("id-1", "id-2"));
+        JobChunkService jobChunkService = new JobChunkService(jobFakeDao, fixedClock);
+        CleanExtractedDataJobHandler handler = new CleanExtractedDataJobHandler(interrogationFakeDao);
+        Job job = Job.create(JobType.CLEAN_EXTRACTED_DATA, "campaign-id",
+                CleanExtractedDataJobHandler.parameters(1L, 2L), 0L);
+        jobFakeDao.create(job);
+        UUID staleToken = UUID.randomUUID();
+        jobFakeDao.claim(job.id(), staleToken, 0L, 0L);
+        // the job is stale and claimed by another runner
+        jobFakeDao.claim(job.id(), UUID.randomUUID(), fixedClock.millis(), fixedClock.millis());
+        List<String> ids = List.of("id-1", "id-2");
+
+        assertThatThrownBy(() -> jobChunkService.processChunk(job, staleToken, handler, ids, 2))
+                .isInstanceOf(JobClaimLostException.class);
+        assertThatThrownBy(() -> jobChunkService.complete(job, staleToken, handler))
+                .isInstanceOf(JobClaimLostException.class);
+        Job runningJob = jobService.getJob(job.id());
+        assertThat(runningJob.status()).isEqualTo(JobStatus.RUNNING);
+        assertThat(runningJob.cursor()).isNull();
+        assertThat(runningJob.processedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("On creating the service, when the throttle delay is not lower than the stale delay, throw exception")
+    void testInvalidThrottle01() {
+        JobChunkService jobChunkService = new JobChunkService(jobFakeDao, fixedClock);
+        CampaignExistenceFakeService campaignExistenceService = new CampaignExistenceFakeService();
+        List<JobChunkHandler> handlers = List.of();
+        Duration delay = Duration.ofMinutes(5);
+        assertThatThrownBy(() -> new JobApiService(jobFakeDao, jobChunkService, campaignExistenceService,
+                handlers, Runnable::run, Runnable::run, fixedClock, 2, delay, delay))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(JobApiService.INVALID_THROTTLE_MESSAGE, delay, delay));
+    }
+
+    @Test
+    @DisplayName("On retrieving a job, when job does not exist, throw exception")
+    void testGetJob01() {
+        UUID jobId = UUID.randomUUID();
+        assertThatThrownBy(() -> jobService.getJob(jobId))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage(String.format(JobApiService.NOT_FOUND_MESSAGE, jobId));
+    }
+}
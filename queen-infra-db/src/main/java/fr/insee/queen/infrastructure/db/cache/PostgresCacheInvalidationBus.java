@@ -0,0 +1,257 @@
+package fr.insee.queen.infrastructure.db.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.insee.queen.domain.common.cache.CacheInvalidation;
+import fr.insee.queen.domain.common.cache.CacheInvalidationBus;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Cache invalidation bus over PostgreSQL LISTEN/NOTIFY. Each node listens to the channel on a dedicated connection
+ * and publishes its evictions with NOTIFY on another one, after the commit of the current transaction.
+ * Notifications sent by the node itself are ignored. When the listening connection is lost, notifications
+ * may have been missed: all the caches are cleared once the node listens again.
+ * Received evictions are also applied on the hibernate second level cache by {@link SecondLevelCacheInvalidationSubscriber}.
+ */
+@ConditionalOnProperty(name = "feature.cache-invalidation.enabled", havingValue = "true")
+@Component
+@Slf4j
+public class PostgresCacheInvalidationBus implements CacheInvalidationBus, SmartLifecycle {
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    // notification payloads are limited to 8000 bytes
+    private static final int MAX_PAYLOAD_BYTES = 7999;
+
+    private final ConnectionFactory connectionFactory;
+    private final String channel;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<CacheInvalidation>> subscribers = new CopyOnWriteArrayList<>();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private Connection publishingConnection;
+    private volatile boolean running;
+    private volatile boolean listening;
+    private Thread listener;
+
+    /**
+     * Connection opened outside the application pools, as the listening one is kept for the node lifetime
+     */
+    @FunctionalInterface
+    interface ConnectionFactory {
+        Connection open() throws SQLException;
+    }
+
+    @Autowired
+    public PostgresCacheInvalidationBus(DataSourceProperties dataSourceProperties,
+                                        @Value("${feature.cache-invalidation.channel:queen_cache_invalidation}") String channel,
+                                        @Value("${feature.cache-invalidation.poll-timeout:PT0.5S}") Duration pollTimeout,
+                                        @Value("${feature.cache-invalidation.reconnect-delay:PT5S}") Duration reconnectDelay) {
+        this(() -> DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                        dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword()),
+                channel, pollTimeout, reconnectDelay);
+    }
+
+    PostgresCacheInvalidationBus(ConnectionFactory connectionFactory, String channel, Duration pollTimeout, Duration reconnectDelay) {
+        // the channel is an identifier in the LISTEN statement, it cannot be bound
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid cache invalidation channel: " + channel);
+        }
+        this.connectionFactory = connectionFactory;
+        this.channel = channel;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        String payload = toPayload(invalidation);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(payload);
+            return;
+        }
+        // other nodes must not reload the entry before the commit
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send(payload);
+            }
+        });
+    }
+
+    /**
+     * @return true when the node listens to the channel
+     */
+    public boolean isListening() {
+        return listening;
+    }
+
+    private synchronized void send(String payload) {
+        try {
+            if (publishingConnection == null || !publishingConnection.isValid(1)) {
+                closePublishingConnection();
+                publishingConnection = connectionFactory.open();
+            }
+            try (PreparedStatement statement = publishingConnection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                statement.setString(1, channel);
+                statement.setString(2, payload);
+                statement.execute();
+            }
+        } catch (SQLException e) {
+            // other nodes keep the entry until it expires
+            log.error("Unable to publish cache invalidation {}", payload, e);
+            closePublishingConnection();
+        }
+    }
+
+    private String toPayload(CacheInvalidation invalidation) {
+        String payload = writePayload(new CacheInvalidationMessage(nodeId, invalidation.cacheName(), invalidation.key()));
+        if (payload.getBytes(StandardCharsets.UTF_8).length <= MAX_PAYLOAD_BYTES) {
+            return payload;
+        }
+        return writePayload(new CacheInvalidationMessage(nodeId, invalidation.cacheName(), null));
+    }
+
+    private String writePayload(CacheInvalidationMessage message) {
+        try {
+            return mapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to write cache invalidation", e);
+        }
+    }
+
+    private void listen() {
+        boolean missedNotifications = false;
+        while (running) {
+            try (Connection connection = connectionFactory.open()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                listening = true;
+                if (missedNotifications) {
+                    log.info("Listening to cache invalidations again, clearing all the caches");
+                    dispatch(CacheInvalidation.allCaches());
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                listening = false;
+                missedNotifications = true;
+                log.error("Cache invalidation listener disconnected, retrying in {}", reconnectDelay, e);
+                pause();
+            }
+        }
+        listening = false;
+    }
+
+    private void receive(String payload) {
+        try {
+            CacheInvalidationMessage message = mapper.readValue(payload, CacheInvalidationMessage.class);
+            if (!nodeId.equals(message.node())) {
+                dispatch(new CacheInvalidation(message.cache(), message.key()));
+            }
+        } catch (JsonProcessingException e) {
+            log.error("Ignoring invalid cache invalidation {}", payload, e);
+        }
+    }
+
+    private void dispatch(CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> subscriber : subscribers) {
+            try {
+                subscriber.accept(invalidation);
+            } catch (RuntimeException e) {
+                log.error("Unable to apply cache invalidation {}", invalidation, e);
+            }
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(reconnectDelay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private synchronized void closePublishingConnection() {
+        if (publishingConnection == null) {
+            return;
+        }
+        try {
+            publishingConnection.close();
+        } catch (SQLException e) {
+            log.debug("Unable to close the cache invalidation publishing connection", e);
+        }
+        publishingConnection = null;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listener = Thread.ofPlatform()
+                .name("cache-invalidation-listener")
+                .daemon(true)
+                .start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            listener.join(pollTimeout.toMillis() * 2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        closePublishingConnection();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Notification payload
+     *
+     * @param node id of the node publishing the eviction
+     * @param cache cache name, null for all the caches
+     * @param key evicted key, null for all the entries
+     */
+    record CacheInvalidationMessage(String node, String cache, String key) {
+    }
+}
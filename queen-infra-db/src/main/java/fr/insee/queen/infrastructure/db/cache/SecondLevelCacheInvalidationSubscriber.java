@@ -0,0 +1,59 @@
+package fr.insee.queen.infrastructure.db.cache;
+
+import fr.insee.queen.domain.common.cache.CacheInvalidation;
+import fr.insee.queen.domain.common.cache.CacheInvalidationBus;
+import fr.insee.queen.domain.common.cache.CacheName;
+import fr.insee.queen.infrastructure.db.campaign.entity.CampaignDB;
+import fr.insee.queen.infrastructure.db.configuration.CacheRegion;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Apply the cache evictions published by the other nodes on the hibernate second level cache,
+ * so the campaign entities changed by another node are not served until they expire.
+ * A campaign eviction evicts the cached campaign, the evictions of the other campaign caches evict the whole region.
+ * The cached campaign summaries are evicted on every campaign eviction.
+ */
+@ConditionalOnProperty(name = {"feature.cache-invalidation.enabled", "feature.second-level-cache.enabled"}, havingValue = "true")
+@Component
+@Slf4j
+public class SecondLevelCacheInvalidationSubscriber {
+    // caches unrelated to the campaign entities
+    private static final Set<String> IGNORED_CACHES = Set.of(CacheName.INTERROGATION_EXIST,
+            CacheName.INTERROGATION_SUMMARY, CacheName.HABILITATION);
+
+    private final Cache secondLevelCache;
+
+    public SecondLevelCacheInvalidationSubscriber(CacheInvalidationBus cacheInvalidationBus, EntityManagerFactory entityManagerFactory) {
+        this.secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cacheInvalidationBus.subscribe(this::apply);
+    }
+
+    /**
+     * Apply an eviction published by another node on the second level cache
+     *
+     * @param invalidation eviction to apply
+     */
+    void apply(CacheInvalidation invalidation) {
+        if (invalidation.isAllCaches()) {
+            log.debug("Evicting all the second level cache regions");
+            secondLevelCache.evictAllRegions();
+            return;
+        }
+        if (IGNORED_CACHES.contains(invalidation.cacheName())) {
+            return;
+        }
+        secondLevelCache.evictQueryRegion(CacheRegion.CAMPAIGN_SUMMARY);
+        if (CacheName.CAMPAIGN_EXIST.equals(invalidation.cacheName()) && !invalidation.isAllEntries()) {
+            secondLevelCache.evictEntityData(CampaignDB.class, invalidation.key());
+            return;
+        }
+        secondLevelCache.evictEntityData(CampaignDB.class);
+    }
+}
@@ -1,11 +1,14 @@
 package fr.insee.queen.infrastructure.db.campaign.entity;
 
 import fr.insee.queen.domain.campaign.model.CampaignSensitivity;
+import fr.insee.queen.infrastructure.db.configuration.CacheRegion;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -16,6 +19,8 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "campaign")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegion.CAMPAIGN)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -11,6 +11,7 @@ import fr.insee.queen.infrastructure.db.campaign.entity.MetadataDB;
 import fr.insee.queen.infrastructure.db.campaign.entity.QuestionnaireModelDB;
 import fr.insee.queen.infrastructure.db.campaign.repository.jpa.CampaignJpaRepository;
 import fr.insee.queen.infrastructure.db.campaign.repository.jpa.QuestionnaireModelJpaRepository;
+import fr.insee.queen.infrastructure.db.interrogation.directory.InMemoryInterrogationDirectory;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +25,7 @@ public class CampaignDao implements CampaignRepository {
 
     private final CampaignJpaRepository jpaRepository;
     private final QuestionnaireModelJpaRepository questionnaireModelJpaRepository;
+    private final Optional<InMemoryInterrogationDirectory> interrogationDirectory;
 
     @Override
     public Optional<Campaign> findCampaign(String campaignId) {
@@ -63,6 +65,8 @@ public class CampaignDao implements CampaignRepository {
             campaignDB.setMetadata(m);
         }
         jpaRepository.save(campaignDB);
+        interrogationDirectory.ifPresent(directory -> directory.updateCampaign(
+                new CampaignSummary(campaign.getId(), campaign.getLabel(), campaign.getSensitivity())));
     }
 
     @Override
@@ -75,25 +79,27 @@ public class CampaignDao implements CampaignRepository {
         return jpaRepository.findAllCampaignSummaryRows().stream()
                 .collect(Collectors.groupingBy(
                         CampaignSummaryRow::campaignId,
-                        Collectors.collectingAndThen(Collectors.toList(), rows -> {
-                            CampaignSummaryRow first = rows.getFirst();
-                            Set<String> questionnaireIds = rows.stream()
-                                    .map(CampaignSummaryRow::questionnaireId)
-                                    .filter(Objects::nonNull) // éviter les null si pas de questionnaire
-                                    .collect(Collectors.toSet());
-                            return new CampaignSummary(
-                                    first.campaignId(),
-                                    first.label(),
-                                    first.sensitivity(),
-                                    questionnaireIds
-                            );
-                        })
+                        Collectors.collectingAndThen(Collectors.toList(), this::toCampaignSummary)
                 ))
                 .values()
                 .stream()
                 .toList();
     }
 
+    private CampaignSummary toCampaignSummary(List<CampaignSummaryRow> rows) {
+        CampaignSummaryRow first = rows.getFirst();
+        Set<String> questionnaireIds = rows.stream()
+                .map(CampaignSummaryRow::questionnaireId)
+                .filter(Objects::nonNull) // éviter les null si pas de questionnaire
+                .collect(Collectors.toSet());
+        return new CampaignSummary(
+                first.campaignId(),
+                first.label(),
+                first.sensitivity(),
+                questionnaireIds
+        );
+    }
+
 
 
     @Override
@@ -103,20 +109,11 @@ public class CampaignDao implements CampaignRepository {
 
     @Override
     public Optional<CampaignSummary> findWithQuestionnaireIds(String campaignId) {
-        Optional<CampaignDB> campaignOpt = jpaRepository.findById(campaignId);
-        if (campaignOpt.isEmpty()) {
+        List<CampaignSummaryRow> rows = jpaRepository.findCampaignSummaryRows(campaignId);
+        if (rows.isEmpty()) {
             return Optional.empty();
         }
-        CampaignDB campaign = campaignOpt.get();
-        return Optional.of(new CampaignSummary(
-                campaign.getId(),
-                campaign.getLabel(),
-                campaign.getSensitivity(),
-                campaign.getQuestionnaireModels()
-                        .stream()
-                        .map(QuestionnaireModelDB::getId)
-                        .collect(Collectors.toSet()))
-        );
+        return Optional.of(toCampaignSummary(rows));
     }
 
     @Override
@@ -139,6 +136,8 @@ public class CampaignDao implements CampaignRepository {
         Set<QuestionnaireModelDB> questionnaireModels = questionnaireModelJpaRepository.findByIdIn(campaign.getQuestionnaireIds());
         campaignDB.setQuestionnaireModels(questionnaireModels);
         jpaRepository.save(campaignDB);
+        interrogationDirectory.ifPresent(directory -> directory.updateCampaign(
+                new CampaignSummary(campaign.getId(), campaign.getLabel(), campaign.getSensitivity())));
     }
 
     @Override
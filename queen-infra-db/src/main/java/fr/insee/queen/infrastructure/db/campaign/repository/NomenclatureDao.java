@@ -2,6 +2,7 @@ package fr.insee.queen.infrastructure.db.campaign.repository;
 
 import fr.insee.queen.domain.campaign.gateway.NomenclatureRepository;
 import fr.insee.queen.domain.campaign.model.Nomenclature;
+import fr.insee.queen.domain.common.json.RawJson;
 import fr.insee.queen.infrastructure.db.campaign.repository.jpa.NomenclatureJpaRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -20,6 +21,12 @@ public class NomenclatureDao implements NomenclatureRepository {
         return jpaRepository.findNomenclatureById(nomenclatureId);
     }
 
+    @Override
+    public Optional<RawJson> findRawValue(String nomenclatureId) {
+        return jpaRepository.findRawNomenclatureValue(nomenclatureId)
+                .map(RawJson::new);
+    }
+
     @Override
     public Optional<List<String>> findAllIds() {
         return jpaRepository.findAllNomenclatureIds();
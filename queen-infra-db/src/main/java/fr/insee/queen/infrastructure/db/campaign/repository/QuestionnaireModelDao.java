@@ -3,6 +3,7 @@ package fr.insee.queen.infrastructure.db.campaign.repository;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import fr.insee.queen.domain.campaign.gateway.QuestionnaireModelRepository;
 import fr.insee.queen.domain.campaign.model.QuestionnaireModel;
+import fr.insee.queen.domain.common.json.RawJson;
 import fr.insee.queen.infrastructure.db.campaign.entity.CampaignDB;
 import fr.insee.queen.infrastructure.db.campaign.entity.NomenclatureDB;
 import fr.insee.queen.infrastructure.db.campaign.entity.QuestionnaireModelDB;
@@ -34,6 +35,12 @@ public class QuestionnaireModelDao implements QuestionnaireModelRepository {
         return jpaRepository.findQuestionnaireData(questionnaireId);
     }
 
+    @Override
+    public Optional<RawJson> findRawQuestionnaireData(String questionnaireId) {
+        return jpaRepository.findRawQuestionnaireData(questionnaireId)
+                .map(RawJson::new);
+    }
+
     @Override
     public boolean exists(String questionnaireId) {
         return jpaRepository.existsById(questionnaireId);
@@ -73,9 +80,4 @@ public class QuestionnaireModelDao implements QuestionnaireModelRepository {
     public void deleteAllFromCampaign(String campaignId) {
         jpaRepository.deleteAllByCampaignId(campaignId);
     }
-
-    @Override
-    public List<ObjectNode> findAllQuestionnaireDatas(String campaignId) {
-        return jpaRepository.findAllValueByCampaignId(campaignId);
-    }
 }
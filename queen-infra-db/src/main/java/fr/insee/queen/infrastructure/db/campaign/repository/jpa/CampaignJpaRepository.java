@@ -3,8 +3,12 @@ package fr.insee.queen.infrastructure.db.campaign.repository.jpa;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import fr.insee.queen.infrastructure.db.campaign.entity.CampaignDB;
 import fr.insee.queen.infrastructure.db.campaign.entity.CampaignSummaryRow;
+import fr.insee.queen.infrastructure.db.configuration.CacheRegion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -26,6 +30,27 @@ public interface CampaignJpaRepository extends JpaRepository<CampaignDB, String>
     """)
     List<CampaignSummaryRow> findAllCampaignSummaryRows();
 
+    /**
+     * Retrieve the summary of a campaign, one row by questionnaire.
+     * The rows are kept in the query cache when the second level cache is enabled
+     *
+     * @param campaignId campaign id
+     * @return {@link CampaignSummaryRow} summary rows, empty if the campaign does not exist
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegion.CAMPAIGN_SUMMARY)
+    })
+    @Query("""
+    select new fr.insee.queen.infrastructure.db.campaign.entity.CampaignSummaryRow(
+        c.id, c.label, c.sensitivity, q.id
+    )
+    from CampaignDB c
+    left join c.questionnaireModels q
+    where c.id=:campaignId
+    """)
+    List<CampaignSummaryRow> findCampaignSummaryRows(String campaignId);
+
     /**
      * Retrieve campaign by id
      * @return {@link CampaignDB} a campaign
@@ -20,6 +20,15 @@ import java.util.Set;
 public interface NomenclatureJpaRepository extends JpaRepository<NomenclatureDB, String> {
     Optional<Nomenclature> findNomenclatureById(String id);
 
+    /**
+     * Retrieve the value of a nomenclature as stored, without parsing it
+     *
+     * @param nomenclatureId nomenclature id
+     * @return nomenclature value
+     */
+    @Query(value = "select CAST(n.value AS text) from nomenclature n where n.id=:nomenclatureId", nativeQuery = true)
+    Optional<String> findRawNomenclatureValue(String nomenclatureId);
+
     @Query("select n.id from NomenclatureDB n order by n.id asc")
     Optional<List<String>> findAllNomenclatureIds();
 
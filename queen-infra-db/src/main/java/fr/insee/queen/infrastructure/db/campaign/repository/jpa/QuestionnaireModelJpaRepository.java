@@ -26,22 +26,22 @@ public interface QuestionnaireModelJpaRepository extends JpaRepository<Questionn
     List<String> findAllIdByCampaignId(String campaignId);
 
     /**
-     * Find data structure for all questionnaire linked to a campaign
+     * Find data structure for a questionnaire
      *
-     * @param campaignId campaign id
-     * @return all questionnaire values for a campaign
+     * @param questionnaireId questionnaire id
+     * @return questionnaire data for a campaign
      */
-    @Query(value = "select qm.value from QuestionnaireModelDB qm where qm.campaign.id=:campaignId")
-    List<ObjectNode> findAllValueByCampaignId(String campaignId);
+    @Query(value = "select qm.value from QuestionnaireModelDB qm where qm.id=:questionnaireId")
+    Optional<ObjectNode> findQuestionnaireData(String questionnaireId);
 
     /**
-     * Find data structure for a questionnaire
+     * Find data structure for a questionnaire, as stored json text
      *
      * @param questionnaireId questionnaire id
      * @return questionnaire data for a campaign
      */
-    @Query(value = "select qm.value from QuestionnaireModelDB qm where qm.id=:questionnaireId")
-    Optional<ObjectNode> findQuestionnaireData(String questionnaireId);
+    @Query(value = "select CAST(qm.value AS text) from questionnaire_model qm where qm.id=:questionnaireId", nativeQuery = true)
+    Optional<String> findRawQuestionnaireData(String questionnaireId);
 
     /**
      * Count valid questionnaires for a campaign
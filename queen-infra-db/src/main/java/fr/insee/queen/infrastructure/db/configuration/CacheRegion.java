@@ -0,0 +1,16 @@
+package fr.insee.queen.infrastructure.db.configuration;
+
+/**
+ * Second level cache regions, configured in hibernate-jcache.conf
+ */
+public class CacheRegion {
+    private CacheRegion() {
+        throw new IllegalArgumentException("Utility class");
+    }
+
+    public static final String CAMPAIGN = "campaign";
+    // query region of the campaign summaries with their questionnaire ids
+    public static final String CAMPAIGN_SUMMARY = "campaign-summary";
+    // last update of each table, used by hibernate to invalidate the cached queries
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+}
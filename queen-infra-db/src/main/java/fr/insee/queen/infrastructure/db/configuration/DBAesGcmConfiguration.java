@@ -0,0 +1,45 @@
+package fr.insee.queen.infrastructure.db.configuration;
+
+import fr.insee.queen.infrastructure.db.data.encryption.AesGcmDataEncryptionEngine;
+import fr.insee.queen.infrastructure.db.data.repository.jpa.CipheredDataJpaRepository;
+import fr.insee.queen.infrastructure.db.data.repository.jpa.UncipheredDataJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Sensitive data encrypted in the application (feature.sensitive-data.engine: aes-gcm).
+ * Data repository is {@link fr.insee.queen.infrastructure.db.data.repository.AesGcmDataDao}
+ */
+@ConditionalOnExpression(DBAesGcmConfiguration.AES_GCM_ENGINE_CONDITION)
+@Configuration
+@RequiredArgsConstructor
+@EnableJpaRepositories(basePackages = "fr.insee.queen.infrastructure.db", excludeFilters = {
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                classes = {CipheredDataJpaRepository.class, UncipheredDataJpaRepository.class}
+        )
+})
+@EntityScan(basePackages = {
+        "fr.insee.queen.infrastructure.db.campaign",
+        "fr.insee.queen.infrastructure.db.paradata",
+        "fr.insee.queen.infrastructure.db.interrogationtempzone",
+        "fr.insee.queen.infrastructure.db.interrogation",
+        "fr.insee.queen.infrastructure.db.data.entity.common",
+        "fr.insee.queen.infrastructure.db.data.entity.aesgcm"
+})
+public class DBAesGcmConfiguration {
+    public static final String AES_GCM_ENGINE_CONDITION =
+            "${feature.sensitive-data.enabled:false} and '${feature.sensitive-data.engine:pgcrypto}' == 'aes-gcm'";
+
+    private final CipherProperties cipherProperties;
+
+    @Bean
+    public AesGcmDataEncryptionEngine dataEncryptionEngine() {
+        return new AesGcmDataEncryptionEngine(cipherProperties.getEncryptionSecretKey());
+    }
+}
@@ -1,8 +1,9 @@
 package fr.insee.queen.infrastructure.db.configuration;
 
 import fr.insee.queen.infrastructure.db.data.repository.jpa.UncipheredDataJpaRepository;
-import lombok.RequiredArgsConstructor;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import fr.insee.queen.infrastructure.db.data.encryption.DataEncryptionEngine;
+import fr.insee.queen.infrastructure.db.data.encryption.PgcryptoDataEncryptionEngine;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -10,9 +11,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
-@ConditionalOnProperty(name = "feature.sensitive-data.enabled", havingValue = "true")
+@ConditionalOnExpression(DBCipheredConfiguration.PGCRYPTO_ENGINE_CONDITION)
 @Configuration
-@RequiredArgsConstructor
 @EnableJpaRepositories(basePackages = "fr.insee.queen.infrastructure.db", excludeFilters = {
         @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
                 classes = {UncipheredDataJpaRepository.class}
@@ -27,10 +27,11 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
         "fr.insee.queen.infrastructure.db.data.entity.ciphered"
 })
 public class DBCipheredConfiguration {
-        private final CipherProperties cipherProperties;
+        public static final String PGCRYPTO_ENGINE_CONDITION =
+                "${feature.sensitive-data.enabled:false} and '${feature.sensitive-data.engine:pgcrypto}' == 'pgcrypto'";
 
         @Bean
-        public DataFactory dataFactory() {
-              return new DataFactory(cipherProperties.isEnabled());
+        public DataEncryptionEngine dataEncryptionEngine() {
+              return new PgcryptoDataEncryptionEngine();
         }
 }
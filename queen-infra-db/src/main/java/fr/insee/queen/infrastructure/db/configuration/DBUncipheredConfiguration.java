@@ -1,9 +1,12 @@
 package fr.insee.queen.infrastructure.db.configuration;
 
 import fr.insee.queen.infrastructure.db.data.repository.jpa.CipheredDataJpaRepository;
+import fr.insee.queen.infrastructure.db.data.encryption.DataEncryptionEngine;
+import fr.insee.queen.infrastructure.db.data.encryption.NoDataEncryptionEngine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.FilterType;
@@ -26,4 +29,9 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
         "fr.insee.queen.infrastructure.db.data.entity.unciphered",
 })
 public class DBUncipheredConfiguration {
+
+    @Bean
+    public DataEncryptionEngine dataEncryptionEngine() {
+        return new NoDataEncryptionEngine();
+    }
 }
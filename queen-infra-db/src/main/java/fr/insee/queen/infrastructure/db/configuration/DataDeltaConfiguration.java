@@ -0,0 +1,14 @@
+package fr.insee.queen.infrastructure.db.configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Schedule the compaction of collected data deltas
+ */
+@ConditionalOnProperty(name = "feature.collected-data-delta.enabled", havingValue = "true")
+@Configuration
+@EnableScheduling
+public class DataDeltaConfiguration {
+}
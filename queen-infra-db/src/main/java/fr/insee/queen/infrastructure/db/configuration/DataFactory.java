@@ -1,6 +1,10 @@
 package fr.insee.queen.infrastructure.db.configuration;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.insee.queen.infrastructure.db.data.encryption.AesGcmDataEncryptionEngine;
+import fr.insee.queen.infrastructure.db.data.encryption.DataEncryptionEngine;
+import fr.insee.queen.infrastructure.db.data.encryption.PgcryptoDataEncryptionEngine;
+import fr.insee.queen.infrastructure.db.data.entity.aesgcm.AesGcmDataDB;
 import fr.insee.queen.infrastructure.db.data.entity.ciphered.CipheredDataDB;
 import fr.insee.queen.infrastructure.db.data.entity.unciphered.UncipheredDataDB;
 import fr.insee.queen.infrastructure.db.data.entity.common.DataDB;
@@ -12,12 +16,13 @@ import lombok.RequiredArgsConstructor;
  */
 @RequiredArgsConstructor
 public class DataFactory {
-    private final boolean isCiphered;
+    private final DataEncryptionEngine encryptionEngine;
 
     public DataDB buildData(ObjectNode data, InterrogationDB interrogationDB) {
-       if(isCiphered) {
-            return new CipheredDataDB(data, interrogationDB);
-       }
-       return new UncipheredDataDB(data, interrogationDB);
+        return switch (encryptionEngine.encryptedFlag()) {
+            case AesGcmDataEncryptionEngine.ENCRYPTED_FLAG -> new AesGcmDataDB(data, interrogationDB);
+            case PgcryptoDataEncryptionEngine.ENCRYPTED_FLAG -> new CipheredDataDB(data, interrogationDB);
+            default -> new UncipheredDataDB(data, interrogationDB);
+        };
     }
 }
@@ -1,5 +1,6 @@
 package fr.insee.queen.infrastructure.db.configuration;
 
+import fr.insee.queen.infrastructure.db.data.encryption.DataEncryptionEngine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,10 +8,10 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 @RequiredArgsConstructor
 public class DataFactoryConfiguration {
-    private final CipherProperties cipherProperties;
+    private final DataEncryptionEngine dataEncryptionEngine;
 
     @Bean
     public DataFactory dataFactory() {
-        return new DataFactory(cipherProperties.isEnabled());
+        return new DataFactory(dataEncryptionEngine);
     }
-}
\ No newline at end of file
+}
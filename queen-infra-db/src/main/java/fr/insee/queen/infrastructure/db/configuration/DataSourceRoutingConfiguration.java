@@ -0,0 +1,79 @@
+package fr.insee.queen.infrastructure.db.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Optional replica and bulk pools next to the primary one, see {@link RoutingDataSource}
+ */
+@ConditionalOnExpression(DataSourceRoutingConfiguration.ROUTING_CONDITION)
+@Configuration
+public class DataSourceRoutingConfiguration {
+    public static final String ROUTING_CONDITION =
+            "${feature.read-replica.enabled:false} or ${feature.bulk-pool.enabled:false}";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    /**
+     * Replica pool, configured with hikari properties under feature.read-replica.datasource (jdbc-url, maximum-pool-size, ...).
+     * Driver and credentials default to the primary ones.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "feature.read-replica.enabled", havingValue = "true")
+    @ConfigurationProperties("feature.read-replica.datasource")
+    public HikariDataSource replicaDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = createPool(dataSourceProperties, "queen-replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * Bulk pool, configured with hikari properties under feature.bulk-pool.datasource (maximum-pool-size, connection-timeout, ...).
+     * Url, driver and credentials default to the primary ones.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "feature.bulk-pool.enabled", havingValue = "true")
+    @ConfigurationProperties("feature.bulk-pool.datasource")
+    public HikariDataSource bulkDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = createPool(dataSourceProperties, "queen-bulk");
+        dataSource.setJdbcUrl(dataSourceProperties.determineUrl());
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+                                 @Qualifier("bulkDataSource") ObjectProvider<DataSource> bulkDataSource) {
+        RoutingDataSource routingDataSource = new RoutingDataSource(primaryDataSource,
+                replicaDataSource.getIfAvailable(), bulkDataSource.getIfAvailable());
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private HikariDataSource createPool(DataSourceProperties dataSourceProperties, String poolName) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        dataSource.setUsername(dataSourceProperties.determineUsername());
+        dataSource.setPassword(dataSourceProperties.determinePassword());
+        dataSource.setPoolName(poolName);
+        return dataSource;
+    }
+}
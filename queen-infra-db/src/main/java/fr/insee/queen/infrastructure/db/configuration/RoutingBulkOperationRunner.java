@@ -0,0 +1,15 @@
+package fr.insee.queen.infrastructure.db.configuration;
+
+import fr.insee.queen.domain.job.gateway.BulkOperationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Run bulk operations on the bulk connection pool (when enabled), see {@link RoutingDataSource}
+ */
+@Component
+public class RoutingBulkOperationRunner implements BulkOperationRunner {
+    @Override
+    public void run(Runnable operation) {
+        RoutingDataSource.runAsBulkOperation(operation);
+    }
+}
@@ -0,0 +1,107 @@
+package fr.insee.queen.infrastructure.db.configuration;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Route the connections between the primary pool and the optional replica and bulk pools:
+ * - bulk operations (admin, batch and background work) use the bulk pool, so they cannot starve interactive requests
+ * - read-only transactions go to the replica. Once a read-write transaction has been opened by the current request,
+ * reads follow the primary until the end of the request, so the request reads its own writes whatever the replication lag
+ * - everything else goes to the primary
+ * Must be wrapped in a lazy connection proxy, as the transaction read-only flag is only known after the transaction begins.
+ */
+public class RoutingDataSource extends AbstractRoutingDataSource {
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+    private static final String BULK = "bulk";
+
+    private static final ThreadLocal<Boolean> PRIMARY_WRITTEN = ThreadLocal.withInitial(() -> false);
+    private static final ThreadLocal<Boolean> BULK_OPERATION = ThreadLocal.withInitial(() -> false);
+
+    private final boolean replicaEnabled;
+    private final boolean bulkEnabled;
+
+    public RoutingDataSource(DataSource primaryDataSource,
+                             @Nullable DataSource replicaDataSource,
+                             @Nullable DataSource bulkDataSource) {
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primaryDataSource);
+        if (replicaDataSource != null) {
+            targetDataSources.put(REPLICA, replicaDataSource);
+        }
+        if (bulkDataSource != null) {
+            targetDataSources.put(BULK, bulkDataSource);
+        }
+        this.replicaEnabled = replicaDataSource != null;
+        this.bulkEnabled = bulkDataSource != null;
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primaryDataSource);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (bulkEnabled && Boolean.TRUE.equals(BULK_OPERATION.get())) {
+            return BULK;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            PRIMARY_WRITTEN.set(true);
+            return PRIMARY;
+        }
+        return replicaEnabled && !Boolean.TRUE.equals(PRIMARY_WRITTEN.get()) ? REPLICA : PRIMARY;
+    }
+
+    /**
+     * Mark the current thread as running a bulk operation. Must be called before the transaction begins.
+     */
+    public static void startBulkOperation() {
+        BULK_OPERATION.set(true);
+    }
+
+    /**
+     * Run a bulk operation on the current thread
+     *
+     * @param operation operation to run
+     * @return operation result
+     */
+    public static <T> T runAsBulkOperation(Supplier<T> operation) {
+        boolean alreadyBulk = BULK_OPERATION.get();
+        startBulkOperation();
+        try {
+            return operation.get();
+        } finally {
+            if (!alreadyBulk) {
+                BULK_OPERATION.remove();
+            }
+        }
+    }
+
+    /**
+     * Run a bulk operation on the current thread
+     *
+     * @param operation operation to run
+     */
+    public static void runAsBulkOperation(Runnable operation) {
+        runAsBulkOperation(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Forget the routing state of the current thread (writes and bulk operation), at the end of a request
+     */
+    public static void clearContext() {
+        PRIMARY_WRITTEN.remove();
+        BULK_OPERATION.remove();
+    }
+}
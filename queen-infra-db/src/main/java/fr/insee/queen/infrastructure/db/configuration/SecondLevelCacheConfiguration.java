@@ -0,0 +1,42 @@
+package fr.insee.queen.infrastructure.db.configuration;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.io.IOException;
+
+/**
+ * Hibernate second level cache for the campaign entities, almost immutable between integrations.
+ * The query cache is only used by the campaign summary query, marked as cacheable.
+ * Regions are caffeine caches through jcache, with statistics enabled.
+ * Writes through JPA update the regions, bulk and native writes invalidate them.
+ * Questionnaires, nomenclatures and metadata are not cached here: their json values are large
+ * and already kept by the application caches, bounded by bytes.
+ */
+@ConditionalOnProperty(name = "feature.second-level-cache.enabled", havingValue = "true")
+@Configuration
+public class SecondLevelCacheConfiguration {
+    public static final String REGIONS_CONFIGURATION = "hibernate-jcache.conf";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() throws IOException {
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(new ClassPathResource(REGIONS_CONFIGURATION).getURI(), getClass().getClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+        };
+    }
+}
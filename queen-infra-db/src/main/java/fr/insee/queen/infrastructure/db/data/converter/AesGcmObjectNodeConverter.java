@@ -0,0 +1,51 @@
+package fr.insee.queen.infrastructure.db.data.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.insee.queen.infrastructure.db.data.encryption.AesGcmDataEncryptionEngine;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Encrypt/decrypt data in the application with AES-GCM.
+ * Values not encrypted by the engine are legacy pgcrypto values already decrypted by the database.
+ */
+@Converter
+@RequiredArgsConstructor
+public class AesGcmObjectNodeConverter implements AttributeConverter<ObjectNode, byte[]> {
+
+    public static final String OBJECTNODE_TO_BYTES_ERROR_MESSAGE = "Error during objectnode to bytes conversion";
+    public static final String BYTES_TO_OBJECTNODE_ERROR_MESSAGE = "Error during bytes to objectnode conversion";
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final AesGcmDataEncryptionEngine encryptionEngine;
+
+    @Override
+    public byte[] convertToDatabaseColumn(ObjectNode attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        byte[] json;
+        try {
+            json = mapper.writeValueAsBytes(attribute);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(OBJECTNODE_TO_BYTES_ERROR_MESSAGE, e);
+        }
+        return encryptionEngine.encrypt(json);
+    }
+
+    @Override
+    public ObjectNode convertToEntityAttribute(byte[] dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        byte[] json = encryptionEngine.isEncrypted(dbData) ? encryptionEngine.decrypt(dbData) : dbData;
+        try {
+            return (ObjectNode) mapper.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(BYTES_TO_OBJECTNODE_ERROR_MESSAGE, e);
+        }
+    }
+}
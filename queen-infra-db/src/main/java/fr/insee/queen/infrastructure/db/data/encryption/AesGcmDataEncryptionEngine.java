@@ -0,0 +1,152 @@
+package fr.insee.queen.infrastructure.db.data.encryption;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * Engine encrypting data with AES-GCM in the application.
+ * The AES key is derived once from the secret key, so no key stretching is done for each row.
+ * Stored values are: format header, random IV, cipher text and authentication tag
+ */
+public class AesGcmDataEncryptionEngine implements DataEncryptionEngine {
+
+    public static final int ENCRYPTED_FLAG = 2;
+    public static final String ENCRYPTION_ERROR_MESSAGE = "Error during data encryption";
+    public static final String DECRYPTION_ERROR_MESSAGE = "Error during data decryption";
+
+    /**
+     * Legacy pgcrypto values are decrypted by the database, AES-GCM values by the engine
+     */
+    public static final String READ_VALUE_EXPRESSION = """
+            CASE WHEN encrypted = 1
+                THEN convert_to(pgp_sym_decrypt(value, current_setting('data.encryption.key')), 'UTF8')
+                ELSE value
+            END""";
+
+    static final byte[] FORMAT_HEADER = "QAG1".getBytes(StandardCharsets.US_ASCII);
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final String KEY_DERIVATION_ALGORITHM = "PBKDF2WithHmacSHA256";
+    // the derivation has to give the same key on every node, so the salt is fixed
+    private static final byte[] KEY_DERIVATION_SALT = "queen-sensitive-data".getBytes(StandardCharsets.US_ASCII);
+    private static final int KEY_DERIVATION_ITERATIONS = 65536;
+    private static final int KEY_LENGTH = 256;
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH = 128;
+
+    private final SecretKey key;
+    private final SecureRandom random = new SecureRandom();
+
+    public AesGcmDataEncryptionEngine(String secretKey) {
+        this.key = deriveKey(secretKey);
+    }
+
+    @Override
+    public int encryptedFlag() {
+        return ENCRYPTED_FLAG;
+    }
+
+    @Override
+    public boolean encryptsInDatabase() {
+        return false;
+    }
+
+    @Override
+    public String toSqlParameter(String json) {
+        if (json == null) {
+            return null;
+        }
+        // bytea hex format, so the value can be bound as text like the other engines
+        return "\\x" + HexFormat.of().formatHex(encrypt(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public String valueExpression(String textExpression) {
+        return "CAST(%s AS bytea)".formatted(textExpression);
+    }
+
+    @Override
+    public String readValueExpression() {
+        return "CAST(%s AS text)".formatted(READ_VALUE_EXPRESSION);
+    }
+
+    @Override
+    public String fromSqlValue(String sqlValue) {
+        if (sqlValue == null) {
+            return null;
+        }
+        // bytea hex format
+        byte[] value = HexFormat.of().parseHex(sqlValue, 2, sqlValue.length());
+        return new String(isEncrypted(value) ? decrypt(value) : value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param value stored value
+     * @return true if the value was encrypted by this engine
+     */
+    public boolean isEncrypted(byte[] value) {
+        return value != null && value.length > FORMAT_HEADER.length
+                && Arrays.equals(value, 0, FORMAT_HEADER.length, FORMAT_HEADER, 0, FORMAT_HEADER.length);
+    }
+
+    /**
+     * @param plainValue value to encrypt
+     * @return encrypted value
+     */
+    public byte[] encrypt(byte[] plainValue) {
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH, iv));
+            byte[] cipherText = cipher.doFinal(plainValue);
+            return ByteBuffer.allocate(FORMAT_HEADER.length + IV_LENGTH + cipherText.length)
+                    .put(FORMAT_HEADER)
+                    .put(iv)
+                    .put(cipherText)
+                    .array();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ENCRYPTION_ERROR_MESSAGE, e);
+        }
+    }
+
+    /**
+     * @param encryptedValue value encrypted by this engine
+     * @return plain value
+     */
+    public byte[] decrypt(byte[] encryptedValue) {
+        if (!isEncrypted(encryptedValue)) {
+            throw new IllegalArgumentException(DECRYPTION_ERROR_MESSAGE);
+        }
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, key,
+                    new GCMParameterSpec(TAG_LENGTH, encryptedValue, FORMAT_HEADER.length, IV_LENGTH));
+            int offset = FORMAT_HEADER.length + IV_LENGTH;
+            return cipher.doFinal(encryptedValue, offset, encryptedValue.length - offset);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException(DECRYPTION_ERROR_MESSAGE, e);
+        }
+    }
+
+    private static SecretKey deriveKey(String secretKey) {
+        PBEKeySpec keySpec = new PBEKeySpec(secretKey.toCharArray(), KEY_DERIVATION_SALT, KEY_DERIVATION_ITERATIONS, KEY_LENGTH);
+        try {
+            byte[] keyBytes = SecretKeyFactory.getInstance(KEY_DERIVATION_ALGORITHM).generateSecret(keySpec).getEncoded();
+            return new SecretKeySpec(keyBytes, "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Error during data encryption key derivation", e);
+        } finally {
+            keySpec.clearPassword();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package fr.insee.queen.infrastructure.db.data.encryption;
+
+/**
+ * Engine used to protect interrogation data written in the data table by plain SQL statements
+ */
+public interface DataEncryptionEngine {
+
+    /**
+     * @return value of the encrypted discriminator column for the rows written by this engine
+     */
+    int encryptedFlag();
+
+    /**
+     * @return true if the parameters computed by {@link #toSqlParameter(String)} are plain data encrypted by the database,
+     * so they must not be written in a shared table before {@link #valueExpression(String)} is applied
+     */
+    boolean encryptsInDatabase();
+
+    /**
+     * Convert json data to the text parameter bound in SQL statements
+     *
+     * @param json json data
+     * @return text parameter, null if json is null
+     */
+    String toSqlParameter(String json);
+
+    /**
+     * @param textExpression sql text expression holding a value computed by {@link #toSqlParameter(String)}
+     * @return sql expression computing the value column of the data table
+     */
+    String valueExpression(String textExpression);
+
+    /**
+     * @return sql expression reading the value column (and its encrypted discriminator) as text
+     */
+    String readValueExpression();
+
+    /**
+     * Convert a text value read with {@link #readValueExpression()} to json data
+     *
+     * @param sqlValue text value
+     * @return json data, null if sqlValue is null
+     */
+    String fromSqlValue(String sqlValue);
+}
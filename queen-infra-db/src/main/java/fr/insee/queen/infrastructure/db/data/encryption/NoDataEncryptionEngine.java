@@ -0,0 +1,39 @@
+package fr.insee.queen.infrastructure.db.data.encryption;
+
+/**
+ * Engine used when sensitive data is disabled: data is stored as jsonb
+ */
+public class NoDataEncryptionEngine implements DataEncryptionEngine {
+
+    public static final int ENCRYPTED_FLAG = 0;
+
+    @Override
+    public int encryptedFlag() {
+        return ENCRYPTED_FLAG;
+    }
+
+    @Override
+    public boolean encryptsInDatabase() {
+        return false;
+    }
+
+    @Override
+    public String toSqlParameter(String json) {
+        return json;
+    }
+
+    @Override
+    public String valueExpression(String textExpression) {
+        return "CAST(%s AS jsonb)".formatted(textExpression);
+    }
+
+    @Override
+    public String readValueExpression() {
+        return "CAST(value AS text)";
+    }
+
+    @Override
+    public String fromSqlValue(String sqlValue) {
+        return sqlValue;
+    }
+}
@@ -0,0 +1,40 @@
+package fr.insee.queen.infrastructure.db.data.encryption;
+
+/**
+ * Engine encrypting data in the database with pgcrypto.
+ * The key is read from the data.encryption.key setting of the connection
+ */
+public class PgcryptoDataEncryptionEngine implements DataEncryptionEngine {
+
+    public static final int ENCRYPTED_FLAG = 1;
+
+    @Override
+    public int encryptedFlag() {
+        return ENCRYPTED_FLAG;
+    }
+
+    @Override
+    public boolean encryptsInDatabase() {
+        return true;
+    }
+
+    @Override
+    public String toSqlParameter(String json) {
+        return json;
+    }
+
+    @Override
+    public String valueExpression(String textExpression) {
+        return "pgp_sym_encrypt(%s, current_setting('data.encryption.key'), 's2k-count=65536')".formatted(textExpression);
+    }
+
+    @Override
+    public String readValueExpression() {
+        return "pgp_sym_decrypt(value, current_setting('data.encryption.key'))";
+    }
+
+    @Override
+    public String fromSqlValue(String sqlValue) {
+        return sqlValue;
+    }
+}
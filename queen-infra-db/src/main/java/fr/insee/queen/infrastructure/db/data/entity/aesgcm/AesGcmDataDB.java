@@ -0,0 +1,32 @@
+package fr.insee.queen.infrastructure.db.data.entity.aesgcm;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.insee.queen.infrastructure.db.data.converter.AesGcmObjectNodeConverter;
+import fr.insee.queen.infrastructure.db.data.encryption.AesGcmDataEncryptionEngine;
+import fr.insee.queen.infrastructure.db.data.entity.common.DataDB;
+import fr.insee.queen.infrastructure.db.interrogation.entity.InterrogationDB;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnTransformer;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@DiscriminatorValue("2")
+public class AesGcmDataDB extends DataDB {
+    /**
+     * The value of data (AES-GCM encrypted json)
+     */
+    @Column(columnDefinition = "bytea")
+    @Convert(converter = AesGcmObjectNodeConverter.class)
+    @ColumnTransformer(read = AesGcmDataEncryptionEngine.READ_VALUE_EXPRESSION)
+    private ObjectNode value;
+
+    public AesGcmDataDB(ObjectNode value, InterrogationDB interrogation) {
+        this.setInterrogation(interrogation);
+        this.value = value;
+    }
+}
@@ -0,0 +1,15 @@
+package fr.insee.queen.infrastructure.db.data.entity.aesgcm;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data encrypted with pgcrypto before the AES-GCM engine was enabled. These rows are read only:
+ * they are rewritten with the AES-GCM engine on their next update
+ */
+@Entity
+@NoArgsConstructor
+@DiscriminatorValue("1")
+public class LegacyCipheredDataDB extends AesGcmDataDB {
+}
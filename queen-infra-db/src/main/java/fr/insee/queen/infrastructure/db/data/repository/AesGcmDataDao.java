@@ -0,0 +1,122 @@
+package fr.insee.queen.infrastructure.db.data.repository;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.insee.queen.infrastructure.db.configuration.DBAesGcmConfiguration;
+import fr.insee.queen.infrastructure.db.data.converter.AesGcmObjectNodeConverter;
+import fr.insee.queen.infrastructure.db.data.encryption.AesGcmDataEncryptionEngine;
+import fr.insee.queen.infrastructure.db.data.entity.common.DataDB;
+import fr.insee.queen.infrastructure.db.data.repository.jpa.DataRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Data repository when data is encrypted in the application with AES-GCM.
+ * Every write stores an AES-GCM value, so legacy pgcrypto rows are migrated when they are updated
+ */
+@ConditionalOnExpression(DBAesGcmConfiguration.AES_GCM_ENGINE_CONDITION)
+@Repository
+public class AesGcmDataDao implements DataRepository {
+
+    private static final String UPDATE_DATA = """
+            UPDATE data SET value = ?, encrypted = %d WHERE interrogation_id = ?
+            """.formatted(AesGcmDataEncryptionEngine.ENCRYPTED_FLAG);
+
+    private static final String UPDATE_DATA_BY_ID = """
+            UPDATE data SET value = ?, encrypted = %d WHERE id = ?
+            """.formatted(AesGcmDataEncryptionEngine.ENCRYPTED_FLAG);
+
+    private static final String LOCK_DATA = """
+            SELECT id, %s AS value FROM data WHERE interrogation_id = ? FOR UPDATE
+            """.formatted(AesGcmDataEncryptionEngine.READ_VALUE_EXPRESSION);
+
+    private static final String FIND_EXTRACTED_DATA_IDS = """
+            SELECT d.id
+            FROM data d
+            INNER JOIN interrogation su ON su.id = d.interrogation_id
+            INNER JOIN state_data sd ON sd.interrogation_id = su.id
+            WHERE su.campaign_id = ? AND sd.state = 'EXTRACTED'
+            AND sd.date BETWEEN ? AND ?
+            """;
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbc;
+    private final AesGcmObjectNodeConverter converter;
+
+    public AesGcmDataDao(EntityManager entityManager, JdbcTemplate jdbc, AesGcmDataEncryptionEngine encryptionEngine) {
+        this.entityManager = entityManager;
+        this.jdbc = jdbc;
+        this.converter = new AesGcmObjectNodeConverter(encryptionEngine);
+    }
+
+    @Override
+    public Optional<ObjectNode> findData(String interrogationId) {
+        return entityManager.createQuery("""
+                        select s.data.value from InterrogationDB s
+                        where s.id=:interrogationId""", ObjectNode.class)
+                .setParameter("interrogationId", interrogationId)
+                .getResultList().stream()
+                .filter(Objects::nonNull)
+                .findFirst();
+    }
+
+    @Override
+    @Transactional
+    public int updateData(String interrogationId, ObjectNode data) {
+        return jdbc.update(UPDATE_DATA, converter.convertToDatabaseColumn(data), interrogationId);
+    }
+
+    @Override
+    @Transactional
+    public void updateCollectedData(String interrogationId, ObjectNode collectedUpdateData) {
+        // the row is locked so concurrent partial updates are merged one after the other
+        List<StoredData> storedDatas = jdbc.query(LOCK_DATA,
+                (resultSet, rowNum) -> new StoredData(
+                        resultSet.getObject("id", UUID.class),
+                        converter.convertToEntityAttribute(resultSet.getBytes("value"))),
+                interrogationId);
+
+        for (StoredData storedData : storedDatas) {
+            ObjectNode data = CollectedDataMerger.merge(storedData.value(), collectedUpdateData);
+            jdbc.update(UPDATE_DATA_BY_ID, converter.convertToDatabaseColumn(data), storedData.id());
+        }
+    }
+
+    @Override
+    @Transactional
+    public DataDB save(DataDB data) {
+        entityManager.persist(data);
+        return data;
+    }
+
+    @Override
+    @Transactional
+    public void cleanExtractedData(String campaignId, Long startTimestamp, Long endTimestamp) {
+        List<UUID> dataIds = jdbc.queryForList(FIND_EXTRACTED_DATA_IDS, UUID.class, campaignId, startTimestamp, endTimestamp);
+        // each value gets its own IV, so the empty data is encrypted for each row
+        List<Object[]> parameters = dataIds.stream()
+                .map(dataId -> new Object[]{converter.convertToDatabaseColumn(JsonNodeFactory.instance.objectNode()), dataId})
+                .toList();
+        jdbc.batchUpdate(UPDATE_DATA_BY_ID, parameters);
+    }
+
+    @Override
+    @Transactional
+    public void cleanData(List<String> interrogationIds) {
+        List<Object[]> parameters = interrogationIds.stream()
+                .map(interrogationId -> new Object[]{converter.convertToDatabaseColumn(JsonNodeFactory.instance.objectNode()), interrogationId})
+                .toList();
+        jdbc.batchUpdate(UPDATE_DATA, parameters);
+    }
+
+    private record StoredData(UUID id, ObjectNode value) {
+    }
+}
@@ -0,0 +1,34 @@
+package fr.insee.queen.infrastructure.db.data.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Merge partial collected data in data, as the jsonb update of the unciphered data repository:
+ * variables of the partial collected data replace the variables of the current collected data
+ */
+public final class CollectedDataMerger {
+
+    public static final String COLLECTED_DATA = "COLLECTED";
+
+    private CollectedDataMerger() {
+        throw new IllegalArgumentException("Utility class");
+    }
+
+    /**
+     * @param data current data, updated in place when not null
+     * @param partialCollectedData partial collected data to set on current collected data
+     * @return merged data
+     */
+    public static ObjectNode merge(ObjectNode data, ObjectNode partialCollectedData) {
+        ObjectNode mergedData = data == null ? JsonNodeFactory.instance.objectNode() : data;
+        JsonNode collectedData = mergedData.get(COLLECTED_DATA);
+        ObjectNode mergedCollectedData = collectedData instanceof ObjectNode collectedNode
+                ? collectedNode
+                : JsonNodeFactory.instance.objectNode();
+        mergedCollectedData.setAll(partialCollectedData);
+        mergedData.set(COLLECTED_DATA, mergedCollectedData);
+        return mergedData;
+    }
+}
@@ -0,0 +1,67 @@
+package fr.insee.queen.infrastructure.db.data.repository;
+
+import fr.insee.queen.infrastructure.db.configuration.RoutingDataSource;
+import fr.insee.queen.infrastructure.db.data.repository.jpa.DataRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Fold the pending collected data deltas in the data table, so reads only merge a few recent deltas.
+ * Each interrogation is compacted in its own transaction, on the bulk connection pool when enabled.
+ */
+@ConditionalOnProperty(name = "feature.collected-data-delta.enabled", havingValue = "true")
+@Component
+@Slf4j
+public class DataDeltaCompactor {
+
+    private final DataDeltaDao dataDeltaDao;
+    private final DataRepository dataRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public DataDeltaCompactor(DataDeltaDao dataDeltaDao,
+                              DataRepository dataRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${feature.collected-data-delta.compaction-batch-size:500}") int batchSize) {
+        this.dataDeltaDao = dataDeltaDao;
+        this.dataRepository = dataRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Compact the interrogations with the oldest pending deltas
+     *
+     * @return number of compacted interrogations
+     */
+    @Scheduled(fixedDelayString = "${feature.collected-data-delta.compaction-delay:PT5S}")
+    public int compact() {
+        List<String> interrogationIds = dataDeltaDao.findCompactableInterrogationIds(batchSize);
+        int compactedCount = 0;
+        for (String interrogationId : interrogationIds) {
+            try {
+                RoutingDataSource.runAsBulkOperation(() ->
+                        transactionTemplate.executeWithoutResult(status -> compact(interrogationId)));
+                compactedCount++;
+            } catch (RuntimeException e) {
+                log.error("Unable to compact collected data deltas of interrogation {}", interrogationId, e);
+            }
+        }
+        if (compactedCount > 0) {
+            log.debug("Collected data deltas compacted for {} interrogations", compactedCount);
+        }
+        return compactedCount;
+    }
+
+    private void compact(String interrogationId) {
+        dataDeltaDao.pollMergedDeltas(interrogationId)
+                .ifPresent(mergedDelta -> dataRepository.updateCollectedData(interrogationId, mergedDelta));
+    }
+}
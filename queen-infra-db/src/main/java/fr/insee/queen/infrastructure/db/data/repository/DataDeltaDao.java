@@ -0,0 +1,217 @@
+package fr.insee.queen.infrastructure.db.data.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.insee.queen.infrastructure.db.data.encryption.DataEncryptionEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * Append-only log of partial collected data updates (feature.collected-data-delta.enabled).
+ * Deltas are merged on read and folded in the data table by the {@link DataDeltaCompactor}.
+ * Deltas are written with the data encryption engine, like the data table.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DataDeltaDao {
+
+    private static final String APPEND_DELTA = """
+            INSERT INTO data_delta (interrogation_id, value, encrypted)
+            SELECT interrogation_id, %s, %d FROM data WHERE interrogation_id = ?
+            """;
+
+    /**
+     * Data and pending deltas of interrogations, read by a single statement so they come from the same snapshot.
+     * The data row is returned first (delta_id 0), then the deltas in insertion order
+     */
+    private static final String FIND_DATA_WITH_DELTAS = """
+            WITH pending AS (
+                SELECT id, interrogation_id, value, encrypted FROM data_delta
+                WHERE interrogation_id = ANY (?)
+            )
+            SELECT interrogation_id, 0 AS delta_id, %1$s AS value FROM data
+            WHERE interrogation_id IN (SELECT interrogation_id FROM pending)
+            UNION ALL
+            SELECT interrogation_id, id AS delta_id, %1$s AS value FROM pending
+            ORDER BY interrogation_id, delta_id
+            """;
+
+    private static final String FIND_PENDING_INTERROGATION_IDS = "SELECT DISTINCT interrogation_id FROM data_delta";
+
+    private static final String LOCK_DELTAS = """
+            SELECT id, interrogation_id, %s AS value FROM data_delta
+            WHERE interrogation_id = ? ORDER BY id FOR UPDATE
+            """;
+
+    private static final String FIND_COMPACTABLE_INTERROGATION_IDS = """
+            SELECT interrogation_id FROM data_delta
+            GROUP BY interrogation_id ORDER BY min(id) LIMIT ?
+            """;
+
+    private static final String DELETE_DELTAS_BY_ID = "DELETE FROM data_delta WHERE id = ANY (?)";
+
+    private static final String DELETE_INTERROGATIONS_DELTAS = "DELETE FROM data_delta WHERE interrogation_id = ANY (?)";
+
+    private static final String DELETE_EXTRACTED_DELTAS = """
+            DELETE FROM data_delta
+            WHERE interrogation_id IN (
+                SELECT su.id
+                FROM interrogation su
+                INNER JOIN state_data sd ON sd.interrogation_id = su.id
+                WHERE su.campaign_id = ? AND sd.state = 'EXTRACTED'
+                AND sd.date BETWEEN ? AND ?
+            )
+            """;
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final JdbcTemplate jdbc;
+    private final DataEncryptionEngine dataEncryptionEngine;
+    @Value("${feature.collected-data-delta.enabled:false}")
+    private final boolean enabled;
+
+    /**
+     * @return true if partial collected data updates are appended in the delta log
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Append a partial collected data update. Nothing is appended if the interrogation has no data,
+     * as the update of the data table does nothing in this case
+     *
+     * @param interrogationId interrogation id
+     * @param partialCollectedData partial collected data
+     */
+    public void append(String interrogationId, ObjectNode partialCollectedData) {
+        String sql = APPEND_DELTA.formatted(dataEncryptionEngine.valueExpression("CAST(? AS text)"), dataEncryptionEngine.encryptedFlag());
+        jdbc.update(sql, dataEncryptionEngine.toSqlParameter(partialCollectedData.toString()), interrogationId);
+    }
+
+    /**
+     * Find the data of interrogations with pending deltas, with the deltas merged in insertion order.
+     * Data and deltas are read in the same snapshot: reading them separately would let a compaction
+     * fold newer deltas in data between the two reads, and the older deltas applied on top would revert them
+     *
+     * @param interrogationIds interrogation ids
+     * @return merged data by interrogation id, only for the interrogations with pending deltas
+     */
+    public Map<String, ObjectNode> findDataWithDeltas(Collection<String> interrogationIds) {
+        if (interrogationIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, ObjectNode> mergedData = new HashMap<>();
+        jdbc.query(con -> {
+            var preparedStatement = con.prepareStatement(FIND_DATA_WITH_DELTAS.formatted(dataEncryptionEngine.readValueExpression()));
+            preparedStatement.setArray(1, con.createArrayOf("varchar", interrogationIds.toArray()));
+            return preparedStatement;
+        }, (RowCallbackHandler) resultSet -> {
+            String interrogationId = resultSet.getString("interrogation_id");
+            ObjectNode value = readValue(resultSet);
+            if (resultSet.getLong("delta_id") == 0) {
+                mergedData.put(interrogationId, value);
+                return;
+            }
+            mergedData.compute(interrogationId, (id, data) -> CollectedDataMerger.merge(data, value));
+        });
+        return mergedData;
+    }
+
+    /**
+     * @return ids of interrogations with pending deltas. The compactor keeps this set small
+     */
+    public Set<String> findPendingInterrogationIds() {
+        return new HashSet<>(jdbc.queryForList(FIND_PENDING_INTERROGATION_IDS, String.class));
+    }
+
+    /**
+     * @param limit max number of interrogations
+     * @return ids of interrogations with pending deltas, oldest first
+     */
+    public List<String> findCompactableInterrogationIds(int limit) {
+        return jdbc.queryForList(FIND_COMPACTABLE_INTERROGATION_IDS, String.class, limit);
+    }
+
+    /**
+     * Lock and remove the pending deltas of an interrogation. Must be called in a transaction
+     * which applies the returned update on the data table
+     *
+     * @param interrogationId interrogation id
+     * @return merged partial collected data, empty if there is no pending delta
+     */
+    public Optional<ObjectNode> pollMergedDeltas(String interrogationId) {
+        List<Long> deltaIds = new ArrayList<>();
+        Map<String, ObjectNode> mergedDeltas = new HashMap<>();
+        RowCallbackHandler mergeHandler = mergeDeltasHandler(mergedDeltas);
+        jdbc.query(LOCK_DELTAS.formatted(dataEncryptionEngine.readValueExpression()), resultSet -> {
+            deltaIds.add(resultSet.getLong("id"));
+            mergeHandler.processRow(resultSet);
+        }, interrogationId);
+
+        if (deltaIds.isEmpty()) {
+            return Optional.empty();
+        }
+        // only the locked deltas are removed, deltas appended meanwhile are kept for the next compaction
+        jdbc.update(con -> {
+            var preparedStatement = con.prepareStatement(DELETE_DELTAS_BY_ID);
+            preparedStatement.setArray(1, con.createArrayOf("bigint", deltaIds.toArray()));
+            return preparedStatement;
+        });
+        return Optional.ofNullable(mergedDeltas.get(interrogationId));
+    }
+
+    /**
+     * Remove the pending deltas of interrogations whose whole data is replaced
+     *
+     * @param interrogationIds interrogation ids
+     */
+    public void deleteDeltas(Collection<String> interrogationIds) {
+        if (!enabled || interrogationIds.isEmpty()) {
+            return;
+        }
+        jdbc.update(con -> {
+            var preparedStatement = con.prepareStatement(DELETE_INTERROGATIONS_DELTAS);
+            preparedStatement.setArray(1, con.createArrayOf("varchar", interrogationIds.toArray()));
+            return preparedStatement;
+        });
+    }
+
+    /**
+     * Remove the pending deltas of extracted interrogations
+     *
+     * @param campaignId campaign id
+     * @param startTimestamp start timestamp
+     * @param endTimestamp end timestamp
+     */
+    public void deleteExtractedDeltas(String campaignId, Long startTimestamp, Long endTimestamp) {
+        if (!enabled) {
+            return;
+        }
+        jdbc.update(DELETE_EXTRACTED_DELTAS, campaignId, startTimestamp, endTimestamp);
+    }
+
+    private RowCallbackHandler mergeDeltasHandler(Map<String, ObjectNode> mergedDeltas) {
+        return resultSet -> {
+            ObjectNode delta = readValue(resultSet);
+            mergedDeltas.merge(resultSet.getString("interrogation_id"), delta, (mergedDelta, newDelta) -> mergedDelta.setAll(newDelta));
+        };
+    }
+
+    private ObjectNode readValue(ResultSet resultSet) throws SQLException {
+        String json = dataEncryptionEngine.fromSqlValue(resultSet.getString("value"));
+        try {
+            return (ObjectNode) mapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Error during collected data conversion", e);
+        }
+    }
+}
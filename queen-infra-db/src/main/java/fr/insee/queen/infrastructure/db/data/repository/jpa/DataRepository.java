@@ -3,6 +3,7 @@ package fr.insee.queen.infrastructure.db.data.repository.jpa;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import fr.insee.queen.infrastructure.db.data.entity.common.DataDB;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -51,4 +52,11 @@ public interface DataRepository {
      * @param endTimestamp end timestamp
      */
     void cleanExtractedData(String campaignId, Long startTimestamp, Long endTimestamp);
+
+    /**
+     * clean the data of interrogations
+     *
+     * @param interrogationIds interrogation ids
+     */
+    void cleanData(List<String> interrogationIds);
 }
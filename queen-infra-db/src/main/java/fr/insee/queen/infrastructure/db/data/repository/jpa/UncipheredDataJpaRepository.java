@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * JPA repository to handle interrogation's data response for a questionnaire
  */
@@ -45,4 +47,13 @@ public interface UncipheredDataJpaRepository extends DataJpaRepository {
             );
     """, nativeQuery = true)
     void cleanExtractedData(String campaignId, Long startTimestamp, Long endTimestamp);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE data
+            SET value = '{}'::jsonb
+            WHERE interrogation_id IN (:interrogationIds)
+    """, nativeQuery = true)
+    void cleanData(List<String> interrogationIds);
 }
@@ -0,0 +1,295 @@
+package fr.insee.queen.infrastructure.db.interrogation.directory;
+
+import fr.insee.queen.domain.campaign.model.CampaignSummary;
+import fr.insee.queen.domain.common.cache.CacheInvalidation;
+import fr.insee.queen.domain.common.cache.CacheInvalidationBus;
+import fr.insee.queen.domain.common.cache.CacheName;
+import fr.insee.queen.domain.interrogation.gateway.InterrogationDirectory;
+import fr.insee.queen.domain.interrogation.model.Interrogation;
+import fr.insee.queen.domain.interrogation.model.InterrogationSummary;
+import fr.insee.queen.infrastructure.db.configuration.RoutingDataSource;
+import fr.insee.queen.infrastructure.db.interrogation.repository.jpa.InterrogationJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Directory of all the interrogations kept in a {@link InterrogationDirectoryTable}.
+ * The interrogations are loaded in background once the application is ready, lookups are served by the directory
+ * only after that. Writes are applied by the repositories after the commit of their transaction.
+ * An interrogation missing from the directory is read from the database and added, so interrogations created
+ * by another instance are found. The interrogations deleted by another instance are removed through the
+ * interrogation summary evictions shared by the cache invalidation bus, and the directory is reloaded when all
+ * the summaries are evicted. Without the bus these interrogations would stay in the directory, so the application
+ * refuses to start when feature.cache-invalidation.enabled is not true.
+ * The directory only exists when feature.interrogation-directory.enabled is true: services and repositories
+ * inject it as an {@link Optional}, empty when the interrogations are not kept in memory.
+ */
+@ConditionalOnProperty(name = "feature.interrogation-directory.enabled", havingValue = "true")
+@Component
+@Slf4j
+public class InMemoryInterrogationDirectory implements InterrogationDirectory {
+    private static final int LOAD_BATCH_SIZE = 1000;
+    public static final String MISSING_INVALIDATION_BUS_MESSAGE =
+            "feature.interrogation-directory.enabled requires feature.cache-invalidation.enabled";
+
+    private InterrogationDirectoryTable table = new InterrogationDirectoryTable();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // reads all the interrogations and gives them to the consumer
+    private final Consumer<Consumer<InterrogationSummary>> snapshotReader;
+    private final Executor executor;
+    private volatile boolean loaded;
+    // ids and campaigns written while loading: the rows read from the snapshot are older
+    private Set<String> idsWrittenWhileLoading;
+    private Set<String> campaignsRemovedWhileLoading;
+    private long removals;
+
+    @Autowired
+    public InMemoryInterrogationDirectory(InterrogationJpaRepository jpaRepository,
+                                          PlatformTransactionManager transactionManager,
+                                          @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                          Optional<CacheInvalidationBus> cacheInvalidationBus) {
+        this(summaryConsumer -> {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            RoutingDataSource.runAsBulkOperation(() -> transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<InterrogationSummary> summaries = jpaRepository.streamAllSummaries()) {
+                    summaries.forEach(summaryConsumer);
+                }
+            }));
+        }, taskExecutor);
+        cacheInvalidationBus
+                .orElseThrow(() -> new IllegalStateException(MISSING_INVALIDATION_BUS_MESSAGE))
+                .subscribe(this::applyInvalidation);
+    }
+
+    InMemoryInterrogationDirectory(Consumer<Consumer<InterrogationSummary>> snapshotReader, Executor executor) {
+        this.snapshotReader = snapshotReader;
+        this.executor = executor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadInBackground() {
+        executor.execute(this::load);
+    }
+
+    /**
+     * Load all the interrogations, the directory is used once loaded
+     */
+    synchronized void load() {
+        long start = System.currentTimeMillis();
+        withWriteLock(() -> {
+            table = new InterrogationDirectoryTable();
+            idsWrittenWhileLoading = new HashSet<>();
+            campaignsRemovedWhileLoading = new HashSet<>();
+        });
+        try {
+            List<InterrogationSummary> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+            snapshotReader.accept(summary -> {
+                batch.add(summary);
+                if (batch.size() == LOAD_BATCH_SIZE) {
+                    putSnapshotRows(batch);
+                    batch.clear();
+                }
+            });
+            putSnapshotRows(batch);
+            withWriteLock(() -> loaded = true);
+            log.info("Interrogation directory: {} interrogations loaded in {} ms", size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("Unable to load the interrogation directory, interrogation lookups stay on the caches", e);
+        } finally {
+            withWriteLock(() -> {
+                idsWrittenWhileLoading = null;
+                campaignsRemovedWhileLoading = null;
+            });
+        }
+    }
+
+    private void putSnapshotRows(List<InterrogationSummary> summaries) {
+        withWriteLock(() -> summaries.stream()
+                .filter(summary -> !campaignsRemovedWhileLoading.contains(summary.campaign().getId()))
+                .forEach(summary -> {
+                    if (idsWrittenWhileLoading.contains(summary.id())) {
+                        table.resolveCampaign(summary.campaign());
+                        return;
+                    }
+                    table.put(summary, false);
+                }));
+    }
+
+    /**
+     * Apply an interrogation summary eviction published by another instance
+     *
+     * @param invalidation eviction received from the cache invalidation bus
+     */
+    void applyInvalidation(CacheInvalidation invalidation) {
+        if (!invalidation.isAllCaches() && !CacheName.INTERROGATION_SUMMARY.equals(invalidation.cacheName())) {
+            return;
+        }
+        if (!invalidation.isAllCaches() && !invalidation.isAllEntries()) {
+            removeAll(List.of(invalidation.key()));
+            return;
+        }
+        // lookups stay on the caches until the directory is reloaded
+        withWriteLock(() -> {
+            loaded = false;
+            removals++;
+        });
+        executor.execute(this::load);
+    }
+
+    @Override
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return table.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean exists(String interrogationId, Function<String, Optional<InterrogationSummary>> loader) {
+        lock.readLock().lock();
+        try {
+            if (table.contains(interrogationId)) {
+                return true;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return findSummary(interrogationId, loader).isPresent();
+    }
+
+    @Override
+    public Optional<InterrogationSummary> findSummary(String interrogationId, Function<String, Optional<InterrogationSummary>> loader) {
+        long removalsBeforeLoading;
+        lock.readLock().lock();
+        try {
+            Optional<InterrogationSummary> summary = table.find(interrogationId);
+            if (summary.isPresent()) {
+                return summary;
+            }
+            removalsBeforeLoading = removals;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Optional<InterrogationSummary> summary = loader.apply(interrogationId);
+        // the summary read may be removed meanwhile: it is only added if nothing was removed since
+        summary.ifPresent(value -> afterCommit(() -> {
+            if (removals == removalsBeforeLoading) {
+                written(value.id());
+                table.put(value, true);
+            }
+        }));
+        return summary;
+    }
+
+    /**
+     * Add or replace interrogations, once the current transaction is committed
+     *
+     * @param interrogations interrogations created or updated
+     */
+    public void putAll(Collection<Interrogation> interrogations) {
+        afterCommit(() -> interrogations.forEach(interrogation -> {
+            written(interrogation.id());
+            table.put(interrogation.id(), interrogation.surveyUnitId(), interrogation.campaignId(), interrogation.questionnaireId());
+        }));
+    }
+
+    /**
+     * Remove interrogations, once the current transaction is committed
+     *
+     * @param interrogationIds ids of the deleted interrogations
+     */
+    public void removeAll(Collection<String> interrogationIds) {
+        afterCommit(() -> {
+            removals++;
+            interrogationIds.forEach(interrogationId -> {
+                written(interrogationId);
+                table.remove(interrogationId);
+            });
+        });
+    }
+
+    /**
+     * Remove the interrogations of a campaign, once the current transaction is committed
+     *
+     * @param campaignId campaign id
+     */
+    public void removeCampaign(String campaignId) {
+        afterCommit(() -> {
+            removals++;
+            if (campaignsRemovedWhileLoading != null) {
+                campaignsRemovedWhileLoading.add(campaignId);
+            }
+            table.removeCampaign(campaignId);
+        });
+    }
+
+    /**
+     * Replace the label and sensitivity of a campaign, once the current transaction is committed
+     *
+     * @param campaign campaign summary
+     */
+    public void updateCampaign(CampaignSummary campaign) {
+        afterCommit(() -> table.updateCampaign(campaign));
+    }
+
+    private void written(String interrogationId) {
+        if (idsWrittenWhileLoading != null) {
+            idsWrittenWhileLoading.add(interrogationId);
+        }
+    }
+
+    /**
+     * Apply an update under the write lock after the commit of the current transaction, or now without transaction.
+     * Nothing is applied if the transaction is rolled back.
+     */
+    private void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            withWriteLock(update);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                withWriteLock(update);
+            }
+        });
+    }
+
+    private void withWriteLock(Runnable update) {
+        lock.writeLock().lock();
+        try {
+            update.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package fr.insee.queen.infrastructure.db.interrogation.directory;
+
+import fr.insee.queen.domain.campaign.model.CampaignSummary;
+import fr.insee.queen.domain.interrogation.model.InterrogationSummary;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compact table of interrogations, not thread safe.
+ * Interrogation and survey unit ids are stored as UTF-8 bytes in a single arena, rows are columns of ints
+ * (arena offset, id and survey unit lengths, campaign and questionnaire references) and the ids are indexed
+ * by an open addressing hash table of row numbers. Campaigns and questionnaires are interned,
+ * so a row costs about the size of its ids plus 32 bytes, without any object by interrogation.
+ */
+final class InterrogationDirectoryTable {
+    private static final int INITIAL_ROWS = 1024;
+    private static final int EMPTY_SLOT = -1;
+    /**
+     * Campaign known by id only, its summary is read from the database on the first lookup
+     */
+    private static final CampaignSummary UNRESOLVED_CAMPAIGN = null;
+
+    private byte[] arena = new byte[INITIAL_ROWS * 32];
+    private int arenaSize;
+    private int deadBytes;
+
+    private int[] hashes = new int[INITIAL_ROWS];
+    private int[] offsets = new int[INITIAL_ROWS];
+    private int[] idLengths = new int[INITIAL_ROWS];
+    private int[] surveyUnitLengths = new int[INITIAL_ROWS];
+    private int[] campaigns = new int[INITIAL_ROWS];
+    private int[] questionnaires = new int[INITIAL_ROWS];
+    private int rowCount;
+
+    private int[] slots = emptySlots(INITIAL_ROWS * 2);
+
+    private final List<String> campaignIds = new ArrayList<>();
+    private final List<CampaignSummary> campaignSummaries = new ArrayList<>();
+    private final Map<String, Integer> campaignIndexes = new HashMap<>();
+    private final List<String> questionnaireIds = new ArrayList<>();
+    private final Map<String, Integer> questionnaireIndexes = new HashMap<>();
+
+    int size() {
+        return rowCount;
+    }
+
+    boolean contains(String interrogationId) {
+        return findRow(interrogationId.getBytes(StandardCharsets.UTF_8)) != EMPTY_SLOT;
+    }
+
+    /**
+     * @param interrogationId interrogation id
+     * @return summary of the interrogation, empty if the interrogation is unknown or its campaign is not resolved
+     */
+    Optional<InterrogationSummary> find(String interrogationId) {
+        int row = findRow(interrogationId.getBytes(StandardCharsets.UTF_8));
+        if (row == EMPTY_SLOT) {
+            return Optional.empty();
+        }
+        CampaignSummary campaign = campaignSummaries.get(campaigns[row]);
+        if (campaign == UNRESOLVED_CAMPAIGN) {
+            return Optional.empty();
+        }
+        String surveyUnitId = surveyUnitLengths[row] < 0 ? null
+                : new String(arena, offsets[row] + idLengths[row], surveyUnitLengths[row], StandardCharsets.UTF_8);
+        return Optional.of(new InterrogationSummary(interrogationId, surveyUnitId,
+                questionnaireIds.get(questionnaires[row]), campaign));
+    }
+
+    /**
+     * Add or replace an interrogation
+     *
+     * @param interrogationId interrogation id
+     * @param surveyUnitId survey unit id
+     * @param campaignId campaign id
+     * @param questionnaireId questionnaire id
+     */
+    void put(String interrogationId, String surveyUnitId, String campaignId, String questionnaireId) {
+        putRow(interrogationId, surveyUnitId, internCampaign(campaignId), internQuestionnaire(questionnaireId));
+    }
+
+    /**
+     * Add or replace an interrogation, the campaign summary replaces the one known for the campaign if asked
+     *
+     * @param summary interrogation summary
+     * @param replaceCampaign true if the campaign summary is more recent than the one in the table
+     */
+    void put(InterrogationSummary summary, boolean replaceCampaign) {
+        if (replaceCampaign) {
+            updateCampaign(summary.campaign());
+        } else {
+            resolveCampaign(summary.campaign());
+        }
+        putRow(summary.id(), summary.surveyUnitId(), internCampaign(summary.campaign().getId()),
+                internQuestionnaire(summary.questionnaireId()));
+    }
+
+    /**
+     * Set the summary of a campaign known by id only
+     *
+     * @param campaign campaign summary
+     */
+    void resolveCampaign(CampaignSummary campaign) {
+        int index = internCampaign(campaign.getId());
+        if (campaignSummaries.get(index) == UNRESOLVED_CAMPAIGN) {
+            campaignSummaries.set(index, withoutQuestionnaires(campaign));
+        }
+    }
+
+    /**
+     * Replace the summary of a campaign
+     *
+     * @param campaign campaign summary
+     */
+    void updateCampaign(CampaignSummary campaign) {
+        campaignSummaries.set(internCampaign(campaign.getId()), withoutQuestionnaires(campaign));
+    }
+
+    boolean remove(String interrogationId) {
+        int slot = findSlot(interrogationId.getBytes(StandardCharsets.UTF_8));
+        if (slots[slot] == EMPTY_SLOT) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    /**
+     * Remove all the interrogations of a campaign
+     *
+     * @param campaignId campaign id
+     */
+    void removeCampaign(String campaignId) {
+        Integer campaign = campaignIndexes.get(campaignId);
+        if (campaign == null) {
+            return;
+        }
+        int slot = 0;
+        while (slot < slots.length) {
+            int row = slots[slot];
+            // after a removal, the slot holds the next entry of the probe sequence, so it is checked again
+            if (row != EMPTY_SLOT && campaigns[row] == campaign) {
+                removeAt(slot);
+            } else {
+                slot++;
+            }
+        }
+        // the entry is kept, so the references of the other rows stay valid
+        campaignSummaries.set(campaign, UNRESOLVED_CAMPAIGN);
+    }
+
+    private void putRow(String interrogationId, String surveyUnitId, int campaign, int questionnaire) {
+        byte[] id = interrogationId.getBytes(StandardCharsets.UTF_8);
+        byte[] surveyUnit = surveyUnitId == null ? null : surveyUnitId.getBytes(StandardCharsets.UTF_8);
+        int slot = findSlot(id);
+        int row = slots[slot];
+        if (row == EMPTY_SLOT) {
+            row = newRow(hash(id));
+            slots[slot] = row;
+            writeIds(row, id, surveyUnit);
+        } else if (!sameSurveyUnit(row, surveyUnit)) {
+            deadBytes += idLengths[row] + Math.max(surveyUnitLengths[row], 0);
+            writeIds(row, id, surveyUnit);
+        }
+        campaigns[row] = campaign;
+        questionnaires[row] = questionnaire;
+        if (slots.length < rowCount * 2) {
+            rehash(slots.length * 2);
+        }
+        if (deadBytes > arenaSize / 2) {
+            compactArena();
+        }
+    }
+
+    private int newRow(int hash) {
+        if (rowCount == offsets.length) {
+            int capacity = offsets.length * 2;
+            hashes = Arrays.copyOf(hashes, capacity);
+            offsets = Arrays.copyOf(offsets, capacity);
+            idLengths = Arrays.copyOf(idLengths, capacity);
+            surveyUnitLengths = Arrays.copyOf(surveyUnitLengths, capacity);
+            campaigns = Arrays.copyOf(campaigns, capacity);
+            questionnaires = Arrays.copyOf(questionnaires, capacity);
+        }
+        hashes[rowCount] = hash;
+        return rowCount++;
+    }
+
+    private void writeIds(int row, byte[] id, byte[] surveyUnit) {
+        int length = id.length + (surveyUnit == null ? 0 : surveyUnit.length);
+        ensureArenaCapacity(length);
+        offsets[row] = arenaSize;
+        idLengths[row] = id.length;
+        surveyUnitLengths[row] = surveyUnit == null ? -1 : surveyUnit.length;
+        System.arraycopy(id, 0, arena, arenaSize, id.length);
+        if (surveyUnit != null) {
+            System.arraycopy(surveyUnit, 0, arena, arenaSize + id.length, surveyUnit.length);
+        }
+        arenaSize += length;
+    }
+
+    private void ensureArenaCapacity(int length) {
+        if (arenaSize + length > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arena.length * 2, arenaSize + length));
+        }
+    }
+
+    private boolean sameSurveyUnit(int row, byte[] surveyUnit) {
+        if (surveyUnit == null || surveyUnitLengths[row] < 0) {
+            return surveyUnit == null && surveyUnitLengths[row] < 0;
+        }
+        int start = offsets[row] + idLengths[row];
+        return Arrays.equals(arena, start, start + surveyUnitLengths[row], surveyUnit, 0, surveyUnit.length);
+    }
+
+    /**
+     * Remove the row referenced by a slot: the last row is moved in its place, and the following entries of the
+     * probe sequence are shifted back so that no tombstone is needed
+     */
+    private void removeAt(int slot) {
+        int row = slots[slot];
+        deadBytes += idLengths[row] + Math.max(surveyUnitLengths[row], 0);
+        shiftBack(slot);
+
+        int lastRow = rowCount - 1;
+        if (row != lastRow) {
+            slots[slotOfRow(lastRow)] = row;
+            hashes[row] = hashes[lastRow];
+            offsets[row] = offsets[lastRow];
+            idLengths[row] = idLengths[lastRow];
+            surveyUnitLengths[row] = surveyUnitLengths[lastRow];
+            campaigns[row] = campaigns[lastRow];
+            questionnaires[row] = questionnaires[lastRow];
+        }
+        rowCount--;
+        if (rowCount == 0) {
+            arenaSize = 0;
+            deadBytes = 0;
+        }
+    }
+
+    private void shiftBack(int slot) {
+        int mask = slots.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (slots[next] != EMPTY_SLOT) {
+            int home = hashes[slots[next]] & mask;
+            // the entry can fill the hole if its home slot is not between the hole and itself
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                slots[hole] = slots[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        slots[hole] = EMPTY_SLOT;
+    }
+
+    private int slotOfRow(int row) {
+        int mask = slots.length - 1;
+        int slot = hashes[row] & mask;
+        while (slots[slot] != row) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int findRow(byte[] id) {
+        return slots[findSlot(id)];
+    }
+
+    /**
+     * @return slot of the id, or the empty slot where the id would be inserted
+     */
+    private int findSlot(byte[] id) {
+        int hash = hash(id);
+        int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (true) {
+            int row = slots[slot];
+            if (row == EMPTY_SLOT || (hashes[row] == hash && sameId(row, id))) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private boolean sameId(int row, byte[] id) {
+        return idLengths[row] == id.length
+                && Arrays.equals(arena, offsets[row], offsets[row] + id.length, id, 0, id.length);
+    }
+
+    private void rehash(int capacity) {
+        slots = emptySlots(capacity);
+        int mask = capacity - 1;
+        for (int row = 0; row < rowCount; row++) {
+            int slot = hashes[row] & mask;
+            while (slots[slot] != EMPTY_SLOT) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = row;
+        }
+    }
+
+    private void compactArena() {
+        byte[] compacted = new byte[Math.max(INITIAL_ROWS * 32, (arenaSize - deadBytes) * 2)];
+        int size = 0;
+        for (int row = 0; row < rowCount; row++) {
+            int length = idLengths[row] + Math.max(surveyUnitLengths[row], 0);
+            System.arraycopy(arena, offsets[row], compacted, size, length);
+            offsets[row] = size;
+            size += length;
+        }
+        arena = compacted;
+        arenaSize = size;
+        deadBytes = 0;
+    }
+
+    private int internCampaign(String campaignId) {
+        return campaignIndexes.computeIfAbsent(campaignId, id -> {
+            campaignIds.add(id);
+            campaignSummaries.add(UNRESOLVED_CAMPAIGN);
+            return campaignIds.size() - 1;
+        });
+    }
+
+    private int internQuestionnaire(String questionnaireId) {
+        return questionnaireIndexes.computeIfAbsent(questionnaireId, id -> {
+            questionnaireIds.add(id);
+            return questionnaireIds.size() - 1;
+        });
+    }
+
+    /**
+     * Summaries are shared by all the interrogations of the campaign, the questionnaire ids are not part of them
+     */
+    private static CampaignSummary withoutQuestionnaires(CampaignSummary campaign) {
+        return new CampaignSummary(campaign.getId(), campaign.getLabel(), campaign.getSensitivity());
+    }
+
+    private static int hash(byte[] id) {
+        int hash = Arrays.hashCode(id);
+        // spread the high bits, the table index only uses the low ones
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int[] emptySlots(int capacity) {
+        int[] emptySlots = new int[capacity];
+        Arrays.fill(emptySlots, EMPTY_SLOT);
+        return emptySlots;
+    }
+}
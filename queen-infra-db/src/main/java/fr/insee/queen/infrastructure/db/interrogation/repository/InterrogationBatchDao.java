@@ -2,14 +2,16 @@ package fr.insee.queen.infrastructure.db.interrogation.repository;
 
 import fr.insee.queen.domain.interrogation.gateway.InterrogationBatchRepository;
 import fr.insee.queen.domain.interrogation.model.Interrogation;
+import fr.insee.queen.infrastructure.db.data.encryption.DataEncryptionEngine;
+import fr.insee.queen.infrastructure.db.data.repository.DataDeltaDao;
+import fr.insee.queen.infrastructure.db.interrogation.directory.InMemoryInterrogationDirectory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.sql.Types;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -17,8 +19,9 @@ import java.util.UUID;
 public class InterrogationBatchDao implements InterrogationBatchRepository {
 
     private final JdbcTemplate jdbc;
-    @Value("${feature.sensitive-data.enabled:false}")
-    private final boolean cipherEnabled;
+    private final DataEncryptionEngine dataEncryptionEngine;
+    private final DataDeltaDao dataDeltaDao;
+    private final Optional<InMemoryInterrogationDirectory> interrogationDirectory;
 
     @Override
     @Transactional
@@ -41,53 +44,28 @@ public class InterrogationBatchDao implements InterrogationBatchRepository {
 
 
 
-        if(cipherEnabled) {
-            upsertDataCiphered(interrogations);
-        } else {
-            upsertData(interrogations);
-        }
+        dataDeltaDao.deleteDeltas(interrogations.stream().map(Interrogation::id).toList());
+        upsertData(interrogations);
 
         deletePersonalizationIfNull(interrogations);
         upsertPersonalizationIfNotNull(interrogations);
+        interrogationDirectory.ifPresent(directory -> directory.putAll(interrogations));
     }
 
     private void upsertData(List<Interrogation> interrogations) {
+        // ? is the json text converted by the encryption engine
         final String sqlData = """
             INSERT INTO data (id, value, interrogation_id, encrypted)
-            VALUES (?, ?::jsonb, ?, 0)
+            VALUES (?, %s, ?, %d)
             ON CONFLICT (interrogation_id) DO UPDATE SET
                 value = EXCLUDED.value,
                 encrypted = EXCLUDED.encrypted
-        """;
-
-        jdbc.batchUpdate(sqlData, interrogations, interrogations.size(),
-                (preparedStatement, interrogation) -> {
-                    preparedStatement.setObject(1, UUID.randomUUID());
-                    preparedStatement.setString(2, interrogation.data().toString());
-                    preparedStatement.setString(3, interrogation.id());
-                }
-        );
-    }
-
-    private void upsertDataCiphered(List<Interrogation> interrogations) {
-        // Ici, ? est du texte JSON ; la colonne est BYTEA et la clé est dans la GUC (initSql du pool)
-        final String sqlData = """
-            INSERT INTO data (id, value, interrogation_id, encrypted)
-            VALUES (
-                ?,
-                pgp_sym_encrypt(?::text, current_setting('data.encryption.key'), 's2k-count=65536'),
-                ?,
-                1
-            )
-            ON CONFLICT (interrogation_id) DO UPDATE SET
-                value = EXCLUDED.value,
-                encrypted = EXCLUDED.encrypted
-        """;
+        """.formatted(dataEncryptionEngine.valueExpression("CAST(? AS text)"), dataEncryptionEngine.encryptedFlag());
 
         jdbc.batchUpdate(sqlData, interrogations, interrogations.size(),
                 (preparedStatement, interrogation) -> {
                     preparedStatement.setObject(1, UUID.randomUUID());
-                    preparedStatement.setObject(2, interrogation.data().toString(), Types.OTHER);
+                    preparedStatement.setString(2, dataEncryptionEngine.toSqlParameter(interrogation.data().toString()));
                     preparedStatement.setString(3, interrogation.id());
                 }
         );
@@ -148,5 +126,6 @@ public class InterrogationBatchDao implements InterrogationBatchRepository {
             preparedStatement.setArray(1, con.createArrayOf("varchar", interrogationIds.toArray()));
             return preparedStatement;
         });
+        interrogationDirectory.ifPresent(directory -> directory.removeAll(interrogationIds));
     }
 }
@@ -0,0 +1,191 @@
+package fr.insee.queen.infrastructure.db.interrogation.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import fr.insee.queen.domain.interrogation.gateway.InterrogationBulkLoadRepository;
+import fr.insee.queen.domain.interrogation.model.Interrogation;
+import fr.insee.queen.domain.interrogation.model.InterrogationBulkLoadBatch;
+import fr.insee.queen.domain.interrogation.model.StateData;
+import fr.insee.queen.infrastructure.db.data.encryption.DataEncryptionEngine;
+import fr.insee.queen.infrastructure.db.data.repository.DataDeltaDao;
+import fr.insee.queen.infrastructure.db.interrogation.directory.InMemoryInterrogationDirectory;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Load interrogations with COPY into the unlogged staging table, then merge the staging rows
+ * into interrogation/data/personalization/comment/state_data with set-based statements.
+ * Staging rows are tagged with a load id so concurrent loads do not see each other rows.
+ * When data is encrypted by the database, the plain data is staged in a temporary table private to the transaction instead.
+ * Each batch is committed in its own transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InterrogationBulkLoadDao implements InterrogationBulkLoadRepository {
+
+    private static final String STAGING_TABLE = "interrogation_staging";
+    private static final String PRIVATE_STAGING_TABLE = "interrogation_staging_private";
+
+    private static final String CREATE_PRIVATE_STAGING = """
+            CREATE TEMPORARY TABLE %s (LIKE %s) ON COMMIT DROP
+            """.formatted(PRIVATE_STAGING_TABLE, STAGING_TABLE);
+
+    private static final String COPY_STAGING = """
+            COPY %s (load_id, id, survey_unit_id, campaign_id, questionnaire_model_id,
+                personalization, comment, data, state, state_date, current_page,
+                personalization_id, comment_id, data_id, state_data_id)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String MERGE_INTERROGATION = """
+            INSERT INTO interrogation (id, survey_unit_id, campaign_id, questionnaire_model_id)
+            SELECT id, survey_unit_id, campaign_id, questionnaire_model_id
+            FROM %1$s WHERE load_id = ?
+            ON CONFLICT (id) DO UPDATE SET
+                survey_unit_id = EXCLUDED.survey_unit_id,
+                campaign_id = EXCLUDED.campaign_id,
+                questionnaire_model_id = EXCLUDED.questionnaire_model_id
+            """;
+
+    private static final String MERGE_DATA = """
+            INSERT INTO data (id, value, interrogation_id, encrypted)
+            SELECT data_id, %2$s, id, %3$d
+            FROM %1$s WHERE load_id = ?
+            ON CONFLICT (interrogation_id) DO UPDATE SET
+                value = EXCLUDED.value,
+                encrypted = EXCLUDED.encrypted
+            """;
+
+    private static final String DELETE_PERSONALIZATION = """
+            DELETE FROM personalization p
+            USING %1$s s
+            WHERE s.load_id = ? AND s.personalization IS NULL AND p.interrogation_id = s.id
+            """;
+
+    private static final String MERGE_PERSONALIZATION = """
+            INSERT INTO personalization (id, value, interrogation_id)
+            SELECT personalization_id, CAST(personalization AS jsonb), id
+            FROM %1$s WHERE load_id = ? AND personalization IS NOT NULL
+            ON CONFLICT (interrogation_id) DO UPDATE SET
+                value = EXCLUDED.value
+            """;
+
+    private static final String MERGE_COMMENT = """
+            INSERT INTO comment (id, value, interrogation_id)
+            SELECT comment_id, CAST(comment AS jsonb), id
+            FROM %1$s WHERE load_id = ? AND comment IS NOT NULL
+            ON CONFLICT (interrogation_id) DO UPDATE SET
+                value = EXCLUDED.value
+            """;
+
+    private static final String MERGE_STATE_DATA = """
+            INSERT INTO state_data (id, state, date, current_page, interrogation_id)
+            SELECT state_data_id, state, state_date, current_page, id
+            FROM %1$s WHERE load_id = ? AND state IS NOT NULL
+            ON CONFLICT (interrogation_id) DO UPDATE SET
+                state = EXCLUDED.state,
+                date = EXCLUDED.date,
+                current_page = EXCLUDED.current_page
+            """;
+
+    private static final String CLEAN_STAGING = "DELETE FROM %1$s WHERE load_id = ?";
+
+    private final JdbcTemplate jdbc;
+    private final DataEncryptionEngine dataEncryptionEngine;
+    private final DataDeltaDao dataDeltaDao;
+    private final Optional<InMemoryInterrogationDirectory> interrogationDirectory;
+
+    @Transactional
+    @Override
+    public InterrogationBulkLoadBatch load(List<Interrogation> interrogations) {
+        UUID loadId = UUID.randomUUID();
+        String stagingTable = STAGING_TABLE;
+        if (dataEncryptionEngine.encryptsInDatabase()) {
+            // plain sensitive data must not be written in the shared staging table
+            jdbc.execute(CREATE_PRIVATE_STAGING);
+            stagingTable = PRIVATE_STAGING_TABLE;
+        }
+
+        long start = System.currentTimeMillis();
+        copyToStaging(stagingTable, loadId, interrogations);
+        long copyEnd = System.currentTimeMillis();
+
+        jdbc.update(MERGE_INTERROGATION.formatted(stagingTable), loadId);
+        dataDeltaDao.deleteDeltas(interrogations.stream().map(Interrogation::id).toList());
+        jdbc.update(MERGE_DATA.formatted(stagingTable, dataEncryptionEngine.valueExpression("data"), dataEncryptionEngine.encryptedFlag()), loadId);
+        jdbc.update(DELETE_PERSONALIZATION.formatted(stagingTable), loadId);
+        jdbc.update(MERGE_PERSONALIZATION.formatted(stagingTable), loadId);
+        jdbc.update(MERGE_COMMENT.formatted(stagingTable), loadId);
+        jdbc.update(MERGE_STATE_DATA.formatted(stagingTable), loadId);
+        jdbc.update(CLEAN_STAGING.formatted(stagingTable), loadId);
+        interrogationDirectory.ifPresent(directory -> directory.putAll(interrogations));
+        long mergeEnd = System.currentTimeMillis();
+
+        return new InterrogationBulkLoadBatch(interrogations.size(), copyEnd - start, mergeEnd - copyEnd);
+    }
+
+    private void copyToStaging(String stagingTable, UUID loadId, List<Interrogation> interrogations) {
+        // executed on the connection bound to the current transaction
+        jdbc.execute((ConnectionCallback<Long>) connection -> {
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING.formatted(stagingTable));
+            try {
+                for (Interrogation interrogation : interrogations) {
+                    byte[] row = toCsvRow(loadId, interrogation).getBytes(StandardCharsets.UTF_8);
+                    copyIn.writeToCopy(row, 0, row.length);
+                }
+                return copyIn.endCopy();
+            } catch (SQLException ex) {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+                throw ex;
+            }
+        });
+    }
+
+    private String toCsvRow(UUID loadId, Interrogation interrogation) {
+        StateData stateData = interrogation.stateData();
+        StringBuilder row = new StringBuilder();
+        appendCsvValue(row, loadId.toString());
+        appendCsvValue(row, interrogation.id());
+        appendCsvValue(row, interrogation.surveyUnitId());
+        appendCsvValue(row, interrogation.campaignId());
+        appendCsvValue(row, interrogation.questionnaireId());
+        appendCsvValue(row, toJson(interrogation.personalization()));
+        appendCsvValue(row, toJson(interrogation.comment()));
+        appendCsvValue(row, dataEncryptionEngine.toSqlParameter(toJson(interrogation.data())));
+        appendCsvValue(row, stateData == null || stateData.state() == null ? null : stateData.state().name());
+        appendCsvValue(row, stateData == null || stateData.date() == null ? null : stateData.date().toString());
+        appendCsvValue(row, stateData == null ? null : stateData.currentPage());
+        appendCsvValue(row, UUID.randomUUID().toString());
+        appendCsvValue(row, UUID.randomUUID().toString());
+        appendCsvValue(row, UUID.randomUUID().toString());
+        appendCsvValue(row, UUID.randomUUID().toString());
+        row.setCharAt(row.length() - 1, '\n');
+        return row.toString();
+    }
+
+    /**
+     * In csv format, an unquoted empty value is NULL, and quoted values only need their quotes doubled
+     */
+    private void appendCsvValue(StringBuilder row, String value) {
+        if (value != null) {
+            row.append('"').append(value.replace("\"", "\"\"")).append('"');
+        }
+        row.append(',');
+    }
+
+    private String toJson(JsonNode node) {
+        return node == null ? null : node.toString();
+    }
+}
@@ -1,29 +1,36 @@
 package fr.insee.queen.infrastructure.db.interrogation.repository;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.insee.queen.domain.common.json.RawJson;
 import fr.insee.queen.domain.interrogation.gateway.InterrogationRepository;
 import fr.insee.queen.domain.interrogation.model.*;
-import fr.insee.queen.infrastructure.db.campaign.entity.CampaignDB;
-import fr.insee.queen.infrastructure.db.campaign.entity.QuestionnaireModelDB;
-import fr.insee.queen.infrastructure.db.campaign.repository.jpa.CampaignJpaRepository;
-import fr.insee.queen.infrastructure.db.campaign.repository.jpa.QuestionnaireModelJpaRepository;
+import fr.insee.queen.infrastructure.db.data.encryption.DataEncryptionEngine;
 import fr.insee.queen.infrastructure.db.data.entity.common.DataDB;
+import fr.insee.queen.infrastructure.db.data.repository.DataDeltaDao;
+import fr.insee.queen.infrastructure.db.interrogation.directory.InMemoryInterrogationDirectory;
 import fr.insee.queen.infrastructure.db.interrogation.entity.*;
 import fr.insee.queen.infrastructure.db.interrogation.projection.InterrogationProjection;
 import fr.insee.queen.infrastructure.db.interrogation.repository.jpa.*;
 import fr.insee.queen.infrastructure.db.configuration.DataFactory;
 import fr.insee.queen.infrastructure.db.data.repository.jpa.DataRepository;
-import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
-import java.util.stream.Collectors;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 
-import java.util.LinkedHashMap;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * DAO to handle interrogations in DB
@@ -32,15 +39,35 @@ import java.util.Optional;
 @Slf4j
 @RequiredArgsConstructor
 public class InterrogationDao implements InterrogationRepository {
+    /**
+     * Input row of the interrogation write statements, so each parameter is bound only once
+     */
+    private static final String INPUT_CTE = """
+            WITH input AS (
+                SELECT CAST(? AS varchar) AS id,
+                       CAST(? AS varchar) AS survey_unit_id,
+                       CAST(? AS varchar) AS campaign_id,
+                       CAST(? AS varchar) AS questionnaire_model_id,
+                       CAST(? AS jsonb) AS personalization,
+                       CAST(? AS jsonb) AS comment,
+                       CAST(? AS text) AS data,
+                       CAST(? AS uuid) AS personalization_id,
+                       CAST(? AS uuid) AS comment_id,
+                       CAST(? AS uuid) AS data_id
+            )
+            """;
+
+    private static final String FIND_RAW_DATA = "SELECT %s AS value FROM data WHERE interrogation_id = ?";
 
     private final InterrogationJpaRepository crudRepository;
     private final CommentJpaRepository commentRepository;
     private final PersonalizationJpaRepository personalizationRepository;
     private final DataRepository dataRepository;
-    private final CampaignJpaRepository campaignRepository;
-    private final QuestionnaireModelJpaRepository questionnaireModelRepository;
+    private final DataDeltaDao dataDeltaDao;
     private final DataFactory dataFactory;
-    private final EntityManager entityManager;
+    private final JdbcTemplate jdbc;
+    private final DataEncryptionEngine dataEncryptionEngine;
+    private final Optional<InMemoryInterrogationDirectory> interrogationDirectory;
 
     @Override
     public Optional<InterrogationSummary> findSummaryById(String interrogationId) {
@@ -64,8 +91,10 @@ public class InterrogationDao implements InterrogationRepository {
 
     @Override
     public Optional<Interrogation> find(String interrogationId) {
+        Map<String, ObjectNode> dataWithDeltas = findDataWithPendingDeltas(List.of(interrogationId));
         return crudRepository.findOneById(interrogationId)
-                .map(InterrogationProjection::toModel);
+                .map(InterrogationProjection::toModel)
+                .map(interrogation -> withPendingDeltas(interrogation, dataWithDeltas));
     }
 
     @Override
@@ -78,11 +107,21 @@ public class InterrogationDao implements InterrogationRepository {
         return crudRepository.findAllIds();
     }
 
+    @Override
+    public List<String> findIds(String afterId, int limit) {
+        return crudRepository.findIdsAfter(afterId, Limit.of(limit));
+    }
+
     @Override
     public List<InterrogationState> findAllByState(String campaignId, StateDataType state) {
         return crudRepository.findAllByState(campaignId, state);
     }
 
+    @Override
+    public List<InterrogationState> findAllByState(String campaignId, StateDataType state, String afterId, int limit) {
+        return crudRepository.findAllByStateAfter(campaignId, state, afterId, Limit.of(limit));
+    }
+
     @Override
     public List<InterrogationState> findAllWithStateByIdIn(List<String> interrogationIds) {
         return crudRepository.findAllWithStateByIdIn(interrogationIds);
@@ -91,27 +130,37 @@ public class InterrogationDao implements InterrogationRepository {
     @Override
     public void deleteInterrogations(String campaignId) {
         crudRepository.deleteInterrogations(campaignId);
+        interrogationDirectory.ifPresent(directory -> directory.removeCampaign(campaignId));
     }
 
     @Override
     public void delete(String interrogationId) {
         crudRepository.deleteById(interrogationId);
+        interrogationDirectory.ifPresent(directory -> directory.removeAll(List.of(interrogationId)));
     }
 
     @Override
     public void create(Interrogation interrogation) {
-        CampaignDB campaign = campaignRepository.getReferenceById(interrogation.campaignId());
-        QuestionnaireModelDB questionnaire = questionnaireModelRepository.getReferenceById(interrogation.questionnaireId());
-        InterrogationDB interrogationDB = new InterrogationDB(interrogation.id(), interrogation.surveyUnitId(), campaign, questionnaire);
-        DataDB dataDB = dataFactory.buildData(interrogation.data(), interrogationDB);
-        CommentDB commentDB = new CommentDB(interrogation.comment(), interrogationDB);
-        if (interrogation.personalization() != null) {
-            PersonalizationDB personalizationDB = new PersonalizationDB(interrogation.personalization(), interrogationDB);
-            interrogationDB.setPersonalization(personalizationDB);
-        }
-        interrogationDB.setComment(commentDB);
-        interrogationDB.setData(dataDB);
-        crudRepository.save(interrogationDB);
+        // interrogation, personalization, comment and data are written in one statement:
+        // foreign keys are checked at the end of the statement so child rows can reference the new interrogation
+        final String createInterrogation = INPUT_CTE + """
+            , interrogation_insert AS (
+                INSERT INTO interrogation (id, survey_unit_id, campaign_id, questionnaire_model_id)
+                SELECT id, survey_unit_id, campaign_id, questionnaire_model_id FROM input
+            ), personalization_insert AS (
+                INSERT INTO personalization (id, value, interrogation_id)
+                SELECT personalization_id, personalization, id FROM input
+                WHERE personalization IS NOT NULL
+            ), comment_insert AS (
+                INSERT INTO comment (id, value, interrogation_id)
+                SELECT comment_id, comment, id FROM input
+            )
+            INSERT INTO data (id, value, interrogation_id, encrypted)
+            SELECT data_id, %s, id, %d FROM input
+        """.formatted(dataEncryptionEngine.valueExpression("data"), dataEncryptionEngine.encryptedFlag());
+
+        jdbc.update(createInterrogation, preparedStatement -> setInputParameters(preparedStatement, interrogation));
+        interrogationDirectory.ifPresent(directory -> directory.putAll(List.of(interrogation)));
     }
 
     @Override
@@ -147,6 +196,7 @@ public class InterrogationDao implements InterrogationRepository {
         if (data == null) {
             return;
         }
+        dataDeltaDao.deleteDeltas(List.of(interrogationId));
         int countUpdated = dataRepository.updateData(interrogationId, data);
         if (countUpdated == 0) {
             InterrogationDB interrogation = crudRepository.getReferenceById(interrogationId);
@@ -157,6 +207,10 @@ public class InterrogationDao implements InterrogationRepository {
 
     @Override
     public void updateCollectedData(String interrogationId, ObjectNode partialCollectedDataNode) {
+        if (dataDeltaDao.isEnabled()) {
+            dataDeltaDao.append(interrogationId, partialCollectedDataNode);
+            return;
+        }
         dataRepository.updateCollectedData(interrogationId, partialCollectedDataNode);
     }
 
@@ -167,9 +221,29 @@ public class InterrogationDao implements InterrogationRepository {
 
     @Override
     public Optional<ObjectNode> findData(String interrogationId) {
+        ObjectNode dataWithDeltas = findDataWithPendingDeltas(List.of(interrogationId)).get(interrogationId);
+        if (dataWithDeltas != null) {
+            return Optional.of(dataWithDeltas);
+        }
         return dataRepository.findData(interrogationId);
     }
 
+    @Override
+    public Optional<RawJson> findRawData(String interrogationId) {
+        ObjectNode dataWithDeltas = findDataWithPendingDeltas(List.of(interrogationId)).get(interrogationId);
+        if (dataWithDeltas != null) {
+            // pending deltas have been merged in the data tree
+            return Optional.of(new RawJson(dataWithDeltas.toString()));
+        }
+        return jdbc.query(FIND_RAW_DATA.formatted(dataEncryptionEngine.readValueExpression()),
+                        (resultSet, rowNum) -> dataEncryptionEngine.fromSqlValue(resultSet.getString("value")),
+                        interrogationId)
+                .stream()
+                .filter(Objects::nonNull)
+                .findFirst()
+                .map(RawJson::new);
+    }
+
     @Override
     public InterrogationPersonalization getInterrogationPersonalization(String interrogationId) {
         return crudRepository.getPersonalizationById(interrogationId);
@@ -187,60 +261,136 @@ public class InterrogationDao implements InterrogationRepository {
 
     @Override
     public void update(Interrogation interrogation) {
-        String interrogationId = interrogation.id();
-        save(interrogation.id(), interrogation.surveyUnitId(), interrogation.campaignId(), interrogation.questionnaireId());
-        savePersonalization(interrogationId, interrogation.personalization());
-        saveComment(interrogationId, interrogation.comment());
-        saveData(interrogationId, interrogation.data());
+        // null values are left untouched, as in the separate save* methods
+        final String updateInterrogation = INPUT_CTE + """
+            , interrogation_update AS (
+                UPDATE interrogation i SET
+                    survey_unit_id = COALESCE(input.survey_unit_id, i.survey_unit_id),
+                    campaign_id = COALESCE(input.campaign_id, i.campaign_id),
+                    questionnaire_model_id = COALESCE(input.questionnaire_model_id, i.questionnaire_model_id)
+                FROM input
+                WHERE i.id = input.id
+            ), personalization_upsert AS (
+                INSERT INTO personalization (id, value, interrogation_id)
+                SELECT personalization_id, personalization, id FROM input
+                WHERE personalization IS NOT NULL
+                ON CONFLICT (interrogation_id) DO UPDATE SET
+                    value = EXCLUDED.value
+            ), comment_upsert AS (
+                INSERT INTO comment (id, value, interrogation_id)
+                SELECT comment_id, comment, id FROM input
+                WHERE comment IS NOT NULL
+                ON CONFLICT (interrogation_id) DO UPDATE SET
+                    value = EXCLUDED.value
+            )
+            INSERT INTO data (id, value, interrogation_id, encrypted)
+            SELECT data_id, %s, id, %d FROM input
+            WHERE data IS NOT NULL
+            ON CONFLICT (interrogation_id) DO UPDATE SET
+                value = EXCLUDED.value,
+                encrypted = EXCLUDED.encrypted
+        """.formatted(dataEncryptionEngine.valueExpression("data"), dataEncryptionEngine.encryptedFlag());
+
+        if (interrogation.data() != null) {
+            dataDeltaDao.deleteDeltas(List.of(interrogation.id()));
+        }
+        jdbc.update(updateInterrogation, preparedStatement -> setInputParameters(preparedStatement, interrogation));
+        if (interrogation.surveyUnitId() != null || interrogation.campaignId() != null || interrogation.questionnaireId() != null) {
+            // partially updated, the interrogation is read again from the database on the next lookup
+            interrogationDirectory.ifPresent(directory -> directory.removeAll(List.of(interrogation.id())));
+        }
+    }
+
+    private void setInputParameters(PreparedStatement preparedStatement, Interrogation interrogation) throws SQLException {
+        preparedStatement.setString(1, interrogation.id());
+        preparedStatement.setString(2, interrogation.surveyUnitId());
+        preparedStatement.setString(3, interrogation.campaignId());
+        preparedStatement.setString(4, interrogation.questionnaireId());
+        preparedStatement.setString(5, toJson(interrogation.personalization()));
+        preparedStatement.setString(6, toJson(interrogation.comment()));
+        preparedStatement.setString(7, dataEncryptionEngine.toSqlParameter(toJson(interrogation.data())));
+        preparedStatement.setObject(8, UUID.randomUUID());
+        preparedStatement.setObject(9, UUID.randomUUID());
+        preparedStatement.setObject(10, UUID.randomUUID());
+    }
+
+    private String toJson(JsonNode node) {
+        return node == null ? null : node.toString();
     }
 
     @Override
     public List<Interrogation> find(List<String> interrogationIds) {
+        Map<String, ObjectNode> dataWithDeltas = findDataWithPendingDeltas(interrogationIds);
         return crudRepository.findInterrogationsByIdIn(interrogationIds).stream()
                 .map(InterrogationProjection::toModel)
+                .map(interrogation -> withPendingDeltas(interrogation, dataWithDeltas))
                 .toList();
     }
 
     @Override
     public List<Interrogation> findAll() {
-        return crudRepository.findAllInterrogations().stream()
-                .map(InterrogationProjection::toModel)
+        return withPendingDeltas(crudRepository.findAllInterrogations().stream()
+                .map(InterrogationProjection::toModel))
                 .toList();
     }
 
+    @Override
+    public Stream<Interrogation> streamAll() {
+        return withPendingDeltas(crudRepository.streamAllInterrogations()
+                .map(InterrogationProjection::toModel));
+    }
+
     @Override
     public void cleanExtractedData(String campaignId, Long startTimestamp, Long endTimestamp) {
+        dataDeltaDao.deleteExtractedDeltas(campaignId, startTimestamp, endTimestamp);
         dataRepository.cleanExtractedData(campaignId, startTimestamp, endTimestamp);
     }
 
-    private void save(String interrogationId, String surveyUnitId, String campaignId, String questionnaireId) {
-        Map<String, Object> fieldsToUpdate = new LinkedHashMap<>();
-        if (campaignId != null) {
-            fieldsToUpdate.put("campaign_id", campaignId);
-        }
-
-        if (questionnaireId != null) {
-            fieldsToUpdate.put("questionnaire_model_id", questionnaireId);
-        }
+    @Override
+    public List<String> findIdsByCampaignId(String campaignId, String afterId, int limit) {
+        return crudRepository.findIdsByCampaignIdAfter(campaignId, afterId, Limit.of(limit));
+    }
 
-        if (surveyUnitId != null) {
-            fieldsToUpdate.put("survey_unit_id", surveyUnitId);
-        }
+    @Override
+    public List<String> findExtractedIds(String campaignId, Long startTimestamp, Long endTimestamp, String afterId, int limit) {
+        return crudRepository.findExtractedIdsAfter(campaignId, startTimestamp, endTimestamp, afterId, Limit.of(limit));
+    }
 
-        if (fieldsToUpdate.isEmpty()) {
-            return;
-        }
+    @Override
+    public void cleanData(List<String> interrogationIds) {
+        dataDeltaDao.deleteDeltas(interrogationIds);
+        dataRepository.cleanData(interrogationIds);
+    }
 
-        String fields = fieldsToUpdate.keySet()
-                .stream()
-                .map(key -> key + " = :" + key)
-                .collect(Collectors.joining(", "));
-        String sql = String.format("UPDATE interrogation SET %s WHERE id = :interrogationId", fields);
+    /*
+     * The data of interrogations with pending deltas is read again with its deltas in a single snapshot,
+     * before the interrogations: their data then replaces the data read with the interrogations
+     */
+    private Map<String, ObjectNode> findDataWithPendingDeltas(Collection<String> interrogationIds) {
+        return dataDeltaDao.isEnabled() ? dataDeltaDao.findDataWithDeltas(interrogationIds) : Map.of();
+    }
 
-        var query = entityManager.createNativeQuery(sql);
-        fieldsToUpdate.forEach(query::setParameter);
-        query.setParameter("interrogationId", interrogationId);
+    /*
+     * Only the ids of the interrogations with pending deltas are kept in memory,
+     * their data is read again one by one while the interrogations are streamed
+     */
+    private Stream<Interrogation> withPendingDeltas(Stream<Interrogation> interrogations) {
+        if (!dataDeltaDao.isEnabled()) {
+            return interrogations;
+        }
+        Set<String> pendingInterrogationIds = dataDeltaDao.findPendingInterrogationIds();
+        return interrogations.map(interrogation -> pendingInterrogationIds.contains(interrogation.id())
+                ? withPendingDeltas(interrogation, dataDeltaDao.findDataWithDeltas(List.of(interrogation.id())))
+                : interrogation);
+    }
 
-        query.executeUpdate();
+    private Interrogation withPendingDeltas(Interrogation interrogation, Map<String, ObjectNode> dataWithDeltas) {
+        ObjectNode data = dataWithDeltas.get(interrogation.id());
+        if (data == null || interrogation.data() == null) {
+            return interrogation;
+        }
+        return new Interrogation(interrogation.id(), interrogation.surveyUnitId(), interrogation.campaignId(),
+                interrogation.questionnaireId(), interrogation.personalization(), data, interrogation.comment(),
+                interrogation.stateData());
     }
 }
@@ -7,9 +7,12 @@ import fr.insee.queen.infrastructure.db.interrogation.repository.jpa.Interrogati
 import fr.insee.queen.infrastructure.db.interrogation.entity.StateDataDB;
 import fr.insee.queen.infrastructure.db.interrogation.entity.InterrogationDB;
 import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Types;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * DAO to handle state data
@@ -18,8 +21,23 @@ import java.util.Optional;
 @AllArgsConstructor
 public class StateDataDao implements StateDataRepository {
 
+    private static final String UPSERT_STATE_DATA = """
+            INSERT INTO state_data (id, state, date, current_page, interrogation_id)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (interrogation_id) DO UPDATE SET
+                state = EXCLUDED.state,
+                date = EXCLUDED.date,
+                current_page = EXCLUDED.current_page
+            """;
+
+    // the row is neither inserted nor updated when the existing state data is more recent
+    private static final String UPSERT_STATE_DATA_IF_NOT_OLDER = UPSERT_STATE_DATA + """
+            WHERE state_data.date IS NULL OR EXCLUDED.date >= state_data.date
+            """;
+
     private final StateDataJpaRepository jpaRepository;
     private final InterrogationJpaRepository interrogationJpaRepository;
+    private final JdbcTemplate jdbc;
 
     @Override
     public Optional<StateData> find(String interrogationId) {
@@ -31,11 +49,26 @@ public class StateDataDao implements StateDataRepository {
         if (stateData == null) {
             return;
         }
+        upsert(UPSERT_STATE_DATA, interrogationId, stateData);
+    }
 
-        int countUpdated = jpaRepository.updateStateData(interrogationId, stateData.date(), stateData.currentPage(), stateData.state());
-        if (countUpdated == 0) {
-            create(interrogationId, stateData);
-        }
+    @Override
+    public boolean saveIfNotOlder(String interrogationId, StateData stateData) {
+        return upsert(UPSERT_STATE_DATA_IF_NOT_OLDER, interrogationId, stateData) > 0;
+    }
+
+    private int upsert(String sql, String interrogationId, StateData stateData) {
+        return jdbc.update(sql, preparedStatement -> {
+            preparedStatement.setObject(1, UUID.randomUUID());
+            preparedStatement.setString(2, stateData.state() == null ? null : stateData.state().name());
+            if (stateData.date() == null) {
+                preparedStatement.setNull(3, Types.BIGINT);
+            } else {
+                preparedStatement.setLong(3, stateData.date());
+            }
+            preparedStatement.setString(4, stateData.currentPage());
+            preparedStatement.setString(5, interrogationId);
+        });
     }
 
     @Override
@@ -3,20 +3,34 @@ package fr.insee.queen.infrastructure.db.interrogation.repository.jpa;
 import fr.insee.queen.domain.interrogation.model.*;
 import fr.insee.queen.infrastructure.db.interrogation.entity.InterrogationDB;
 import fr.insee.queen.infrastructure.db.interrogation.projection.InterrogationProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * JPA repository to handle interrogations in DB
  */
 @Repository
 public interface InterrogationJpaRepository extends JpaRepository<InterrogationDB, String> {
+    /**
+     * Number of rows fetched per round-trip when streaming interrogations
+     */
+    String STREAM_FETCH_SIZE = "100";
+
+    /**
+     * Number of summaries fetched per round-trip when streaming all the interrogation summaries
+     */
+    String SUMMARY_STREAM_FETCH_SIZE = "5000";
 
     /**
      * Find summary of interrogation by id
@@ -90,6 +104,26 @@ public interface InterrogationJpaRepository extends JpaRepository<InterrogationD
             from InterrogationDB s where s.id in :interrogationIds""")
     List<InterrogationSummary> findAllSummaryByIdIn(List<String> interrogationIds);
 
+    /**
+     * Stream all interrogation summaries, fetching rows by chunks of {@link #SUMMARY_STREAM_FETCH_SIZE}.
+     * The stream must be consumed in a transaction and closed after use
+     *
+     * @return Stream of {@link InterrogationSummary} interrogation summaries
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = SUMMARY_STREAM_FETCH_SIZE))
+    @Query("""
+            select new fr.insee.queen.domain.interrogation.model.InterrogationSummary(
+                s.id,
+                s.surveyUnitId,
+                s.questionnaireModel.id,
+                new fr.insee.queen.domain.campaign.model.CampaignSummary(
+                    s.campaign.id,
+                    s.campaign.label,
+                    s.campaign.sensitivity)
+            )
+            from InterrogationDB s""")
+    Stream<InterrogationSummary> streamAllSummaries();
+
     /**
      * Retrieve an interrogation with all details
      *
@@ -133,6 +167,29 @@ public interface InterrogationJpaRepository extends JpaRepository<InterrogationD
             from InterrogationDB s left join s.personalization left join s.data left join s.comment left join s.stateData order by s.id asc""")
     List<InterrogationProjection> findAllInterrogations();
 
+    /**
+     * Stream all interrogations with all details, fetching rows by chunks of {@link #STREAM_FETCH_SIZE}.
+     * The stream must be consumed in a transaction and closed after use
+     *
+     * @return Stream of {@link InterrogationProjection} interrogations
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("""
+            select new fr.insee.queen.infrastructure.db.interrogation.projection.InterrogationProjection(
+                s.id,
+                s.surveyUnitId,
+                s.campaign.id,
+                s.questionnaireModel.id,
+                s.personalization.value,
+                s.data.value,
+                s.comment.value,
+                s.stateData.state,
+                s.stateData.date,
+                s.stateData.currentPage
+            )
+            from InterrogationDB s left join s.personalization left join s.data left join s.comment left join s.stateData order by s.id asc""")
+    Stream<InterrogationProjection> streamAllInterrogations();
+
     /**
      * Retrieve an interrogation with campaign and state data linked (used for deposit proof)
      *
@@ -165,6 +222,16 @@ public interface InterrogationJpaRepository extends JpaRepository<InterrogationD
     @Query("select s.id from InterrogationDB s order by s.id asc")
     Optional<List<String>> findAllIds();
 
+    /**
+     * Find interrogation ids sorted by id, starting after a given id (keyset pagination)
+     *
+     * @param afterId only ids greater than this id are retrieved
+     * @param limit max number of ids to retrieve
+     * @return List of interrogation ids
+     */
+    @Query("select s.id from InterrogationDB s where s.id > :afterId order by s.id asc")
+    List<String> findIdsAfter(String afterId, Limit limit);
+
     /**
      * Find all interrogations by state
      *
@@ -189,6 +256,68 @@ public interface InterrogationJpaRepository extends JpaRepository<InterrogationD
             and s.campaign.id = :campaignId""")
     List<InterrogationState> findAllByState(String campaignId, StateDataType stateDataType);
 
+    /**
+     * Find interrogations by state sorted by id, starting after a given id (keyset pagination)
+     *
+     * @param campaignId campaign id
+     * @param stateDataType state data used for filtering
+     * @param afterId only interrogations with an id greater than this id are retrieved
+     * @param limit max number of interrogations to retrieve
+     * @return List of interrogations by state
+     */
+    @Query("""
+            select new fr.insee.queen.domain.interrogation.model.InterrogationState(
+                s.id,
+                s.surveyUnitId,
+                s.questionnaireModel.id,
+                s.campaign.id,
+                new fr.insee.queen.domain.interrogation.model.StateData(
+                    st.state,
+                    st.date,
+                    st.currentPage
+                )
+            )
+            from InterrogationDB s left join s.stateData st
+            where st.state = :stateDataType
+            and s.campaign.id = :campaignId
+            and s.id > :afterId
+            order by s.id asc""")
+    List<InterrogationState> findAllByStateAfter(String campaignId, StateDataType stateDataType, String afterId, Limit limit);
+
+    /**
+     * Find ids of the interrogations of a campaign, ordered by id
+     *
+     * @param campaignId campaign id
+     * @param afterId only ids greater than this id are returned
+     * @param limit max number of ids
+     * @return ids of interrogations
+     */
+    @Query("""
+            select s.id from InterrogationDB s
+            where s.campaign.id = :campaignId
+            and s.id > :afterId
+            order by s.id asc""")
+    List<String> findIdsByCampaignIdAfter(String campaignId, String afterId, Limit limit);
+
+    /**
+     * Find ids of extracted interrogations of a campaign between 2 timestamps, ordered by id
+     *
+     * @param campaignId campaign id
+     * @param startTimestamp timestamp start
+     * @param endTimestamp timestamp end
+     * @param afterId only ids greater than this id are returned
+     * @param limit max number of ids
+     * @return ids of extracted interrogations
+     */
+    @Query("""
+            select s.id from InterrogationDB s join s.stateData st
+            where s.campaign.id = :campaignId
+            and st.state = fr.insee.queen.domain.interrogation.model.StateDataType.EXTRACTED
+            and st.date between :startTimestamp and :endTimestamp
+            and s.id > :afterId
+            order by s.id asc""")
+    List<String> findExtractedIdsAfter(String campaignId, Long startTimestamp, Long endTimestamp, String afterId, Limit limit);
+
     /**
      * Search interrogations by ids
      * @param interrogationIds ids to search
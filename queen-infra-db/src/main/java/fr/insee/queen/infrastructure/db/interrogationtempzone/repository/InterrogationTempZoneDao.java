@@ -3,12 +3,15 @@ package fr.insee.queen.infrastructure.db.interrogationtempzone.repository;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import fr.insee.queen.domain.interrogationtempzone.gateway.InterrogationTempZoneRepository;
 import fr.insee.queen.domain.interrogationtempzone.model.InterrogationTempZone;
+import fr.insee.queen.domain.interrogationtempzone.model.InterrogationTempZoneSummary;
 import fr.insee.queen.infrastructure.db.interrogationtempzone.repository.jpa.InterrogationTempZoneJpaRepository;
-import fr.insee.queen.infrastructure.db.interrogationtempzone.entity.InterrogationTempZoneDB;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Repository to handle interrogations in temp zone.
@@ -28,9 +31,23 @@ public class InterrogationTempZoneDao implements InterrogationTempZoneRepository
         return jpaRepository.findAllProjectedBy();
     }
 
+    @Override
+    public List<InterrogationTempZoneSummary> findSummaries(String userId, Long dateFrom, Long dateTo, UUID afterId, int limit) {
+        return jpaRepository.findSummaries(userId, dateFrom, dateTo, afterId, Limit.of(limit));
+    }
+
+    @Override
+    public Optional<InterrogationTempZone> find(UUID id) {
+        return jpaRepository.findProjectedById(id);
+    }
+
     @Override
     public void save(String interrogationId, String userId, Long date, ObjectNode interrogation) {
-        InterrogationTempZoneDB interrogationTempZone = new InterrogationTempZoneDB(interrogationId, userId, date, interrogation);
-        jpaRepository.save(interrogationTempZone);
+        jpaRepository.upsert(UUID.randomUUID(), interrogationId, userId, date, interrogation);
+    }
+
+    @Override
+    public int deleteOlderThan(Long date, int limit) {
+        return jpaRepository.deleteByDateBefore(date, limit);
     }
 }
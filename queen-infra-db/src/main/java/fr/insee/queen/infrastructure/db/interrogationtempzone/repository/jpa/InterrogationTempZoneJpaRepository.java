@@ -1,11 +1,19 @@
 package fr.insee.queen.infrastructure.db.interrogationtempzone.repository.jpa;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import fr.insee.queen.domain.interrogationtempzone.model.InterrogationTempZone;
+import fr.insee.queen.domain.interrogationtempzone.model.InterrogationTempZoneSummary;
 import fr.insee.queen.infrastructure.db.interrogationtempzone.entity.InterrogationTempZoneDB;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * JPA repository to handle interrogations in temp zone
@@ -16,4 +24,64 @@ import java.util.List;
 public interface InterrogationTempZoneJpaRepository extends JpaRepository<InterrogationTempZoneDB, String> {
 
     List<InterrogationTempZone> findAllProjectedBy();
+
+    Optional<InterrogationTempZone> findProjectedById(UUID id);
+
+    /**
+     * Find interrogations in temp zone without their payload, sorted by id, starting after a given id (keyset pagination)
+     *
+     * @param userId user id filter, no filter if null
+     * @param dateFrom minimal save date, no filter if null
+     * @param dateTo maximal save date, no filter if null
+     * @param afterId only entries with an id greater than this id are retrieved
+     * @param limit max number of entries to retrieve
+     * @return List of {@link InterrogationTempZoneSummary}
+     */
+    @Query("""
+            select new fr.insee.queen.domain.interrogationtempzone.model.InterrogationTempZoneSummary(
+                t.id, t.interrogationId, t.userId, t.date)
+            from InterrogationTempZoneDB t
+            where t.id > :afterId
+            and (:userId is null or t.userId = :userId)
+            and (:dateFrom is null or t.date >= :dateFrom)
+            and (:dateTo is null or t.date <= :dateTo)
+            order by t.id asc""")
+    List<InterrogationTempZoneSummary> findSummaries(String userId, Long dateFrom, Long dateTo, UUID afterId, Limit limit);
+
+    /**
+     * Save an interrogation in temp zone, the previous save of the interrogation by the same user is replaced
+     *
+     * @param id entry id
+     * @param interrogationId interrogation id
+     * @param userId user id
+     * @param date save date
+     * @param interrogation interrogation payload
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO interrogation_temp_zone (id, interrogation_id, user_id, date, interrogation)
+            VALUES (:id, :interrogationId, :userId, :date, :interrogation\\:\\:jsonb)
+            ON CONFLICT (user_id, interrogation_id) DO UPDATE SET
+                date = EXCLUDED.date,
+                interrogation = EXCLUDED.interrogation""", nativeQuery = true)
+    void upsert(UUID id, String interrogationId, String userId, Long date, ObjectNode interrogation);
+
+    /**
+     * Delete a batch of interrogations in temp zone saved before a date
+     *
+     * @param date save date
+     * @param limit max number of entries to delete
+     * @return number of deleted entries
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM interrogation_temp_zone
+            WHERE id IN (
+                SELECT id FROM interrogation_temp_zone
+                WHERE date < :date
+                LIMIT :limit
+            )""", nativeQuery = true)
+    int deleteByDateBefore(Long date, int limit);
 }
@@ -0,0 +1,132 @@
+package fr.insee.queen.infrastructure.db.job.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.insee.queen.domain.job.gateway.JobRepository;
+import fr.insee.queen.domain.job.model.Job;
+import fr.insee.queen.domain.job.model.JobStatus;
+import fr.insee.queen.domain.job.model.JobType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * DAO to handle background jobs in DB
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobDao implements JobRepository {
+
+    private static final String JOB_COLUMNS = """
+            id, type, campaign_id, CAST(parameters AS text) AS parameters, status, last_interrogation_id,
+            processed_count, creation_date, update_date, error""";
+
+    private static final String INSERT_JOB = """
+            INSERT INTO job (id, type, campaign_id, parameters, status, last_interrogation_id,
+                processed_count, creation_date, update_date, error)
+            VALUES (?, ?, ?, CAST(? AS jsonb), ?, ?, ?, ?, ?, ?)
+            """;
+
+    // conflicts on the unique index of unfinished campaign deletions
+    private static final String INSERT_JOB_IF_ABSENT = INSERT_JOB + "ON CONFLICT DO NOTHING";
+
+    private static final String FIND_JOB = "SELECT " + JOB_COLUMNS + " FROM job WHERE id = ?";
+
+    private static final String FIND_UNFINISHED_JOBS = "SELECT " + JOB_COLUMNS + """
+             FROM job WHERE status IN ('PENDING', 'RUNNING') ORDER BY creation_date
+            """;
+
+    private static final String CLAIM_JOB = """
+            UPDATE job SET status = 'RUNNING', claim_token = ?, update_date = ?
+            WHERE id = ? AND (status = 'PENDING' OR (status = 'RUNNING' AND update_date < ?))
+            """;
+
+    private static final String UPDATE_PROGRESS = """
+            UPDATE job SET last_interrogation_id = ?, processed_count = ?, update_date = ?
+            WHERE id = ? AND claim_token = ?
+            """;
+
+    private static final String FINISH_JOB = """
+            UPDATE job SET status = ?, error = ?, update_date = ? WHERE id = ? AND claim_token = ?
+            """;
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final JdbcTemplate jdbc;
+
+    private final RowMapper<Job> jobRowMapper = this::mapJob;
+
+    @Override
+    public void create(Job job) {
+        jdbc.update(INSERT_JOB, job.id(), job.type().name(), job.campaignId(),
+                job.parameters() == null ? null : job.parameters().toString(),
+                job.status().name(), job.cursor(), job.processedCount(),
+                job.creationDate(), job.updateDate(), job.error());
+    }
+
+    @Override
+    public boolean createIfAbsent(Job job) {
+        return jdbc.update(INSERT_JOB_IF_ABSENT, job.id(), job.type().name(), job.campaignId(),
+                job.parameters() == null ? null : job.parameters().toString(),
+                job.status().name(), job.cursor(), job.processedCount(),
+                job.creationDate(), job.updateDate(), job.error()) == 1;
+    }
+
+    @Override
+    public Optional<Job> find(UUID jobId) {
+        return jdbc.query(FIND_JOB, jobRowMapper, jobId).stream().findFirst();
+    }
+
+    @Override
+    public List<Job> findUnfinished() {
+        return jdbc.query(FIND_UNFINISHED_JOBS, jobRowMapper);
+    }
+
+    @Override
+    public boolean claim(UUID jobId, UUID claimToken, Long date, Long staleDate) {
+        return jdbc.update(CLAIM_JOB, claimToken, date, jobId, staleDate) == 1;
+    }
+
+    @Override
+    public boolean updateProgress(UUID jobId, UUID claimToken, String cursor, long processedCount, Long date) {
+        return jdbc.update(UPDATE_PROGRESS, cursor, processedCount, date, jobId, claimToken) == 1;
+    }
+
+    @Override
+    public boolean finish(UUID jobId, UUID claimToken, JobStatus status, String error, Long date) {
+        return jdbc.update(FINISH_JOB, status.name(), error, date, jobId, claimToken) == 1;
+    }
+
+    private Job mapJob(ResultSet resultSet, int rowNum) throws SQLException {
+        return new Job(
+                resultSet.getObject("id", UUID.class),
+                JobType.valueOf(resultSet.getString("type")),
+                resultSet.getString("campaign_id"),
+                readParameters(resultSet.getString("parameters")),
+                JobStatus.valueOf(resultSet.getString("status")),
+                resultSet.getString("last_interrogation_id"),
+                resultSet.getLong("processed_count"),
+                resultSet.getObject("creation_date", Long.class),
+                resultSet.getObject("update_date", Long.class),
+                resultSet.getString("error"));
+    }
+
+    private ObjectNode readParameters(String parameters) {
+        if (parameters == null) {
+            return null;
+        }
+        try {
+            return (ObjectNode) mapper.readTree(parameters);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Error during job parameters conversion", e);
+        }
+    }
+}
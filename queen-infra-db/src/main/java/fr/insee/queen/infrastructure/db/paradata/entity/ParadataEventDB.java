@@ -6,9 +6,11 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
+import java.time.Instant;
 import java.util.UUID;
 
 @Entity
@@ -39,4 +41,11 @@ public class ParadataEventDB {
     @Column
     @NotBlank
     private String surveyUnitId;
+
+    /**
+     * The reception date of the event, used as partition key
+     */
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private Instant eventDate;
 }
@@ -0,0 +1,8 @@
+package fr.insee.queen.infrastructure.db.paradata.exception;
+
+public class ParadataBufferFullException extends RuntimeException {
+    public static final String MESSAGE = "Too many paradata events pending, retry later";
+    public ParadataBufferFullException() {
+        super(MESSAGE);
+    }
+}
@@ -0,0 +1,9 @@
+package fr.insee.queen.infrastructure.db.paradata.exception;
+
+public class ParadataBufferUnavailableException extends RuntimeException {
+    public static final String STOPPED_MESSAGE = "Paradata events are not accepted anymore, the application is stopping";
+    public static final String TIMEOUT_MESSAGE = "Paradata event was not inserted in time";
+    public ParadataBufferUnavailableException(String message) {
+        super(message);
+    }
+}
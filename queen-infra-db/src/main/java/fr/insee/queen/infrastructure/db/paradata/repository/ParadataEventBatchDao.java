@@ -0,0 +1,39 @@
+package fr.insee.queen.infrastructure.db.paradata.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ParadataEventBatchDao {
+
+    private static final String INSERT_PARADATA_EVENTS = "INSERT INTO paradata_event (id, value, interrogation_id, survey_unit_id) VALUES ";
+    private static final String PARADATA_EVENT_VALUES = "(?, CAST(? AS jsonb), ?, ?)";
+
+    private final JdbcTemplate jdbc;
+
+    /**
+     * Insert paradata events with a single multi-row insert
+     *
+     * @param paradataEvents paradata events to insert
+     */
+    public void insertAll(List<ParadataEventRow> paradataEvents) {
+        if (paradataEvents.isEmpty()) {
+            return;
+        }
+        String sql = INSERT_PARADATA_EVENTS + String.join(", ", Collections.nCopies(paradataEvents.size(), PARADATA_EVENT_VALUES));
+        jdbc.update(sql, preparedStatement -> {
+            int index = 1;
+            for (ParadataEventRow paradataEvent : paradataEvents) {
+                preparedStatement.setObject(index++, paradataEvent.id());
+                preparedStatement.setString(index++, paradataEvent.value().toString());
+                preparedStatement.setString(index++, paradataEvent.interrogationId());
+                preparedStatement.setString(index++, paradataEvent.surveyUnitId());
+            }
+        });
+    }
+}
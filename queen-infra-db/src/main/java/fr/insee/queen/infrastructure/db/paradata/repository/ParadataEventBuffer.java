@@ -0,0 +1,254 @@
+package fr.insee.queen.infrastructure.db.paradata.repository;
+
+import fr.insee.queen.infrastructure.db.configuration.RoutingDataSource;
+import fr.insee.queen.infrastructure.db.paradata.exception.ParadataBufferFullException;
+import fr.insee.queen.infrastructure.db.paradata.exception.ParadataBufferUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Bounded in-memory buffer of paradata events, flushed by a background thread with multi-row inserts
+ * every batch-size events or flush-interval. When the buffer is full, events are rejected so clients retry later.
+ * Depending on the configuration, a request waits for the insertion of its batch (durable)
+ * (at most flush-timeout) or is acknowledged as soon as the event is buffered (pending events are lost if the node crashes).
+ * When the application stops, after the web server, new events are rejected and pending ones are flushed.
+ */
+@ConditionalOnProperty(name = "feature.paradata.buffer.enabled", havingValue = "true")
+@Component
+@Slf4j
+public class ParadataEventBuffer implements SmartLifecycle {
+    // offered on stop to wake up the flusher, which then drains the remaining events
+    private static final PendingParadataEvent STOP_SIGNAL = new PendingParadataEvent(null, null);
+
+    private final BlockingQueue<PendingParadataEvent> queue;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final boolean waitForFlush;
+    private final Duration flushTimeout;
+    private final Duration shutdownTimeout;
+    private final Consumer<List<ParadataEventRow>> writer;
+    private final Timer flushTimer;
+    private final Counter rejectedCounter;
+    // events are offered under the read lock, so that none is offered once stop has started
+    private final ReadWriteLock stateLock = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    private Thread flusher;
+
+    @Autowired
+    public ParadataEventBuffer(ParadataEventBatchDao paradataEventBatchDao,
+                               ObjectProvider<MeterRegistry> meterRegistry,
+                               @Value("${feature.paradata.buffer.capacity:10000}") int capacity,
+                               @Value("${feature.paradata.buffer.batch-size:500}") int batchSize,
+                               @Value("${feature.paradata.buffer.flush-interval:PT0.2S}") Duration flushInterval,
+                               @Value("${feature.paradata.buffer.wait-for-flush:true}") boolean waitForFlush,
+                               @Value("${feature.paradata.buffer.flush-timeout:PT5S}") Duration flushTimeout,
+                               @Value("${feature.paradata.buffer.shutdown-timeout:PT10S}") Duration shutdownTimeout) {
+        this(events -> RoutingDataSource.runAsBulkOperation(() -> paradataEventBatchDao.insertAll(events)),
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new),
+                capacity, batchSize, flushInterval, waitForFlush, flushTimeout, shutdownTimeout);
+    }
+
+    ParadataEventBuffer(Consumer<List<ParadataEventRow>> writer, MeterRegistry meterRegistry,
+                        int capacity, int batchSize, Duration flushInterval, boolean waitForFlush, Duration flushTimeout,
+                        Duration shutdownTimeout) {
+        // 4 parameters by event, postgres accepts 32767 parameters by statement
+        if (batchSize < 1 || batchSize > 8000) {
+            throw new IllegalArgumentException("Paradata batch size must be between 1 and 8000");
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.waitForFlush = waitForFlush;
+        this.flushTimeout = flushTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+        this.writer = writer;
+        Gauge.builder("queen.paradata.buffer.size", queue, BlockingQueue::size)
+                .description("Paradata events waiting to be inserted")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("queen.paradata.buffer.flush")
+                .description("Insertion of a batch of paradata events")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("queen.paradata.buffer.rejected")
+                .description("Paradata events rejected because the buffer is full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Buffer a paradata event
+     *
+     * @param paradataEvent paradata event
+     * @throws ParadataBufferFullException if the buffer is full
+     * @throws ParadataBufferUnavailableException if the buffer is stopped or the event was not inserted in time
+     */
+    public void add(ParadataEventRow paradataEvent) {
+        PendingParadataEvent pendingEvent = new PendingParadataEvent(paradataEvent, new CompletableFuture<>());
+        stateLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new ParadataBufferUnavailableException(ParadataBufferUnavailableException.STOPPED_MESSAGE);
+            }
+            if (!queue.offer(pendingEvent)) {
+                rejectedCounter.increment();
+                throw new ParadataBufferFullException();
+            }
+        } finally {
+            stateLock.readLock().unlock();
+        }
+        if (waitForFlush) {
+            waitForFlush(pendingEvent);
+        }
+    }
+
+    private void waitForFlush(PendingParadataEvent pendingEvent) {
+        try {
+            pendingEvent.flushed().get(flushTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Paradata event not inserted after {}", flushTimeout);
+            throw new ParadataBufferUnavailableException(ParadataBufferUnavailableException.TIMEOUT_MESSAGE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParadataBufferUnavailableException(ParadataBufferUnavailableException.TIMEOUT_MESSAGE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = Thread.ofPlatform()
+                .name("paradata-flusher")
+                .daemon()
+                .start(this::flushLoop);
+    }
+
+    @Override
+    public void stop() {
+        stateLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+        try {
+            // wake up the flusher waiting for events, it drains the queue up to this signal then ends
+            if (!queue.offer(STOP_SIGNAL, shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Unable to signal the paradata flusher to stop");
+            }
+            flusher.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("{} paradata events not flushed before shutdown", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stop after the web server so that no event is accepted once the buffer is flushed
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void flushLoop() {
+        boolean stopSignaled = false;
+        while (!stopSignaled) {
+            List<PendingParadataEvent> batch = new ArrayList<>(batchSize);
+            try {
+                stopSignaled = collectBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Paradata flusher interrupted, {} events not flushed", queue.size());
+                stopSignaled = true;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+            }
+        }
+    }
+
+    /**
+     * Wait for the first event, then for batch-size events at most during flush-interval.
+     *
+     * @return true when the stop signal was collected, the events before it being in the batch
+     */
+    private boolean collectBatch(List<PendingParadataEvent> batch) throws InterruptedException {
+        PendingParadataEvent firstEvent = queue.poll(flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+        if (firstEvent == null) {
+            return false;
+        }
+        if (firstEvent == STOP_SIGNAL) {
+            return true;
+        }
+        batch.add(firstEvent);
+        long deadline = System.nanoTime() + flushInterval.toNanos();
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            // no event is offered after the stop signal
+            if (batch.getLast() == STOP_SIGNAL) {
+                batch.removeLast();
+                return true;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return false;
+            }
+            PendingParadataEvent event = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (event == null) {
+                return false;
+            }
+            if (event == STOP_SIGNAL) {
+                return true;
+            }
+            batch.add(event);
+        }
+        return false;
+    }
+
+    private void flush(List<PendingParadataEvent> batch) {
+        List<ParadataEventRow> events = batch.stream().map(PendingParadataEvent::event).toList();
+        try {
+            flushTimer.record(() -> writer.accept(events));
+            batch.forEach(pendingEvent -> pendingEvent.flushed().complete(null));
+        } catch (RuntimeException e) {
+            log.error("Unable to insert {} paradata events", events.size(), e);
+            batch.forEach(pendingEvent -> pendingEvent.flushed().completeExceptionally(e));
+        }
+    }
+
+    private record PendingParadataEvent(ParadataEventRow event, CompletableFuture<Void> flushed) {
+    }
+}
@@ -6,16 +6,40 @@ import fr.insee.queen.domain.paradata.gateway.ParadataEventRepository;
 import fr.insee.queen.infrastructure.db.paradata.repository.jpa.ParadataEventJpaRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 @AllArgsConstructor
 public class ParadataEventDao implements ParadataEventRepository {
+    private static final int INSERT_BATCH_SIZE = 1000;
     private final ParadataEventJpaRepository jpaRepository;
+    private final ParadataEventBatchDao paradataEventBatchDao;
+    // present when paradata events are inserted by batches
+    private final Optional<ParadataEventBuffer> paradataEventBuffer;
 
     @Override
     public void createParadataEvent(InterrogationSummary interrogationSummary, ObjectNode paradataValue) {
+        if (paradataEventBuffer.isPresent()) {
+            paradataEventBuffer.get().add(new ParadataEventRow(UUID.randomUUID(), paradataValue,
+                    interrogationSummary.id(), interrogationSummary.surveyUnitId()));
+            return;
+        }
         jpaRepository.createParadataEvent(UUID.randomUUID(), paradataValue, interrogationSummary.id(), interrogationSummary.surveyUnitId());
     }
+
+    @Override
+    @Transactional
+    public void createParadataEvents(InterrogationSummary interrogationSummary, List<ObjectNode> paradataValues) {
+        List<ParadataEventRow> paradataEvents = paradataValues.stream()
+                .map(paradataValue -> new ParadataEventRow(UUID.randomUUID(), paradataValue,
+                        interrogationSummary.id(), interrogationSummary.surveyUnitId()))
+                .toList();
+        for (int i = 0; i < paradataEvents.size(); i += INSERT_BATCH_SIZE) {
+            paradataEventBatchDao.insertAll(paradataEvents.subList(i, Math.min(i + INSERT_BATCH_SIZE, paradataEvents.size())));
+        }
+    }
 }
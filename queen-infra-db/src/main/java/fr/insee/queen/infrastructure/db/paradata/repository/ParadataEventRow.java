@@ -0,0 +1,16 @@
+package fr.insee.queen.infrastructure.db.paradata.repository;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.UUID;
+
+/**
+ * Paradata event to insert
+ *
+ * @param id paradata id
+ * @param value paradata value
+ * @param interrogationId interrogation id
+ * @param surveyUnitId survey unit id
+ */
+public record ParadataEventRow(UUID id, ObjectNode value, String interrogationId, String surveyUnitId) {
+}
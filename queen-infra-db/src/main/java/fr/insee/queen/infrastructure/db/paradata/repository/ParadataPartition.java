@@ -0,0 +1,65 @@
+package fr.insee.queen.infrastructure.db.paradata.repository;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Monthly partition of the paradata_event table
+ *
+ * @param month month of the events stored in the partition
+ */
+public record ParadataPartition(YearMonth month) {
+
+    public static final String PARENT_TABLE = "paradata_event";
+    public static final String DEFAULT_PARTITION = PARENT_TABLE + "_default";
+    private static final Pattern NAME_PATTERN = Pattern.compile(PARENT_TABLE + "_y(\\d{4})m(\\d{2})");
+    private static final DateTimeFormatter BOUND_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-01 00:00:00'+00'");
+
+    /**
+     * Retrieve the partition from its table name
+     *
+     * @param tableName table name
+     * @return the partition, empty if the table is not a monthly partition (default partition, ...)
+     */
+    public static Optional<ParadataPartition> fromTableName(String tableName) {
+        Matcher matcher = NAME_PATTERN.matcher(tableName);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(new ParadataPartition(
+                YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)))));
+    }
+
+    /**
+     * @return table name of the partition
+     */
+    public String tableName() {
+        return "%s_y%04dm%02d".formatted(PARENT_TABLE, month.getYear(), month.getMonthValue());
+    }
+
+    /**
+     * @return inclusive lower bound of the partition (UTC timestamp literal)
+     */
+    public String lowerBound() {
+        return month.format(BOUND_FORMATTER);
+    }
+
+    /**
+     * @return exclusive upper bound of the partition (UTC timestamp literal)
+     */
+    public String upperBound() {
+        return month.plusMonths(1).format(BOUND_FORMATTER);
+    }
+
+    /**
+     * @param currentMonth current month
+     * @param retentionMonths number of months to keep, current month included
+     * @return true if the events of the partition are older than the retention
+     */
+    public boolean isExpired(YearMonth currentMonth, int retentionMonths) {
+        return month.isBefore(currentMonth.minusMonths(retentionMonths - 1L));
+    }
+}
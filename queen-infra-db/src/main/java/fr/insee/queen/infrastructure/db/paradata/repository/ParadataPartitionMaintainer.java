@@ -0,0 +1,152 @@
+package fr.insee.queen.infrastructure.db.paradata.repository;
+
+import fr.insee.queen.infrastructure.db.configuration.RoutingDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Maintain the monthly partitions of the paradata_event table: create the partitions of the coming months
+ * and detach (then drop if configured) the partitions older than the retention, so purges never run long deletes.
+ * Each operation runs in its own short transaction on a single connection holding the maintenance lock,
+ * so paradata inserts are only blocked for the time of one operation.
+ */
+@ConditionalOnProperty(name = "feature.paradata.partitioning.enabled", havingValue = "true")
+@Component
+@Slf4j
+public class ParadataPartitionMaintainer {
+
+    // avoid concurrent maintenance from several nodes
+    private static final long MAINTENANCE_LOCK_ID = 670L;
+
+    private static final String FIND_PARTITIONS = """
+            SELECT child.relname FROM pg_inherits
+            JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+            JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+            WHERE parent.relname = ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int partitionsAhead;
+    private final int retentionMonths;
+    private final boolean dropExpired;
+
+    public ParadataPartitionMaintainer(JdbcTemplate jdbcTemplate,
+                                       @Value("${feature.paradata.partitioning.partitions-ahead:2}") int partitionsAhead,
+                                       @Value("${feature.paradata.partitioning.retention-months:12}") int retentionMonths,
+                                       @Value("${feature.paradata.partitioning.drop-expired:false}") boolean dropExpired) {
+        if (retentionMonths < 1) {
+            throw new IllegalArgumentException("Paradata retention must be at least one month");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.partitionsAhead = partitionsAhead;
+        this.retentionMonths = retentionMonths;
+        this.dropExpired = dropExpired;
+    }
+
+    /**
+     * Create the missing partitions and remove the expired ones
+     */
+    @Scheduled(fixedDelayString = "${feature.paradata.partitioning.maintenance-delay:PT6H}")
+    public void maintain() {
+        try {
+            RoutingDataSource.runAsBulkOperation(() -> jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                maintainWithSessionLock(connection);
+                return null;
+            }));
+        } catch (RuntimeException e) {
+            log.error("Unable to maintain paradata partitions", e);
+        }
+    }
+
+    /**
+     * Maintain the partitions in auto-commit mode: every statement is its own transaction,
+     * and DETACH PARTITION CONCURRENTLY cannot run inside a transaction block
+     */
+    private void maintainWithSessionLock(Connection connection) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(true);
+        JdbcTemplate sessionJdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+        try {
+            Boolean locked = sessionJdbcTemplate.queryForObject("SELECT pg_try_advisory_lock(?)", Boolean.class, MAINTENANCE_LOCK_ID);
+            if (!Boolean.TRUE.equals(locked)) {
+                log.debug("Paradata partitions maintenance already running on another node");
+                return;
+            }
+            try {
+                maintainPartitions(sessionJdbcTemplate);
+            } finally {
+                sessionJdbcTemplate.queryForObject("SELECT pg_advisory_unlock(?)", Boolean.class, MAINTENANCE_LOCK_ID);
+            }
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void maintainPartitions(JdbcTemplate sessionJdbcTemplate) {
+        YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+        Set<ParadataPartition> partitions = sessionJdbcTemplate.queryForList(FIND_PARTITIONS, String.class, ParadataPartition.PARENT_TABLE)
+                .stream()
+                .map(ParadataPartition::fromTableName)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toSet());
+
+        for (int i = 0; i <= partitionsAhead; i++) {
+            ParadataPartition partition = new ParadataPartition(currentMonth.plusMonths(i));
+            if (!partitions.contains(partition)) {
+                createPartition(sessionJdbcTemplate, partition);
+            }
+        }
+
+        List<ParadataPartition> expiredPartitions = partitions.stream()
+                .filter(partition -> partition.isExpired(currentMonth, retentionMonths))
+                .toList();
+        expiredPartitions.forEach(partition -> removePartition(sessionJdbcTemplate, partition));
+    }
+
+    /**
+     * Create the partition as a standalone table, move the matching rows of the default partition in it, then attach it.
+     * Attaching a partition fails when the default partition still holds rows of its range.
+     * Partitions are created months ahead, so the default partition is usually empty and the move is immediate.
+     * When a step fails, the table is kept and the next maintenance resumes the creation.
+     */
+    private void createPartition(JdbcTemplate sessionJdbcTemplate, ParadataPartition partition) {
+        String tableName = partition.tableName();
+        sessionJdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s (LIKE %s INCLUDING DEFAULTS INCLUDING CONSTRAINTS)"
+                .formatted(tableName, ParadataPartition.PARENT_TABLE));
+        int movedCount = sessionJdbcTemplate.update("""
+                WITH moved AS (
+                    DELETE FROM %s WHERE event_date >= '%s' AND event_date < '%s' RETURNING *
+                )
+                INSERT INTO %s (id, value, interrogation_id, survey_unit_id, event_date)
+                SELECT id, value, interrogation_id, survey_unit_id, event_date FROM moved"""
+                .formatted(ParadataPartition.DEFAULT_PARTITION, partition.lowerBound(), partition.upperBound(), tableName));
+        sessionJdbcTemplate.execute("ALTER TABLE %s ATTACH PARTITION %s FOR VALUES FROM ('%s') TO ('%s')"
+                .formatted(ParadataPartition.PARENT_TABLE, tableName, partition.lowerBound(), partition.upperBound()));
+        log.info("Paradata partition {} created ({} events moved from the default partition)", tableName, movedCount);
+    }
+
+    private void removePartition(JdbcTemplate sessionJdbcTemplate, ParadataPartition partition) {
+        String tableName = partition.tableName();
+        sessionJdbcTemplate.execute("ALTER TABLE %s DETACH PARTITION %s CONCURRENTLY".formatted(ParadataPartition.PARENT_TABLE, tableName));
+        if (dropExpired) {
+            sessionJdbcTemplate.execute("DROP TABLE %s".formatted(tableName));
+            log.info("Expired paradata partition {} dropped", tableName);
+            return;
+        }
+        log.info("Expired paradata partition {} detached", tableName);
+    }
+}
@@ -0,0 +1,25 @@
+--liquibase formatted sql
+
+--changeset davdarras:640-0
+CREATE UNLOGGED TABLE interrogation_staging (
+    load_id uuid NOT NULL,
+    id varchar(255) NOT NULL,
+    survey_unit_id varchar(255),
+    campaign_id varchar(255),
+    questionnaire_model_id varchar(255),
+    personalization text,
+    comment text,
+    data text,
+    state varchar(8),
+    state_date bigint,
+    current_page varchar(255),
+    personalization_id uuid NOT NULL,
+    comment_id uuid NOT NULL,
+    data_id uuid NOT NULL,
+    state_data_id uuid NOT NULL
+);
+CREATE INDEX idx_interrogation_staging_load ON interrogation_staging (load_id);
+
+--changeset davdarras:640-1
+-- state_data.state is varchar(9) (TOEXTRACT)
+ALTER TABLE interrogation_staging ALTER COLUMN state TYPE varchar(9);
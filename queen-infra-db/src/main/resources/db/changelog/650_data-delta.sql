@@ -0,0 +1,15 @@
+--liquibase formatted sql
+
+--changeset davdarras:650-0
+CREATE TABLE data_delta (
+    id bigint GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    interrogation_id varchar(255) NOT NULL,
+    value jsonb NOT NULL,
+    encrypted integer NOT NULL,
+    CONSTRAINT fk_data_delta_interrogation
+        FOREIGN KEY (interrogation_id) REFERENCES public.interrogation(id) ON DELETE CASCADE
+);
+CREATE INDEX idx_data_delta_interrogation ON data_delta (interrogation_id, id);
+
+--changeset davdarras:650-1 context:ciphered-data
+ALTER TABLE data_delta ALTER COLUMN value TYPE bytea USING convert_to(value::text, 'UTF8');
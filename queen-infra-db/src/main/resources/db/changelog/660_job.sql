@@ -0,0 +1,24 @@
+--liquibase formatted sql
+
+--changeset davdarras:660-0
+CREATE TABLE job (
+    id uuid PRIMARY KEY,
+    type varchar(50) NOT NULL,
+    campaign_id varchar(255),
+    parameters jsonb,
+    status varchar(20) NOT NULL,
+    last_interrogation_id varchar(255),
+    processed_count bigint NOT NULL DEFAULT 0,
+    creation_date bigint NOT NULL,
+    update_date bigint NOT NULL,
+    error text
+);
+CREATE INDEX idx_job_unfinished ON job (status) WHERE status IN ('PENDING', 'RUNNING');
+
+--changeset davdarras:660-1
+CREATE UNIQUE INDEX uq_job_unfinished_campaign_deletion ON job (type, campaign_id)
+    WHERE type = 'DELETE_CAMPAIGN' AND status IN ('PENDING', 'RUNNING');
+
+--changeset davdarras:660-2
+-- token of the runner which claimed the job, progress is only saved by this runner
+ALTER TABLE job ADD COLUMN claim_token uuid;
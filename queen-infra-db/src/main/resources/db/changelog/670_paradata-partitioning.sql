@@ -0,0 +1,39 @@
+--liquibase formatted sql
+
+--changeset davdarras:670-0
+ALTER TABLE paradata_event RENAME TO paradata_event_legacy;
+
+CREATE TABLE paradata_event (
+    id uuid NOT NULL,
+    value jsonb,
+    interrogation_id varchar(255),
+    survey_unit_id varchar(255),
+    event_date timestamp with time zone NOT NULL DEFAULT now(),
+    PRIMARY KEY (id, event_date)
+) PARTITION BY RANGE (event_date);
+
+-- rows outside the monthly partitions land here, they are moved to their partition once it is created
+CREATE TABLE paradata_event_default PARTITION OF paradata_event DEFAULT;
+
+--changeset davdarras:670-1 splitStatements:false
+-- partitions of the current and coming months, so that the existing events never land in the default partition
+DO $$
+DECLARE
+    -- UTC month, as the bounds of the partitions created by the application
+    partition_month timestamp;
+BEGIN
+    FOR i IN 0..2 LOOP
+        partition_month := date_trunc('month', now() AT TIME ZONE 'UTC') + make_interval(months => i);
+        EXECUTE format('CREATE TABLE %I PARTITION OF paradata_event FOR VALUES FROM (%L) TO (%L)',
+            'paradata_event_' || to_char(partition_month, '"y"YYYY"m"MM'),
+            partition_month AT TIME ZONE 'UTC',
+            (partition_month + interval '1 month') AT TIME ZONE 'UTC');
+    END LOOP;
+END $$;
+
+--changeset davdarras:670-2
+-- existing events have no date, they are kept for the retention period from now on
+INSERT INTO paradata_event (id, value, interrogation_id, survey_unit_id)
+SELECT id, value, interrogation_id, survey_unit_id FROM paradata_event_legacy;
+
+DROP TABLE paradata_event_legacy;
@@ -0,0 +1,12 @@
+--liquibase formatted sql
+
+--changeset davdarras:680-0
+-- keep only the last save of an interrogation by a user
+DELETE FROM interrogation_temp_zone t
+USING interrogation_temp_zone newer
+WHERE t.interrogation_id = newer.interrogation_id
+  AND t.user_id = newer.user_id
+  AND (t.date < newer.date OR (t.date = newer.date AND t.id < newer.id));
+
+CREATE UNIQUE INDEX uk_interrogation_temp_zone_user_interrogation ON interrogation_temp_zone (user_id, interrogation_id);
+CREATE INDEX idx_interrogation_temp_zone_date ON interrogation_temp_zone (date);
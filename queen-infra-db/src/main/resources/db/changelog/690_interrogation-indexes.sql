@@ -0,0 +1,8 @@
+--liquibase formatted sql
+
+--changeset davdarras:690-0
+-- interrogations of a campaign, ordered by id for keyset pagination
+CREATE INDEX idx_interrogation_campaign ON interrogation (campaign_id, id);
+
+--changeset davdarras:690-1
+CREATE INDEX idx_interrogation_survey_unit ON interrogation (survey_unit_id);
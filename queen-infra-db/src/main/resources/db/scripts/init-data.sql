@@ -6,7 +6,7 @@
 -- Data for Name: campaign; Type: TABLE DATA; Schema: public; Owner: postgres
 --
 
-TRUNCATE TABLE public.interrogation_temp_zone, public.state_data, public.paradata_event,
+TRUNCATE TABLE public.interrogation_temp_zone, public.state_data, public.paradata_event, public.data_delta,
     public.data, public.comment, public.personalization, public.interrogation,
     public.required_nomenclature, public.questionnaire_model, public.nomenclature,
     public.metadata, public.campaign;
@@ -1,6 +1,6 @@
 --changeset davdarras:empty-data context:test
 
-TRUNCATE TABLE public.interrogation_temp_zone, public.state_data, public.paradata_event,
+TRUNCATE TABLE public.interrogation_temp_zone, public.state_data, public.paradata_event, public.data_delta,
     public.data, public.comment, public.personalization, public.interrogation,
     public.required_nomenclature, public.questionnaire_model, public.nomenclature,
     public.metadata, public.campaign;
\ No newline at end of file
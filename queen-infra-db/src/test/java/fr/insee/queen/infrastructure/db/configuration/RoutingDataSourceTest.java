@@ -0,0 +1,74 @@
+package fr.insee.queen.infrastructure.db.configuration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoutingDataSourceTest {
+
+    private final RoutingDataSource routingDataSource = new RoutingDataSource(new SimpleDriverDataSource(),
+            new SimpleDriverDataSource(), new SimpleDriverDataSource());
+
+    @AfterEach
+    void clear() {
+        TransactionSynchronizationManager.clear();
+        RoutingDataSource.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should route read-only transactions to the replica")
+    void testRouting01() {
+        startTransaction(true);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Should route read-write transactions and statements outside transactions to the primary")
+    void testRouting02() {
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("primary");
+        startTransaction(false);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should route read-only transactions to the primary once the request has written, until context is cleared")
+    void testRouting03() {
+        startTransaction(false);
+        routingDataSource.determineCurrentLookupKey();
+
+        startTransaction(true);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("primary");
+
+        RoutingDataSource.clearContext();
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Should route bulk operations to the bulk pool")
+    void testRouting04() {
+        startTransaction(true);
+        Object lookupKey = RoutingDataSource.runAsBulkOperation(routingDataSource::determineCurrentLookupKey);
+
+        assertThat(lookupKey).isEqualTo("bulk");
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Should route to the primary when replica and bulk pools are disabled")
+    void testRouting05() {
+        RoutingDataSource primaryOnlyDataSource = new RoutingDataSource(new SimpleDriverDataSource(), null, null);
+        startTransaction(true);
+        RoutingDataSource.startBulkOperation();
+
+        assertThat(primaryOnlyDataSource.determineCurrentLookupKey()).isEqualTo("primary");
+    }
+
+    private void startTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
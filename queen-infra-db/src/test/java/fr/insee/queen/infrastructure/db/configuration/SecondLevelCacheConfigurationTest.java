@@ -0,0 +1,43 @@
+package fr.insee.queen.infrastructure.db.configuration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.configuration.CompleteConfiguration;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecondLevelCacheConfigurationTest {
+
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void init() throws IOException {
+        cacheManager = new SecondLevelCacheConfiguration().hibernateCacheManager();
+    }
+
+    @AfterEach
+    void close() {
+        cacheManager.close();
+    }
+
+    @Test
+    @DisplayName("Should configure all second level cache regions with statistics")
+    void testRegions01() {
+        List<String> regions = List.of(CacheRegion.CAMPAIGN, CacheRegion.CAMPAIGN_SUMMARY, CacheRegion.UPDATE_TIMESTAMPS);
+
+        for (String region : regions) {
+            Cache<Object, Object> cache = cacheManager.getCache(region);
+            assertThat(cache).as(region).isNotNull();
+            @SuppressWarnings("unchecked")
+            CompleteConfiguration<Object, Object> configuration = cache.getConfiguration(CompleteConfiguration.class);
+            assertThat(configuration.isStatisticsEnabled()).as(region).isTrue();
+        }
+    }
+}
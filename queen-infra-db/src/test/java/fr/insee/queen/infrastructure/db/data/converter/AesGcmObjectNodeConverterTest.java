@@ -0,0 +1,65 @@
+package fr.insee.queen.infrastructure.db.data.converter;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.insee.queen.infrastructure.db.data.encryption.AesGcmDataEncryptionEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AesGcmObjectNodeConverterTest {
+
+    private final AesGcmObjectNodeConverter converter =
+            new AesGcmObjectNodeConverter(new AesGcmDataEncryptionEngine("my-secret-key"));
+
+    @Test
+    @DisplayName("Should encrypt ObjectNode and decrypt it back")
+    void convert_shouldEncryptAndDecrypt() {
+        // Given
+        ObjectNode objectNode = JsonNodeFactory.instance.objectNode();
+        objectNode.put("key", "value");
+
+        // When
+        byte[] dbData = converter.convertToDatabaseColumn(objectNode);
+
+        // Then
+        assertThat(new String(dbData, StandardCharsets.UTF_8)).doesNotContain("value");
+        assertThat(converter.convertToEntityAttribute(dbData)).isEqualTo(objectNode);
+    }
+
+    @Test
+    @DisplayName("Should read legacy values already decrypted by the database")
+    void convertToEntityAttribute_shouldReadPlainJson() {
+        // Given
+        byte[] dbData = "{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        ObjectNode result = converter.convertToEntityAttribute(dbData);
+
+        // Then
+        assertThat(result.get("key").asText()).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("Should return null when converting null values")
+    void convert_shouldReturnNullWhenValueIsNull() {
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when bytes to ObjectNode conversion fails")
+    void convertToEntityAttribute_shouldThrowExceptionOnInvalidJson() {
+        // Given
+        byte[] invalidJson = "invalid json".getBytes(StandardCharsets.UTF_8);
+
+        // When / Then
+        assertThatThrownBy(() -> converter.convertToEntityAttribute(invalidJson))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(AesGcmObjectNodeConverter.BYTES_TO_OBJECTNODE_ERROR_MESSAGE);
+    }
+}
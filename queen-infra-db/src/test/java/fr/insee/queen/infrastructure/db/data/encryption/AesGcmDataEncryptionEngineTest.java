@@ -0,0 +1,97 @@
+package fr.insee.queen.infrastructure.db.data.encryption;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AesGcmDataEncryptionEngineTest {
+
+    private final AesGcmDataEncryptionEngine engine = new AesGcmDataEncryptionEngine("my-secret-key");
+
+    @Test
+    @DisplayName("Should decrypt a value encrypted by the engine")
+    void encrypt_shouldBeDecrypted() {
+        // Given
+        byte[] value = "{\"COLLECTED\":{}}".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        byte[] encryptedValue = engine.encrypt(value);
+
+        // Then
+        assertThat(encryptedValue).isNotEqualTo(value);
+        assertThat(engine.isEncrypted(encryptedValue)).isTrue();
+        assertThat(engine.decrypt(encryptedValue)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("Should use a different IV for each encryption")
+    void encrypt_shouldUseRandomIv() {
+        // Given
+        byte[] value = "{}".getBytes(StandardCharsets.UTF_8);
+
+        // When / Then
+        assertThat(engine.encrypt(value)).isNotEqualTo(engine.encrypt(value));
+    }
+
+    @Test
+    @DisplayName("Should decrypt values encrypted by another engine with the same secret key")
+    void decrypt_shouldUseDerivedKey() {
+        // Given
+        byte[] value = "{}".getBytes(StandardCharsets.UTF_8);
+        byte[] encryptedValue = new AesGcmDataEncryptionEngine("my-secret-key").encrypt(value);
+
+        // When / Then
+        assertThat(engine.decrypt(encryptedValue)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when the value was encrypted with another secret key")
+    void decrypt_shouldThrowExceptionWithAnotherKey() {
+        // Given
+        byte[] encryptedValue = new AesGcmDataEncryptionEngine("other-secret-key").encrypt("{}".getBytes(StandardCharsets.UTF_8));
+
+        // When / Then
+        assertThatThrownBy(() -> engine.decrypt(encryptedValue))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(AesGcmDataEncryptionEngine.DECRYPTION_ERROR_MESSAGE);
+    }
+
+    @Test
+    @DisplayName("Should not consider plain json as encrypted")
+    void isEncrypted_shouldReturnFalseForPlainJson() {
+        assertThat(engine.isEncrypted("{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8))).isFalse();
+        assertThat(engine.isEncrypted(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should convert json to a bytea hex parameter")
+    void toSqlParameter_shouldReturnByteaHexFormat() {
+        // When
+        String parameter = engine.toSqlParameter("{}");
+
+        // Then
+        assertThat(parameter).startsWith("\\x");
+        byte[] encryptedValue = HexFormat.of().parseHex(parameter.substring(2));
+        assertThat(engine.decrypt(encryptedValue)).isEqualTo("{}".getBytes(StandardCharsets.UTF_8));
+        assertThat(engine.toSqlParameter(null)).isNull();
+        assertThat(engine.valueExpression("data")).isEqualTo("CAST(data AS bytea)");
+        assertThat(engine.encryptedFlag()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should read values written as sql parameters and legacy values")
+    void fromSqlValue_shouldDecryptValues() {
+        // Given
+        String legacyValue = "\\x" + HexFormat.of().formatHex("{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8));
+
+        // When / Then
+        assertThat(engine.fromSqlValue(engine.toSqlParameter("{}"))).isEqualTo("{}");
+        assertThat(engine.fromSqlValue(legacyValue)).isEqualTo("{\"key\":\"value\"}");
+        assertThat(engine.fromSqlValue(null)).isNull();
+    }
+}
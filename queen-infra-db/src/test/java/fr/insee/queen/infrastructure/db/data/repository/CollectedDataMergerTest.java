@@ -0,0 +1,45 @@
+package fr.insee.queen.infrastructure.db.data.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CollectedDataMergerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should replace collected variables and keep the other variables")
+    void merge_shouldReplaceCollectedVariables() throws Exception {
+        // Given
+        ObjectNode data = (ObjectNode) mapper.readTree("""
+                {"EXTERNAL":{"ext":"1"},"COLLECTED":{"var1":{"COLLECTED":"a"},"var2":{"COLLECTED":"b"}}}""");
+        ObjectNode partialCollectedData = (ObjectNode) mapper.readTree("""
+                {"var2":{"COLLECTED":"c"},"var3":{"COLLECTED":"d"}}""");
+
+        // When
+        ObjectNode result = CollectedDataMerger.merge(data, partialCollectedData);
+
+        // Then
+        assertThat(result).isEqualTo(mapper.readTree("""
+                {"EXTERNAL":{"ext":"1"},"COLLECTED":{"var1":{"COLLECTED":"a"},"var2":{"COLLECTED":"c"},"var3":{"COLLECTED":"d"}}}"""));
+    }
+
+    @Test
+    @DisplayName("Should create collected data when data has none")
+    void merge_shouldCreateCollectedData() throws Exception {
+        // Given
+        ObjectNode partialCollectedData = (ObjectNode) mapper.readTree("""
+                {"var1":{"COLLECTED":"a"}}""");
+
+        // When
+        ObjectNode result = CollectedDataMerger.merge(null, partialCollectedData);
+
+        // Then
+        assertThat(result).isEqualTo(mapper.readTree("""
+                {"COLLECTED":{"var1":{"COLLECTED":"a"}}}"""));
+    }
+}
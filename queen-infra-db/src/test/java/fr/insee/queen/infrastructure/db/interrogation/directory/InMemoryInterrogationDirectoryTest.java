@@ -0,0 +1,291 @@
+package fr.insee.queen.infrastructure.db.interrogation.directory;
+
+import fr.insee.queen.domain.campaign.model.CampaignSensitivity;
+import fr.insee.queen.domain.campaign.model.CampaignSummary;
+import fr.insee.queen.domain.common.cache.CacheInvalidation;
+import fr.insee.queen.domain.common.cache.CacheInvalidationBus;
+import fr.insee.queen.domain.common.cache.CacheName;
+import fr.insee.queen.domain.interrogation.model.Interrogation;
+import fr.insee.queen.domain.interrogation.model.InterrogationSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryInterrogationDirectoryTest {
+
+    private static final CampaignSummary CAMPAIGN = new CampaignSummary("campaign", "label", CampaignSensitivity.NORMAL);
+    private static final CampaignSummary OTHER_CAMPAIGN = new CampaignSummary("other-campaign", "other label", CampaignSensitivity.SENSITIVE);
+
+    private final List<String> loadedIds = new ArrayList<>();
+    private final Function<String, Optional<InterrogationSummary>> emptyLoader = id -> {
+        loadedIds.add(id);
+        return Optional.empty();
+    };
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve the loaded interrogations without reading the database")
+    void findSummary_loaded() {
+        // given
+        InMemoryInterrogationDirectory directory = loadedDirectory(List.of(summary("id-1", "su-1", CAMPAIGN), summary("id-2", null, OTHER_CAMPAIGN)));
+
+        // when
+        Optional<InterrogationSummary> summary = directory.findSummary("id-1", emptyLoader);
+        Optional<InterrogationSummary> summaryWithoutSurveyUnit = directory.findSummary("id-2", emptyLoader);
+
+        // then
+        assertThat(directory.isLoaded()).isTrue();
+        assertThat(summary).get().satisfies(value -> {
+            assertThat(value.id()).isEqualTo("id-1");
+            assertThat(value.surveyUnitId()).isEqualTo("su-1");
+            assertThat(value.questionnaireId()).isEqualTo("questionnaire-campaign");
+            assertThat(value.campaign().getLabel()).isEqualTo("label");
+            assertThat(value.campaign().getSensitivity()).isEqualTo(CampaignSensitivity.NORMAL);
+        });
+        assertThat(summaryWithoutSurveyUnit).get().satisfies(value -> {
+            assertThat(value.surveyUnitId()).isNull();
+            assertThat(value.campaign().getId()).isEqualTo("other-campaign");
+        });
+        assertThat(directory.exists("id-1", emptyLoader)).isTrue();
+        assertThat(loadedIds).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should read a missing interrogation from the database and keep it")
+    void findSummary_missing() {
+        // given
+        InMemoryInterrogationDirectory directory = loadedDirectory(List.of());
+        InterrogationSummary createdElsewhere = summary("id-1", "su-1", CAMPAIGN);
+        Function<String, Optional<InterrogationSummary>> loader = id -> {
+            loadedIds.add(id);
+            return Optional.of(createdElsewhere);
+        };
+
+        // when
+        boolean unknownExists = directory.exists("unknown", emptyLoader);
+        directory.findSummary("id-1", loader);
+        Optional<InterrogationSummary> summary = directory.findSummary("id-1", loader);
+
+        // then
+        assertThat(unknownExists).isFalse();
+        assertThat(summary).get().extracting(InterrogationSummary::surveyUnitId).isEqualTo("su-1");
+        assertThat(loadedIds).containsExactly("unknown", "id-1");
+    }
+
+    @Test
+    @DisplayName("Should read the campaign of an interrogation created for an unknown campaign once")
+    void putAll_unknownCampaign() {
+        // given
+        InMemoryInterrogationDirectory directory = loadedDirectory(List.of());
+        directory.putAll(List.of(interrogation("id-1", "su-1", CAMPAIGN), interrogation("id-2", "su-2", CAMPAIGN)));
+        Function<String, Optional<InterrogationSummary>> loader = id -> {
+            loadedIds.add(id);
+            return Optional.of(summary(id, "su-1", CAMPAIGN));
+        };
+
+        // when
+        boolean exists = directory.exists("id-1", emptyLoader);
+        directory.findSummary("id-1", loader);
+        Optional<InterrogationSummary> otherSummary = directory.findSummary("id-2", loader);
+
+        // then
+        assertThat(exists).isTrue();
+        assertThat(otherSummary).get().satisfies(value -> {
+            assertThat(value.surveyUnitId()).isEqualTo("su-2");
+            assertThat(value.campaign().getLabel()).isEqualTo("label");
+        });
+        assertThat(loadedIds).containsExactly("id-1");
+    }
+
+    @Test
+    @DisplayName("Should remove interrogations and campaigns")
+    void remove() {
+        // given
+        List<InterrogationSummary> summaries = new ArrayList<>();
+        IntStream.range(0, 5000).forEach(index -> {
+            summaries.add(summary("id-" + index, "su-" + index, CAMPAIGN));
+            summaries.add(summary("other-id-" + index, "other-su-" + index, OTHER_CAMPAIGN));
+        });
+        InMemoryInterrogationDirectory directory = loadedDirectory(summaries);
+
+        // when
+        directory.removeAll(IntStream.range(0, 5000).filter(index -> index % 2 == 0).mapToObj(index -> "id-" + index).toList());
+        directory.removeCampaign("other-campaign");
+
+        // then
+        assertThat(directory.size()).isEqualTo(2500);
+        IntStream.range(0, 5000).forEach(index -> {
+            assertThat(directory.exists("other-id-" + index, emptyLoader)).isFalse();
+            assertThat(directory.findSummary("id-" + index, emptyLoader).isPresent()).isEqualTo(index % 2 == 1);
+        });
+    }
+
+    @Test
+    @DisplayName("Should keep the last survey unit of an interrogation updated many times")
+    void putAll_update() {
+        // given
+        InMemoryInterrogationDirectory directory = loadedDirectory(List.of(summary("id-1", "su-1", CAMPAIGN), summary("id-2", "su-2", CAMPAIGN)));
+
+        // when
+        IntStream.range(0, 10000).forEach(index -> directory.putAll(List.of(interrogation("id-1", "su-updated-" + index, CAMPAIGN))));
+
+        // then
+        assertThat(directory.size()).isEqualTo(2);
+        assertThat(directory.findSummary("id-1", emptyLoader)).get().extracting(InterrogationSummary::surveyUnitId).isEqualTo("su-updated-9999");
+        assertThat(directory.findSummary("id-2", emptyLoader)).get().extracting(InterrogationSummary::surveyUnitId).isEqualTo("su-2");
+    }
+
+    @Test
+    @DisplayName("Should replace the label of a campaign")
+    void updateCampaign() {
+        // given
+        InMemoryInterrogationDirectory directory = loadedDirectory(List.of(summary("id-1", "su-1", CAMPAIGN)));
+
+        // when
+        directory.updateCampaign(new CampaignSummary("campaign", "new label", CampaignSensitivity.SENSITIVE));
+
+        // then
+        assertThat(directory.findSummary("id-1", emptyLoader)).get().satisfies(value -> {
+            assertThat(value.campaign().getLabel()).isEqualTo("new label");
+            assertThat(value.campaign().getSensitivity()).isEqualTo(CampaignSensitivity.SENSITIVE);
+        });
+    }
+
+    @Test
+    @DisplayName("Should apply writes after the commit of the transaction only")
+    void putAll_afterCommit() {
+        // given
+        InMemoryInterrogationDirectory directory = loadedDirectory(List.of());
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        directory.putAll(List.of(interrogation("id-1", "su-1", CAMPAIGN)));
+        boolean existsBeforeCommit = directory.exists("id-1", emptyLoader);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertThat(existsBeforeCommit).isFalse();
+        assertThat(directory.exists("id-1", emptyLoader)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not resurrect interrogations deleted while loading")
+    void load_concurrentWrites() {
+        // given
+        List<InterrogationSummary> snapshot = List.of(summary("id-1", "su-1", CAMPAIGN), summary("id-2", "su-2", CAMPAIGN),
+                summary("id-3", "su-3", OTHER_CAMPAIGN));
+        InMemoryInterrogationDirectory[] directory = new InMemoryInterrogationDirectory[1];
+        Consumer<Consumer<InterrogationSummary>> snapshotReader = consumer -> {
+            // deleted and updated by other requests while the snapshot is read
+            directory[0].removeAll(List.of("id-1"));
+            directory[0].putAll(List.of(interrogation("id-2", "su-updated", CAMPAIGN)));
+            directory[0].removeCampaign("other-campaign");
+            snapshot.forEach(consumer);
+        };
+        directory[0] = new InMemoryInterrogationDirectory(snapshotReader, Runnable::run);
+
+        // when
+        directory[0].loadInBackground();
+
+        // then
+        assertThat(directory[0].exists("id-1", emptyLoader)).isFalse();
+        assertThat(directory[0].exists("id-3", emptyLoader)).isFalse();
+        assertThat(directory[0].findSummary("id-2", emptyLoader)).get().extracting(InterrogationSummary::surveyUnitId).isEqualTo("su-updated");
+    }
+
+    @Test
+    @DisplayName("Should stay unloaded when the interrogations cannot be read")
+    void load_failure() {
+        // given
+        InMemoryInterrogationDirectory directory = new InMemoryInterrogationDirectory(consumer -> {
+            throw new IllegalStateException("database unavailable");
+        }, Runnable::run);
+
+        // when
+        directory.loadInBackground();
+
+        // then
+        assertThat(directory.isLoaded()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should remove the interrogations evicted by other instances")
+    void applyInvalidation_key() {
+        // given
+        InMemoryInterrogationDirectory directory = loadedDirectory(List.of(summary("id-1", "su-1", CAMPAIGN), summary("id-2", "su-2", CAMPAIGN)));
+
+        // when
+        directory.applyInvalidation(CacheInvalidation.key(CacheName.INTERROGATION_SUMMARY, "id-1"));
+        directory.applyInvalidation(CacheInvalidation.key(CacheName.INTERROGATION_EXIST, "id-2"));
+
+        // then
+        assertThat(directory.isLoaded()).isTrue();
+        assertThat(directory.exists("id-1", emptyLoader)).isFalse();
+        assertThat(directory.exists("id-2", emptyLoader)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reload the interrogations when all the summaries are evicted by other instances")
+    void applyInvalidation_allEntries() {
+        // given
+        List<InterrogationSummary> snapshot = new ArrayList<>(List.of(summary("id-1", "su-1", CAMPAIGN), summary("id-2", "su-2", OTHER_CAMPAIGN)));
+        List<Runnable> tasks = new ArrayList<>();
+        InMemoryInterrogationDirectory directory = new InMemoryInterrogationDirectory(snapshot::forEach, tasks::add);
+        directory.load();
+        // campaign deleted by another instance
+        snapshot.remove(1);
+
+        // when
+        directory.applyInvalidation(CacheInvalidation.allEntries(CacheName.INTERROGATION_SUMMARY));
+        boolean loadedBeforeReload = directory.isLoaded();
+        tasks.forEach(Runnable::run);
+
+        // then
+        assertThat(loadedBeforeReload).isFalse();
+        assertThat(directory.isLoaded()).isTrue();
+        assertThat(directory.size()).isEqualTo(1);
+        assertThat(directory.exists("id-2", emptyLoader)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should refuse to start without the cache invalidation bus")
+    void create_withoutInvalidationBus() {
+        Optional<CacheInvalidationBus> noBus = Optional.empty();
+        assertThatThrownBy(() -> new InMemoryInterrogationDirectory(null, null, Runnable::run, noBus))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage(InMemoryInterrogationDirectory.MISSING_INVALIDATION_BUS_MESSAGE);
+    }
+
+    private InMemoryInterrogationDirectory loadedDirectory(List<InterrogationSummary> summaries) {
+        InMemoryInterrogationDirectory directory = new InMemoryInterrogationDirectory(summaries::forEach, Runnable::run);
+        directory.loadInBackground();
+        return directory;
+    }
+
+    private static InterrogationSummary summary(String id, String surveyUnitId, CampaignSummary campaign) {
+        return new InterrogationSummary(id, surveyUnitId, "questionnaire-" + campaign.getId(), campaign);
+    }
+
+    private static Interrogation interrogation(String id, String surveyUnitId, CampaignSummary campaign) {
+        return new Interrogation(id, surveyUnitId, campaign.getId(), "questionnaire-" + campaign.getId(),
+                null, null, null, null);
+    }
+}
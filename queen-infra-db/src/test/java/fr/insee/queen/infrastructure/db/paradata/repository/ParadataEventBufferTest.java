@@ -0,0 +1,152 @@
+package fr.insee.queen.infrastructure.db.paradata.repository;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import fr.insee.queen.infrastructure.db.paradata.exception.ParadataBufferFullException;
+import fr.insee.queen.infrastructure.db.paradata.exception.ParadataBufferUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParadataEventBufferTest {
+
+    private final List<List<ParadataEventRow>> flushedBatches = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ParadataEventBuffer buffer;
+
+    @AfterEach
+    void stop() {
+        if (buffer != null && buffer.isRunning()) {
+            buffer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should insert the event before acknowledging it when waiting for flush")
+    void add_shouldWaitForFlush() {
+        // given
+        buffer = new ParadataEventBuffer(flushedBatches::add, meterRegistry, 10, 5, Duration.ofMillis(20), true, Duration.ofSeconds(5), Duration.ofSeconds(5));
+        buffer.start();
+        ParadataEventRow event = event();
+
+        // when
+        buffer.add(event);
+
+        // then
+        assertThat(flushedBatches).containsExactly(List.of(event));
+        assertThat(meterRegistry.get("queen.paradata.buffer.flush").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject events when the buffer is full")
+    void add_shouldRejectWhenFull() throws InterruptedException {
+        // given
+        CountDownLatch flushStarted = new CountDownLatch(1);
+        CountDownLatch releaseFlush = new CountDownLatch(1);
+        buffer = new ParadataEventBuffer(events -> {
+            flushStarted.countDown();
+            awaitQuietly(releaseFlush);
+            flushedBatches.add(events);
+        }, meterRegistry, 1, 1, Duration.ofMillis(20), false, Duration.ofSeconds(5), Duration.ofSeconds(5));
+        buffer.start();
+        buffer.add(event());
+        assertThat(flushStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        buffer.add(event());
+
+        // when / then
+        assertThatThrownBy(() -> buffer.add(event())).isInstanceOf(ParadataBufferFullException.class);
+        assertThat(meterRegistry.get("queen.paradata.buffer.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("queen.paradata.buffer.size").gauge().value()).isEqualTo(1);
+        releaseFlush.countDown();
+    }
+
+    @Test
+    @DisplayName("Should flush pending events on stop")
+    void stop_shouldFlushPendingEvents() {
+        // given
+        buffer = new ParadataEventBuffer(flushedBatches::add, meterRegistry, 100, 100, Duration.ofSeconds(10), false, Duration.ofSeconds(5), Duration.ofSeconds(5));
+        buffer.start();
+        for (int i = 0; i < 3; i++) {
+            buffer.add(event());
+        }
+
+        // when
+        buffer.stop();
+
+        // then
+        assertThat(flushedBatches.stream().mapToInt(List::size).sum()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should split events in batches of batch size")
+    void add_shouldFlushByBatchSize() {
+        // given
+        buffer = new ParadataEventBuffer(flushedBatches::add, meterRegistry, 100, 2, Duration.ofSeconds(10), false, Duration.ofSeconds(5), Duration.ofSeconds(5));
+        buffer.start();
+        for (int i = 0; i < 4; i++) {
+            buffer.add(event());
+        }
+
+        // when
+        buffer.stop();
+
+        // then
+        assertThat(flushedBatches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(2));
+        assertThat(flushedBatches.stream().mapToInt(List::size).sum()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should fail when the event is not inserted before the flush timeout")
+    void add_shouldFailOnFlushTimeout() {
+        // given
+        CountDownLatch releaseFlush = new CountDownLatch(1);
+        buffer = new ParadataEventBuffer(events -> {
+            awaitQuietly(releaseFlush);
+            flushedBatches.add(events);
+        }, meterRegistry, 10, 5, Duration.ofMillis(20), true, Duration.ofMillis(100), Duration.ofSeconds(5));
+        buffer.start();
+
+        // when / then
+        assertThatThrownBy(() -> buffer.add(event()))
+                .isInstanceOf(ParadataBufferUnavailableException.class)
+                .hasMessage(ParadataBufferUnavailableException.TIMEOUT_MESSAGE);
+        releaseFlush.countDown();
+    }
+
+    @Test
+    @DisplayName("Should reject events once stopped")
+    void add_shouldRejectWhenStopped() {
+        // given
+        buffer = new ParadataEventBuffer(flushedBatches::add, meterRegistry, 10, 5, Duration.ofMillis(20), false, Duration.ofSeconds(5), Duration.ofSeconds(5));
+        buffer.start();
+        buffer.stop();
+
+        // when / then
+        assertThatThrownBy(() -> buffer.add(event()))
+                .isInstanceOf(ParadataBufferUnavailableException.class)
+                .hasMessage(ParadataBufferUnavailableException.STOPPED_MESSAGE);
+        assertThat(flushedBatches).isEmpty();
+    }
+
+    private ParadataEventRow event() {
+        return new ParadataEventRow(UUID.randomUUID(), JsonNodeFactory.instance.objectNode(), "interrogation-id", "survey-unit-id");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
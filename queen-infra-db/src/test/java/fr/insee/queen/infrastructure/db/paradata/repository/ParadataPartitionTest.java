@@ -0,0 +1,45 @@
+package fr.insee.queen.infrastructure.db.paradata.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParadataPartitionTest {
+
+    @Test
+    @DisplayName("Should compute table name and bounds of a monthly partition")
+    void partition_shouldComputeNameAndBounds() {
+        // Given
+        ParadataPartition partition = new ParadataPartition(YearMonth.of(2025, 12));
+
+        // When / Then
+        assertThat(partition.tableName()).isEqualTo("paradata_event_y2025m12");
+        assertThat(partition.lowerBound()).isEqualTo("2025-12-01 00:00:00+00");
+        assertThat(partition.upperBound()).isEqualTo("2026-01-01 00:00:00+00");
+    }
+
+    @Test
+    @DisplayName("Should retrieve a monthly partition from its table name")
+    void fromTableName_shouldParseMonthlyPartition() {
+        assertThat(ParadataPartition.fromTableName("paradata_event_y2026m03"))
+                .contains(new ParadataPartition(YearMonth.of(2026, 3)));
+        assertThat(ParadataPartition.fromTableName(ParadataPartition.DEFAULT_PARTITION)).isEmpty();
+        assertThat(ParadataPartition.fromTableName("paradata_event_archive")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should expire partitions older than the retention")
+    void isExpired_shouldKeepRetentionMonths() {
+        // Given
+        YearMonth currentMonth = YearMonth.of(2026, 10);
+
+        // When / Then
+        assertThat(new ParadataPartition(YearMonth.of(2025, 11)).isExpired(currentMonth, 12)).isFalse();
+        assertThat(new ParadataPartition(YearMonth.of(2025, 10)).isExpired(currentMonth, 12)).isTrue();
+        assertThat(new ParadataPartition(currentMonth).isExpired(currentMonth, 1)).isFalse();
+        assertThat(new ParadataPartition(YearMonth.of(2026, 9)).isExpired(currentMonth, 1)).isTrue();
+    }
+}